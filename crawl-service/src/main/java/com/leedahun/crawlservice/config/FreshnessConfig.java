@@ -0,0 +1,13 @@
+package com.leedahun.crawlservice.config;
+
+import com.leedahun.kafka.freshness.FreshnessConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 콘텐츠 신선도 지표 등록 (공유 소스 kafka-freshness)
+ */
+@Configuration
+@Import(FreshnessConfiguration.class)
+public class FreshnessConfig {
+}
@@ -0,0 +1,30 @@
+package com.leedahun.crawlservice.domain.archive.controller;
+
+import com.leedahun.crawlservice.domain.archive.dto.ReplayResultDto;
+import com.leedahun.crawlservice.domain.archive.service.ArchiveReplayService;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/internal/archive")
+public class ArchiveInternalController {
+
+    private final ArchiveReplayService archiveReplayService;
+
+    @PostMapping("/replay")
+    public ResponseEntity<ReplayResultDto> replay(
+            @RequestParam(value = "sourceId", required = false) Long sourceId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) throws IOException {
+        return ResponseEntity.ok(archiveReplayService.replay(sourceId, from, to));
+    }
+}
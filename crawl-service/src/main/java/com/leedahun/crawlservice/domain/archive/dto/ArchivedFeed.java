@@ -0,0 +1,16 @@
+package com.leedahun.crawlservice.domain.archive.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class ArchivedFeed {
+    private Long sourceId;
+    private LocalDateTime fetchedAt;
+    private String contentType;
+    private byte[] body;
+}
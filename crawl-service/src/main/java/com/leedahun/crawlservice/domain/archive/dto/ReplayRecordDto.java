@@ -0,0 +1,18 @@
+package com.leedahun.crawlservice.domain.archive.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayRecordDto {
+    private Long sourceId;
+    private LocalDateTime fetchedAt;
+    private int itemCount;
+    private String latestGuid;  // 가장 최신 글의 guid (파서 회귀 비교용)
+}
@@ -0,0 +1,20 @@
+package com.leedahun.crawlservice.domain.archive.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayResultDto {
+    private int archivedCount;      // 재처리한 아카이브 레코드 수
+    private int parsedItemCount;    // 파싱된 전체 글 수
+    private int emptyCount;         // 파싱 결과가 비어있는 레코드 수 (파싱 실패 포함)
+    private long elapsedMillis;
+    private List<ReplayRecordDto> records;  // 레코드별 결과 (최대 app.crawl.archive.replay.max-records 개)
+    private boolean recordsTruncated;       // 레코드별 결과를 일부만 담았는지 여부
+}
@@ -0,0 +1,469 @@
+package com.leedahun.crawlservice.domain.archive.service;
+
+import com.leedahun.crawlservice.domain.archive.dto.ArchivedFeed;
+import com.leedahun.crawlservice.domain.crawl.dto.FetchedFeed;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수집한 원본 피드 본문 아카이브
+ * - 본문은 Deflate로 압축해서 append-only 세그먼트 파일(.seg)에 순서대로 기록
+ * - 세그먼트마다 (sourceId, fetchedAt, offset, length) 고정 길이 인덱스 파일(.idx)을 함께 기록
+ * - 인덱스는 메모리에 올려두고, 본문은 세그먼트를 memory-mapped로 열어서 읽음
+ * - 전체 용량이 디스크 예산을 넘으면 가장 오래된 세그먼트부터 삭제
+ * - 기록 도중 실패하면 세그먼트를 마지막 완전한 레코드 위치로 잘라내고, 잘라내지 못하면 새 세그먼트로 교체
+ */
+@Slf4j
+@Component
+public class FeedArchive {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String SEGMENT_NAME_FORMAT = "%020d";
+
+    private static final int RECORD_MAGIC = 0x4B464131;  // "KFA1"
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES * 3 + Short.BYTES;  // magic, 원본 길이, 압축 길이, Content-Type 길이
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES * 3 + Integer.BYTES;      // sourceId, fetchedAt, offset, length
+    private static final int MAX_CONTENT_TYPE_BYTES = 0xFFFF;
+
+    @Value("${app.crawl.archive.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.crawl.archive.dir:./feed-archive}")
+    private String archiveDir;
+
+    @Value("${app.crawl.archive.segment-max-bytes:67108864}")
+    private long segmentMaxBytes;
+
+    @Value("${app.crawl.archive.max-disk-bytes:1073741824}")
+    private long maxDiskBytes;
+
+    // sourceId -> (fetchedAt epoch millis -> 레코드 위치)
+    private final Map<Long, NavigableMap<Long, RecordLocation>> index = new ConcurrentHashMap<>();
+
+    // 세그먼트 번호 -> 세그먼트 (번호가 작을수록 오래된 세그먼트)
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+
+    private Path directory;
+    private Segment active;
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        // 레코드 offset을 MappedByteBuffer의 int position으로 다루기 위해 세그먼트 크기 제한
+        segmentMaxBytes = Math.min(segmentMaxBytes, Integer.MAX_VALUE / 2);
+
+        directory = Paths.get(archiveDir);
+        Files.createDirectories(directory);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segmentFiles = files
+                    .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted(Comparator.comparing(path -> path.getFileName().toString()))
+                    .toList();
+
+            for (Path segmentFile : segmentFiles) {
+                loadSegment(segmentFile);
+            }
+        }
+
+        // 재시작 시에는 항상 새 세그먼트에 기록 (이전 세그먼트의 잘린 꼬리를 이어 쓰지 않기 위함)
+        long nextId = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        openActiveSegment(nextId);
+        enforceRetention();
+
+        log.info("피드 아카이브 초기화 완료: dir={}, 세그먼트 {}개, 소스 {}개", directory, segments.size(), index.size());
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        if (active != null) {
+            active.closeChannels();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 피드 본문 저장
+     * 같은 피드를 여러 소스가 공유하는 경우 본문은 한 번만 기록하고 인덱스만 소스별로 추가한다.
+     * 아카이브는 부가 기능이므로 저장에 실패해도 크롤링은 계속 진행된다.
+     */
+    public void append(List<Long> sourceIds, LocalDateTime fetchedAt, FetchedFeed feed) {
+        if (!enabled || sourceIds.isEmpty() || feed.getBody() == null) {
+            return;
+        }
+
+        byte[] compressed = compress(feed.getBody());
+        byte[] contentType = feed.getContentType() == null
+                ? new byte[0]
+                : feed.getContentType().getBytes(StandardCharsets.UTF_8);
+        if (contentType.length > MAX_CONTENT_TYPE_BYTES) {
+            contentType = new byte[0];
+        }
+
+        int recordLength = RECORD_HEADER_BYTES + contentType.length + compressed.length;
+        ByteBuffer record = ByteBuffer.allocate(recordLength)
+                .putInt(RECORD_MAGIC)
+                .putInt(feed.getBody().length)
+                .putInt(compressed.length)
+                .putShort((short) contentType.length)
+                .put(contentType)
+                .put(compressed)
+                .flip();
+
+        long fetchedAtMillis = toEpochMillis(fetchedAt);
+
+        synchronized (this) {
+            try {
+                if (active.size >= segmentMaxBytes) {
+                    roll();
+                }
+
+                // 본문을 먼저 기록한 뒤 인덱스를 기록 (인덱스가 가리키는 레코드는 항상 완전한 상태)
+                long offset = active.size;
+                writeFully(active.dataChannel, record);
+
+                ByteBuffer entries = ByteBuffer.allocate(INDEX_ENTRY_BYTES * sourceIds.size());
+                for (Long sourceId : sourceIds) {
+                    entries.putLong(sourceId).putLong(fetchedAtMillis).putLong(offset).putInt(recordLength);
+                }
+                entries.flip();
+                writeFully(active.indexChannel, entries);
+
+                active.size += recordLength;
+                active.indexSize += entries.capacity();
+
+                RecordLocation location = new RecordLocation(active.id, offset, recordLength);
+                for (Long sourceId : sourceIds) {
+                    index.computeIfAbsent(sourceId, id -> new ConcurrentSkipListMap<>()).put(fetchedAtMillis, location);
+                }
+            } catch (IOException e) {
+                log.error("피드 아카이브 저장 실패: sourceIds={}, 에러={}", sourceIds, e.getMessage());
+                discardPartialWrite();
+            }
+        }
+    }
+
+    // 일부만 기록된 레코드/인덱스 꼬리를 버림 (APPEND 모드라 남겨두면 이후 레코드의 offset이 모두 어긋남)
+    private void discardPartialWrite() {
+        try {
+            active.dataChannel.truncate(active.size);
+            active.indexChannel.truncate(active.indexSize);
+        } catch (IOException | RuntimeException e) {
+            log.error("피드 아카이브 세그먼트 정리 실패, 새 세그먼트로 교체: segment={}, 에러={}", active.id, e.getMessage());
+            Segment broken = active;
+            broken.closeChannels();
+            try {
+                openActiveSegment(broken.id + 1);
+            } catch (IOException openError) {
+                log.error("피드 아카이브 새 세그먼트 생성 실패: {}", openError.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 저장된 피드 본문 조회 (수집 시간 오름차순)
+     * 모든 본문을 메모리에 올리므로 범위가 큰 조회는 forEach 를 사용한다.
+     *
+     * @param sourceId null이면 전체 소스
+     * @param from     null이면 처음부터
+     * @param to       null이면 끝까지
+     */
+    public List<ArchivedFeed> read(Long sourceId, LocalDateTime from, LocalDateTime to) throws IOException {
+        List<ArchivedFeed> result = new ArrayList<>();
+        forEach(sourceId, from, to, result::add);
+        return result;
+    }
+
+    /**
+     * 저장된 피드 본문을 수집 시간 오름차순으로 하나씩 압축 해제해서 전달
+     * 전달한 본문은 보관하지 않으므로 아카이브 전체를 훑어도 힙에는 레코드 하나 분량만 올라간다.
+     */
+    public void forEach(Long sourceId, LocalDateTime from, LocalDateTime to, Consumer<ArchivedFeed> consumer) throws IOException {
+        if (!enabled) {
+            return;
+        }
+
+        long fromMillis = from == null ? Long.MIN_VALUE : toEpochMillis(from);
+        long toMillis = to == null ? Long.MAX_VALUE : toEpochMillis(to);
+
+        List<IndexEntry> entries = new ArrayList<>();
+        if (sourceId != null) {
+            collectEntries(sourceId, index.get(sourceId), fromMillis, toMillis, entries);
+        } else {
+            index.forEach((id, locations) -> collectEntries(id, locations, fromMillis, toMillis, entries));
+        }
+        entries.sort(Comparator.comparingLong(IndexEntry::fetchedAtMillis).thenComparing(IndexEntry::sourceId));
+
+        // 세그먼트별로 한 번만 매핑
+        Map<Long, MappedByteBuffer> mapped = new HashMap<>();
+        for (IndexEntry entry : entries) {
+            RecordLocation location = entry.location();
+            Segment segment = segments.get(location.segmentId());
+            if (segment == null) {
+                continue;  // 조회 중 보존 정책으로 삭제된 세그먼트
+            }
+
+            MappedByteBuffer buffer = mapped.get(segment.id);
+            if (buffer == null) {
+                buffer = map(segment);
+                mapped.put(segment.id, buffer);
+            }
+
+            consumer.accept(decode(entry, buffer));
+        }
+    }
+
+    private void collectEntries(Long sourceId, NavigableMap<Long, RecordLocation> locations,
+                                long fromMillis, long toMillis, List<IndexEntry> out) {
+        if (locations == null) {
+            return;
+        }
+        locations.subMap(fromMillis, true, toMillis, true)
+                .forEach((fetchedAt, location) -> out.add(new IndexEntry(sourceId, fetchedAt, location)));
+    }
+
+    private ArchivedFeed decode(IndexEntry entry, MappedByteBuffer segmentBuffer) throws IOException {
+        RecordLocation location = entry.location();
+        ByteBuffer buffer = segmentBuffer.duplicate();
+        buffer.position((int) location.offset());
+
+        if (buffer.getInt() != RECORD_MAGIC) {
+            throw new IOException("손상된 아카이브 레코드: segment=" + location.segmentId() + ", offset=" + location.offset());
+        }
+        int rawLength = buffer.getInt();
+        int compressedLength = buffer.getInt();
+        int contentTypeLength = buffer.getShort() & 0xFFFF;
+
+        byte[] contentType = new byte[contentTypeLength];
+        buffer.get(contentType);
+
+        byte[] compressed = new byte[compressedLength];
+        buffer.get(compressed);
+
+        return ArchivedFeed.builder()
+                .sourceId(entry.sourceId())
+                .fetchedAt(LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.fetchedAtMillis()), ZoneId.systemDefault()))
+                .contentType(contentTypeLength == 0 ? null : new String(contentType, StandardCharsets.UTF_8))
+                .body(decompress(compressed, rawLength))
+                .build();
+    }
+
+    private MappedByteBuffer map(Segment segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment.dataPath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private void loadSegment(Path segmentFile) throws IOException {
+        String fileName = segmentFile.getFileName().toString();
+        long id;
+        try {
+            id = Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+        } catch (NumberFormatException e) {
+            log.warn("아카이브 세그먼트가 아닌 파일 무시: {}", segmentFile);
+            return;
+        }
+
+        Segment segment = new Segment(id, segmentFile, directory.resolve(String.format(SEGMENT_NAME_FORMAT, id) + INDEX_SUFFIX));
+        segment.size = Files.size(segmentFile);
+
+        if (Files.exists(segment.indexPath)) {
+            byte[] indexBytes = Files.readAllBytes(segment.indexPath);
+            segment.indexSize = indexBytes.length;
+
+            // 마지막 항목이 잘려 있으면 완전한 항목까지만 사용
+            ByteBuffer entries = ByteBuffer.wrap(indexBytes);
+            while (entries.remaining() >= INDEX_ENTRY_BYTES) {
+                long sourceId = entries.getLong();
+                long fetchedAtMillis = entries.getLong();
+                long offset = entries.getLong();
+                int length = entries.getInt();
+
+                if (offset + length > segment.size) {
+                    break;
+                }
+                index.computeIfAbsent(sourceId, key -> new ConcurrentSkipListMap<>())
+                        .put(fetchedAtMillis, new RecordLocation(id, offset, length));
+            }
+        }
+
+        segments.put(id, segment);
+    }
+
+    private void openActiveSegment(long id) throws IOException {
+        String baseName = String.format(SEGMENT_NAME_FORMAT, id);
+        Segment segment = new Segment(id, directory.resolve(baseName + SEGMENT_SUFFIX), directory.resolve(baseName + INDEX_SUFFIX));
+        segment.dataChannel = FileChannel.open(segment.dataPath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segment.indexChannel = FileChannel.open(segment.indexPath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+        segments.put(id, segment);
+        active = segment;
+    }
+
+    // 현재 세그먼트를 닫고 새 세그먼트로 교체
+    private void roll() throws IOException {
+        Segment sealed = active;
+        sealed.force();
+        sealed.closeChannels();
+
+        openActiveSegment(sealed.id + 1);
+        log.info("피드 아카이브 세그먼트 교체: {} -> {}", sealed.id, active.id);
+
+        enforceRetention();
+    }
+
+    // 디스크 예산을 넘으면 가장 오래된 세그먼트부터 삭제 (현재 기록 중인 세그먼트는 제외)
+    private void enforceRetention() throws IOException {
+        long total = segments.values().stream().mapToLong(segment -> segment.size + segment.indexSize).sum();
+
+        while (total > maxDiskBytes && segments.size() > 1) {
+            Segment oldest = segments.pollFirstEntry().getValue();
+            total -= oldest.size + oldest.indexSize;
+
+            index.values().forEach(locations -> locations.values().removeIf(location -> location.segmentId() == oldest.id));
+            index.values().removeIf(Map::isEmpty);
+
+            Files.deleteIfExists(oldest.dataPath);
+            Files.deleteIfExists(oldest.indexPath);
+            log.info("피드 아카이브 보존 용량 초과로 세그먼트 삭제: {}", oldest.id);
+        }
+    }
+
+    private void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private byte[] compress(byte[] raw) {
+        // 수집 경로에서 호출되므로 압축률보다 속도 우선
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            byte[] buffer = new byte[Math.max(64, raw.length / 2)];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == buffer.length) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                }
+                length += deflater.deflate(buffer, length, buffer.length - length);
+            }
+            return Arrays.copyOf(buffer, length);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] decompress(byte[] compressed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int read = inflater.inflate(raw, length, rawLength - length);
+                if (read == 0 && inflater.needsInput()) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != rawLength) {
+                throw new IOException("아카이브 레코드 압축 해제 길이 불일치: expected=" + rawLength + ", actual=" + length);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("아카이브 레코드 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private record RecordLocation(long segmentId, long offset, int length) {
+    }
+
+    private record IndexEntry(Long sourceId, long fetchedAtMillis, RecordLocation location) {
+    }
+
+    private static final class Segment {
+        private final long id;
+        private final Path dataPath;
+        private final Path indexPath;
+        private long size;
+        private long indexSize;
+        private FileChannel dataChannel;   // 기록 중인 세그먼트만 열려 있음
+        private FileChannel indexChannel;
+
+        private Segment(long id, Path dataPath, Path indexPath) {
+            this.id = id;
+            this.dataPath = dataPath;
+            this.indexPath = indexPath;
+        }
+
+        private void force() throws IOException {
+            if (dataChannel != null) {
+                dataChannel.force(false);
+                indexChannel.force(false);
+            }
+        }
+
+        private void closeChannels() {
+            try {
+                if (dataChannel != null) {
+                    dataChannel.close();
+                }
+                if (indexChannel != null) {
+                    indexChannel.close();
+                }
+            } catch (IOException e) {
+                log.warn("피드 아카이브 세그먼트 닫기 실패: {}", id, e);
+            } finally {
+                dataChannel = null;
+                indexChannel = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.leedahun.crawlservice.domain.crawl.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FetchedFeed {
+    private String requestedUrl;           // 요청한 URL
+    private String finalUrl;               // 리다이렉트를 모두 따라간 최종 URL
+    private String permanentRedirectUrl;   // 301/308 만으로 이어진 마지막 URL (영구 리다이렉트가 없으면 null)
+    private String contentType;
+    private byte[] body;
+
+    public boolean isPermanentlyRedirected() {
+        return permanentRedirectUrl != null;
+    }
+}
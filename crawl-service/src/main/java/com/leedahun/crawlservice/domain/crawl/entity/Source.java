@@ -33,6 +33,13 @@ public class Source extends BaseTimeEntity {
     @Column(name = "last_item_hash")
     private String lastItemHash;
 
+    // 영구 리다이렉트(301/308)로 확인된 최종 피드 URL
+    @Column(name = "resolved_url", length = 767)
+    private String resolvedUrl;
+
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+
     public void updateLastCrawledAt(LocalDateTime lastCrawledAt) {
         this.lastCrawledAt = lastCrawledAt;
     }
@@ -41,4 +48,25 @@ public class Source extends BaseTimeEntity {
         this.lastItemHash = lastItemHash;
     }
 
+    public void updateResolvedUrl(String resolvedUrl, LocalDateTime resolvedAt) {
+        this.resolvedUrl = resolvedUrl;
+        this.resolvedAt = resolvedAt;
+    }
+
+    public void clearResolvedUrl() {
+        this.resolvedUrl = null;
+        this.resolvedAt = null;
+    }
+
+    /**
+     * 실제로 요청할 피드 URL
+     * 재검증 기준 시간(revalidateBefore) 이후에 확인된 영구 리다이렉트 URL이 있으면 그 URL을, 아니면 원본 URL을 사용
+     */
+    public String getFetchUrl(LocalDateTime revalidateBefore) {
+        if (resolvedUrl != null && resolvedAt != null && resolvedAt.isAfter(revalidateBefore)) {
+            return resolvedUrl;
+        }
+        return url;
+    }
+
 }
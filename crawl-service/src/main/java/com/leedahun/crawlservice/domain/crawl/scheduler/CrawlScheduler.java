@@ -3,11 +3,16 @@ package com.leedahun.crawlservice.domain.crawl.scheduler;
 import com.leedahun.crawlservice.domain.crawl.entity.Source;
 import com.leedahun.crawlservice.domain.crawl.repository.SourceRepository;
 import com.leedahun.crawlservice.domain.crawl.service.CrawlService;
+import com.leedahun.url.UrlCanonicalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -23,6 +28,9 @@ public class CrawlScheduler {
     private final SourceRepository sourceRepository;
     private final CrawlService crawlService;
 
+    @Value("${app.crawl.redirect.revalidate-hours:24}")
+    private long redirectRevalidateHours;
+
     // 10분마다 실행
     @Scheduled(fixedRate = 600000)
     public void scheduleCrawling() {
@@ -38,14 +46,25 @@ public class CrawlScheduler {
 
         stopWatch.start();
 
+        // 같은 피드로 수렴하는 소스끼리 묶어서 한 번만 요청
+        Map<String, List<Source>> sourceGroups = groupByFetchUrl(sources);
+        if (sourceGroups.size() < sources.size()) {
+            log.info("동일 피드 URL 병합: 소스 {}개 -> 요청 {}개", sources.size(), sourceGroups.size());
+        }
+
         ExecutorService executor = Executors.newFixedThreadPool(20);
         try {
-            for (Source source : sources) {
+            for (List<Source> group : sourceGroups.values()) {
                 // 각 소스 처리를 스레드 풀에 제출 (비동기 병렬 실행)
                 executor.submit(() -> {
                     try {
-                        crawlService.processSource(source);
+                        if (group.size() == 1) {
+                            crawlService.processSource(group.get(0));
+                        } else {
+                            crawlService.processSources(group);
+                        }
                     } catch (Exception e) {
+                        Source source = group.get(0);
                         log.error("소스 크롤링 실패 (ID: {}, URL: {}): {}", source.getId(), source.getUrl(), e.getMessage());
                     }
                 });
@@ -74,4 +93,15 @@ public class CrawlScheduler {
 
         log.info("=== 스케줄링 크롤링 작업 종료 ===");
     }
-}
\ No newline at end of file
+
+    private Map<String, List<Source>> groupByFetchUrl(List<Source> sources) {
+        LocalDateTime revalidateBefore = LocalDateTime.now().minusHours(redirectRevalidateHours);
+        Map<String, List<Source>> groups = new LinkedHashMap<>();
+        for (Source source : sources) {
+            // 스킴/호스트 대소문자, 기본 포트, 끝의 '/' 같은 차이는 같은 피드로 취급
+            String key = UrlCanonicalizer.canonicalize(source.getFetchUrl(revalidateBefore));
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(source);
+        }
+        return groups;
+    }
+}
@@ -2,19 +2,26 @@ package com.leedahun.crawlservice.domain.crawl.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.crawlservice.domain.archive.service.FeedArchive;
 import com.leedahun.crawlservice.domain.crawl.dto.CrawledContentDto;
 import com.leedahun.crawlservice.domain.crawl.dto.FeedItem;
+import com.leedahun.crawlservice.domain.crawl.dto.FetchedFeed;
 import com.leedahun.crawlservice.domain.crawl.entity.Source;
 import com.leedahun.crawlservice.domain.crawl.exception.KafkaMessageSerializationException;
 import com.leedahun.crawlservice.domain.crawl.repository.SourceRepository;
+import com.leedahun.kafka.freshness.FreshnessHeaders;
+import com.leedahun.kafka.freshness.FreshnessMetrics;
+import com.leedahun.url.UrlCanonicalizer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,24 +32,114 @@ public class CrawlService {
 
     private final SourceRepository sourceRepository;
     private final RssFeedParser rssFeedParser;
+    private final FeedFetcher feedFetcher;
+    private final FeedArchive feedArchive;
     private final ObjectMapper objectMapper;
     private final KafkaTemplate<String, String> kafkaTemplate;
+    private final FreshnessMetrics freshnessMetrics;
 
     @Value("${app.kafka.topic.content}")
     private String TOPIC_NAME;
 
+    // 기록된 영구 리다이렉트 URL을 원본 URL로 다시 확인하는 주기
+    @Value("${app.crawl.redirect.revalidate-hours:24}")
+    private long redirectRevalidateHours;
+
     @Transactional
     public void processSource(Source source) {
-        log.info("소스 크롤링 시작: {}", source.getUrl());
+        processSources(List.of(source));
+    }
+
+    /**
+     * 같은 피드 URL로 수렴하는 소스들을 한 번만 요청하고 결과를 각 소스에 나눠서 처리
+     * 첫 번째 소스를 기준으로 피드를 가져오고 리다이렉트 확인 결과는 묶인 모든 소스에 기록하며, 새 글 필터링과 Kafka 발행은 소스별로 수행한다
+     */
+    @Transactional
+    public void processSources(List<Source> sources) {
+        if (sources.isEmpty()) {
+            return;
+        }
+
+        // 1. RSS 요청 및 파싱
+        List<FeedItem> items = new ArrayList<>();
+        FetchedFeed feed = fetchFeed(sources);
+        long fetchedAt = System.currentTimeMillis();
+        if (feed != null) {
+            // 원본 본문 보관 (재처리/파서 회귀 테스트용, 비활성화 시 무시)
+            feedArchive.append(sources.stream().map(Source::getId).toList(), LocalDateTime.now(), feed);
+            items = rssFeedParser.parse(feed);
+        }
 
-        // 1. RSS 파싱
-        List<FeedItem> items = rssFeedParser.parse(source.getUrl());
+        // 2. 소스별 새 글 필터링 및 발행
+        for (Source source : sources) {
+            publishNewItems(source, items, fetchedAt);
+        }
+    }
+
+    // 첫 번째 소스 기준으로 피드 요청 (실패 시 null)
+    private FetchedFeed fetchFeed(List<Source> sources) {
+        Source representative = sources.get(0);
+        LocalDateTime now = LocalDateTime.now();
+        String fetchUrl = representative.getFetchUrl(now.minusHours(redirectRevalidateHours));
+        boolean useResolvedUrl = !fetchUrl.equals(representative.getUrl());
+
+        log.info("소스 크롤링 시작: {}", fetchUrl);
+
+        try {
+            FetchedFeed feed = feedFetcher.fetch(fetchUrl);
+            if (!useResolvedUrl) {
+                recordRedirect(sources, fetchUrl, feed, now);
+            }
+            return feed;
+        } catch (Exception e) {
+            if (!useResolvedUrl) {
+                log.error("RSS 피드 요청 실패: URL={}, 에러={}", fetchUrl, e.getMessage());
+                return null;
+            }
+
+            // 기록된 리다이렉트 URL이 더 이상 유효하지 않으면 원본 URL로 다시 시도
+            // 같은 URL을 기록한 다른 소스도 기록을 지워 다음 주기에 각자의 원본 URL로 다시 확인하게 한다
+            log.warn("리다이렉트 URL 요청 실패, 원본 URL로 재시도: {} -> {}, 에러={}", fetchUrl, representative.getUrl(), e.getMessage());
+            for (Source source : sources) {
+                if (fetchUrl.equals(source.getResolvedUrl())) {
+                    source.clearResolvedUrl();
+                }
+            }
+            try {
+                FetchedFeed feed = feedFetcher.fetch(representative.getUrl());
+                recordRedirect(List.of(representative), representative.getUrl(), feed, now);
+                return feed;
+            } catch (Exception retryException) {
+                log.error("RSS 피드 요청 실패: URL={}, 에러={}", representative.getUrl(), retryException.getMessage());
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 원본 URL(requestedUrl)로 요청했을 때의 리다이렉트 결과를 같은 피드로 묶인 모든 소스에 반영
+     * 영구 리다이렉트면 모든 소스에 최종 URL을 기록하고, 사라졌으면 기록을 제거한다.
+     * 단, 이번에 요청한 URL 자체를 리다이렉트 URL로 기록해 둔 소스는 그 기록이 여전히 유효하므로 그대로 둔다.
+     */
+    private void recordRedirect(List<Source> sources, String requestedUrl, FetchedFeed feed, LocalDateTime now) {
+        String requested = UrlCanonicalizer.canonicalize(requestedUrl);
+        for (Source source : sources) {
+            if (feed.isPermanentlyRedirected()) {
+                source.updateResolvedUrl(feed.getPermanentRedirectUrl(), now);
+            } else if (source.getResolvedUrl() != null
+                    && !requested.equals(UrlCanonicalizer.canonicalize(source.getResolvedUrl()))) {
+                source.clearResolvedUrl();
+            }
+        }
+    }
+
+    private void publishNewItems(Source source, List<FeedItem> items, long fetchedAt) {
         if (items.isEmpty()) {
             updateSourceStatus(source, source.getLastItemHash()); // 시간만 갱신
             return;
         }
 
-        // 2. 새 글 필터링
+        // 새 글 필터링
         String lastHash = source.getLastItemHash();
         List<FeedItem> newItems = new ArrayList<>();
 
@@ -63,7 +160,7 @@ public class CrawlService {
 
         log.info("새 글 {}개 발견: {}", newItems.size(), source.getUrl());
 
-        // 3. Kafka 발행 (과거->최신)
+        // Kafka 발행 (과거->최신)
         for (int i = newItems.size() - 1; i >= 0; i--) {
             FeedItem item = newItems.get(i);
 
@@ -76,24 +173,42 @@ public class CrawlService {
                     .publishedAt(item.getPubDate())
                     .build();
 
-            sendContentMessage(contentDto);
+            sendContentMessage(contentDto, fetchedAt);
         }
 
-        // 4. Source 업데이트 최신화
+        // Source 업데이트 최신화
         String newLatestHash = items.get(0).getGuid();  // 가장 최신글의 hash로 업데이트
         updateSourceStatus(source, newLatestHash);
     }
 
-    private void sendContentMessage(CrawledContentDto content) {
+    /**
+     * 콘텐츠 메시지 발행
+     * 게시 시각과 피드를 가져온 시각을 헤더로 함께 보내 이후 단계에서 신선도(게시 -> 수신 지연)를 측정할 수 있게 한다.
+     */
+    private void sendContentMessage(CrawledContentDto content, long fetchedAt) {
         try {
             String jsonMessage = objectMapper.writeValueAsString(content);
-            kafkaTemplate.send(TOPIC_NAME, jsonMessage);
+            Long publishedAt = toEpochMillis(content.getPublishedAt());
+
+            ProducerRecord<String, String> record = new ProducerRecord<>(TOPIC_NAME, jsonMessage);
+            FreshnessHeaders.put(record.headers(), FreshnessHeaders.PUBLISHED_AT, publishedAt);
+            FreshnessHeaders.put(record.headers(), FreshnessHeaders.FETCHED_AT, fetchedAt);
+            kafkaTemplate.send(record);
+
+            freshnessMetrics.record(FreshnessMetrics.PUBLISH_TO_FETCH, publishedAt, fetchedAt);
         } catch (JsonProcessingException e) {
             log.error("Kafka 전송을 위한 JSON 변환 실패. ContentTitle: {}", content.getTitle(), e);
             throw new KafkaMessageSerializationException(e);
         }
     }
 
+    private Long toEpochMillis(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return null;
+        }
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
     private void updateSourceStatus(Source source, String newHash) {
         source.updateLastCrawledAt(LocalDateTime.now());
         if (newHash != null) {
@@ -0,0 +1,96 @@
+package com.leedahun.crawlservice.domain.crawl.service;
+
+import com.leedahun.crawlservice.domain.crawl.dto.FetchedFeed;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 피드 본문을 가져오는 컴포넌트
+ * 리다이렉트를 직접 따라가면서 영구 리다이렉트(301, 308)의 최종 위치를 기록한다.
+ * 다음 수집부터는 기록된 URL로 바로 요청해서 불필요한 왕복(및 TLS 핸드셰이크)을 줄이기 위함
+ */
+@Slf4j
+@Component
+public class FeedFetcher {
+
+    private static final int TIMEOUT = 10000; // 10초
+    private static final int MAX_REDIRECTS = 5;
+    private static final String LOCATION_HEADER = "Location";
+
+    public FetchedFeed fetch(String feedUrl) throws IOException {
+        URL url = new URL(feedUrl);
+        String permanentRedirectUrl = null;
+        boolean permanentChain = true;  // 지금까지의 리다이렉트가 모두 영구 리다이렉트인지
+
+        for (int redirects = 0; redirects <= MAX_REDIRECTS; redirects++) {
+            URLConnection con = url.openConnection();
+            con.setConnectTimeout(TIMEOUT);
+            con.setReadTimeout(TIMEOUT);
+
+            // file:// 등 HTTP가 아닌 경우 그대로 읽음
+            if (!(con instanceof HttpURLConnection http)) {
+                return read(feedUrl, url, permanentRedirectUrl, con);
+            }
+
+            http.setInstanceFollowRedirects(false);
+            int status = http.getResponseCode();
+
+            if (!isRedirect(status)) {
+                return read(feedUrl, url, permanentRedirectUrl, http);
+            }
+
+            String location = http.getHeaderField(LOCATION_HEADER);
+            http.disconnect();
+            if (location == null || location.isBlank()) {
+                throw new IOException("Location 헤더가 없는 리다이렉트 응답: " + url + " (" + status + ")");
+            }
+
+            url = new URL(url, location);  // 상대 경로 Location 처리
+
+            // 중간에 임시 리다이렉트가 한 번이라도 끼면 그 이후는 영구 위치로 보지 않음
+            if (permanentChain && isPermanentRedirect(status)) {
+                permanentRedirectUrl = url.toString();
+            } else {
+                permanentChain = false;
+            }
+        }
+
+        throw new IOException("리다이렉트 횟수 초과(" + MAX_REDIRECTS + "): " + feedUrl);
+    }
+
+    private FetchedFeed read(String requestedUrl, URL finalUrl, String permanentRedirectUrl, URLConnection con) throws IOException {
+        byte[] body;
+        try (InputStream in = con.getInputStream()) {
+            body = in.readAllBytes();
+        }
+
+        if (permanentRedirectUrl != null) {
+            log.info("영구 리다이렉트 감지: {} -> {}", requestedUrl, permanentRedirectUrl);
+        }
+
+        return FetchedFeed.builder()
+                .requestedUrl(requestedUrl)
+                .finalUrl(finalUrl.toString())
+                .permanentRedirectUrl(permanentRedirectUrl)
+                .contentType(con.getContentType())
+                .body(body)
+                .build();
+    }
+
+    private boolean isRedirect(int status) {
+        return status == HttpURLConnection.HTTP_MOVED_PERM     // 301
+                || status == HttpURLConnection.HTTP_MOVED_TEMP // 302
+                || status == HttpURLConnection.HTTP_SEE_OTHER  // 303
+                || status == 307
+                || status == 308;
+    }
+
+    private boolean isPermanentRedirect(int status) {
+        return status == HttpURLConnection.HTTP_MOVED_PERM || status == 308;
+    }
+}
@@ -0,0 +1,161 @@
+package com.leedahun.crawlservice.domain.crawl.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.leedahun.crawlservice.domain.crawl.dto.FeedItem;
+import com.leedahun.feed.format.FeedFormat;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.stereotype.Component;
+
+/**
+ * JSON Feed 1.x 파서
+ * JsonNode 트리를 만들지 않고 JsonParser 토큰 스트림을 한 번 훑으면서 바로 FeedItem을 만든다.
+ * 지원하지 않는 버전이면 identity-service 등록 검증과 같은 기준(FeedFormat)으로 거부한다.
+ */
+@Slf4j
+@Component
+public class JsonFeedParser {
+
+    private static final int SUMMARY_LENGTH = 200;
+
+    // JsonFactory는 thread-safe 하므로 공유해서 사용
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    public List<FeedItem> parse(byte[] body) throws IOException {
+        List<FeedItem> items = new ArrayList<>();
+        String version = null;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "JSON Feed의 최상위 값이 객체가 아닙니다.");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                if ("version".equals(field)) {
+                    version = readText(parser);
+                } else if ("items".equals(field) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        if (parser.currentToken() == JsonToken.START_OBJECT) {
+                            items.add(parseItem(parser));
+                        } else {
+                            // 객체가 아닌 항목은 건너뛰고 다음 항목을 계속 읽는다
+                            log.debug("JSON Feed 항목이 객체가 아님: {}", parser.currentToken());
+                            parser.skipChildren();
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        if (!FeedFormat.isSupportedJsonFeedVersion(version)) {
+            throw new IOException("지원하지 않는 JSON Feed 버전: " + version);
+        }
+        return items;
+    }
+
+    // START_OBJECT 위치에서 호출되어 END_OBJECT 까지 소비한다
+    private FeedItem parseItem(JsonParser parser) throws IOException {
+        String id = null;
+        String url = null;
+        String externalUrl = null;
+        String title = null;
+        String summary = null;
+        String contentText = null;
+        String contentHtml = null;
+        String image = null;
+        String bannerImage = null;
+        String datePublished = null;
+        String dateModified = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+
+            switch (field) {
+                case "id" -> id = readText(parser);
+                case "url" -> url = readText(parser);
+                case "external_url" -> externalUrl = readText(parser);
+                case "title" -> title = readText(parser);
+                case "summary" -> summary = readText(parser);
+                case "content_text" -> contentText = readText(parser);
+                case "content_html" -> contentHtml = readText(parser);
+                case "image" -> image = readText(parser);
+                case "banner_image" -> bannerImage = readText(parser);
+                case "date_published" -> datePublished = readText(parser);
+                case "date_modified" -> dateModified = readText(parser);
+                default -> parser.skipChildren();  // attachments, authors, tags, _확장필드 등
+            }
+        }
+
+        String link = (url != null) ? url : externalUrl;
+        String guid = (id != null) ? id : link;
+
+        // 요약: summary -> content_text -> content_html 의 텍스트 순서로 사용
+        String thumbnailUrl = (image != null) ? image : bannerImage;
+        String cleanSummary = "";
+        if (summary != null) {
+            cleanSummary = summary;
+        } else if (contentText != null) {
+            cleanSummary = contentText;
+        } else if (contentHtml != null && !contentHtml.isEmpty()) {
+            Document doc = Jsoup.parse(contentHtml);
+            cleanSummary = doc.text();
+            if (thumbnailUrl == null) {
+                Element img = doc.select("img").first();
+                if (img != null) {
+                    thumbnailUrl = img.attr("src");
+                }
+            }
+        }
+        if (cleanSummary.length() > SUMMARY_LENGTH) {
+            cleanSummary = cleanSummary.substring(0, SUMMARY_LENGTH) + "...";
+        }
+
+        LocalDateTime pubDate = parseDate(datePublished != null ? datePublished : dateModified);
+
+        return new FeedItem(guid, title, link, cleanSummary, thumbnailUrl, pubDate);
+    }
+
+    // 문자열/숫자 값은 문자열로 읽고, 객체나 배열이 오면 통째로 건너뛴다
+    private String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.START_OBJECT || token == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return parser.getValueAsString();
+    }
+
+    // JSON Feed의 날짜는 RFC 3339 형식
+    private LocalDateTime parseDate(String value) {
+        if (value == null) {
+            return LocalDateTime.now();
+        }
+        try {
+            return LocalDateTime.ofInstant(OffsetDateTime.parse(value).toInstant(), ZoneId.systemDefault());
+        } catch (DateTimeParseException e) {
+            log.debug("JSON Feed 날짜 파싱 실패: {}", value);
+            return LocalDateTime.now();
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.leedahun.crawlservice.domain.crawl.service;
 
 import com.leedahun.crawlservice.domain.crawl.dto.FeedItem;
+import com.leedahun.crawlservice.domain.crawl.dto.FetchedFeed;
+import com.leedahun.feed.format.FeedFormat;
 import com.rometools.rome.feed.synd.SyndEntry;
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.SyndFeedInput;
 import java.io.InputStream;
 import java.io.StringReader;
+import java.net.URLConnection;
 import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -21,67 +25,97 @@ import java.util.List;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RssFeedParser {
 
     private static final int SUMMARY_LENGTH = 200;
 
+    private final JsonFeedParser jsonFeedParser;
+
     public List<FeedItem> parse(String feedUrl) {
-        List<FeedItem> items = new ArrayList<>();
         try {
-            String xmlData;
-            try (InputStream in = new URL(feedUrl).openStream()) {
-                xmlData = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            URLConnection con = new URL(feedUrl).openConnection();
+            byte[] body;
+            try (InputStream in = con.getInputStream()) {
+                body = in.readAllBytes();
             }
+            return parse(feedUrl, body, con.getContentType());
+        } catch (Exception e) {
+            log.error("RSS 피드 파싱 실패: URL={}, 에러={}", feedUrl, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
 
-            // 0x00-0x08, 0x0B-0x0C, 0x0E-0x1F 범위의 문자를 제거
-            // (\t, \n, \r 은 유지해야 하므로 제외)
-            String cleanXml = xmlData.replaceAll("[\\x00-\\x08\\x0b\\x0c\\x0e-\\x1f]", "");
-
-            // 입력받은 feedUrl에 HTTP요청을 보내 XML데이터를 가져온다
-            SyndFeedInput input = new SyndFeedInput();
-            SyndFeed feed = input.build(new StringReader(cleanXml)); // XML구조를 분석하여 자바 객체로 변환(SyncFeed 객체)
-
-            // 각 게시글 처리
-            // Rome 라이브러리는 원본이 RSS 2.0의 <item>이든 Atom 1.0의 <entry>이든 상관없이 SyndEntry라는 표준 객체로 통일해 준다
-            for (SyndEntry entry : feed.getEntries()) {
-                String guid = (entry.getUri() != null) ? entry.getUri() : entry.getLink();  // ?
-                String title = entry.getTitle();
-                String link = entry.getLink();
-
-                // RSS의 날짜형식을 LocalDateTime으로 변환
-                LocalDateTime pubDate = LocalDateTime.now();
-                if (entry.getPublishedDate() != null) {
-                    pubDate = LocalDateTime.ofInstant(entry.getPublishedDate().toInstant(), ZoneId.systemDefault());
-                }
+    public List<FeedItem> parse(FetchedFeed feed) {
+        return parse(feed.getFinalUrl(), feed.getBody(), feed.getContentType());
+    }
 
-                String summaryHtml = (entry.getDescription() != null) ? entry.getDescription().getValue() : "";
-                String cleanSummary = "";
-                String thumbnailUrl = null;
-
-                if (!summaryHtml.isEmpty()) {
-                    Document doc = Jsoup.parse(summaryHtml);  // HTML문자열을 DOM구조로 변환하여 태그를 찾기 쉽게 만든다
-                    Element img = doc.select("img").first();  // 이미지 태그 찾기
-                    if (img != null) {
-                        thumbnailUrl = img.attr("src");
-                    }
-                    cleanSummary = doc.text(); // HTML 태그 찾기
-                    if (cleanSummary.length() > SUMMARY_LENGTH) {  // 200자 제한
-                        cleanSummary = cleanSummary.substring(0, SUMMARY_LENGTH) + "...";  // 너무 길면 200자 요약으로 생성
-                    }
-                }
+    /**
+     * 이미 받아온 피드 본문을 파싱
+     * Content-Type 또는 본문 첫 바이트로 형식을 판별하여 JSON Feed는 스트리밍 파서로, 그 외는 Rome으로 처리한다
+     */
+    public List<FeedItem> parse(String feedUrl, byte[] body, String contentType) {
+        try {
+            if (FeedFormat.detect(contentType, body) == FeedFormat.JSON_FEED) {
+                return jsonFeedParser.parse(body);
+            }
+            return parseXml(body);
+        } catch (Exception e) {
+            log.error("RSS 피드 파싱 실패: URL={}, 에러={}", feedUrl, e.getMessage());
+            return new ArrayList<>();
+        }
+    }
 
-                // 본문에 이미지가 없을 경우 <enclosure>를 확인하여 이미지가 있는지 한번 더 찾는다
-                if (thumbnailUrl == null && entry.getEnclosures() != null && !entry.getEnclosures().isEmpty()) {
-                    var enclosure = entry.getEnclosures().get(0);
-                    if (enclosure.getType() != null && enclosure.getType().startsWith("image")) {
-                        thumbnailUrl = enclosure.getUrl();
-                    }
+    private List<FeedItem> parseXml(byte[] body) throws Exception {
+        List<FeedItem> items = new ArrayList<>();
+        String xmlData = new String(body, StandardCharsets.UTF_8);
+
+        // 0x00-0x08, 0x0B-0x0C, 0x0E-0x1F 범위의 문자를 제거
+        // (\t, \n, \r 은 유지해야 하므로 제외)
+        String cleanXml = xmlData.replaceAll("[\\x00-\\x08\\x0b\\x0c\\x0e-\\x1f]", "");
+
+        // 입력받은 feedUrl에 HTTP요청을 보내 XML데이터를 가져온다
+        SyndFeedInput input = new SyndFeedInput();
+        SyndFeed feed = input.build(new StringReader(cleanXml)); // XML구조를 분석하여 자바 객체로 변환(SyncFeed 객체)
+
+        // 각 게시글 처리
+        // Rome 라이브러리는 원본이 RSS 2.0의 <item>이든 Atom 1.0의 <entry>이든 상관없이 SyndEntry라는 표준 객체로 통일해 준다
+        for (SyndEntry entry : feed.getEntries()) {
+            String guid = (entry.getUri() != null) ? entry.getUri() : entry.getLink();  // ?
+            String title = entry.getTitle();
+            String link = entry.getLink();
+
+            // RSS의 날짜형식을 LocalDateTime으로 변환
+            LocalDateTime pubDate = LocalDateTime.now();
+            if (entry.getPublishedDate() != null) {
+                pubDate = LocalDateTime.ofInstant(entry.getPublishedDate().toInstant(), ZoneId.systemDefault());
+            }
+
+            String summaryHtml = (entry.getDescription() != null) ? entry.getDescription().getValue() : "";
+            String cleanSummary = "";
+            String thumbnailUrl = null;
+
+            if (!summaryHtml.isEmpty()) {
+                Document doc = Jsoup.parse(summaryHtml);  // HTML문자열을 DOM구조로 변환하여 태그를 찾기 쉽게 만든다
+                Element img = doc.select("img").first();  // 이미지 태그 찾기
+                if (img != null) {
+                    thumbnailUrl = img.attr("src");
+                }
+                cleanSummary = doc.text(); // HTML 태그 찾기
+                if (cleanSummary.length() > SUMMARY_LENGTH) {  // 200자 제한
+                    cleanSummary = cleanSummary.substring(0, SUMMARY_LENGTH) + "...";  // 너무 길면 200자 요약으로 생성
                 }
+            }
 
-                items.add(new FeedItem(guid, title, link, cleanSummary, thumbnailUrl, pubDate));
+            // 본문에 이미지가 없을 경우 <enclosure>를 확인하여 이미지가 있는지 한번 더 찾는다
+            if (thumbnailUrl == null && entry.getEnclosures() != null && !entry.getEnclosures().isEmpty()) {
+                var enclosure = entry.getEnclosures().get(0);
+                if (enclosure.getType() != null && enclosure.getType().startsWith("image")) {
+                    thumbnailUrl = enclosure.getUrl();
+                }
             }
-        } catch (Exception e) {
-            log.error("RSS 피드 파싱 실패: URL={}, 에러={}", feedUrl, e.getMessage());
+
+            items.add(new FeedItem(guid, title, link, cleanSummary, thumbnailUrl, pubDate));
         }
         return items;
     }
@@ -0,0 +1,66 @@
+package com.leedahun.crawlservice.domain.archive.controller;
+
+import com.leedahun.crawlservice.config.SecurityConfig;
+import com.leedahun.crawlservice.domain.archive.dto.ReplayResultDto;
+import com.leedahun.crawlservice.domain.archive.service.ArchiveReplayService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ArchiveInternalController.class,
+        excludeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE, classes = {SecurityConfig.class}
+        ))
+@AutoConfigureMockMvc(addFilters = false)
+class ArchiveInternalControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ArchiveReplayService archiveReplayService;
+
+    @Test
+    @DisplayName("[POST /internal/archive/replay] 소스와 기간을 지정하면 재처리 결과를 반환한다")
+    void replay_success() throws Exception {
+        // given
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 2, 0, 0);
+
+        ReplayResultDto result = ReplayResultDto.builder()
+                .archivedCount(3)
+                .parsedItemCount(30)
+                .emptyCount(0)
+                .elapsedMillis(5)
+                .records(Collections.emptyList())
+                .build();
+        when(archiveReplayService.replay(1L, from, to)).thenReturn(result);
+
+        // when & then
+        mockMvc.perform(post("/internal/archive/replay")
+                        .param("sourceId", "1")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2025-01-02T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.archivedCount").value(3))
+                .andExpect(jsonPath("$.parsedItemCount").value(30))
+                .andExpect(jsonPath("$.recordsTruncated").value(false));
+
+        verify(archiveReplayService).replay(1L, from, to);
+    }
+}
@@ -0,0 +1,125 @@
+package com.leedahun.crawlservice.domain.archive.service;
+
+import com.leedahun.crawlservice.domain.archive.dto.ArchivedFeed;
+import com.leedahun.crawlservice.domain.archive.dto.ReplayResultDto;
+import com.leedahun.crawlservice.domain.crawl.dto.FeedItem;
+import com.leedahun.crawlservice.domain.crawl.service.RssFeedParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveReplayServiceTest {
+
+    @InjectMocks
+    private ArchiveReplayService archiveReplayService;
+
+    @Mock
+    private FeedArchive feedArchive;
+
+    @Mock
+    private RssFeedParser rssFeedParser;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(archiveReplayService, "maxRecords", 1000);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenArchived(Long sourceId, List<ArchivedFeed> archived) throws IOException {
+        willAnswer(invocation -> {
+            Consumer<ArchivedFeed> consumer = invocation.getArgument(3);
+            archived.forEach(consumer);
+            return null;
+        }).given(feedArchive).forEach(eq(sourceId), isNull(), isNull(), any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("아카이브된 본문을 현재 파서로 다시 파싱하고 결과를 집계한다")
+    void replay_Success() throws Exception {
+        // given
+        LocalDateTime fetchedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        byte[] body1 = "<rss>1</rss>".getBytes();
+        byte[] body2 = "<rss>broken".getBytes();
+
+        givenArchived(null, List.of(
+                ArchivedFeed.builder().sourceId(1L).fetchedAt(fetchedAt).contentType("application/rss+xml").body(body1).build(),
+                ArchivedFeed.builder().sourceId(2L).fetchedAt(fetchedAt.plusMinutes(10)).body(body2).build()
+        ));
+
+        List<FeedItem> items = List.of(
+                FeedItem.builder().guid("guid-2").build(),
+                FeedItem.builder().guid("guid-1").build()
+        );
+        given(rssFeedParser.parse(any(), eq(body1), eq("application/rss+xml"))).willReturn(items);
+        given(rssFeedParser.parse(any(), eq(body2), isNull())).willReturn(Collections.emptyList());
+
+        // when
+        ReplayResultDto result = archiveReplayService.replay(null, null, null);
+
+        // then
+        assertThat(result.getArchivedCount()).isEqualTo(2);
+        assertThat(result.getParsedItemCount()).isEqualTo(2);
+        assertThat(result.getEmptyCount()).isEqualTo(1);
+        assertThat(result.getRecords()).hasSize(2);
+        assertThat(result.isRecordsTruncated()).isFalse();
+        assertThat(result.getRecords().get(0).getSourceId()).isEqualTo(1L);
+        assertThat(result.getRecords().get(0).getLatestGuid()).isEqualTo("guid-2");
+        assertThat(result.getRecords().get(1).getItemCount()).isZero();
+        assertThat(result.getRecords().get(1).getLatestGuid()).isNull();
+    }
+
+    @Test
+    @DisplayName("레코드별 결과는 최대 개수까지만 담고 집계는 전체 레코드 기준으로 한다")
+    void replay_RecordsTruncated() throws Exception {
+        // given
+        ReflectionTestUtils.setField(archiveReplayService, "maxRecords", 1);
+        LocalDateTime fetchedAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        givenArchived(1L, List.of(
+                ArchivedFeed.builder().sourceId(1L).fetchedAt(fetchedAt).body("<rss>1</rss>".getBytes()).build(),
+                ArchivedFeed.builder().sourceId(1L).fetchedAt(fetchedAt.plusMinutes(10)).body("<rss>2</rss>".getBytes()).build()
+        ));
+        given(rssFeedParser.parse(any(), any(), isNull())).willReturn(List.of(FeedItem.builder().guid("guid").build()));
+
+        // when
+        ReplayResultDto result = archiveReplayService.replay(1L, null, null);
+
+        // then
+        assertThat(result.getArchivedCount()).isEqualTo(2);
+        assertThat(result.getParsedItemCount()).isEqualTo(2);
+        assertThat(result.getRecords()).hasSize(1);
+        assertThat(result.isRecordsTruncated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("아카이브된 데이터가 없으면 빈 결과를 반환한다")
+    void replay_Empty() throws Exception {
+        // given
+        givenArchived(1L, Collections.emptyList());
+
+        // when
+        ReplayResultDto result = archiveReplayService.replay(1L, null, null);
+
+        // then
+        assertThat(result.getArchivedCount()).isZero();
+        assertThat(result.getRecords()).isEmpty();
+    }
+}
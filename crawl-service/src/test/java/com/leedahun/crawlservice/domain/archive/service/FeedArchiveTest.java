@@ -0,0 +1,223 @@
+package com.leedahun.crawlservice.domain.archive.service;
+
+import com.leedahun.crawlservice.domain.archive.dto.ArchivedFeed;
+import com.leedahun.crawlservice.domain.crawl.dto.FetchedFeed;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedArchiveTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    @TempDir
+    Path archiveDir;
+
+    private FeedArchive feedArchive;
+
+    @AfterEach
+    void tearDown() {
+        if (feedArchive != null) {
+            feedArchive.close();
+        }
+    }
+
+    @Test
+    @DisplayName("저장한 피드 본문을 압축 해제하여 그대로 읽어온다")
+    void appendAndRead() throws IOException {
+        // given
+        feedArchive = createArchive(1024 * 1024, 10 * 1024 * 1024);
+        String body = "<rss><channel><title>테스트</title></channel></rss>".repeat(50);
+
+        // when
+        feedArchive.append(List.of(1L), BASE_TIME, feed(body, "application/rss+xml"));
+        List<ArchivedFeed> result = feedArchive.read(1L, null, null);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getSourceId()).isEqualTo(1L);
+        assertThat(result.get(0).getFetchedAt()).isEqualTo(BASE_TIME);
+        assertThat(result.get(0).getContentType()).isEqualTo("application/rss+xml");
+        assertThat(new String(result.get(0).getBody(), StandardCharsets.UTF_8)).isEqualTo(body);
+
+        // 반복이 많은 본문이므로 압축되어 원본보다 작게 저장
+        assertThat(totalSize()).isLessThan(body.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    @DisplayName("여러 소스가 공유하는 본문은 한 번만 기록하고 소스별로 조회된다")
+    void appendSharedFeed() throws IOException {
+        // given
+        feedArchive = createArchive(1024 * 1024, 10 * 1024 * 1024);
+
+        // when
+        feedArchive.append(List.of(1L, 2L), BASE_TIME, feed("<rss/>", null));
+
+        // then
+        assertThat(feedArchive.read(1L, null, null)).hasSize(1);
+        assertThat(feedArchive.read(2L, null, null)).hasSize(1);
+        assertThat(feedArchive.read(null, null, null)).hasSize(2);
+        assertThat(feedArchive.read(2L, null, null).get(0).getContentType()).isNull();
+    }
+
+    @Test
+    @DisplayName("수집 시간 범위로 조회하면 범위 안의 레코드만 오름차순으로 반환한다")
+    void readByTimeRange() throws IOException {
+        // given
+        feedArchive = createArchive(1024 * 1024, 10 * 1024 * 1024);
+        for (int i = 0; i < 5; i++) {
+            feedArchive.append(List.of(1L), BASE_TIME.plusMinutes(i * 10L), feed("<rss>" + i + "</rss>", null));
+        }
+
+        // when
+        List<ArchivedFeed> result = feedArchive.read(1L, BASE_TIME.plusMinutes(10), BASE_TIME.plusMinutes(30));
+
+        // then
+        assertThat(result).extracting(ArchivedFeed::getFetchedAt)
+                .containsExactly(BASE_TIME.plusMinutes(10), BASE_TIME.plusMinutes(20), BASE_TIME.plusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("재시작하면 인덱스 파일로부터 기존 레코드를 다시 읽어온다")
+    void reloadAfterRestart() throws IOException {
+        // given
+        feedArchive = createArchive(1024 * 1024, 10 * 1024 * 1024);
+        feedArchive.append(List.of(1L), BASE_TIME, feed("<rss>before</rss>", null));
+        feedArchive.close();
+
+        // when
+        feedArchive = createArchive(1024 * 1024, 10 * 1024 * 1024);
+        feedArchive.append(List.of(1L), BASE_TIME.plusMinutes(10), feed("<rss>after</rss>", null));
+        List<ArchivedFeed> result = feedArchive.read(1L, null, null);
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(new String(result.get(0).getBody(), StandardCharsets.UTF_8)).isEqualTo("<rss>before</rss>");
+        assertThat(new String(result.get(1).getBody(), StandardCharsets.UTF_8)).isEqualTo("<rss>after</rss>");
+    }
+
+    @Test
+    @DisplayName("디스크 예산을 넘으면 가장 오래된 세그먼트부터 삭제한다")
+    void retentionByDiskBudget() throws IOException {
+        // given
+        // 세그먼트 하나에 레코드 하나씩 들어가도록 작게 설정
+        feedArchive = createArchive(1, 3000);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            feedArchive.append(List.of(1L), BASE_TIME.plusMinutes(i), feed(randomBody(i), null));
+        }
+
+        // then
+        List<ArchivedFeed> result = feedArchive.read(1L, null, null);
+        assertThat(result).isNotEmpty().hasSizeLessThan(20);
+        assertThat(result.get(result.size() - 1).getFetchedAt()).isEqualTo(BASE_TIME.plusMinutes(19));
+        assertThat(result.get(0).getFetchedAt()).isAfter(BASE_TIME);
+    }
+
+    @Test
+    @DisplayName("기록 도중 실패해도 이후 레코드의 위치가 어긋나지 않는다")
+    void appendAfterWriteFailure() throws IOException {
+        // given
+        feedArchive = createArchive(1024 * 1024, 10 * 1024 * 1024);
+        feedArchive.append(List.of(1L), BASE_TIME, feed("<rss>first</rss>", null));
+
+        // 본문은 기록되고 인덱스 기록에서 실패하도록 인덱스 채널을 닫음
+        Object active = ReflectionTestUtils.getField(feedArchive, "active");
+        ((FileChannel) ReflectionTestUtils.getField(active, "indexChannel")).close();
+        feedArchive.append(List.of(1L), BASE_TIME.plusMinutes(10), feed("<rss>failed</rss>", null));
+
+        // when
+        feedArchive.append(List.of(1L), BASE_TIME.plusMinutes(20), feed("<rss>third</rss>", null));
+        List<ArchivedFeed> result = feedArchive.read(1L, null, null);
+
+        // then
+        assertThat(result).extracting(feed -> new String(feed.getBody(), StandardCharsets.UTF_8))
+                .containsExactly("<rss>first</rss>", "<rss>third</rss>");
+    }
+
+    @Test
+    @DisplayName("조회 범위의 본문을 하나씩 전달한다")
+    void forEach() throws IOException {
+        // given
+        feedArchive = createArchive(1024 * 1024, 10 * 1024 * 1024);
+        feedArchive.append(List.of(1L), BASE_TIME, feed("<rss>1</rss>", null));
+        feedArchive.append(List.of(2L), BASE_TIME.plusMinutes(10), feed("<rss>2</rss>", null));
+
+        // when
+        List<Long> sourceIds = new ArrayList<>();
+        feedArchive.forEach(null, null, null, archived -> sourceIds.add(archived.getSourceId()));
+
+        // then
+        assertThat(sourceIds).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("비활성화 상태에서는 저장하지 않고 빈 결과를 반환한다")
+    void disabled() throws IOException {
+        // given
+        feedArchive = new FeedArchive();
+        ReflectionTestUtils.setField(feedArchive, "enabled", false);
+        ReflectionTestUtils.setField(feedArchive, "archiveDir", archiveDir.toString());
+        feedArchive.init();
+
+        // when
+        feedArchive.append(List.of(1L), BASE_TIME, feed("<rss/>", null));
+
+        // then
+        assertThat(feedArchive.read(1L, null, null)).isEmpty();
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private FeedArchive createArchive(long segmentMaxBytes, long maxDiskBytes) throws IOException {
+        FeedArchive archive = new FeedArchive();
+        ReflectionTestUtils.setField(archive, "enabled", true);
+        ReflectionTestUtils.setField(archive, "archiveDir", archiveDir.toString());
+        ReflectionTestUtils.setField(archive, "segmentMaxBytes", segmentMaxBytes);
+        ReflectionTestUtils.setField(archive, "maxDiskBytes", maxDiskBytes);
+        archive.init();
+        return archive;
+    }
+
+    private FetchedFeed feed(String body, String contentType) {
+        return FetchedFeed.builder()
+                .requestedUrl("https://test.com/feed")
+                .finalUrl("https://test.com/feed")
+                .contentType(contentType)
+                .body(body.getBytes(StandardCharsets.UTF_8))
+                .build();
+    }
+
+    // 압축이 거의 되지 않는 본문 (약 1KB)
+    private String randomBody(int seed) {
+        Random random = new Random(seed);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+
+    private long totalSize() throws IOException {
+        try (Stream<Path> files = Files.list(archiveDir)) {
+            return files.mapToLong(path -> path.toFile().length()).sum();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -59,6 +60,34 @@ class CrawlSchedulerTest {
         verify(crawlService, times(1)).processSource(source2);
     }
 
+    @Test
+    @DisplayName("같은 피드 URL로 수렴하는 소스들은 묶어서 한 번에 크롤링한다")
+    void scheduleCrawling_GroupSameFeed() {
+        // given
+        Source source1 = Source.builder()
+                .id(1L)
+                .url("http://blog.com/feed")
+                .resolvedUrl("https://blog.com/feed")
+                .resolvedAt(LocalDateTime.now().minusHours(1))
+                .build();
+        Source source2 = Source.builder().id(2L).url("https://BLOG.com/feed/").build();
+        Source source3 = Source.builder().id(3L).url("https://other.com/feed").build();
+
+        given(sourceRepository.findSourcesToCrawl(any(LocalDateTime.class)))
+                .willReturn(List.of(source1, source2, source3));
+        ReflectionTestUtils.setField(crawlScheduler, "redirectRevalidateHours", 24L);
+
+        // when
+        crawlScheduler.scheduleCrawling();
+
+        // then
+        // source1(리다이렉트 URL)과 source2는 같은 피드이므로 한 번에 처리
+        verify(crawlService, times(1)).processSources(List.of(source1, source2));
+        verify(crawlService, times(1)).processSource(source3);
+        verify(crawlService, never()).processSource(source1);
+        verify(crawlService, never()).processSource(source2);
+    }
+
     @Test
     @DisplayName("수집 대상 소스가 없으면 크롤링 로직을 수행하지 않고 종료한다")
     void scheduleCrawling_NoSources() {
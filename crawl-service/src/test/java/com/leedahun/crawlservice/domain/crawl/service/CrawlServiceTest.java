@@ -3,21 +3,30 @@ package com.leedahun.crawlservice.domain.crawl.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leedahun.crawlservice.common.message.ErrorMessage;
+import com.leedahun.crawlservice.domain.archive.service.FeedArchive;
 import com.leedahun.crawlservice.domain.crawl.dto.CrawledContentDto;
 import com.leedahun.crawlservice.domain.crawl.dto.FeedItem;
+import com.leedahun.crawlservice.domain.crawl.dto.FetchedFeed;
 import com.leedahun.crawlservice.domain.crawl.entity.Source;
 import com.leedahun.crawlservice.domain.crawl.exception.KafkaMessageSerializationException;
 import com.leedahun.crawlservice.domain.crawl.repository.SourceRepository;
+import com.leedahun.kafka.freshness.FreshnessHeaders;
+import com.leedahun.kafka.freshness.FreshnessMetrics;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.core.KafkaTemplate;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -41,23 +50,38 @@ class CrawlServiceTest {
     @Mock
     private RssFeedParser rssFeedParser;
 
+    @Mock
+    private FeedFetcher feedFetcher;
+
+    @Mock
+    private FeedArchive feedArchive;
+
     @Mock
     private ObjectMapper objectMapper;
 
     @Mock
     private KafkaTemplate<String, String> kafkaTemplate;
 
+    @Mock
+    private FreshnessMetrics freshnessMetrics;
+
     private static final String TEST_URL = "https://test-blog.com/feed";
     private static final String TOPIC_NAME = "content-topic";
+    private static final String RESOLVED_URL = "https://new.test-blog.com/feed.xml";
 
     @BeforeEach
     void setUp() {
         ReflectionTestUtils.setField(crawlService, "TOPIC_NAME", TOPIC_NAME);
+        ReflectionTestUtils.setField(crawlService, "redirectRevalidateHours", 24L);
+    }
+
+    private ArgumentMatcher<ProducerRecord<String, String>> contentRecord(String jsonMessage) {
+        return record -> TOPIC_NAME.equals(record.topic()) && jsonMessage.equals(record.value());
     }
 
     @Test
     @DisplayName("새로운 글이 발견되면 Kafka로 발행하고 Source의 상태를 최신 글 Hash로 업데이트한다")
-    void processSource_NewItemsFound() throws JsonProcessingException {
+    void processSource_NewItemsFound() throws Exception {
         // given
         String oldHash = "hash-1";
         String newHash = "hash-2";
@@ -76,7 +100,7 @@ class CrawlServiceTest {
         FeedItem oldItem = createFeedItem(oldHash, "Old Title");
         List<FeedItem> feedItems = List.of(newItem, oldItem);
 
-        given(rssFeedParser.parse(TEST_URL)).willReturn(feedItems);
+        givenFeed(TEST_URL, feedItems);
         given(objectMapper.writeValueAsString(any(CrawledContentDto.class))).willReturn(jsonMessage);
 
         // when
@@ -84,7 +108,7 @@ class CrawlServiceTest {
 
         // then
         // Kafka로 '새 글(hash-2)' 1건이 전송되었는지 검증
-        verify(kafkaTemplate, times(1)).send(eq(TOPIC_NAME), eq(jsonMessage));
+        verify(kafkaTemplate, times(1)).send(argThat(contentRecord(jsonMessage)));
 
         // Source 상태 업데이트 검증
         // lastItemHash가 'newHash'로 변경되었는지 확인
@@ -99,7 +123,7 @@ class CrawlServiceTest {
 
     @Test
     @DisplayName("새로운 글이 없으면 Kafka로 발행하지 않고 Source의 수집 시간만 업데이트한다")
-    void processSource_NoNewItems() {
+    void processSource_NoNewItems() throws Exception {
         // given
         String currentHash = "hash-latest";
 
@@ -114,14 +138,14 @@ class CrawlServiceTest {
         FeedItem latestItem = createFeedItem(currentHash, "Latest Title");
         List<FeedItem> feedItems = List.of(latestItem);
 
-        given(rssFeedParser.parse(TEST_URL)).willReturn(feedItems);
+        givenFeed(TEST_URL, feedItems);
 
         // when
         crawlService.processSource(source);
 
         // then
         // Kafka 전송은 일어나지 않아야 함
-        verify(kafkaTemplate, never()).send(any(), any());
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
 
         // Source 상태 검증
         // Hash는 그대로, 시간은 갱신
@@ -134,7 +158,7 @@ class CrawlServiceTest {
 
     @Test
     @DisplayName("JSON 변환 중 에러가 발생하면 KafkaMessageSerializationException을 던지고 롤백된다")
-    void processSource_JsonSerializationError() throws JsonProcessingException {
+    void processSource_JsonSerializationError() throws Exception {
         // given
         String newHash = "hash-new";
         Source source = Source.builder()
@@ -145,7 +169,7 @@ class CrawlServiceTest {
 
         List<FeedItem> feedItems = List.of(createFeedItem(newHash, "New Title"));
 
-        given(rssFeedParser.parse(TEST_URL)).willReturn(feedItems);
+        givenFeed(TEST_URL, feedItems);
 
         // ObjectMapper가 예외를 던지도록 설정
         given(objectMapper.writeValueAsString(any(CrawledContentDto.class)))
@@ -158,7 +182,7 @@ class CrawlServiceTest {
 
         // verify
         // 1. 예외 발생으로 인해 Kafka 전송이 호출되지 않아야 함
-        verify(kafkaTemplate, never()).send(any(), any());
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
 
         // 2. 예외 발생으로 메서드가 중단되어 DB 저장(상태 업데이트)이 호출되지 않아야 함
         verify(sourceRepository, never()).save(any(Source.class));
@@ -166,7 +190,7 @@ class CrawlServiceTest {
 
     @Test
     @DisplayName("RSS 피드가 비어있으면 상태 업데이트(시간)만 수행한다")
-    void processSource_EmptyFeed() {
+    void processSource_EmptyFeed() throws Exception {
         // given
         Source source = Source.builder()
                 .id(1L)
@@ -175,19 +199,19 @@ class CrawlServiceTest {
                 .build();
 
         // 새 글을 수집하지 않음
-        given(rssFeedParser.parse(TEST_URL)).willReturn(Collections.emptyList());
+        givenFeed(TEST_URL, Collections.emptyList());
 
         // when
         crawlService.processSource(source);
 
         // then
-        verify(kafkaTemplate, never()).send(any(), any()); // 카프카 전송 x
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class)); // 카프카 전송 x
         verify(sourceRepository, times(1)).save(source);
     }
 
     @Test
     @DisplayName("최초 수집(Hash가 null)일 경우 모든 글을 수집하고 최신 Hash를 저장한다")
-    void processSource_FirstCrawl() throws JsonProcessingException {
+    void processSource_FirstCrawl() throws Exception {
         // given
         Source source = Source.builder()
                 .id(1L)
@@ -200,7 +224,7 @@ class CrawlServiceTest {
         List<FeedItem> feedItems = List.of(item1, item2);
         String jsonMessage = "{\"title\":\"Any\"}";
 
-        given(rssFeedParser.parse(TEST_URL)).willReturn(feedItems);
+        givenFeed(TEST_URL, feedItems);
         given(objectMapper.writeValueAsString(any(CrawledContentDto.class))).willReturn(jsonMessage);
 
         // when
@@ -208,7 +232,7 @@ class CrawlServiceTest {
 
         // then
         // 2개의 글 모두 Kafka 전송
-        verify(kafkaTemplate, times(2)).send(eq(TOPIC_NAME), eq(jsonMessage));
+        verify(kafkaTemplate, times(2)).send(argThat(contentRecord(jsonMessage)));
 
         // Hash는 가장 최신 글(hash-2)로 업데이트
         assertThat(source.getLastItemHash()).isEqualTo("hash-2");
@@ -217,6 +241,277 @@ class CrawlServiceTest {
         verify(sourceRepository, times(1)).save(source);
     }
 
+    @Test
+    @DisplayName("원본 URL이 영구 리다이렉트되면 최종 URL을 Source에 기록한다")
+    void processSource_RecordPermanentRedirect() throws Exception {
+        // given
+        Source source = Source.builder()
+                .id(1L)
+                .url(TEST_URL)
+                .lastItemHash("hash-1")
+                .build();
+
+        FetchedFeed feed = FetchedFeed.builder()
+                .requestedUrl(TEST_URL)
+                .finalUrl(RESOLVED_URL)
+                .permanentRedirectUrl(RESOLVED_URL)
+                .body(new byte[0])
+                .build();
+        given(feedFetcher.fetch(TEST_URL)).willReturn(feed);
+        given(rssFeedParser.parse(feed)).willReturn(List.of(createFeedItem("hash-1", "Old Title")));
+
+        // when
+        crawlService.processSource(source);
+
+        // then
+        assertThat(source.getResolvedUrl()).isEqualTo(RESOLVED_URL);
+        assertThat(source.getResolvedAt()).isNotNull();
+        verify(sourceRepository, times(1)).save(source);
+    }
+
+    @Test
+    @DisplayName("재검증 주기 안에 기록된 리다이렉트 URL이 있으면 원본 URL을 거치지 않고 바로 요청한다")
+    void processSource_UseResolvedUrl() throws Exception {
+        // given
+        Source source = Source.builder()
+                .id(1L)
+                .url(TEST_URL)
+                .resolvedUrl(RESOLVED_URL)
+                .resolvedAt(LocalDateTime.now().minusHours(1))
+                .lastItemHash("hash-1")
+                .build();
+
+        givenFeed(RESOLVED_URL, List.of(createFeedItem("hash-1", "Old Title")));
+
+        // when
+        crawlService.processSource(source);
+
+        // then
+        verify(feedFetcher, never()).fetch(TEST_URL);
+        assertThat(source.getResolvedUrl()).isEqualTo(RESOLVED_URL);
+    }
+
+    @Test
+    @DisplayName("재검증 주기가 지나면 원본 URL로 다시 요청하고, 리다이렉트가 사라졌으면 기록을 제거한다")
+    void processSource_RevalidateExpiredRedirect() throws Exception {
+        // given
+        Source source = Source.builder()
+                .id(1L)
+                .url(TEST_URL)
+                .resolvedUrl(RESOLVED_URL)
+                .resolvedAt(LocalDateTime.now().minusHours(25))
+                .lastItemHash("hash-1")
+                .build();
+
+        givenFeed(TEST_URL, List.of(createFeedItem("hash-1", "Old Title")));
+
+        // when
+        crawlService.processSource(source);
+
+        // then
+        verify(feedFetcher, never()).fetch(RESOLVED_URL);
+        assertThat(source.getResolvedUrl()).isNull();
+        assertThat(source.getResolvedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("기록된 리다이렉트 URL 요청이 실패하면 원본 URL로 재시도한다")
+    void processSource_FallbackToOriginalUrl() throws Exception {
+        // given
+        Source source = Source.builder()
+                .id(1L)
+                .url(TEST_URL)
+                .resolvedUrl(RESOLVED_URL)
+                .resolvedAt(LocalDateTime.now().minusHours(1))
+                .lastItemHash("hash-1")
+                .build();
+
+        given(feedFetcher.fetch(RESOLVED_URL)).willThrow(new IOException("404 Not Found"));
+        givenFeed(TEST_URL, List.of(createFeedItem("hash-1", "Old Title")));
+
+        // when
+        crawlService.processSource(source);
+
+        // then
+        verify(feedFetcher, times(1)).fetch(TEST_URL);
+        assertThat(source.getResolvedUrl()).isNull();
+        verify(sourceRepository, times(1)).save(source);
+    }
+
+    @Test
+    @DisplayName("같은 피드로 묶인 소스들은 한 번만 요청하고 소스별로 새 글을 발행한다")
+    void processSources_FanOut() throws Exception {
+        // given
+        Source source1 = Source.builder()
+                .id(1L)
+                .url(TEST_URL)
+                .lastItemHash("hash-1")
+                .build();
+        Source source2 = Source.builder()
+                .id(2L)
+                .url("http://test-blog.com/feed")
+                .lastItemHash("hash-2")
+                .build();
+
+        List<FeedItem> feedItems = List.of(createFeedItem("hash-2", "Title 2"), createFeedItem("hash-1", "Title 1"));
+        givenFeed(TEST_URL, feedItems);
+        given(objectMapper.writeValueAsString(any(CrawledContentDto.class))).willReturn("{}");
+
+        // when
+        crawlService.processSources(List.of(source1, source2));
+
+        // then
+        // 피드 요청은 한 번만 발생
+        verify(feedFetcher, times(1)).fetch(any());
+
+        // source1은 hash-2 한 건, source2는 이미 최신이므로 전송 없음
+        verify(kafkaTemplate, times(1)).send(argThat(contentRecord("{}")));
+        verify(objectMapper).writeValueAsString(argThat((CrawledContentDto dto) -> dto.getSourceId().equals(1L)));
+
+        assertThat(source1.getLastItemHash()).isEqualTo("hash-2");
+        assertThat(source2.getLastItemHash()).isEqualTo("hash-2");
+        verify(sourceRepository).save(source1);
+        verify(sourceRepository).save(source2);
+    }
+
+    @Test
+    @DisplayName("같은 피드로 묶인 소스들의 원본 URL이 영구 리다이렉트되면 모든 소스에 최종 URL을 기록한다")
+    void processSources_RecordRedirectForGroup() throws Exception {
+        // given
+        Source source1 = Source.builder()
+                .id(1L)
+                .url(TEST_URL)
+                .lastItemHash("hash-1")
+                .build();
+        Source source2 = Source.builder()
+                .id(2L)
+                .url("https://old.test-blog.com/rss")
+                .resolvedUrl("https://TEST-blog.com/feed/")
+                .resolvedAt(LocalDateTime.now().minusHours(1))
+                .lastItemHash("hash-1")
+                .build();
+
+        FetchedFeed feed = FetchedFeed.builder()
+                .requestedUrl(TEST_URL)
+                .finalUrl(RESOLVED_URL)
+                .permanentRedirectUrl(RESOLVED_URL)
+                .body(new byte[0])
+                .build();
+        given(feedFetcher.fetch(TEST_URL)).willReturn(feed);
+        given(rssFeedParser.parse(feed)).willReturn(List.of(createFeedItem("hash-1", "Old Title")));
+
+        // when
+        crawlService.processSources(List.of(source1, source2));
+
+        // then
+        assertThat(source1.getResolvedUrl()).isEqualTo(RESOLVED_URL);
+        assertThat(source2.getResolvedUrl()).isEqualTo(RESOLVED_URL);
+        verify(sourceRepository).save(source1);
+        verify(sourceRepository).save(source2);
+    }
+
+    @Test
+    @DisplayName("리다이렉트가 없으면 요청한 URL을 리다이렉트 URL로 기록해 둔 소스의 기록은 유지한다")
+    void processSources_KeepRedirectToRequestedUrl() throws Exception {
+        // given
+        Source source1 = Source.builder()
+                .id(1L)
+                .url(TEST_URL)
+                .resolvedUrl(RESOLVED_URL)
+                .resolvedAt(LocalDateTime.now().minusHours(25))
+                .lastItemHash("hash-1")
+                .build();
+        Source source2 = Source.builder()
+                .id(2L)
+                .url("https://old.test-blog.com/rss")
+                .resolvedUrl(TEST_URL)
+                .resolvedAt(LocalDateTime.now().minusHours(1))
+                .lastItemHash("hash-1")
+                .build();
+
+        givenFeed(TEST_URL, List.of(createFeedItem("hash-1", "Old Title")));
+
+        // when
+        crawlService.processSources(List.of(source1, source2));
+
+        // then
+        assertThat(source1.getResolvedUrl()).isNull();
+        assertThat(source2.getResolvedUrl()).isEqualTo(TEST_URL);
+    }
+
+    @Test
+    @DisplayName("피드를 가져오면 묶인 모든 소스 ID로 원본 본문을 아카이브에 저장한다")
+    void processSources_ArchiveFetchedFeed() throws Exception {
+        // given
+        Source source1 = Source.builder().id(1L).url(TEST_URL).lastItemHash("hash-1").build();
+        Source source2 = Source.builder().id(2L).url(TEST_URL + "/").lastItemHash("hash-1").build();
+
+        givenFeed(TEST_URL, List.of(createFeedItem("hash-1", "Old Title")));
+
+        // when
+        crawlService.processSources(List.of(source1, source2));
+
+        // then
+        verify(feedArchive, times(1)).append(eq(List.of(1L, 2L)), any(LocalDateTime.class), any(FetchedFeed.class));
+    }
+
+    @Test
+    @DisplayName("피드 요청에 실패하면 아카이브에 저장하지 않는다")
+    void processSource_FetchFailNotArchived() throws Exception {
+        // given
+        Source source = Source.builder().id(1L).url(TEST_URL).build();
+        given(feedFetcher.fetch(TEST_URL)).willThrow(new IOException("Connection refused"));
+
+        // when
+        crawlService.processSource(source);
+
+        // then
+        verify(feedArchive, never()).append(any(), any(), any());
+        verify(rssFeedParser, never()).parse(any(FetchedFeed.class));
+        verify(sourceRepository, times(1)).save(source);
+    }
+
+    @Test
+    @DisplayName("콘텐츠 메시지에 게시 시각과 피드를 가져온 시각을 헤더로 담고 게시 -> 수집 지연을 기록한다")
+    @SuppressWarnings("unchecked")
+    void processSource_FreshnessHeaders() throws Exception {
+        // given
+        Source source = Source.builder()
+                .id(1L)
+                .url(TEST_URL)
+                .lastItemHash("hash-1")
+                .build();
+        FeedItem newItem = createFeedItem("hash-2", "New Title");
+        long publishedAt = newItem.getPubDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        givenFeed(TEST_URL, List.of(newItem));
+        given(objectMapper.writeValueAsString(any(CrawledContentDto.class))).willReturn("{}");
+
+        // when
+        long before = System.currentTimeMillis();
+        crawlService.processSource(source);
+
+        // then
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        ProducerRecord<String, String> record = captor.getValue();
+
+        assertThat(FreshnessHeaders.get(record.headers(), FreshnessHeaders.PUBLISHED_AT)).isEqualTo(publishedAt);
+        Long fetchedAt = FreshnessHeaders.get(record.headers(), FreshnessHeaders.FETCHED_AT);
+        assertThat(fetchedAt).isBetween(before, System.currentTimeMillis());
+        verify(freshnessMetrics).record(FreshnessMetrics.PUBLISH_TO_FETCH, publishedAt, fetchedAt);
+    }
+
+    private void givenFeed(String url, List<FeedItem> items) throws IOException {
+        FetchedFeed feed = FetchedFeed.builder()
+                .requestedUrl(url)
+                .finalUrl(url)
+                .body(new byte[0])
+                .build();
+        given(feedFetcher.fetch(url)).willReturn(feed);
+        given(rssFeedParser.parse(feed)).willReturn(items);
+    }
+
     private FeedItem createFeedItem(String guid, String title) {
         return FeedItem.builder()
                 .guid(guid)
@@ -0,0 +1,117 @@
+package com.leedahun.crawlservice.domain.crawl.service;
+
+import com.leedahun.crawlservice.domain.crawl.dto.FetchedFeed;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FeedFetcherTest {
+
+    private static final String RSS_BODY = "<rss version=\"2.0\"><channel><title>Test</title></channel></rss>";
+
+    private final FeedFetcher feedFetcher = new FeedFetcher();
+    private HttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+
+        redirect("/moved", 301, "/feed.xml");
+        redirect("/moved-308", 308, "/moved");
+        redirect("/temp", 302, "/feed.xml");
+        redirect("/moved-then-temp", 301, "/temp");
+        redirect("/loop", 301, "/loop");
+        server.createContext("/feed.xml", exchange -> {
+            byte[] body = RSS_BODY.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/rss+xml");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("리다이렉트가 없으면 본문과 Content-Type을 그대로 반환한다")
+    void fetch_NoRedirect() throws IOException {
+        // when
+        FetchedFeed feed = feedFetcher.fetch(url("/feed.xml"));
+
+        // then
+        assertThat(new String(feed.getBody(), StandardCharsets.UTF_8)).isEqualTo(RSS_BODY);
+        assertThat(feed.getContentType()).isEqualTo("application/rss+xml");
+        assertThat(feed.getFinalUrl()).isEqualTo(url("/feed.xml"));
+        assertThat(feed.isPermanentlyRedirected()).isFalse();
+    }
+
+    @Test
+    @DisplayName("301/308 리다이렉트만 거치면 최종 URL을 영구 리다이렉트 URL로 기록한다")
+    void fetch_PermanentRedirect() throws IOException {
+        // when
+        FetchedFeed feed = feedFetcher.fetch(url("/moved-308"));
+
+        // then
+        assertThat(feed.getRequestedUrl()).isEqualTo(url("/moved-308"));
+        assertThat(feed.getFinalUrl()).isEqualTo(url("/feed.xml"));
+        assertThat(feed.getPermanentRedirectUrl()).isEqualTo(url("/feed.xml"));
+    }
+
+    @Test
+    @DisplayName("임시 리다이렉트(302)는 따라가지만 영구 리다이렉트로 기록하지 않는다")
+    void fetch_TemporaryRedirect() throws IOException {
+        // when
+        FetchedFeed feed = feedFetcher.fetch(url("/temp"));
+
+        // then
+        assertThat(feed.getFinalUrl()).isEqualTo(url("/feed.xml"));
+        assertThat(feed.isPermanentlyRedirected()).isFalse();
+    }
+
+    @Test
+    @DisplayName("영구 리다이렉트 뒤에 임시 리다이렉트가 오면 임시 리다이렉트 직전 URL까지만 기록한다")
+    void fetch_PermanentThenTemporary() throws IOException {
+        // when
+        FetchedFeed feed = feedFetcher.fetch(url("/moved-then-temp"));
+
+        // then
+        assertThat(feed.getFinalUrl()).isEqualTo(url("/feed.xml"));
+        assertThat(feed.getPermanentRedirectUrl()).isEqualTo(url("/temp"));
+    }
+
+    @Test
+    @DisplayName("리다이렉트 횟수가 제한을 넘으면 예외를 던진다")
+    void fetch_TooManyRedirects() {
+        // when & then
+        assertThatThrownBy(() -> feedFetcher.fetch(url("/loop")))
+                .isInstanceOf(IOException.class);
+    }
+
+    private void redirect(String path, int status, String location) {
+        server.createContext(path, exchange -> {
+            exchange.getResponseHeaders().add("Location", location);
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+}
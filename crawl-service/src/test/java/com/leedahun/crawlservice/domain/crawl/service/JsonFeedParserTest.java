@@ -0,0 +1,166 @@
+package com.leedahun.crawlservice.domain.crawl.service;
+
+import com.leedahun.crawlservice.domain.crawl.dto.FeedItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonFeedParserTest {
+
+    private final JsonFeedParser jsonFeedParser = new JsonFeedParser();
+
+    @Test
+    @DisplayName("JSON Feed 1.1 항목을 FeedItem으로 변환한다")
+    void parse_Success() throws IOException {
+        // given
+        String json = """
+                {
+                  "version": "https://jsonfeed.org/version/1.1",
+                  "title": "Test Json Blog",
+                  "home_page_url": "https://test.com",
+                  "authors": [{"name": "tester"}],
+                  "items": [
+                    {
+                      "id": "post-1",
+                      "url": "https://test.com/post-1",
+                      "title": "Kafka 3.0 Release",
+                      "content_html": "<div><p>Kafka 3.0 has been <b>released</b>.</p><img src=\\"https://test.com/img.png\\"/></div>",
+                      "date_published": "2024-11-19T10:00:00+09:00",
+                      "tags": ["kafka", "release"],
+                      "attachments": [{"url": "https://test.com/a.mp3", "mime_type": "audio/mpeg"}]
+                    }
+                  ]
+                }
+                """;
+
+        // when
+        List<FeedItem> result = jsonFeedParser.parse(json.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(result).hasSize(1);
+        FeedItem item = result.get(0);
+
+        assertThat(item.getGuid()).isEqualTo("post-1");
+        assertThat(item.getTitle()).isEqualTo("Kafka 3.0 Release");
+        assertThat(item.getLink()).isEqualTo("https://test.com/post-1");
+        assertThat(item.getSummary()).isEqualTo("Kafka 3.0 has been released.");
+        assertThat(item.getThumbnailUrl()).isEqualTo("https://test.com/img.png");
+
+        LocalDateTime expected = LocalDateTime.ofInstant(
+                OffsetDateTime.parse("2024-11-19T10:00:00+09:00").toInstant(), ZoneId.systemDefault());
+        assertThat(item.getPubDate()).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("summary가 있으면 본문 대신 사용하고, image 필드를 썸네일로 사용한다")
+    void parse_SummaryAndImage() throws IOException {
+        // given
+        String json = """
+                {
+                  "version": "https://jsonfeed.org/version/1",
+                  "items": [
+                    {
+                      "id": 42,
+                      "url": "https://test.com/42",
+                      "summary": "짧은 요약",
+                      "content_text": "긴 본문",
+                      "image": "https://test.com/main.jpg"
+                    }
+                  ]
+                }
+                """;
+
+        // when
+        List<FeedItem> result = jsonFeedParser.parse(json.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getGuid()).isEqualTo("42");  // 숫자 id도 문자열로 변환
+        assertThat(result.get(0).getSummary()).isEqualTo("짧은 요약");
+        assertThat(result.get(0).getThumbnailUrl()).isEqualTo("https://test.com/main.jpg");
+    }
+
+    @Test
+    @DisplayName("id가 없으면 url을, url이 없으면 external_url을 사용하고 200자를 넘는 요약은 자른다")
+    void parse_FallbackFields() throws IOException {
+        // given
+        String longText = "가".repeat(250);
+        String json = """
+                {
+                  "items": [
+                    { "external_url": "https://other.com/post", "content_text": "%s" }
+                  ],
+                  "version": "https://jsonfeed.org/version/1.1"
+                }
+                """.formatted(longText);
+
+        // when
+        List<FeedItem> result = jsonFeedParser.parse(json.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(result).hasSize(1);
+        FeedItem item = result.get(0);
+        assertThat(item.getLink()).isEqualTo("https://other.com/post");
+        assertThat(item.getGuid()).isEqualTo("https://other.com/post");
+        assertThat(item.getSummary()).hasSize(203).endsWith("...");
+        assertThat(item.getPubDate()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("객체가 아닌 항목은 건너뛰고 뒤의 항목을 계속 파싱한다")
+    void parse_SkipNonObjectItem() throws IOException {
+        // given
+        String json = """
+                {
+                  "version": "https://jsonfeed.org/version/1.1",
+                  "items": [
+                    { "id": "1", "url": "https://test.com/1" },
+                    "broken",
+                    [1, 2],
+                    null,
+                    { "id": "2", "url": "https://test.com/2" }
+                  ]
+                }
+                """;
+
+        // when
+        List<FeedItem> result = jsonFeedParser.parse(json.getBytes(StandardCharsets.UTF_8));
+
+        // then
+        assertThat(result).extracting(FeedItem::getGuid).containsExactly("1", "2");
+    }
+
+    @Test
+    @DisplayName("버전이 없거나 1.x 가 아니면 예외를 던진다 (identity-service 등록 검증과 같은 기준)")
+    void parse_UnsupportedVersion() {
+        // given
+        byte[] noVersion = "{\"items\": [{\"id\": \"1\"}]}".getBytes(StandardCharsets.UTF_8);
+        byte[] version2 = "{\"version\": \"https://jsonfeed.org/version/2\", \"items\": []}".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThatThrownBy(() -> jsonFeedParser.parse(noVersion))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> jsonFeedParser.parse(version2))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    @DisplayName("최상위 값이 객체가 아니면 예외를 던진다")
+    void parse_NotAnObject() {
+        // given
+        byte[] body = "[1, 2, 3]".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThatThrownBy(() -> jsonFeedParser.parse(body))
+                .isInstanceOf(IOException.class);
+    }
+}
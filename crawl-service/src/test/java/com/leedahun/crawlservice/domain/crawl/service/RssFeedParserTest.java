@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
@@ -14,7 +15,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class RssFeedParserTest {
 
-    private final RssFeedParser rssFeedParser = new RssFeedParser();
+    private final RssFeedParser rssFeedParser = new RssFeedParser(new JsonFeedParser());
 
     // JUnit 5에서 임시 디렉토리를 생성해주고 테스트 후 삭제해주는 어노테이션
     @TempDir
@@ -141,9 +142,72 @@ class RssFeedParserTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("본문이 JSON Feed이면 Rome 대신 JSON Feed 파서로 파싱한다 (첫 바이트 스니핑)")
+    void parse_JsonFeedSniffing() throws IOException {
+        // given
+        String jsonFeed = """
+                {
+                  "version": "https://jsonfeed.org/version/1.1",
+                  "title": "Json Blog",
+                  "items": [
+                    {
+                      "id": "json-1",
+                      "url": "https://test.com/json-1",
+                      "title": "JSON Feed Post",
+                      "content_html": "<p>Hello <b>JSON</b></p>"
+                    }
+                  ]
+                }
+                """;
+
+        String feedUrl = createTempFile("feed.json", jsonFeed);
+
+        // when
+        List<FeedItem> result = rssFeedParser.parse(feedUrl);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getGuid()).isEqualTo("json-1");
+        assertThat(result.get(0).getSummary()).isEqualTo("Hello JSON");
+    }
+
+    @Test
+    @DisplayName("Content-Type이 application/feed+json이면 JSON Feed로 파싱한다")
+    void parse_JsonFeedContentType() {
+        // given
+        byte[] body = """
+                {"version": "https://jsonfeed.org/version/1", "items": [{"id": "1", "url": "https://test.com/1", "title": "T"}]}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        List<FeedItem> result = rssFeedParser.parse("https://test.com/feed.json", body, "application/feed+json; charset=utf-8");
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getLink()).isEqualTo("https://test.com/1");
+    }
+
+    @Test
+    @DisplayName("JSON 형식이 깨진 피드는 빈 리스트를 반환하고 예외를 발생시키지 않는다")
+    void parse_BrokenJsonFeed() {
+        // given
+        byte[] body = "{\"version\": \"https://jsonfeed.org/version/1\", \"items\": [".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        List<FeedItem> result = rssFeedParser.parse("https://test.com/feed.json", body, "application/json");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
     // 실제 url에 접속하는 것이 아닌 테스트룰 위해 가짜 웹 서버 역할을 대신하는 파일 생성기
     private String createTempRssFile(String content) throws IOException {
-        Path file = tempDir.resolve("feed.xml");
+        return createTempFile("feed.xml", content);
+    }
+
+    private String createTempFile(String fileName, String content) throws IOException {
+        Path file = tempDir.resolve(fileName);
         Files.writeString(file, content);
         return file.toUri().toURL().toString();  // 로컬 파일 경로를 URL 형태(file:/...)로 변환
     }
@@ -0,0 +1,51 @@
+package com.leedahun.feed.format;
+
+/**
+ * 피드 형식 판별 (identity-service 소스 등록 검증, crawl-service 피드 파싱이 함께 쓰는 규칙)
+ * 두 서비스가 같은 응답을 같은 형식으로 보고, 같은 JSON Feed 버전만 받아들이도록 한 곳에 둔다.
+ */
+public enum FeedFormat {
+    XML,        // RSS 2.0, Atom 1.0 (Rome)
+    JSON_FEED;  // JSON Feed 1.x (jsonfeed.org)
+
+    private static final String CONTENT_TYPE_JSON = "json";
+    private static final String JSON_FEED_VERSION_1 = "https://jsonfeed.org/version/1";
+
+    /**
+     * Content-Type 또는 본문의 첫 바이트로 피드 형식 판별
+     * 1. Content-Type에 json이 포함되어 있으면 JSON Feed (application/feed+json, application/json)
+     * 2. BOM과 공백을 건너뛴 첫 문자가 '{' 이면 JSON Feed
+     * 3. 그 외에는 XML
+     */
+    public static FeedFormat detect(String contentType, byte[] body) {
+        if (contentType != null && contentType.toLowerCase().contains(CONTENT_TYPE_JSON)) {
+            return JSON_FEED;
+        }
+        if (body == null) {
+            return XML;
+        }
+
+        int i = 0;
+        // UTF-8 BOM (EF BB BF)
+        if (body.length >= 3 && (body[0] & 0xFF) == 0xEF && (body[1] & 0xFF) == 0xBB && (body[2] & 0xFF) == 0xBF) {
+            i = 3;
+        }
+        for (; i < body.length; i++) {
+            byte b = body[i];
+            if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                continue;
+            }
+            return b == '{' ? JSON_FEED : XML;
+        }
+        return XML;
+    }
+
+    /**
+     * 지원하는 JSON Feed 버전인지 확인 (1, 1.1 등 1.x 만 지원)
+     * 버전이 없거나 다른 메이저 버전이면 항목 구조를 보장할 수 없으므로 등록/수집 모두 거부한다.
+     */
+    public static boolean isSupportedJsonFeedVersion(String version) {
+        return version != null
+                && (version.equals(JSON_FEED_VERSION_1) || version.startsWith(JSON_FEED_VERSION_1 + "."));
+    }
+}
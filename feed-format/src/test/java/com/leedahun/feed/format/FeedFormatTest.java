@@ -0,0 +1,44 @@
+package com.leedahun.feed.format;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FeedFormatTest {
+
+    @Test
+    @DisplayName("Content-Type에 json이 포함되어 있으면 본문과 관계없이 JSON Feed로 판별한다")
+    void detect_JsonContentType() {
+        // when & then
+        assertThat(FeedFormat.detect("application/feed+json; charset=utf-8", new byte[0])).isEqualTo(FeedFormat.JSON_FEED);
+        assertThat(FeedFormat.detect("application/json", null)).isEqualTo(FeedFormat.JSON_FEED);
+    }
+
+    @Test
+    @DisplayName("BOM과 공백을 건너뛴 첫 문자가 '{' 이면 JSON Feed, 그 외에는 XML로 판별한다")
+    void detect_Sniffing() {
+        // given
+        byte[] json = "\uFEFF \n {\"version\": \"https://jsonfeed.org/version/1\"}".getBytes(StandardCharsets.UTF_8);
+        byte[] xml = "<?xml version=\"1.0\"?><rss/>".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThat(FeedFormat.detect("text/plain", json)).isEqualTo(FeedFormat.JSON_FEED);
+        assertThat(FeedFormat.detect("text/xml", xml)).isEqualTo(FeedFormat.XML);
+        assertThat(FeedFormat.detect(null, null)).isEqualTo(FeedFormat.XML);
+        assertThat(FeedFormat.detect(null, "  ".getBytes(StandardCharsets.UTF_8))).isEqualTo(FeedFormat.XML);
+    }
+
+    @Test
+    @DisplayName("JSON Feed 1.x 버전만 지원한다")
+    void isSupportedJsonFeedVersion() {
+        // when & then
+        assertThat(FeedFormat.isSupportedJsonFeedVersion("https://jsonfeed.org/version/1")).isTrue();
+        assertThat(FeedFormat.isSupportedJsonFeedVersion("https://jsonfeed.org/version/1.1")).isTrue();
+        assertThat(FeedFormat.isSupportedJsonFeedVersion("https://jsonfeed.org/version/2")).isFalse();
+        assertThat(FeedFormat.isSupportedJsonFeedVersion("https://jsonfeed.org/version/10")).isFalse();
+        assertThat(FeedFormat.isSupportedJsonFeedVersion(null)).isFalse();
+    }
+}
@@ -10,6 +10,7 @@ public enum ErrorMessage {
     ENTITY_NOT_FOUND("데이터가 존재하지 않습니다. "),
     ENTITY_ALREADY_EXISTS("데이터가 이미 존재합니다. "),
     INVALID_INPUT_VALUE("입력값이 올바르지 않습니다."),
+    INVALID_KEYWORD_EXPRESSION("키워드 표현식이 올바르지 않습니다. "),
 
     UNAUTHORIZED("인증이 필요합니다."),
     FORBIDDEN("권한이 없습니다."),
@@ -0,0 +1,61 @@
+package com.leedahun.feedservice.domain.feed.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.leedahun.feedservice.domain.feed.service.FeedService;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 구독 소스 매핑(sourceId -> 유저가 지정한 이름) 로컬 캐시
+ * 피드 조회마다 identity-service를 호출(내부에서 DB 조회)하지 않도록 max-size 명까지 인스턴스 메모리에 둔다.
+ * - refresh-after-ms 가 지난 항목은 기존 값을 바로 반환하고 백그라운드에서 다시 조회한다 (실패하면 기존 값 유지)
+ * - 구독 소스 변경 이벤트를 받으면 해당 유저 항목을 비우고, 이벤트를 놓쳐도 ttl-ms 가 지나면 만료된다
+ * 첫 조회 실패는 캐시하지 않고 FeedService의 예외를 그대로 던진다.
+ */
+@Component
+public class UserSourceMappingCache {
+
+    private final FeedService feedService;
+    private final LoadingCache<Long, Map<Long, String>> cache;
+
+    @Autowired
+    public UserSourceMappingCache(FeedService feedService,
+                                  @Value("${app.feed.source-cache.max-size:100000}") long maxSize,
+                                  @Value("${app.feed.source-cache.ttl-ms:600000}") long ttlMs,
+                                  @Value("${app.feed.source-cache.refresh-after-ms:60000}") long refreshAfterMs) {
+        this(feedService, maxSize, ttlMs, refreshAfterMs, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    UserSourceMappingCache(FeedService feedService, long maxSize, long ttlMs, long refreshAfterMs,
+                           Ticker ticker, Executor executor) {
+        this.feedService = feedService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .refreshAfterWrite(Duration.ofMillis(refreshAfterMs))
+                .ticker(ticker)
+                .executor(executor)
+                .build(userId -> Map.copyOf(feedService.fetchUserSourceMapping(userId)));
+    }
+
+    public Map<Long, String> get(Long userId) {
+        // 인증 정보가 없는 요청은 캐시하지 않음
+        if (userId == null) {
+            return feedService.fetchUserSourceMapping(null);
+        }
+        return cache.get(userId);
+    }
+
+    public void invalidate(Long userId) {
+        if (userId != null) {
+            cache.invalidate(userId);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import static com.leedahun.feedservice.common.message.SuccessMessage.READ_SUCCES
 
 import com.leedahun.feedservice.common.response.CommonPageResponse;
 import com.leedahun.feedservice.common.response.HttpResponse;
+import com.leedahun.feedservice.domain.feed.cache.UserSourceMappingCache;
 import com.leedahun.feedservice.domain.feed.dto.ContentFeedResponseDto;
 import com.leedahun.feedservice.domain.feed.service.FeedService;
 import lombok.RequiredArgsConstructor;
@@ -23,15 +24,27 @@ import java.util.Map;
 public class FeedController {
 
     private final FeedService feedService;
+    private final UserSourceMappingCache userSourceMappingCache;
 
     @GetMapping
     public ResponseEntity<?> getMyFeeds(@AuthenticationPrincipal Long userId,
                                         @RequestParam(value = "lastId", required = false) Long lastId,
                                         @RequestParam(value = "size", defaultValue = "10") int size) {
-        Map<Long, String> sourceMapping = feedService.fetchUserSourceMapping(userId);
+        Map<Long, String> sourceMapping = userSourceMappingCache.get(userId);
         CommonPageResponse<ContentFeedResponseDto> feeds = feedService.getPersonalizedFeeds(userId, sourceMapping, lastId, size);
         return ResponseEntity.ok()
                 .body(new HttpResponse(HttpStatus.OK, READ_SUCCESS.getMessage(), feeds));
     }
 
+    @GetMapping("/keyword")
+    public ResponseEntity<?> getKeywordFeeds(@AuthenticationPrincipal Long userId,
+                                             @RequestParam("keyword") String keyword,
+                                             @RequestParam(value = "lastId", required = false) Long lastId,
+                                             @RequestParam(value = "size", defaultValue = "10") int size) {
+        Map<Long, String> sourceMapping = userSourceMappingCache.get(userId);
+        CommonPageResponse<ContentFeedResponseDto> feeds = feedService.getKeywordFeeds(userId, sourceMapping, keyword, lastId, size);
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, READ_SUCCESS.getMessage(), feeds));
+    }
+
 }
@@ -2,6 +2,7 @@ package com.leedahun.feedservice.domain.feed.document;
 
 import jakarta.persistence.Id;
 import java.time.LocalDateTime;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -36,6 +37,10 @@ public class ContentDocument {
     @Field(type = FieldType.Text, analyzer = "korean_analyzer")
     private String summary;
 
+    // match-service가 저장 시 제목/요약에서 뽑은 정규화 단어 (KeywordTerms 와 같은 규칙)
+    @Field(name = "keyword_terms", type = FieldType.Keyword)
+    private List<String> keywordTerms;
+
     @Field(name = "original_url", type = FieldType.Keyword, index = false)
     private String originalUrl;
 
@@ -0,0 +1,13 @@
+package com.leedahun.feedservice.domain.feed.exception;
+
+import com.leedahun.feedservice.common.error.exception.CustomException;
+import com.leedahun.feedservice.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class InvalidKeywordExpressionException extends CustomException {
+
+    public InvalidKeywordExpressionException(String reason) {
+        super(ErrorMessage.INVALID_KEYWORD_EXPRESSION.getMessage() + reason, HttpStatus.BAD_REQUEST);
+    }
+
+}
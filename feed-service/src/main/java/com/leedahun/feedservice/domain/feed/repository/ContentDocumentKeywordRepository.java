@@ -0,0 +1,17 @@
+package com.leedahun.feedservice.domain.feed.repository;
+
+import com.leedahun.feedservice.domain.feed.document.ContentDocument;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+
+public interface ContentDocumentKeywordRepository {
+
+    /**
+     * 구독 소스의 콘텐츠 중 keyword_terms 에 terms 의 모든 단어가 들어 있는 글 (lastPublishedAt 이 있으면 그 이전에 발행된 글만)
+     * excludedTerms 의 조건마다 그 조건의 단어를 모두 가진 글은 제외한다.
+     */
+    List<ContentDocument> searchBySourceIdsAndKeywordTerms(List<Long> sourceIds, List<String> terms,
+                                                           List<List<String>> excludedTerms,
+                                                           String lastPublishedAt, Pageable pageable);
+
+}
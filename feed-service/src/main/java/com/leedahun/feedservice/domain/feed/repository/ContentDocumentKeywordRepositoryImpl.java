@@ -0,0 +1,67 @@
+package com.leedahun.feedservice.domain.feed.repository;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import com.leedahun.feedservice.domain.feed.document.ContentDocument;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+
+/**
+ * 키워드 피드 조회
+ * 단어 수만큼 term 절이 필요해 @Query 문자열 대신 쿼리를 직접 만든다.
+ * 모든 조건을 점수 계산 없는 filter 절로 두고 단어마다 term 절을 따로 만들어,
+ * ES 노드 쿼리 캐시에 단어별 결과가 남고 다른 키워드 조합의 조회에서도 재사용된다.
+ * 제외 조건은 must_not 절로 두고, 여러 단어로 된 조건은 단어별 term 을 모두 만족하는 bool 로 묶는다.
+ */
+@RequiredArgsConstructor
+public class ContentDocumentKeywordRepositoryImpl implements ContentDocumentKeywordRepository {
+
+    private static final String SOURCE_ID = "source_id";
+    private static final String KEYWORD_TERMS = "keyword_terms";
+    private static final String PUBLISHED_AT = "published_at";
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    @Override
+    public List<ContentDocument> searchBySourceIdsAndKeywordTerms(List<Long> sourceIds, List<String> terms,
+                                                                  List<List<String>> excludedTerms,
+                                                                  String lastPublishedAt, Pageable pageable) {
+        List<FieldValue> sourceIdValues = sourceIds.stream()
+                .mapToLong(Long::longValue)
+                .mapToObj(FieldValue::of)
+                .toList();
+
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> {
+                    b.filter(f -> f.terms(t -> t.field(SOURCE_ID).terms(v -> v.value(sourceIdValues))));
+                    for (String term : terms) {
+                        b.filter(f -> f.term(t -> t.field(KEYWORD_TERMS).value(term)));
+                    }
+                    for (List<String> excluded : excludedTerms) {
+                        if (excluded.size() == 1) {
+                            b.mustNot(m -> m.term(t -> t.field(KEYWORD_TERMS).value(excluded.get(0))));
+                            continue;
+                        }
+                        b.mustNot(m -> m.bool(nb -> {
+                            for (String term : excluded) {
+                                nb.filter(f -> f.term(t -> t.field(KEYWORD_TERMS).value(term)));
+                            }
+                            return nb;
+                        }));
+                    }
+                    if (lastPublishedAt != null) {
+                        b.filter(f -> f.range(r -> r.date(d -> d.field(PUBLISHED_AT).lt(lastPublishedAt))));
+                    }
+                    return b;
+                }))
+                .withPageable(pageable)
+                .build();
+
+        return elasticsearchOperations.search(query, ContentDocument.class).stream()
+                .map(SearchHit::getContent)
+                .toList();
+    }
+}
@@ -6,7 +6,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.annotations.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
 
-public interface ContentDocumentRepository extends ElasticsearchRepository<ContentDocument, String> {
+public interface ContentDocumentRepository extends ElasticsearchRepository<ContentDocument, String>,
+        ContentDocumentKeywordRepository {
 
     @Query("""
     {
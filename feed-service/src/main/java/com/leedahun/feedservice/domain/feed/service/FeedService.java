@@ -11,6 +11,8 @@ public interface FeedService {
 
     CommonPageResponse<ContentFeedResponseDto> getPersonalizedFeeds(Long userId, Map<Long, String> sourceMapping, Long lastPublishedAt, int size);
 
+    CommonPageResponse<ContentFeedResponseDto> getKeywordFeeds(Long userId, Map<Long, String> sourceMapping, String keyword, Long lastPublishedAt, int size);
+
     List<ContentFeedResponseDto> getContentsByIds(List<String> contentIds);
 
 }
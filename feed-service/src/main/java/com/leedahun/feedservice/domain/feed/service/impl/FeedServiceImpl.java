@@ -9,6 +9,7 @@ import com.leedahun.feedservice.domain.feed.document.ContentDocument;
 import com.leedahun.feedservice.domain.feed.dto.ContentFeedResponseDto;
 import com.leedahun.feedservice.domain.feed.repository.ContentDocumentRepository;
 import com.leedahun.feedservice.domain.feed.service.FeedService;
+import com.leedahun.feedservice.domain.feed.util.KeywordQuery;
 import feign.FeignException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -67,11 +68,7 @@ public class FeedServiceImpl implements FeedService {
     @Override
     public CommonPageResponse<ContentFeedResponseDto> getPersonalizedFeeds(Long userId, Map<Long, String> sourceMapping, Long lastPublishedAt, int size) {
         if (sourceMapping == null || sourceMapping.isEmpty()) {
-            return CommonPageResponse.<ContentFeedResponseDto>builder()
-                    .content(Collections.emptyList())
-                    .hasNext(false)
-                    .nextCursorId(null)
-                    .build();
+            return emptyPage();
         }
 
         List<Long> sourceIds = new ArrayList<>(sourceMapping.keySet());
@@ -79,6 +76,51 @@ public class FeedServiceImpl implements FeedService {
         Pageable pageable = buildPageable(size);
         List<ContentDocument> documents = searchDocuments(sourceIds, lastPublishedAt, pageable);
 
+        return buildFeedPage(userId, sourceMapping, documents, size);
+    }
+
+    /**
+     * 구독 소스의 콘텐츠 중 키워드의 모든 단어가 keyword_terms 에 들어 있는 글을 최신순으로 조회
+     * 분석기를 거치는 본문 검색 대신 정규화 단어의 term 필터로만 찾으므로 점수 계산이 없고 ES 쿼리 캐시를 탄다.
+     * 키워드 표현식의 제외 단어('-', NOT)는 must_not 으로 빼고, 형식이 잘못된 표현식은 400으로 응답한다.
+     */
+    @Override
+    public CommonPageResponse<ContentFeedResponseDto> getKeywordFeeds(Long userId, Map<Long, String> sourceMapping, String keyword, Long lastPublishedAt, int size) {
+        KeywordQuery query = KeywordQuery.parse(keyword);
+        if (sourceMapping == null || sourceMapping.isEmpty() || query.isEmpty()) {
+            return emptyPage();
+        }
+
+        List<Long> sourceIds = new ArrayList<>(sourceMapping.keySet());
+        String lastPublishedAtDate = lastPublishedAt == null ? null : convertCursorMillisToEsDate(lastPublishedAt);
+        List<ContentDocument> documents = contentDocumentRepository.searchBySourceIdsAndKeywordTerms(
+                sourceIds, query.getTerms(), query.getExcludedTerms(), lastPublishedAtDate, buildPageable(size));
+
+        return buildFeedPage(userId, sourceMapping, documents, size);
+    }
+
+    @Override
+    public List<ContentFeedResponseDto> getContentsByIds(List<String> contentIds) {
+        Iterable<ContentDocument> contentDocuments = contentDocumentRepository.findAllById(contentIds);
+
+        List<ContentFeedResponseDto> contents = new ArrayList<>();
+        for (ContentDocument contentDocument : contentDocuments) {
+            contents.add(ContentFeedResponseDto.from(contentDocument));
+        }
+
+        return contents;
+    }
+
+    private CommonPageResponse<ContentFeedResponseDto> emptyPage() {
+        return CommonPageResponse.<ContentFeedResponseDto>builder()
+                .content(Collections.emptyList())
+                .hasNext(false)
+                .nextCursorId(null)
+                .build();
+    }
+
+    private CommonPageResponse<ContentFeedResponseDto> buildFeedPage(Long userId, Map<Long, String> sourceMapping,
+                                                                     List<ContentDocument> documents, int size) {
         boolean hasNext = documents.size() > size;
         List<ContentDocument> resultList = trimResultList(documents, hasNext, size);
 
@@ -120,18 +162,6 @@ public class FeedServiceImpl implements FeedService {
                 .build();
     }
 
-    @Override
-    public List<ContentFeedResponseDto> getContentsByIds(List<String> contentIds) {
-        Iterable<ContentDocument> contentDocuments = contentDocumentRepository.findAllById(contentIds);
-
-        List<ContentFeedResponseDto> contents = new ArrayList<>();
-        for (ContentDocument contentDocument : contentDocuments) {
-            contents.add(ContentFeedResponseDto.from(contentDocument));
-        }
-
-        return contents;
-    }
-
     private Pageable buildPageable(int size) {
         return PageRequest.of(0, size + 1, Sort.by(Sort.Direction.DESC, "publishedAt"));
     }
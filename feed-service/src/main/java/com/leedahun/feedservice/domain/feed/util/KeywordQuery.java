@@ -0,0 +1,65 @@
+package com.leedahun.feedservice.domain.feed.util;
+
+import com.leedahun.feedservice.domain.feed.exception.InvalidKeywordExpressionException;
+import com.leedahun.keyword.expression.KeywordExpression;
+import com.leedahun.keyword.expression.KeywordExpressionException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 키워드 피드 조회 조건 (문법은 공유 소스 keyword-expression 의 KeywordExpression 으로 해석)
+ * 단어/구는 KeywordTerms 규칙으로 정규화 단어로 나눈다. keyword_terms 에는 단어 순서가 없으므로
+ * 구는 구성 단어를 모두 가진 글로 근사하고, 제외할 구도 구성 단어를 모두 가진 글을 뺀다.
+ * 2글자 미만 단어만으로 된 제외 조건은 keyword_terms 와 비교할 수 없어 무시한다.
+ */
+@Getter
+public final class KeywordQuery {
+
+    private static final KeywordQuery EMPTY = new KeywordQuery(List.of(), List.of());
+
+    private final List<String> terms;                  // 모두 포함해야 하는 정규화 단어
+    private final List<List<String>> excludedTerms;    // 제외 조건별 정규화 단어 (조건의 단어를 모두 가진 글을 제외)
+
+    private KeywordQuery(List<String> terms, List<List<String>> excludedTerms) {
+        this.terms = List.copyOf(terms);
+        this.excludedTerms = List.copyOf(excludedTerms);
+    }
+
+    /**
+     * 키워드 표현식 해석
+     * 비어 있으면 빈 조건을, 형식이 올바르지 않으면 이유를 담아 InvalidKeywordExpressionException 을 던진다.
+     */
+    public static KeywordQuery parse(String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return EMPTY;
+        }
+
+        KeywordExpression expression;
+        try {
+            expression = KeywordExpression.parse(keyword);
+        } catch (KeywordExpressionException e) {
+            throw new InvalidKeywordExpressionException(e.getMessage());
+        }
+
+        Set<String> terms = new LinkedHashSet<>();
+        for (String term : expression.getPositiveTerms()) {
+            terms.addAll(KeywordTerms.extract(term));
+        }
+        List<List<String>> excludedTerms = new ArrayList<>();
+        for (String term : expression.getNegativeTerms()) {
+            List<String> words = KeywordTerms.extract(term);
+            if (!words.isEmpty()) {
+                excludedTerms.add(words);
+            }
+        }
+        return new KeywordQuery(new ArrayList<>(terms), excludedTerms);
+    }
+
+    // 비교할 포함 단어가 없으면 조회하지 않음
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package com.leedahun.feedservice.domain.feed.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 키워드 조회어를 콘텐츠의 keyword_terms 와 비교할 단어 목록으로 변환 (match-service KeywordTokenizer 와 같은 규칙)
+ * - 공백으로 단어를 나누고, 영문/숫자/한글 외의 문자는 버린 채 앞뒤를 이어 붙인다 ("Spring-Boot" -> "springboot")
+ * - 영문은 소문자로 정규화하고, 2글자 이상인 단어만 사용한다
+ * 콘텐츠 쪽은 조사를 뗀 형태도 함께 저장하므로 조회어에서는 조사를 떼지 않는다.
+ * 따옴표/제외(-, NOT) 같은 표현식 문법은 KeywordQuery 가 해석한 뒤 단어/구마다 이 규칙을 적용한다.
+ */
+public final class KeywordTerms {
+
+    private static final int MIN_TERM_LENGTH = 2;
+
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+
+    private KeywordTerms() {
+    }
+
+    /**
+     * 조회어의 정규화 단어 목록 (중복 제거, 입력 순서 유지)
+     * 쓸 수 있는 단어가 없으면 빈 목록을 반환한다.
+     */
+    public static List<String> extract(String keyword) {
+        if (keyword == null) {
+            return List.of();
+        }
+
+        Set<String> terms = new LinkedHashSet<>();
+        StringBuilder term = new StringBuilder();
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = keyword.charAt(i);
+            if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                flush(term, terms);
+            } else if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || (c >= HANGUL_BEGIN && c <= HANGUL_END)) {
+                term.append(c);
+            } else if (c >= 'A' && c <= 'Z') {
+                term.append((char) (c + ('a' - 'A')));
+            }
+        }
+        flush(term, terms);
+        return new ArrayList<>(terms);
+    }
+
+    private static void flush(StringBuilder term, Set<String> terms) {
+        if (term.length() >= MIN_TERM_LENGTH) {
+            terms.add(term.toString());
+        }
+        term.setLength(0);
+    }
+}
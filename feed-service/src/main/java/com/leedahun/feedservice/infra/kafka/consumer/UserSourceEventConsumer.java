@@ -0,0 +1,44 @@
+package com.leedahun.feedservice.infra.kafka.consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.feedservice.domain.feed.cache.UserSourceMappingCache;
+import com.leedahun.feedservice.infra.kafka.dto.UserSourceChangedEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSourceEventConsumer {
+
+    private final UserSourceMappingCache userSourceMappingCache;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 구독 소스 변경 이벤트 수신 후 해당 유저의 소스 매핑 캐시 삭제
+     * 캐시는 인스턴스마다 따로 있으므로 인스턴스마다 다른 컨슈머 그룹으로 구독해 모든 인스턴스가 같은 이벤트를 받는다.
+     * 그룹은 기동마다 새로 만들어지므로 최신 오프셋부터 읽고, 기동 전 변경은 비어 있는 캐시가 새로 조회한다.
+     * 형식이 잘못된 메시지는 재시도해도 같으므로 로그만 남기고 넘어간다.
+     */
+    @KafkaListener(
+            topics = "${app.kafka.topic.user-source-changed}",
+            groupId = "feed.source-cache.#{T(java.util.UUID).randomUUID().toString()}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consume(ConsumerRecord<String, String> record) {
+        UserSourceChangedEventDto event;
+        try {
+            event = objectMapper.readValue(record.value(), UserSourceChangedEventDto.class);
+        } catch (JsonProcessingException e) {
+            log.error("구독 소스 변경 이벤트 역직렬화 실패 (offset: {}): {}", record.offset(), e.getMessage());
+            return;
+        }
+
+        userSourceMappingCache.invalidate(event.getUserId());
+        log.debug("구독 소스 매핑 캐시 삭제 (userId: {}, type: {})", event.getUserId(), event.getType());
+    }
+}
@@ -0,0 +1,143 @@
+package com.leedahun.feedservice.domain.feed.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.leedahun.feedservice.common.error.exception.InternalApiRequestException;
+import com.leedahun.feedservice.domain.feed.service.FeedService;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserSourceMappingCacheTest {
+
+    private static final long TTL_MS = 600_000L;
+    private static final long REFRESH_AFTER_MS = 60_000L;
+
+    @Mock
+    private FeedService feedService;
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private UserSourceMappingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        // 백그라운드 갱신도 호출 스레드에서 바로 실행
+        cache = new UserSourceMappingCache(feedService, 100, TTL_MS, REFRESH_AFTER_MS, nanos::get, Runnable::run);
+    }
+
+    private void advance(long millis) {
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 유저의 소스 매핑은 identity-service를 다시 호출하지 않고 반환한다")
+    void get_Cached() {
+        // given
+        when(feedService.fetchUserSourceMapping(1L)).thenReturn(Map.of(10L, "내 기술 블로그"));
+
+        // when
+        cache.get(1L);
+        Map<Long, String> result = cache.get(1L);
+
+        // then
+        assertThat(result).containsExactly(Map.entry(10L, "내 기술 블로그"));
+        verify(feedService, times(1)).fetchUserSourceMapping(1L);
+    }
+
+    @Test
+    @DisplayName("구독 소스가 바뀌어 캐시를 비우면 다음 조회에서 다시 가져온다")
+    void invalidate() {
+        // given
+        when(feedService.fetchUserSourceMapping(1L))
+                .thenReturn(Map.of(10L, "내 기술 블로그"))
+                .thenReturn(Map.of(10L, "내 기술 블로그", 20L, "개발 뉴스"));
+        cache.get(1L);
+
+        // when
+        cache.invalidate(1L);
+        Map<Long, String> result = cache.get(1L);
+
+        // then
+        assertThat(result).containsOnlyKeys(10L, 20L);
+        verify(feedService, times(2)).fetchUserSourceMapping(1L);
+    }
+
+    @Test
+    @DisplayName("갱신 주기가 지나면 조회 시 백그라운드에서 다시 가져와 교체한다")
+    void get_RefreshAhead() {
+        // given
+        when(feedService.fetchUserSourceMapping(1L))
+                .thenReturn(Map.of(10L, "내 기술 블로그"))
+                .thenReturn(Map.of(20L, "개발 뉴스"));
+        cache.get(1L);
+        advance(REFRESH_AFTER_MS + 1);
+
+        // when
+        cache.get(1L);
+        Map<Long, String> result = cache.get(1L);
+
+        // then
+        assertThat(result).containsOnlyKeys(20L);
+        verify(feedService, times(2)).fetchUserSourceMapping(1L);
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신에 실패하면 기존 값을 계속 사용한다")
+    void get_RefreshFailureKeepsValue() {
+        // given
+        when(feedService.fetchUserSourceMapping(1L))
+                .thenReturn(Map.of(10L, "내 기술 블로그"))
+                .thenThrow(new InternalApiRequestException("fail"));
+        cache.get(1L);
+        advance(REFRESH_AFTER_MS + 1);
+
+        // when
+        cache.get(1L);
+        Map<Long, String> result = cache.get(1L);
+
+        // then
+        assertThat(result).containsOnlyKeys(10L);
+    }
+
+    @Test
+    @DisplayName("첫 조회에 실패하면 예외를 그대로 던지고 실패 결과는 캐시하지 않는다")
+    void get_LoadFailureNotCached() {
+        // given
+        when(feedService.fetchUserSourceMapping(1L))
+                .thenThrow(new InternalApiRequestException("fail"))
+                .thenReturn(Map.of(10L, "내 기술 블로그"));
+
+        // when & then
+        assertThatThrownBy(() -> cache.get(1L)).isInstanceOf(InternalApiRequestException.class);
+        assertThat(cache.get(1L)).containsOnlyKeys(10L);
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 만료되어 다시 가져온다")
+    void get_Expired() {
+        // given
+        when(feedService.fetchUserSourceMapping(1L))
+                .thenReturn(Map.of(10L, "내 기술 블로그"))
+                .thenReturn(Map.of(20L, "개발 뉴스"));
+        cache.get(1L);
+        advance(TTL_MS + 1);
+
+        // when
+        Map<Long, String> result = cache.get(1L);
+
+        // then
+        assertThat(result).containsOnlyKeys(20L);
+    }
+}
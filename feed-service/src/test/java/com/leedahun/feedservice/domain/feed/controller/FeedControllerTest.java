@@ -3,6 +3,7 @@ package com.leedahun.feedservice.domain.feed.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leedahun.feedservice.common.response.CommonPageResponse;
 import com.leedahun.feedservice.config.SecurityConfig;
+import com.leedahun.feedservice.domain.feed.cache.UserSourceMappingCache;
 import com.leedahun.feedservice.domain.feed.dto.ContentFeedResponseDto;
 import com.leedahun.feedservice.domain.feed.service.FeedService;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +13,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -33,6 +35,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 type = FilterType.ASSIGNABLE_TYPE, classes = {SecurityConfig.class}
         ))
 @AutoConfigureMockMvc(addFilters = false)
+@Import(UserSourceMappingCache.class)
 class FeedControllerTest {
 
     @Autowired
@@ -106,4 +109,30 @@ class FeedControllerTest {
         verify(feedService).fetchUserSourceMapping(any());
         verify(feedService).getPersonalizedFeeds(any(), eq(sourceMapping), eq(null), eq(10));
     }
+
+    @Test
+    @DisplayName("[GET /api/feed/keyword] 키워드로 구독 소스의 피드를 조회한다")
+    void getKeywordFeeds_success() throws Exception {
+        Map<Long, String> sourceMapping = Map.of(1L, "소스1");
+
+        CommonPageResponse<ContentFeedResponseDto> response = new CommonPageResponse<>(
+                java.util.List.of(new ContentFeedResponseDto()),
+                null,
+                false
+        );
+
+        when(feedService.fetchUserSourceMapping(any())).thenReturn(sourceMapping);
+        when(feedService.getKeywordFeeds(any(), eq(sourceMapping), eq("kafka"), eq(null), eq(10)))
+                .thenReturn(response);
+
+        mockMvc.perform(get("/api/feed/keyword")
+                        .param("keyword", "kafka"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(200))
+                .andExpect(jsonPath("$.message").value(READ_SUCCESS.getMessage()))
+                .andExpect(jsonPath("$.data.content").isArray())
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+
+        verify(feedService).getKeywordFeeds(any(), eq(sourceMapping), eq("kafka"), eq(null), eq(10));
+    }
 }
\ No newline at end of file
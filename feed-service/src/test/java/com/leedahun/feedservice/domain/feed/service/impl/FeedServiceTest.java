@@ -7,6 +7,7 @@ import com.leedahun.feedservice.infra.client.UserInternalApiClient;
 import com.leedahun.feedservice.infra.client.dto.SourceResponseDto;
 import com.leedahun.feedservice.domain.feed.document.ContentDocument;
 import com.leedahun.feedservice.domain.feed.dto.ContentFeedResponseDto;
+import com.leedahun.feedservice.domain.feed.exception.InvalidKeywordExpressionException;
 import com.leedahun.feedservice.domain.feed.repository.ContentDocumentRepository;
 import feign.FeignException;
 import feign.Request;
@@ -347,6 +348,92 @@ class FeedServiceImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("키워드 피드 조회 (GetKeywordFeeds)")
+    class GetKeywordFeedsTest {
+
+        @Test
+        @DisplayName("성공: 키워드를 정규화 단어로 바꿔 term 필터 조회를 요청한다")
+        void success_normalized_terms() {
+            // given
+            Long userId = 1L;
+            Map<Long, String> sourceMapping = Map.of(100L, "내 기술 블로그");
+            int size = 10;
+
+            ContentDocument doc = createMockContentDocument("doc1", 100L, LocalDateTime.now());
+            when(contentDocumentRepository.searchBySourceIdsAndKeywordTerms(
+                    eq(List.of(100L)), eq(List.of("springboot", "카프카")), eq(List.of()), isNull(), any(Pageable.class)))
+                    .thenReturn(List.of(doc));
+
+            // when
+            CommonPageResponse<ContentFeedResponseDto> response =
+                    feedService.getKeywordFeeds(userId, sourceMapping, " Spring-Boot  카프카 ", null, size);
+
+            // then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.getContent().get(0).getSourceName()).isEqualTo("내 기술 블로그");
+            assertThat(response.isHasNext()).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공: 커서가 있으면 ES 날짜 형식으로 바꿔 전달한다")
+        void success_cursor() {
+            // given
+            Map<Long, String> sourceMapping = Map.of(100L, "내 기술 블로그");
+            long lastPublishedAt = 0L;
+
+            // when
+            feedService.getKeywordFeeds(null, sourceMapping, "kafka", lastPublishedAt, 10);
+
+            // then
+            verify(contentDocumentRepository).searchBySourceIdsAndKeywordTerms(
+                    eq(List.of(100L)), eq(List.of("kafka")), eq(List.of()), eq("1970-01-01T00:00:00.000"), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("성공: 제외 단어가 있는 표현식이면 포함 단어와 제외 조건을 나눠 전달한다")
+        void success_expression_with_exclusion() {
+            // given
+            Map<Long, String> sourceMapping = Map.of(100L, "내 기술 블로그");
+
+            // when
+            feedService.getKeywordFeeds(1L, sourceMapping, "kafka -spring \"event driven\" NOT 주니어", null, 10);
+
+            // then
+            verify(contentDocumentRepository).searchBySourceIdsAndKeywordTerms(
+                    eq(List.of(100L)), eq(List.of("kafka", "event", "driven")),
+                    eq(List.of(List.of("spring"), List.of("주니어"))), isNull(), any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("실패: 형식이 잘못된 표현식이면 저장소 조회 없이 예외를 던진다")
+        void fail_invalid_expression() {
+            // given
+            Map<Long, String> sourceMapping = Map.of(100L, "내 기술 블로그");
+
+            // when & then
+            assertThatThrownBy(() -> feedService.getKeywordFeeds(1L, sourceMapping, "-kafka -spring", null, 10))
+                    .isInstanceOf(InvalidKeywordExpressionException.class);
+            verifyNoInteractions(contentDocumentRepository);
+        }
+
+        @Test
+        @DisplayName("성공: 쓸 수 있는 단어가 없는 키워드면 저장소 조회 없이 빈 페이지를 반환한다")
+        void success_no_terms() {
+            // given
+            Map<Long, String> sourceMapping = Map.of(100L, "내 기술 블로그");
+
+            // when
+            CommonPageResponse<ContentFeedResponseDto> response =
+                    feedService.getKeywordFeeds(1L, sourceMapping, "! a", null, 10);
+
+            // then
+            assertThat(response.getContent()).isEmpty();
+            assertThat(response.isHasNext()).isFalse();
+            verifyNoInteractions(contentDocumentRepository);
+        }
+    }
+
     @Nested
     @DisplayName("ID 기반 피드 조회 (GetContentsByIds)")
     class GetContentsByIdsTest {
@@ -0,0 +1,68 @@
+package com.leedahun.feedservice.domain.feed.util;
+
+import com.leedahun.feedservice.domain.feed.exception.InvalidKeywordExpressionException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeywordQueryTest {
+
+    @Test
+    @DisplayName("표현식 문법이 없으면 키워드 전체를 정규화 단어로 나눈다")
+    void parse_PlainKeyword() {
+        // when
+        KeywordQuery query = KeywordQuery.parse(" Spring-Boot  카프카 ");
+
+        // then
+        assertThat(query.getTerms()).containsExactly("springboot", "카프카");
+        assertThat(query.getExcludedTerms()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("'-' 와 NOT 으로 표시한 단어는 제외 조건으로, 나머지는 포함 단어로 나눈다")
+    void parse_Exclusion() {
+        // when
+        KeywordQuery query = KeywordQuery.parse("kafka AND -spring NOT \"spring boot\"");
+
+        // then
+        assertThat(query.getTerms()).containsExactly("kafka");
+        assertThat(query.getExcludedTerms()).containsExactly(List.of("spring"), List.of("spring", "boot"));
+    }
+
+    @Test
+    @DisplayName("2글자 미만 단어만으로 된 제외 조건은 무시한다")
+    void parse_IgnoreShortExclusion() {
+        // when
+        KeywordQuery query = KeywordQuery.parse("kafka -a");
+
+        // then
+        assertThat(query.getTerms()).containsExactly("kafka");
+        assertThat(query.getExcludedTerms()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비어 있는 키워드는 빈 조건이다")
+    void parse_Blank() {
+        // when & then
+        assertThat(KeywordQuery.parse(null).isEmpty()).isTrue();
+        assertThat(KeywordQuery.parse("  ").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 표현식은 예외를 던진다")
+    void parse_Invalid() {
+        // when & then
+        assertThatThrownBy(() -> KeywordQuery.parse("-kafka"))
+                .isInstanceOf(InvalidKeywordExpressionException.class);
+        assertThatThrownBy(() -> KeywordQuery.parse("\"kafka"))
+                .isInstanceOf(InvalidKeywordExpressionException.class);
+        assertThatThrownBy(() -> KeywordQuery.parse("kafka AND"))
+                .isInstanceOf(InvalidKeywordExpressionException.class);
+        assertThatThrownBy(() -> KeywordQuery.parse("kafka NOT -spring"))
+                .isInstanceOf(InvalidKeywordExpressionException.class);
+    }
+}
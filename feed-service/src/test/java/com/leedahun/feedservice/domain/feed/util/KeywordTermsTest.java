@@ -0,0 +1,38 @@
+package com.leedahun.feedservice.domain.feed.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordTermsTest {
+
+    @Test
+    @DisplayName("공백 기준으로 나누고 특수문자는 제거한 채 앞뒤를 이어 붙인다")
+    void extract_RemoveSpecialCharacters() {
+        // when & then
+        assertThat(KeywordTerms.extract("Spring-Boot 3.0 (초안)")).containsExactly("springboot", "30", "초안");
+    }
+
+    @Test
+    @DisplayName("영문은 소문자로 정규화하고 중복 단어는 한 번만 남긴다")
+    void extract_LowercaseAndDistinct() {
+        // when & then
+        assertThat(KeywordTerms.extract("KAFKA kafka Kafka")).containsExactly("kafka");
+    }
+
+    @Test
+    @DisplayName("조회어에서는 조사를 떼지 않는다")
+    void extract_KeepParticles() {
+        // when & then
+        assertThat(KeywordTerms.extract("카프카는")).containsExactly("카프카는");
+    }
+
+    @Test
+    @DisplayName("2글자 미만 단어와 null 은 무시한다")
+    void extract_IgnoreShortTermsAndNull() {
+        // when & then
+        assertThat(KeywordTerms.extract("a ! 가")).isEmpty();
+        assertThat(KeywordTerms.extract(null)).isEmpty();
+    }
+}
@@ -19,7 +19,8 @@ echo "🚀 [1/3] 빌드 시작 (Gradle clean build)..."
 jwt_key=$JWT_KEY jasypt_key=$JASYPT_KEY ./gradlew clean build
 
 echo "🐳 [2/3] 도커 이미지 빌드 (platform: linux/amd64)..."
-docker build --platform linux/amd64 -t $IMAGE_NAME .
+# keyword-expression 공유 소스를 함께 빌드하도록 저장소 루트를 컨텍스트로 사용
+docker build --platform linux/amd64 -f Dockerfile -t $IMAGE_NAME ..
 
 echo "📤 [3/3] 도커 허브 푸시..."
 docker push $IMAGE_NAME
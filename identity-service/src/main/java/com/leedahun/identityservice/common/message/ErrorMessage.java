@@ -27,6 +27,7 @@ public enum ErrorMessage {
     EMAIL_ALREADY_VERIFIED("이미 인증된 이메일입니다."),
 
     KEYWORD_LIMIT_EXCEEDED("키워드 등록 한도를 넘었습니다."),
+    INVALID_KEYWORD_EXPRESSION("키워드 표현식이 올바르지 않습니다. "),
 
     INVALID_RSS_URL("해당 URL에 접근할 수 없거나 유효한 웹사이트가 아닙니다."),
     SOURCE_VALIDATION_FAILED("소스 검증에 실패했습니다."),
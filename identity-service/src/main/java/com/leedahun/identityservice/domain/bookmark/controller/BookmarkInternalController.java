@@ -19,4 +19,10 @@ public class BookmarkInternalController {
         return bookmarkService.getBookmarkMap(userId, contentIds);
     }
 
+    // 콘텐츠 문서 ID 변경(이전 ID -> 새 ID)에 맞춰 북마크의 contentId 이전
+    @PostMapping("/remap")
+    public Integer remapContentIds(@RequestBody Map<String, String> contentIdMap) {
+        return bookmarkService.remapContentIds(contentIdMap);
+    }
+
 }
\ No newline at end of file
@@ -48,4 +48,8 @@ public class Bookmark extends BaseTimeEntity {
     public void changeFolder(BookmarkFolder folder) {
         this.bookmarkFolder = folder;
     }
+
+    public void changeContentId(String contentId) {
+        this.contentId = contentId;
+    }
 }
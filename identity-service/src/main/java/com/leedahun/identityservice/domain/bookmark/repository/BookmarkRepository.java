@@ -1,6 +1,7 @@
 package com.leedahun.identityservice.domain.bookmark.repository;
 
 import com.leedahun.identityservice.domain.bookmark.entity.Bookmark;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Pageable;
@@ -61,6 +62,9 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     // contentId에 해당하는 북마크 목록 조회
     List<Bookmark> findAllByUserIdAndContentIdIn(Long userId, List<String> contentIds);
 
+    // 콘텐츠 ID 이전용, 전체 유저 대상 조회
+    List<Bookmark> findAllByContentIdIn(Collection<String> contentIds);
+
     @Modifying(clearAutomatically = true)
     @Query("UPDATE Bookmark b SET b.bookmarkFolder = null WHERE b.bookmarkFolder.id = :folderId")
     void updateFolderToNull(@Param("folderId") Long folderId);
@@ -30,4 +30,6 @@ public interface BookmarkService {
 
     Map<String, Long> getBookmarkMap(Long userId, List<String> contentIds);
 
+    int remapContentIds(Map<String, String> contentIdMap);
+
 }
@@ -21,8 +21,10 @@ import com.leedahun.identityservice.infra.client.FeedInternalApiClient;
 import com.leedahun.identityservice.infra.client.dto.ContentFeedResponseDto;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -196,6 +198,37 @@ public class BookmarkServiceImpl implements BookmarkService {
                 .collect(Collectors.toMap(Bookmark::getContentId, Bookmark::getId));
     }
 
+    /**
+     * 북마크의 contentId를 새 ID로 이전
+     * 같은 유저가 이전 ID와 새 ID를 모두(또는 같은 새 ID로 합쳐지는 여러 이전 ID를) 북마크했다면 하나만 남기고 삭제한다.
+     * 이전된 북마크 수를 반환 (삭제된 중복 북마크 제외)
+     */
+    @Override
+    @Transactional
+    public int remapContentIds(Map<String, String> contentIdMap) {
+        if (contentIdMap == null || contentIdMap.isEmpty()) {
+            return 0;
+        }
+
+        // 유저별로 이미 새 ID를 가진 북마크
+        Set<String> occupied = new HashSet<>();
+        for (Bookmark bookmark : bookmarkRepository.findAllByContentIdIn(new HashSet<>(contentIdMap.values()))) {
+            occupied.add(bookmark.getUser().getId() + ":" + bookmark.getContentId());
+        }
+
+        int remapped = 0;
+        for (Bookmark bookmark : bookmarkRepository.findAllByContentIdIn(contentIdMap.keySet())) {
+            String newContentId = contentIdMap.get(bookmark.getContentId());
+            if (occupied.add(bookmark.getUser().getId() + ":" + newContentId)) {
+                bookmark.changeContentId(newContentId);
+                remapped++;
+            } else {
+                bookmarkRepository.delete(bookmark);
+            }
+        }
+        return remapped;
+    }
+
     // 북마크 폴더 이름이 중복되는지 검증
     private void validateFolderNameNotDuplicated(Long userId, String folderName) {
         if (folderRepository.existsByUserIdAndName(userId, folderName)) {
@@ -1,6 +1,7 @@
 package com.leedahun.identityservice.domain.keyword.controller;
 
 import com.leedahun.identityservice.domain.keyword.dto.KeywordResponseDto;
+import com.leedahun.identityservice.domain.keyword.dto.KeywordSubscriptionDto;
 import com.leedahun.identityservice.domain.keyword.service.KeywordService;
 import java.util.List;
 import java.util.Set;
@@ -27,4 +28,9 @@ public class KeywordInternalController {
         return keywordService.findUserIdsByKeywordsAndSource(keywords, sourceId);
     }
 
+    @GetMapping("/keywords/active")
+    public List<KeywordSubscriptionDto> getNotificationEnabledKeywords() {
+        return keywordService.getNotificationEnabledKeywords();
+    }
+
 }
@@ -0,0 +1,17 @@
+package com.leedahun.identityservice.domain.keyword.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordSubscriptionDto {
+    private Long userId;
+    private String name;
+}
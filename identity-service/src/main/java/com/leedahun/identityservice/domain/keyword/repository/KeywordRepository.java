@@ -1,6 +1,7 @@
 package com.leedahun.identityservice.domain.keyword.repository;
 
 import com.leedahun.identityservice.domain.auth.entity.User;
+import com.leedahun.identityservice.domain.keyword.dto.KeywordSubscriptionDto;
 import com.leedahun.identityservice.domain.keyword.entity.Keyword;
 import java.util.List;
 import java.util.Optional;
@@ -20,13 +21,25 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
 
     Long countByUserId(Long userId);
 
+    /**
+     * 키워드 중 하나를 알림 켜진 상태로 등록하고 소스를 구독 중인 유저 ID (match-service 스냅샷 조회 실패 시 폴백용)
+     */
     @Query("SELECT DISTINCT k.user.id " +
             "FROM Keyword k " +
             "JOIN UserSource us ON k.user.id = us.user.id " +
             "WHERE k.name IN :keywords " +
+            "AND k.isNotificationEnabled = true " +
             "AND us.source.id = :sourceId")
     List<Long> findUserIdsByNamesAndSourceId(@Param("keywords") Set<String> keywords, @Param("sourceId") Long sourceId);
 
+    /**
+     * 알림이 켜진 모든 키워드 (match-service 키워드 매칭 스냅샷용)
+     */
+    @Query("SELECT new com.leedahun.identityservice.domain.keyword.dto.KeywordSubscriptionDto(k.user.id, k.name) " +
+            "FROM Keyword k " +
+            "WHERE k.isNotificationEnabled = true")
+    List<KeywordSubscriptionDto> findAllNotificationEnabled();
+
     @Modifying
     @Query("DELETE FROM Keyword k WHERE k.user.id = :userId")
     void deleteAllByUserId(@Param("userId") Long userId);
@@ -1,6 +1,7 @@
 package com.leedahun.identityservice.domain.keyword.service;
 
 import com.leedahun.identityservice.domain.keyword.dto.KeywordResponseDto;
+import com.leedahun.identityservice.domain.keyword.dto.KeywordSubscriptionDto;
 import java.util.List;
 import java.util.Set;
 
@@ -16,4 +17,6 @@ public interface KeywordService {
 
     List<Long> findUserIdsByKeywordsAndSource(Set<String> keywords, Long sourceId);
 
+    List<KeywordSubscriptionDto> getNotificationEnabledKeywords();
+
 }
@@ -5,13 +5,22 @@ import com.leedahun.identityservice.common.error.exception.EntityNotFoundExcepti
 import com.leedahun.identityservice.domain.auth.entity.User;
 import com.leedahun.identityservice.domain.auth.repository.UserRepository;
 import com.leedahun.identityservice.domain.keyword.dto.KeywordResponseDto;
+import com.leedahun.identityservice.domain.keyword.dto.KeywordSubscriptionDto;
 import com.leedahun.identityservice.domain.keyword.entity.Keyword;
+import com.leedahun.identityservice.domain.keyword.exception.InvalidKeywordExpressionException;
 import com.leedahun.identityservice.domain.keyword.exception.KeywordLimitExceededException;
 import com.leedahun.identityservice.domain.keyword.repository.KeywordRepository;
 import com.leedahun.identityservice.domain.keyword.service.KeywordService;
+import com.leedahun.identityservice.domain.source.repository.UserSourceRepository;
+import com.leedahun.identityservice.infra.kafka.dto.KeywordAddedEventDto;
+import com.leedahun.identityservice.infra.kafka.dto.KeywordChangedEventDto;
+import com.leedahun.keyword.expression.KeywordExpression;
+import com.leedahun.keyword.expression.KeywordExpressionException;
+import java.time.LocalDateTime;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +34,8 @@ public class KeywordServiceImpl implements KeywordService {
 
     private final KeywordRepository keywordRepository;
     private final UserRepository userRepository;
+    private final UserSourceRepository userSourceRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.limits.keyword-max-count}")
     private int keywordMaxCount;
@@ -43,6 +54,9 @@ public class KeywordServiceImpl implements KeywordService {
     public KeywordResponseDto addKeyword(Long userId, String name) {
         User user = findUserById(userId);
 
+        // 형식이 잘못된 표현식은 match-service에서 매칭할 수 없으므로 저장 전에 거부
+        validateExpression(name);
+
         if (keywordRepository.existsByNameAndUser(name, user)) {
             throw new EntityAlreadyExistsException("Keyword", name);
         }
@@ -57,6 +71,15 @@ public class KeywordServiceImpl implements KeywordService {
                 .build();
         keywordRepository.save(keyword);
 
+        // 커밋 후 match-service로 전달되어 최근 콘텐츠 중 이 키워드에 맞는 글을 한 번에 알림
+        eventPublisher.publishEvent(KeywordAddedEventDto.builder()
+                .userId(userId)
+                .keywordId(keyword.getId())
+                .keyword(name)
+                .sourceIds(userSourceRepository.findSourceIdsByUserId(userId))
+                .addedAt(LocalDateTime.now())
+                .build());
+
         return KeywordResponseDto.from(keyword);
     }
 
@@ -66,6 +89,7 @@ public class KeywordServiceImpl implements KeywordService {
         Keyword keyword = findKeywordByIdAndUserId(keywordId, userId);
         keyword.setNotificationEnabled(!keyword.isNotificationEnabled());
         keywordRepository.save(keyword);
+        publishKeywordChanged(userId, keywordId, KeywordChangedEventDto.TOGGLED);
 
         return KeywordResponseDto.from(keyword);
     }
@@ -75,6 +99,7 @@ public class KeywordServiceImpl implements KeywordService {
     public void deleteKeyword(Long userId, Long keywordId) {
         Keyword keyword = findKeywordByIdAndUserId(keywordId, userId);
         keywordRepository.delete(keyword);
+        publishKeywordChanged(userId, keywordId, KeywordChangedEventDto.REMOVED);
     }
 
     @Override
@@ -87,6 +112,22 @@ public class KeywordServiceImpl implements KeywordService {
         return keywordRepository.findUserIdsByNamesAndSourceId(keywords, sourceId);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<KeywordSubscriptionDto> getNotificationEnabledKeywords() {
+        return keywordRepository.findAllNotificationEnabled();
+    }
+
+    // 커밋 후 match-service로 전달되어 구독 매칭 인덱스를 다시 만듦
+    private void publishKeywordChanged(Long userId, Long keywordId, String type) {
+        eventPublisher.publishEvent(KeywordChangedEventDto.builder()
+                .userId(userId)
+                .keywordId(keywordId)
+                .type(type)
+                .changedAt(LocalDateTime.now())
+                .build());
+    }
+
     private User findUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new EntityNotFoundException("User", userId));
@@ -97,4 +138,16 @@ public class KeywordServiceImpl implements KeywordService {
                 .orElseThrow(() -> new EntityNotFoundException("Keyword", keywordId));
     }
 
-}
\ No newline at end of file
+    private void validateExpression(String name) {
+        KeywordExpression expression;
+        try {
+            expression = KeywordExpression.parse(name);
+        } catch (KeywordExpressionException e) {
+            throw new InvalidKeywordExpressionException(e.getMessage());
+        }
+        if (expression.termCount() > KeywordExpression.MAX_TERMS) {
+            throw new InvalidKeywordExpressionException(
+                    String.format("단어는 최대 %d개까지 쓸 수 있습니다.", KeywordExpression.MAX_TERMS));
+        }
+    }
+}
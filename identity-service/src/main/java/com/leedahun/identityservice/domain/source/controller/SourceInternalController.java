@@ -22,4 +22,9 @@ public class SourceInternalController {
         return sourceService.getActiveSourcesByUser(userId);
     }
 
+    @GetMapping("/{sourceId}/subscribers")
+    public List<Long> getSubscriberIds(@PathVariable Long sourceId) {
+        return sourceService.getSubscriberIds(sourceId);
+    }
+
 }
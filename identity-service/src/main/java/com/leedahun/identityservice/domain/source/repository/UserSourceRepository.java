@@ -26,6 +26,18 @@ public interface UserSourceRepository extends JpaRepository<UserSource, Long> {
     """)
     List<UserSource> searchByUserIdAndKeyword(@Param("userId") Long userId, @Param("keyword") String keyword);
 
+    /**
+     * 소스를 구독 중인 유저 ID (오름차순, match-service 구독자 캐시용)
+     */
+    @Query("SELECT DISTINCT us.user.id FROM UserSource us WHERE us.source.id = :sourceId ORDER BY us.user.id")
+    List<Long> findSubscriberIdsBySourceId(@Param("sourceId") Long sourceId);
+
+    /**
+     * 유저가 구독 중인 소스 ID (키워드 추가 이벤트용)
+     */
+    @Query("SELECT DISTINCT us.source.id FROM UserSource us WHERE us.user.id = :userId")
+    List<Long> findSourceIdsByUserId(@Param("userId") Long userId);
+
     @Modifying
     @Query("DELETE FROM UserSource us WHERE us.user.id = :userId")
     void deleteAllByUserId(@Param("userId") Long userId);
@@ -18,4 +18,6 @@ public interface SourceService {
 
     SourceResponseDto toggleReceiveFeed(Long userId, Long userSourceId);
 
+    List<Long> getSubscriberIds(Long sourceId);
+
 }
@@ -17,16 +17,19 @@ import com.leedahun.identityservice.domain.source.service.SourceService;
 import com.leedahun.identityservice.domain.source.validator.RobotsTxtValidator;
 import com.leedahun.identityservice.domain.source.validator.RssFeedValidator;
 import com.leedahun.identityservice.domain.source.validator.UrlValidator;
+import com.leedahun.identityservice.infra.kafka.dto.UserSourceChangedEventDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -45,13 +48,15 @@ public class SourceServiceImpl implements SourceService {
     private final UrlValidator urlValidator;
     private final RobotsTxtValidator robotsTxtValidator;
     private final RssFeedValidator rssFeedValidator;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Jsoup 설정 상수
     private static final int JSOUP_TIMEOUT = 10000; // 10초
 
-    // RSS/Atom 피드 탐지용 CSS 선택자
+    // RSS/Atom/JSON Feed 탐지용 CSS 선택자
     private static final String RSS_LINK_SELECTOR = "link[type=application/rss+xml]";
     private static final String ATOM_LINK_SELECTOR = "link[type=application/atom+xml]";
+    private static final String JSON_FEED_LINK_SELECTOR = "link[type=application/feed+json]";
 
     // HTML 속성
     private static final String HREF_ATTRIBUTE = "abs:href";
@@ -126,6 +131,7 @@ public class SourceServiceImpl implements SourceService {
         userSourceRepository.save(userSource);
 
         log.info("소스 등록 완료 - 사용자: {}, 소스ID: {}, RSS URL: {}", userId, source.getId(), rssUrl);
+        publishUserSourceChanged(userId, userSource.getId(), source.getId(), UserSourceChangedEventDto.ADDED);
 
         return SourceResponseDto.from(userSource);
     }
@@ -135,6 +141,7 @@ public class SourceServiceImpl implements SourceService {
         UserSource userSource = userSourceRepository.findByIdAndUserId(userSourceId, userId)
                 .orElseThrow(() -> new EntityNotFoundException("UserSource", userSourceId));
         userSourceRepository.delete(userSource);
+        publishUserSourceChanged(userId, userSourceId, userSource.getSource().getId(), UserSourceChangedEventDto.REMOVED);
     }
 
     @Override
@@ -153,9 +160,27 @@ public class SourceServiceImpl implements SourceService {
         UserSource userSource = userSourceRepository.findByIdAndUserId(userSourceId, userId)
                 .orElseThrow(() -> new EntityNotFoundException("UserSource", userSourceId));
         userSource.toggleReceiveFeed();
+        publishUserSourceChanged(userId, userSourceId, userSource.getSource().getId(), UserSourceChangedEventDto.TOGGLED);
         return SourceResponseDto.from(userSource);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> getSubscriberIds(Long sourceId) {
+        return userSourceRepository.findSubscriberIdsBySourceId(sourceId);
+    }
+
+    // 커밋 후 feed-service로 전달되어 이 유저의 소스 매핑 캐시를, match-service로 전달되어 이 소스의 구독자 캐시를 비움
+    private void publishUserSourceChanged(Long userId, Long userSourceId, Long sourceId, String type) {
+        eventPublisher.publishEvent(UserSourceChangedEventDto.builder()
+                .userId(userId)
+                .userSourceId(userSourceId)
+                .sourceId(sourceId)
+                .type(type)
+                .changedAt(LocalDateTime.now())
+                .build());
+    }
+
     private String discoverRssUrl(String inputUrl) {
         try {
             Document doc = Jsoup.connect(inputUrl)
@@ -179,7 +204,15 @@ public class SourceServiceImpl implements SourceService {
                 return discoveredUrl;
             }
 
-            log.info("RSS/Atom 링크를 찾지 못함. 원본 URL 사용: {}", inputUrl);
+            // JSON Feed 탐지
+            Element jsonFeedLink = doc.select(JSON_FEED_LINK_SELECTOR).first();
+            if (jsonFeedLink != null) {
+                String discoveredUrl = jsonFeedLink.attr(HREF_ATTRIBUTE);
+                log.info("JSON Feed 링크 발견: {}", discoveredUrl);
+                return discoveredUrl;
+            }
+
+            log.info("RSS/Atom/JSON Feed 링크를 찾지 못함. 원본 URL 사용: {}", inputUrl);
             return inputUrl;
 
         } catch (IOException e) {
@@ -1,5 +1,9 @@
 package com.leedahun.identityservice.domain.source.validator;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.leedahun.feed.format.FeedFormat;
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.SyndFeedInput;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +22,7 @@ import static com.leedahun.identityservice.common.constant.HttpConstants.USER_AG
 public class RssFeedValidator {
 
     private static final int TIMEOUT = 10000; // 10초
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
     /**
      * RSS 피드가 실제로 파싱 가능한지 검증
@@ -35,11 +40,18 @@ public class RssFeedValidator {
             con.setReadTimeout(TIMEOUT);    // 10초
             con.setRequestProperty("User-Agent", USER_AGENT);
 
-            String xmlData;
+            byte[] body;
             try (InputStream in = con.getInputStream()) {
-                xmlData = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                body = in.readAllBytes();
             }
 
+            // JSON Feed 는 별도로 검증 (crawl-service 와 같은 기준으로 형식 판별)
+            if (FeedFormat.detect(con.getContentType(), body) == FeedFormat.JSON_FEED) {
+                return canParseJsonFeed(feedUrl, body);
+            }
+
+            String xmlData = new String(body, StandardCharsets.UTF_8);
+
             // 제어 문자 제거 (0x00-0x08, 0x0B-0x0C, 0x0E-0x1F)
             String cleanXml = xmlData.replaceAll("[\\x00-\\x08\\x0b\\x0c\\x0e-\\x1f]", "");
 
@@ -64,4 +76,54 @@ public class RssFeedValidator {
         }
     }
 
+    /**
+     * JSON Feed(https://jsonfeed.org) 검증
+     * 트리를 만들지 않고 토큰만 훑어서 version, title, items 개수만 확인
+     */
+    private boolean canParseJsonFeed(String feedUrl, byte[] body) {
+        String version = null;
+        String title = null;
+        int itemCount = 0;
+
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                log.warn("JSON Feed 최상위 값이 객체가 아님: {}", feedUrl);
+                return false;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken token = parser.nextToken();
+
+                if ("version".equals(field) && token == JsonToken.VALUE_STRING) {
+                    version = parser.getText();
+                } else if ("title".equals(field) && token == JsonToken.VALUE_STRING) {
+                    title = parser.getText();
+                } else if ("items".equals(field) && token == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        parser.skipChildren();
+                        itemCount++;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (Exception e) {
+            log.error("JSON Feed 파싱 실패: {} - {}", feedUrl, e.getMessage());
+            return false;
+        }
+
+        if (!FeedFormat.isSupportedJsonFeedVersion(version)) {
+            log.warn("지원하지 않는 JSON Feed 버전: {} ({})", feedUrl, version);
+            return false;
+        }
+        if (title == null && itemCount == 0) {
+            log.warn("JSON Feed에 유효한 콘텐츠가 없음: {}", feedUrl);
+            return false;
+        }
+
+        log.info("JSON Feed 파싱 성공: {} (제목: {}, 항목 수: {})", feedUrl, title, itemCount);
+        return true;
+    }
+
 }
\ No newline at end of file
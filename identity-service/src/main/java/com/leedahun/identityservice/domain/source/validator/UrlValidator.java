@@ -21,6 +21,7 @@ public class UrlValidator {
     private static final String CONTENT_TYPE_RSS = "rss";
     private static final String CONTENT_TYPE_ATOM = "atom";
     private static final String CONTENT_TYPE_HTML = "html";
+    private static final String CONTENT_TYPE_JSON = "json";  // JSON Feed (application/feed+json)
 
     public ValidationResult validate(String urlString) {
         try {
@@ -84,7 +85,8 @@ public class UrlValidator {
         return contentType.contains(CONTENT_TYPE_XML) ||
                 contentType.contains(CONTENT_TYPE_RSS) ||
                 contentType.contains(CONTENT_TYPE_ATOM) ||
-                contentType.contains(CONTENT_TYPE_HTML);
+                contentType.contains(CONTENT_TYPE_HTML) ||
+                contentType.contains(CONTENT_TYPE_JSON);
     }
 
     @Getter
@@ -0,0 +1,29 @@
+package com.leedahun.identityservice.infra.kafka.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 키워드 추가 이벤트 (match-service 최근 콘텐츠 알림용)
+ * sourceIds: 추가 시점에 유저가 구독 중인 소스 ID
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordAddedEventDto {
+    private Long userId;
+    private Long keywordId;
+    private String keyword;
+    private List<Long> sourceIds;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime addedAt;
+}
@@ -0,0 +1,32 @@
+package com.leedahun.identityservice.infra.kafka.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 키워드 삭제/알림 토글 이벤트 (match-service 구독 매칭 인덱스 갱신용)
+ * 추가는 KeywordAddedEventDto 로 따로 발행한다.
+ * type: REMOVED(삭제), TOGGLED(알림 여부 변경)
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordChangedEventDto {
+
+    public static final String REMOVED = "REMOVED";
+    public static final String TOGGLED = "TOGGLED";
+
+    private Long userId;
+    private Long keywordId;
+    private String type;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime changedAt;
+}
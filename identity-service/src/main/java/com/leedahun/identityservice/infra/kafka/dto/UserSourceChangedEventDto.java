@@ -0,0 +1,33 @@
+package com.leedahun.identityservice.infra.kafka.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 유저 구독 소스 변경 이벤트 (feed-service 유저별 소스 매핑 캐시, match-service 소스 구독자 캐시 무효화용)
+ * type: ADDED(등록), REMOVED(구독 취소), TOGGLED(피드 수신 여부 변경)
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSourceChangedEventDto {
+
+    public static final String ADDED = "ADDED";
+    public static final String REMOVED = "REMOVED";
+    public static final String TOGGLED = "TOGGLED";
+
+    private Long userId;
+    private Long userSourceId;
+    private Long sourceId;
+    private String type;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,68 @@
+package com.leedahun.identityservice.infra.kafka.producer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.identityservice.infra.kafka.dto.KeywordAddedEventDto;
+import com.leedahun.identityservice.infra.kafka.dto.KeywordChangedEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordEventProducer {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.kafka.topic.keyword-added}")
+    private String keywordAddedTopic;
+
+    @Value("${app.kafka.topic.keyword-changed}")
+    private String keywordChangedTopic;
+
+    /**
+     * 키워드 저장이 커밋된 뒤에만 이벤트 발행 (롤백된 키워드로 알림이 가지 않도록)
+     * 최근 콘텐츠 알림은 부가 기능이므로 전송에 실패해도 키워드 추가는 그대로 둔다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publishKeywordAdded(KeywordAddedEventDto event) {
+        try {
+            String message = objectMapper.writeValueAsString(event);
+            kafkaTemplate.send(keywordAddedTopic, String.valueOf(event.getUserId()), message)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("키워드 추가 이벤트 전송 실패 (userId: {}, keyword: {}): {}",
+                                    event.getUserId(), event.getKeyword(), e.getMessage());
+                        }
+                    });
+        } catch (JsonProcessingException e) {
+            log.error("Kafka 전송을 위한 JSON 변환 실패. 키워드 추가 이벤트: {}", event, e);
+        }
+    }
+
+    /**
+     * 키워드 삭제/알림 토글이 커밋된 뒤에만 이벤트 발행
+     * 전송에 실패해도 match-service 매칭 인덱스는 주기 갱신으로 따라오므로 키워드 변경은 그대로 둔다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publishKeywordChanged(KeywordChangedEventDto event) {
+        try {
+            String message = objectMapper.writeValueAsString(event);
+            kafkaTemplate.send(keywordChangedTopic, String.valueOf(event.getUserId()), message)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("키워드 변경 이벤트 전송 실패 (userId: {}, type: {}): {}",
+                                    event.getUserId(), event.getType(), e.getMessage());
+                        }
+                    });
+        } catch (JsonProcessingException e) {
+            log.error("Kafka 전송을 위한 JSON 변환 실패. 키워드 변경 이벤트: {}", event, e);
+        }
+    }
+}
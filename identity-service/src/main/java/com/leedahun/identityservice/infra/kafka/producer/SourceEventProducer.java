@@ -0,0 +1,44 @@
+package com.leedahun.identityservice.infra.kafka.producer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.identityservice.infra.kafka.dto.UserSourceChangedEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SourceEventProducer {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.kafka.topic.user-source-changed}")
+    private String userSourceChangedTopic;
+
+    /**
+     * 구독 소스 변경이 커밋된 뒤에만 이벤트 발행 (캐시가 커밋 전 값을 다시 읽어 가지 않도록)
+     * 전송에 실패해도 feed-service 캐시는 TTL이 지나면 갱신되므로 소스 변경은 그대로 둔다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void publishUserSourceChanged(UserSourceChangedEventDto event) {
+        try {
+            String message = objectMapper.writeValueAsString(event);
+            kafkaTemplate.send(userSourceChangedTopic, String.valueOf(event.getUserId()), message)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("구독 소스 변경 이벤트 전송 실패 (userId: {}, type: {}): {}",
+                                    event.getUserId(), event.getType(), e.getMessage());
+                        }
+                    });
+        } catch (JsonProcessingException e) {
+            log.error("Kafka 전송을 위한 JSON 변환 실패. 구독 소스 변경 이벤트: {}", event, e);
+        }
+    }
+}
@@ -61,4 +61,21 @@ class BookmarkInternalControllerTest {
 
         verify(bookmarkService).getBookmarkMap(eq(userId), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[POST /internal/bookmarks/remap] 콘텐츠 ID 매핑으로 북마크를 이전하고 이전된 개수를 반환한다")
+    void remapContentIds_success() throws Exception {
+        // given
+        Map<String, String> contentIdMap = Map.of("old-1", "new-1");
+        when(bookmarkService.remapContentIds(contentIdMap)).thenReturn(1);
+
+        // when & then
+        mockMvc.perform(post("/internal/bookmarks/remap")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(contentIdMap)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").value(1));
+
+        verify(bookmarkService).remapContentIds(contentIdMap);
+    }
+}
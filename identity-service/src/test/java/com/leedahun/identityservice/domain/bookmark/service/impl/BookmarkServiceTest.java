@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import com.leedahun.identityservice.infra.client.FeedInternalApiClient;
 import org.junit.jupiter.api.BeforeEach;
@@ -798,4 +799,66 @@ class BookmarkServiceImplTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("북마크 콘텐츠 ID 이전 (remapContentIds)")
+    class RemapContentIds {
+
+        private final User user1 = User.builder().id(1L).build();
+        private final User user2 = User.builder().id(2L).build();
+
+        @Test
+        @DisplayName("성공: 이전 ID 북마크의 contentId를 새 ID로 변경")
+        void remapContentIds_success() {
+            // given
+            Map<String, String> contentIdMap = Map.of("old-1", "new-1");
+            Bookmark bookmark = Bookmark.builder().id(10L).user(user1).contentId("old-1").build();
+
+            when(bookmarkRepository.findAllByContentIdIn(eq(Set.of("new-1")))).thenReturn(Collections.emptyList());
+            when(bookmarkRepository.findAllByContentIdIn(eq(Set.of("old-1")))).thenReturn(List.of(bookmark));
+
+            // when
+            int result = bookmarkService.remapContentIds(contentIdMap);
+
+            // then
+            assertThat(result).isEqualTo(1);
+            assertThat(bookmark.getContentId()).isEqualTo("new-1");
+            verify(bookmarkRepository, never()).delete(any(Bookmark.class));
+        }
+
+        @Test
+        @DisplayName("성공: 같은 유저가 이미 새 ID를 북마크했거나 같은 새 ID로 합쳐지면 하나만 남기고 삭제")
+        void remapContentIds_removeDuplicates() {
+            // given
+            Map<String, String> contentIdMap = Map.of("old-1", "new-1", "old-2", "new-1", "old-3", "new-3");
+            Bookmark alreadyNew = Bookmark.builder().id(1L).user(user1).contentId("new-3").build();
+            Bookmark user1Old3 = Bookmark.builder().id(2L).user(user1).contentId("old-3").build();
+            Bookmark user2Old1 = Bookmark.builder().id(3L).user(user2).contentId("old-1").build();
+            Bookmark user2Old2 = Bookmark.builder().id(4L).user(user2).contentId("old-2").build();
+
+            when(bookmarkRepository.findAllByContentIdIn(eq(Set.of("new-1", "new-3")))).thenReturn(List.of(alreadyNew));
+            when(bookmarkRepository.findAllByContentIdIn(eq(Set.of("old-1", "old-2", "old-3"))))
+                    .thenReturn(List.of(user1Old3, user2Old1, user2Old2));
+
+            // when
+            int result = bookmarkService.remapContentIds(contentIdMap);
+
+            // then
+            assertThat(result).isEqualTo(1);
+            assertThat(user2Old1.getContentId()).isEqualTo("new-1");
+            verify(bookmarkRepository).delete(user1Old3);
+            verify(bookmarkRepository).delete(user2Old2);
+        }
+
+        @Test
+        @DisplayName("성공: 빈 매핑이면 DB 조회 없이 0 반환")
+        void remapContentIds_emptyInput() {
+            // when
+            int result = bookmarkService.remapContentIds(Collections.emptyMap());
+
+            // then
+            assertThat(result).isZero();
+            verify(bookmarkRepository, never()).findAllByContentIdIn(any());
+        }
+    }
+
+}
@@ -15,6 +15,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leedahun.identityservice.domain.auth.config.SecurityConfig;
 import com.leedahun.identityservice.domain.auth.util.test.WithAnonymousUser;
 import com.leedahun.identityservice.domain.keyword.dto.KeywordResponseDto;
+import com.leedahun.identityservice.domain.keyword.dto.KeywordSubscriptionDto;
 import com.leedahun.identityservice.domain.keyword.service.KeywordService;
 import java.util.Collections;
 import java.util.List;
@@ -141,4 +142,25 @@ class KeywordInternalControllerTest {
 
         verify(keywordService).findUserIdsByKeywordsAndSource(anySet(), anyLong());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[GET /internal/keywords/active] 알림이 켜진 전체 키워드를 (유저 ID, 키워드) 목록으로 반환한다")
+    void getNotificationEnabledKeywords_Success() throws Exception {
+        // given
+        List<KeywordSubscriptionDto> subscriptions = List.of(
+                KeywordSubscriptionDto.builder().userId(10L).name("Java").build(),
+                KeywordSubscriptionDto.builder().userId(20L).name("Spring Boot").build()
+        );
+        when(keywordService.getNotificationEnabledKeywords()).thenReturn(subscriptions);
+
+        // when & then
+        mockMvc.perform(get("/internal/keywords/active")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(2))
+                .andExpect(jsonPath("$[0].userId").value(10L))
+                .andExpect(jsonPath("$[1].name").value("Spring Boot"));
+
+        verify(keywordService).getNotificationEnabledKeywords();
+    }
+}
@@ -1,6 +1,7 @@
 package com.leedahun.identityservice.domain.keyword.repository;
 
 import com.leedahun.identityservice.domain.auth.entity.User;
+import com.leedahun.identityservice.domain.keyword.dto.KeywordSubscriptionDto;
 import com.leedahun.identityservice.domain.keyword.entity.Keyword;
 import java.util.Set;
 
@@ -17,6 +18,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 @DataJpaTest
 class KeywordRepositoryTest {
@@ -223,4 +225,69 @@ class KeywordRepositoryTest {
         assertThat(resultUserIds).containsExactly(user1.getId());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("findUserIdsByNamesAndSourceId: 알림을 끈 키워드로만 일치하는 유저는 조회하지 않는다")
+    void findUserIdsByNamesAndSourceId_notificationDisabled() {
+        // given
+        Source source = Source.builder()
+                .url("source1")
+                .build();
+        entityManager.persist(source);
+
+        UserSource userSource1 = UserSource.builder()
+                .user(user1)
+                .userDefinedName("source1 name")
+                .source(source)
+                .build();
+        UserSource userSource2 = UserSource.builder()
+                .user(user2)
+                .userDefinedName("source1 name")
+                .source(source)
+                .build();
+        entityManager.persist(userSource1);
+        entityManager.persist(userSource2);
+
+        Keyword disabled = Keyword.builder()
+                .name("Kafka")
+                .user(user2)
+                .isNotificationEnabled(false)
+                .build();
+        entityManager.persist(disabled);
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<Long> resultUserIds = keywordRepository.findUserIdsByNamesAndSourceId(Set.of("Java", "Kafka"), source.getId());
+
+        // then
+        assertThat(resultUserIds).containsExactly(user1.getId());
+    }
+
+    @Test
+    @DisplayName("findAllNotificationEnabled: 알림이 켜진 키워드만 (유저 ID, 키워드) 쌍으로 조회")
+    void findAllNotificationEnabled_success() {
+        // given
+        Keyword disabled = Keyword.builder()
+                .name("Kafka")
+                .user(user2)
+                .isNotificationEnabled(false)
+                .build();
+        entityManager.persist(disabled);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<KeywordSubscriptionDto> result = keywordRepository.findAllNotificationEnabled();
+
+        // then
+        assertThat(result)
+                .extracting(KeywordSubscriptionDto::getUserId, KeywordSubscriptionDto::getName)
+                .containsExactlyInAnyOrder(
+                        tuple(user1.getId(), "Java"),
+                        tuple(user1.getId(), "Spring"),
+                        tuple(user2.getId(), "Docker")
+                );
+    }
+
+}
@@ -5,9 +5,14 @@ import com.leedahun.identityservice.common.error.exception.EntityNotFoundExcepti
 import com.leedahun.identityservice.domain.auth.entity.User;
 import com.leedahun.identityservice.domain.auth.repository.UserRepository;
 import com.leedahun.identityservice.domain.keyword.dto.KeywordResponseDto;
+import com.leedahun.identityservice.domain.keyword.dto.KeywordSubscriptionDto;
 import com.leedahun.identityservice.domain.keyword.entity.Keyword;
+import com.leedahun.identityservice.domain.keyword.exception.InvalidKeywordExpressionException;
 import com.leedahun.identityservice.domain.keyword.exception.KeywordLimitExceededException;
 import com.leedahun.identityservice.domain.keyword.repository.KeywordRepository;
+import com.leedahun.identityservice.domain.source.repository.UserSourceRepository;
+import com.leedahun.identityservice.infra.kafka.dto.KeywordAddedEventDto;
+import com.leedahun.identityservice.infra.kafka.dto.KeywordChangedEventDto;
 import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +23,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -37,6 +43,12 @@ class KeywordServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserSourceRepository userSourceRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private KeywordServiceImpl keywordService;
 
@@ -118,6 +130,7 @@ class KeywordServiceTest {
                 ReflectionTestUtils.setField(savedKeyword, "id", 99L);
                 return savedKeyword;
             });
+            when(userSourceRepository.findSourceIdsByUserId(USER_ID)).thenReturn(List.of(3L, 4L));
 
             // when
             KeywordResponseDto result = keywordService.addKeyword(USER_ID, newKeywordName);
@@ -131,6 +144,14 @@ class KeywordServiceTest {
             verify(keywordRepository).save(keywordCaptor.capture());
             assertThat(keywordCaptor.getValue().getUser()).isEqualTo(testUser);
             assertThat(keywordCaptor.getValue().getName()).isEqualTo(newKeywordName);
+
+            // 구독 소스와 함께 키워드 추가 이벤트 발행
+            ArgumentCaptor<KeywordAddedEventDto> eventCaptor = ArgumentCaptor.forClass(KeywordAddedEventDto.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getUserId()).isEqualTo(USER_ID);
+            assertThat(eventCaptor.getValue().getKeywordId()).isEqualTo(99L);
+            assertThat(eventCaptor.getValue().getKeyword()).isEqualTo(newKeywordName);
+            assertThat(eventCaptor.getValue().getSourceIds()).containsExactly(3L, 4L);
         }
 
         @Test
@@ -182,6 +203,28 @@ class KeywordServiceTest {
             // save가 호출되지 않았는지 확인
             verify(keywordRepository, never()).save(any());
         }
+        @Test
+        @DisplayName("실패: 형식이 잘못된 키워드 표현식")
+        void addKeyword_fail_invalidExpression() {
+            // When & Then
+            assertThatThrownBy(() -> keywordService.addKeyword(USER_ID, "\"spring boot"))
+                    .isInstanceOf(InvalidKeywordExpressionException.class);
+
+            // 중복 확인이나 저장 없이 거부
+            verify(keywordRepository, never()).existsByNameAndUser(any(), any());
+            verify(keywordRepository, never()).save(any());
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        @DisplayName("실패: 키워드 표현식의 단어 수 초과")
+        void addKeyword_fail_tooManyTerms() {
+            // When & Then
+            assertThatThrownBy(() -> keywordService.addKeyword(USER_ID, "a b c d e -f"))
+                    .isInstanceOf(InvalidKeywordExpressionException.class);
+
+            verify(keywordRepository, never()).save(any());
+        }
     }
 
     @Nested
@@ -210,6 +253,7 @@ class KeywordServiceTest {
             assertThat(result.getIsNotificationEnabled()).isTrue();
             assertThat(existingKeyword.isNotificationEnabled()).isTrue();
             verify(keywordRepository).save(existingKeyword);
+            verifyKeywordChanged(KeywordChangedEventDto.TOGGLED);
         }
 
         @Test
@@ -247,9 +291,18 @@ class KeywordServiceTest {
                     .hasMessageContaining("Keyword");
 
             verify(keywordRepository, never()).save(any());
+            verify(eventPublisher, never()).publishEvent(any());
         }
     }
 
+    private void verifyKeywordChanged(String type) {
+        ArgumentCaptor<KeywordChangedEventDto> eventCaptor = ArgumentCaptor.forClass(KeywordChangedEventDto.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getUserId()).isEqualTo(USER_ID);
+        assertThat(eventCaptor.getValue().getKeywordId()).isEqualTo(KEYWORD_ID);
+        assertThat(eventCaptor.getValue().getType()).isEqualTo(type);
+    }
+
     @Nested
     @DisplayName("deleteKeyword (키워드 삭제)")
     class DeleteKeyword {
@@ -274,6 +327,7 @@ class KeywordServiceTest {
             // Then
             // delete 메서드가 올바른 객체를 인자로 받아 호출되었는지 확인
             verify(keywordRepository, times(1)).delete(existingKeyword);
+            verifyKeywordChanged(KeywordChangedEventDto.REMOVED);
         }
 
         @Test
@@ -289,6 +343,7 @@ class KeywordServiceTest {
 
             // delete가 호출되지 않았는지 확인
             verify(keywordRepository, never()).delete(any());
+            verify(eventPublisher, never()).publishEvent(any());
         }
     }
 
@@ -368,4 +423,27 @@ class KeywordServiceTest {
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("알림이 켜진 전체 키워드 조회")
+    class GetNotificationEnabledKeywords {
+
+        @Test
+        @DisplayName("성공: 리포지토리 조회 결과를 그대로 반환")
+        void getNotificationEnabledKeywords_success() {
+            // Given
+            List<KeywordSubscriptionDto> subscriptions = List.of(
+                    KeywordSubscriptionDto.builder().userId(1L).name("Java").build(),
+                    KeywordSubscriptionDto.builder().userId(2L).name("Spring Boot").build()
+            );
+            when(keywordRepository.findAllNotificationEnabled()).thenReturn(subscriptions);
+
+            // When
+            List<KeywordSubscriptionDto> result = keywordService.getNotificationEnabledKeywords();
+
+            // Then
+            assertThat(result).isEqualTo(subscriptions);
+            verify(keywordRepository, times(1)).findAllNotificationEnabled();
+        }
+    }
+
+}
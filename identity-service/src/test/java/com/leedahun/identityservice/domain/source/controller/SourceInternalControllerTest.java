@@ -54,4 +54,22 @@ class SourceInternalControllerTest {
 
         verify(sourceService).getActiveSourcesByUser(userId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("[GET /internal/sources/{sourceId}/subscribers] 소스를 구독 중인 유저 ID 목록을 반환한다")
+    void getSubscriberIds_success() throws Exception {
+        // given
+        Long sourceId = 1L;
+        when(sourceService.getSubscriberIds(sourceId)).thenReturn(List.of(10L, 20L));
+
+        // when & then
+        mockMvc.perform(get("/internal/sources/{sourceId}/subscribers", sourceId)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(2))
+                .andExpect(jsonPath("$[0]").value(10L))
+                .andExpect(jsonPath("$[1]").value(20L));
+
+        verify(sourceService).getSubscriberIds(sourceId);
+    }
+}
@@ -253,4 +253,48 @@ class UserSourceRepositoryTest {
         assertThat(result2).hasSize(1);
         assertThat(result2.get(0).getSource().getUrl()).contains("java");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("소스를 구독 중인 유저 ID만 오름차순으로 조회한다")
+    void findSubscriberIdsBySourceId_Success() {
+        // given
+        User user1 = userRepository.save(User.builder().email("user1@test.com").password("password").username("user1").build());
+        User user2 = userRepository.save(User.builder().email("user2@test.com").password("password").username("user2").build());
+        User user3 = userRepository.save(User.builder().email("user3@test.com").password("password").username("user3").build());
+
+        Source source1 = sourceRepository.save(Source.builder().url("https://blog1.com/rss").build());
+        Source source2 = sourceRepository.save(Source.builder().url("https://blog2.com/rss").build());
+
+        userSourceRepository.save(UserSource.builder().user(user2).source(source1).userDefinedName("블로그1").build());
+        userSourceRepository.save(UserSource.builder().user(user1).source(source1).userDefinedName("블로그1").build());
+        userSourceRepository.save(UserSource.builder().user(user3).source(source2).userDefinedName("블로그2").build());
+
+        // when
+        List<Long> result = userSourceRepository.findSubscriberIdsBySourceId(source1.getId());
+
+        // then
+        assertThat(result).containsExactly(user1.getId(), user2.getId());
+    }
+
+    @Test
+    @DisplayName("유저가 구독 중인 소스 ID만 조회한다")
+    void findSourceIdsByUserId_Success() {
+        // given
+        User user1 = userRepository.save(User.builder().email("user1@test.com").password("password").username("user1").build());
+        User user2 = userRepository.save(User.builder().email("user2@test.com").password("password").username("user2").build());
+
+        Source source1 = sourceRepository.save(Source.builder().url("https://blog1.com/rss").build());
+        Source source2 = sourceRepository.save(Source.builder().url("https://blog2.com/rss").build());
+        Source source3 = sourceRepository.save(Source.builder().url("https://blog3.com/rss").build());
+
+        userSourceRepository.save(UserSource.builder().user(user1).source(source1).userDefinedName("블로그1").build());
+        userSourceRepository.save(UserSource.builder().user(user1).source(source2).userDefinedName("블로그2").build());
+        userSourceRepository.save(UserSource.builder().user(user2).source(source3).userDefinedName("블로그3").build());
+
+        // when
+        List<Long> result = userSourceRepository.findSourceIdsByUserId(user1.getId());
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(source1.getId(), source2.getId());
+    }
+}
@@ -15,16 +15,19 @@ import com.leedahun.identityservice.domain.source.repository.UserSourceRepositor
 import com.leedahun.identityservice.domain.source.validator.RobotsTxtValidator;
 import com.leedahun.identityservice.domain.source.validator.RssFeedValidator;
 import com.leedahun.identityservice.domain.source.validator.UrlValidator;
+import com.leedahun.identityservice.infra.kafka.dto.UserSourceChangedEventDto;
 import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.io.IOException;
 import java.util.List;
@@ -61,6 +64,9 @@ class SourceServiceImplTest {
     @Mock
     private RssFeedValidator rssFeedValidator;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private final Long USER_ID = 1L;
     private final String INPUT_URL = "https://d2.naver.com";
     private final String RSS_URL = "https://d2.naver.com/d2.atom";
@@ -153,6 +159,7 @@ class SourceServiceImplTest {
             verify(urlValidator).validate(INPUT_URL);
             verify(robotsTxtValidator).isAllowedToCrawl(RSS_URL);
             verify(rssFeedValidator).canParseFeed(RSS_URL);
+            verifyUserSourceChanged(null, 100L, UserSourceChangedEventDto.ADDED);
         }
     }
 
@@ -254,12 +261,13 @@ class SourceServiceImplTest {
     @DisplayName("소스 구독 취소 성공")
     void removeUserSource_Success() {
         Long userSourceId = 10L;
-        UserSource userSource = UserSource.builder().id(userSourceId).build();
+        UserSource userSource = UserSource.builder().id(userSourceId).source(Source.builder().id(100L).url(RSS_URL).build()).build();
         when(userSourceRepository.findByIdAndUserId(userSourceId, USER_ID)).thenReturn(Optional.of(userSource));
 
         sourceService.removeUserSource(USER_ID, userSourceId);
 
         verify(userSourceRepository).delete(userSource);
+        verifyUserSourceChanged(userSourceId, 100L, UserSourceChangedEventDto.REMOVED);
     }
 
     @Test
@@ -325,6 +333,7 @@ class SourceServiceImplTest {
         // then
         assertThat(result.getReceiveFeed()).isFalse();
         assertThat(userSource.getReceiveFeed()).isFalse();
+        verifyUserSourceChanged(userSourceId, 100L, UserSourceChangedEventDto.TOGGLED);
     }
 
     @Test
@@ -340,6 +349,15 @@ class SourceServiceImplTest {
                 .isInstanceOf(EntityNotFoundException.class);
     }
 
+    private void verifyUserSourceChanged(Long userSourceId, Long sourceId, String type) {
+        ArgumentCaptor<UserSourceChangedEventDto> captor = ArgumentCaptor.forClass(UserSourceChangedEventDto.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getUserId()).isEqualTo(USER_ID);
+        assertThat(captor.getValue().getUserSourceId()).isEqualTo(userSourceId);
+        assertThat(captor.getValue().getSourceId()).isEqualTo(sourceId);
+        assertThat(captor.getValue().getType()).isEqualTo(type);
+    }
+
     private void mockJsoupConnection(MockedStatic<Jsoup> jsoupMock, String inputUrl, String detectedRssUrl) {
         try {
             Connection connection = mock(Connection.class);
@@ -363,4 +381,17 @@ class SourceServiceImplTest {
             throw new RuntimeException(e);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("소스 구독자 ID 조회 - 레포지토리 결과를 그대로 반환한다")
+    void getSubscriberIds_Success() {
+        // given
+        when(userSourceRepository.findSubscriberIdsBySourceId(10L)).thenReturn(List.of(1L, 2L));
+
+        // when
+        List<Long> result = sourceService.getSubscriberIds(10L);
+
+        // then
+        assertThat(result).containsExactly(1L, 2L);
+    }
+}
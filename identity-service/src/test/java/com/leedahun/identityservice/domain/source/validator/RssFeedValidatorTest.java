@@ -161,4 +161,86 @@ class RssFeedValidatorTest {
         // then
         assertThat(result).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("성공: application/feed+json 응답의 JSON Feed를 파싱하면 true 반환")
+    void canParseFeed_Success_JsonFeed() {
+        // given
+        String jsonFeed = """
+                {
+                  "version": "https://jsonfeed.org/version/1.1",
+                  "title": "테스트 블로그",
+                  "items": [
+                    { "id": "1", "url": "https://example.com/1", "content_text": "첫 번째 글" }
+                  ]
+                }
+                """;
+
+        stubFor(get(urlEqualTo("/feed.json"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/feed+json")
+                        .withBody(jsonFeed)));
+
+        // when
+        boolean result = rssFeedValidator.canParseFeed(getMockUrl("/feed.json"));
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: Content-Type이 text/plain이어도 본문이 JSON Feed면 true 반환")
+    void canParseFeed_Success_JsonFeedSniffing() {
+        // given
+        String jsonFeed = """
+                {"version": "https://jsonfeed.org/version/1", "items": [{"id": "1"}]}
+                """;
+
+        stubFor(get(urlEqualTo("/feed"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "text/plain")
+                        .withBody(jsonFeed)));
+
+        // when
+        boolean result = rssFeedValidator.canParseFeed(getMockUrl("/feed"));
+
+        // then
+        assertThat(result).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패: JSON Feed 버전이 없는 일반 JSON이면 false 반환")
+    void canParseFeed_Fail_JsonWithoutVersion() {
+        // given
+        stubFor(get(urlEqualTo("/api"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("{\"title\": \"api\", \"items\": []}")));
+
+        // when
+        boolean result = rssFeedValidator.canParseFeed(getMockUrl("/api"));
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("실패: 제목과 항목이 모두 없는 JSON Feed면 false 반환")
+    void canParseFeed_Fail_EmptyJsonFeed() {
+        // given
+        stubFor(get(urlEqualTo("/empty.json"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/feed+json")
+                        .withBody("{\"version\": \"https://jsonfeed.org/version/1.1\", \"items\": []}")));
+
+        // when
+        boolean result = rssFeedValidator.canParseFeed(getMockUrl("/empty.json"));
+
+        // then
+        assertThat(result).isFalse();
+    }
+}
@@ -0,0 +1,102 @@
+package com.leedahun.identityservice.infra.kafka.producer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.identityservice.infra.kafka.dto.KeywordAddedEventDto;
+import com.leedahun.identityservice.infra.kafka.dto.KeywordChangedEventDto;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class KeywordEventProducerTest {
+
+    private static final String TOPIC = "identity.keyword.added";
+    private static final String CHANGED_TOPIC = "identity.keyword.changed";
+
+    @InjectMocks
+    private KeywordEventProducer keywordEventProducer;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(keywordEventProducer, "keywordAddedTopic", TOPIC);
+        ReflectionTestUtils.setField(keywordEventProducer, "keywordChangedTopic", CHANGED_TOPIC);
+    }
+
+    private KeywordAddedEventDto event() {
+        return KeywordAddedEventDto.builder()
+                .userId(1L)
+                .keywordId(10L)
+                .keyword("kafka")
+                .sourceIds(List.of(3L))
+                .build();
+    }
+
+    @Test
+    @DisplayName("유저 ID를 키로 키워드 추가 이벤트를 전송한다")
+    void publishKeywordAdded_Success() throws JsonProcessingException {
+        // given
+        KeywordAddedEventDto event = event();
+        when(objectMapper.writeValueAsString(event)).thenReturn("json");
+        when(kafkaTemplate.send(TOPIC, "1", "json")).thenReturn(new CompletableFuture<>());
+
+        // when
+        keywordEventProducer.publishKeywordAdded(event);
+
+        // then
+        verify(kafkaTemplate).send(TOPIC, "1", "json");
+    }
+
+    @Test
+    @DisplayName("JSON 변환에 실패하면 예외 없이 전송하지 않는다")
+    void publishKeywordAdded_SerializationFailure() throws JsonProcessingException {
+        // given
+        KeywordAddedEventDto event = event();
+        when(objectMapper.writeValueAsString(any())).thenThrow(new JsonProcessingException("fail") {});
+
+        // when
+        keywordEventProducer.publishKeywordAdded(event);
+
+        // then
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("유저 ID를 키로 키워드 변경 이벤트를 전송한다")
+    void publishKeywordChanged_Success() throws JsonProcessingException {
+        // given
+        KeywordChangedEventDto event = KeywordChangedEventDto.builder()
+                .userId(1L)
+                .keywordId(10L)
+                .type(KeywordChangedEventDto.REMOVED)
+                .build();
+        when(objectMapper.writeValueAsString(event)).thenReturn("json");
+        when(kafkaTemplate.send(CHANGED_TOPIC, "1", "json")).thenReturn(new CompletableFuture<>());
+
+        // when
+        keywordEventProducer.publishKeywordChanged(event);
+
+        // then
+        verify(kafkaTemplate).send(CHANGED_TOPIC, "1", "json");
+    }
+}
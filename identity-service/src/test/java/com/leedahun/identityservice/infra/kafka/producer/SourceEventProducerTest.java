@@ -0,0 +1,79 @@
+package com.leedahun.identityservice.infra.kafka.producer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.identityservice.infra.kafka.dto.UserSourceChangedEventDto;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class SourceEventProducerTest {
+
+    private static final String TOPIC = "identity.user-source.changed";
+
+    @InjectMocks
+    private SourceEventProducer sourceEventProducer;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(sourceEventProducer, "userSourceChangedTopic", TOPIC);
+    }
+
+    private UserSourceChangedEventDto event() {
+        return UserSourceChangedEventDto.builder()
+                .userId(1L)
+                .userSourceId(10L)
+                .sourceId(100L)
+                .type(UserSourceChangedEventDto.TOGGLED)
+                .build();
+    }
+
+    @Test
+    @DisplayName("유저 ID를 키로 구독 소스 변경 이벤트를 전송한다")
+    void publishUserSourceChanged_Success() throws JsonProcessingException {
+        // given
+        UserSourceChangedEventDto event = event();
+        when(objectMapper.writeValueAsString(event)).thenReturn("json");
+        when(kafkaTemplate.send(TOPIC, "1", "json")).thenReturn(new CompletableFuture<>());
+
+        // when
+        sourceEventProducer.publishUserSourceChanged(event);
+
+        // then
+        verify(kafkaTemplate).send(TOPIC, "1", "json");
+    }
+
+    @Test
+    @DisplayName("JSON 변환에 실패하면 예외 없이 전송하지 않는다")
+    void publishUserSourceChanged_SerializationFailure() throws JsonProcessingException {
+        // given
+        UserSourceChangedEventDto event = event();
+        when(objectMapper.writeValueAsString(any())).thenThrow(new JsonProcessingException("fail") {});
+
+        // when
+        sourceEventProducer.publishUserSourceChanged(event);
+
+        // then
+        verify(kafkaTemplate, never()).send(anyString(), anyString(), anyString());
+    }
+}
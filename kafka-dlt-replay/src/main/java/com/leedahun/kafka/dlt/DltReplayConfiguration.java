@@ -0,0 +1,16 @@
+package com.leedahun.kafka.dlt;
+
+import com.leedahun.kafka.dlt.controller.DltReplayController;
+import com.leedahun.kafka.dlt.service.impl.DltReplayServiceImpl;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * DLT 재처리 API(/internal/dlt/replay)와 재처리 작업 등록
+ * 서비스의 기본 패키지 밖에 있어 컴포넌트 스캔에 걸리지 않으므로 각 서비스 설정에서 @Import 한다.
+ * 필요한 설정: app.kafka.dlt-replay.group-id, app.kafka.dlt-replay.topics (rate-per-second, max-rate-per-second 는 선택)
+ */
+@Configuration
+@Import({DltReplayServiceImpl.class, DltReplayController.class})
+public class DltReplayConfiguration {
+}
@@ -0,0 +1,62 @@
+package com.leedahun.kafka.dlt;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.support.KafkaHeaders;
+
+/**
+ * DLT 메시지를 원래 토픽으로 다시 보낼 때 사용하는 헤더 처리
+ */
+public final class DltReplayHeaders {
+
+    public static final String REPLAYED = "x-dlt-replayed";  // DLT에서 재처리된 메시지 표시
+
+    // DLT 전송 시 스프링이 붙이는 헤더 (kafka_dlt-*) 와 @RetryableTopic 재시도 헤더 (retry_topic-*)
+    private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+    private static final String RETRY_HEADER_PREFIX = "retry_topic-";
+
+    private DltReplayHeaders() {
+    }
+
+    /**
+     * 원본 헤더(신선도 시각 등)만 남기고 DLT/재시도 헤더는 버린 뒤 재처리 표시를 추가
+     * 재시도 횟수 헤더를 버리므로 재처리된 메시지도 처음부터 다시 재시도된다.
+     */
+    public static Headers forReplay(Headers dltHeaders) {
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : dltHeaders) {
+            if (header.key().startsWith(DLT_HEADER_PREFIX) || header.key().startsWith(RETRY_HEADER_PREFIX)) {
+                continue;
+            }
+            headers.add(header);
+        }
+        headers.remove(REPLAYED);
+        headers.add(REPLAYED, "true".getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+    public static boolean isReplayed(Headers headers) {
+        return headers.lastHeader(REPLAYED) != null;
+    }
+
+    /**
+     * 실패 원인 예외 클래스 이름 (예외, 원인 예외 순서, 없으면 null)
+     */
+    public static String exceptionClassName(Headers headers) {
+        return value(headers, KafkaHeaders.DLT_EXCEPTION_FQCN);
+    }
+
+    public static String causeClassName(Headers headers) {
+        return value(headers, KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN);
+    }
+
+    private static String value(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        if (header == null || header.value() == null) {
+            return null;
+        }
+        return new String(header.value(), StandardCharsets.UTF_8);
+    }
+}
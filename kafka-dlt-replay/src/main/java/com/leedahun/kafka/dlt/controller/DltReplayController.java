@@ -0,0 +1,69 @@
+package com.leedahun.kafka.dlt.controller;
+
+import com.leedahun.kafka.dlt.dto.DltReplayRequestDto;
+import com.leedahun.kafka.dlt.dto.DltReplayResponse;
+import com.leedahun.kafka.dlt.dto.DltReplayStatusDto;
+import com.leedahun.kafka.dlt.exception.DltReplayException;
+import com.leedahun.kafka.dlt.exception.DltReplayJobNotFoundException;
+import com.leedahun.kafka.dlt.service.DltReplayService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/internal/dlt/replay")
+@RequiredArgsConstructor
+public class DltReplayController {
+
+    private static final String STARTED = "DLT 재처리를 시작하였습니다.";
+    private static final String READ_SUCCESS = "조회에 성공하였습니다.";
+    private static final String CANCELLED = "DLT 재처리 중단을 요청하였습니다.";
+
+    private final DltReplayService dltReplayService;
+
+    /**
+     * DLT 재처리 시작 (dryRun 이면 대상 건수만 셈)
+     */
+    @PostMapping
+    public ResponseEntity<?> replay(@RequestBody DltReplayRequestDto request) {
+        DltReplayStatusDto status = dltReplayService.start(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new DltReplayResponse(HttpStatus.ACCEPTED, STARTED, status));
+    }
+
+    /**
+     * 마지막 재처리 작업 진행 상황 조회
+     */
+    @GetMapping
+    public ResponseEntity<?> getStatus() {
+        DltReplayStatusDto status = dltReplayService.getStatus()
+                .orElseThrow(DltReplayJobNotFoundException::new);
+        return ResponseEntity.ok()
+                .body(new DltReplayResponse(HttpStatus.OK, READ_SUCCESS, status));
+    }
+
+    /**
+     * 진행 중인 재처리 작업 중단
+     */
+    @DeleteMapping
+    public ResponseEntity<?> cancel() {
+        DltReplayStatusDto status = dltReplayService.cancel()
+                .orElseThrow(DltReplayJobNotFoundException::new);
+        return ResponseEntity.ok()
+                .body(new DltReplayResponse(HttpStatus.OK, CANCELLED, status));
+    }
+
+    @ExceptionHandler(DltReplayException.class)
+    public ResponseEntity<?> dltReplayExceptionHandler(DltReplayException e) {
+        return ResponseEntity
+                .status(e.getStatus())
+                .body(new DltReplayResponse(e.getStatus(), e.getMessage(), null));
+    }
+}
@@ -0,0 +1,25 @@
+package com.leedahun.kafka.dlt.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DLT 재처리 요청
+ * topic 의 DLT("{topic}.dlt")에서 조건에 맞는 메시지를 topic 으로 다시 보낸다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DltReplayRequestDto {
+    private String topic;               // 원래 토픽
+    private LocalDateTime from;         // DLT에 들어간 시각 범위 (없으면 처음부터)
+    private LocalDateTime to;           // (없으면 작업 시작 시점까지)
+    private String exceptionType;       // 실패 예외 클래스 (전체 이름 또는 단순 이름, 원인 예외도 검사)
+    private Long limit;                 // 최대 재처리 건수
+    private Integer ratePerSecond;      // 초당 재전송 건수 (없으면 기본값)
+    private boolean dryRun;             // true 면 보내지 않고 대상 건수만 셈
+}
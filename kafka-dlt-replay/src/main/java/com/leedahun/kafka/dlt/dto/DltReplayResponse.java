@@ -0,0 +1,22 @@
+package com.leedahun.kafka.dlt.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+/**
+ * DLT 재처리 API 응답 (각 서비스의 HttpResponse 와 같은 status/message/data 형태)
+ */
+@Getter
+@NoArgsConstructor
+public class DltReplayResponse {
+    private int status;
+    private String message;
+    private Object data;
+
+    public DltReplayResponse(HttpStatus status, String message, Object data) {
+        this.status = status.value();
+        this.message = message;
+        this.data = data;
+    }
+}
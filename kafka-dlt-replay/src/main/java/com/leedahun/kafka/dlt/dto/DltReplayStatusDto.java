@@ -0,0 +1,36 @@
+package com.leedahun.kafka.dlt.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DLT 재처리 작업 진행 상황
+ * total 은 작업 시작 시점에 읽어야 할 DLT 메시지 수, scanned 는 그중 읽은 수
+ * matched 는 조건에 맞은 수(dry-run 이면 보낼 대상 수), replayed/failed 는 재전송 성공/실패 수
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DltReplayStatusDto {
+
+    public enum State {
+        RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    private String jobId;
+    private String topic;
+    private boolean dryRun;
+    private State state;
+    private long total;
+    private long scanned;
+    private long matched;
+    private long replayed;
+    private long failed;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
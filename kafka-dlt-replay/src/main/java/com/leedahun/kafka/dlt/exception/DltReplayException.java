@@ -0,0 +1,18 @@
+package com.leedahun.kafka.dlt.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * DLT 재처리 요청 처리 중 발생한 예외
+ * 서비스마다 다른 공통 예외(CustomException)를 참조할 수 없으므로 응답 상태를 직접 들고 있고, DltReplayController 에서 응답으로 바꾼다.
+ */
+@Getter
+public abstract class DltReplayException extends RuntimeException {
+    private final HttpStatus status;
+
+    public DltReplayException(String message, HttpStatus status) {
+        super(message);
+        this.status = status;
+    }
+}
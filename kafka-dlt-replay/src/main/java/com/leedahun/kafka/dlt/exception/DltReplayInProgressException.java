@@ -0,0 +1,13 @@
+package com.leedahun.kafka.dlt.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class DltReplayInProgressException extends DltReplayException {
+
+    private static final String MESSAGE = "이미 진행 중인 DLT 재처리 작업이 있습니다. ";
+
+    public DltReplayInProgressException(String jobId) {
+        super(MESSAGE + jobId, HttpStatus.CONFLICT);
+    }
+
+}
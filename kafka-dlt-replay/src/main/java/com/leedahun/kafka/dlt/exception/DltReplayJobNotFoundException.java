@@ -0,0 +1,13 @@
+package com.leedahun.kafka.dlt.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class DltReplayJobNotFoundException extends DltReplayException {
+
+    private static final String MESSAGE = "데이터가 존재하지 않습니다. DltReplayJob: latest";
+
+    public DltReplayJobNotFoundException() {
+        super(MESSAGE, HttpStatus.CONFLICT);
+    }
+
+}
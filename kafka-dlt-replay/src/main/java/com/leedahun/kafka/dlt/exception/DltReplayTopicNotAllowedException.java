@@ -0,0 +1,13 @@
+package com.leedahun.kafka.dlt.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class DltReplayTopicNotAllowedException extends DltReplayException {
+
+    private static final String MESSAGE = "재처리할 수 없는 토픽입니다. ";
+
+    public DltReplayTopicNotAllowedException(String topic) {
+        super(MESSAGE + topic, HttpStatus.BAD_REQUEST);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.leedahun.kafka.dlt.service;
+
+import com.leedahun.kafka.dlt.dto.DltReplayRequestDto;
+import com.leedahun.kafka.dlt.dto.DltReplayStatusDto;
+import java.util.Optional;
+
+public interface DltReplayService {
+
+    DltReplayStatusDto start(DltReplayRequestDto request);
+
+    Optional<DltReplayStatusDto> getStatus();
+
+    Optional<DltReplayStatusDto> cancel();
+
+}
@@ -0,0 +1,395 @@
+package com.leedahun.kafka.dlt.service.impl;
+
+import com.leedahun.kafka.dlt.DltReplayHeaders;
+import com.leedahun.kafka.dlt.dto.DltReplayRequestDto;
+import com.leedahun.kafka.dlt.dto.DltReplayStatusDto;
+import com.leedahun.kafka.dlt.dto.DltReplayStatusDto.State;
+import com.leedahun.kafka.dlt.exception.DltReplayInProgressException;
+import com.leedahun.kafka.dlt.exception.DltReplayTopicNotAllowedException;
+import com.leedahun.kafka.dlt.service.DltReplayService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * DLT("{토픽}.dlt") 메시지를 원래 토픽으로 다시 보내는 재처리 작업
+ * - 작업은 한 번에 하나만 실행하며 별도 스레드에서 DLT 파티션을 직접 assign 해서 읽는다. (컨슈머 그룹 오프셋은 커밋하지 않음)
+ * - 작업 시작 시점의 끝 오프셋까지만 읽으므로, 재처리 중 다시 실패해 DLT로 들어온 메시지는 이번 작업에서 다시 보내지 않는다.
+ * - DLT에 들어간 시각 범위와 실패 예외 클래스로 대상을 거르고, 초당 rate 건으로 속도를 제한해 막 복구된 서비스에 부하가 몰리지 않게 한다.
+ * - dry-run 이면 보내지 않고 대상 건수만 센다.
+ * 진행 상황은 keyfeed.dlt.replay(결과별 건수) 카운터와 keyfeed.dlt.replay.remaining(남은 건수) 게이지로 노출한다.
+ * 재처리할 수 있는 토픽(app.kafka.dlt-replay.topics)과 DLT를 읽을 컨슈머 그룹(app.kafka.dlt-replay.group-id)은 서비스마다 설정한다.
+ */
+@Slf4j
+@Service
+public class DltReplayServiceImpl implements DltReplayService, DisposableBean {
+
+    private static final String DLT_SUFFIX = ".dlt";
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    private static final String METRIC_NAME = "keyfeed.dlt.replay";
+    private static final String REMAINING_METRIC_NAME = "keyfeed.dlt.replay.remaining";
+    private static final String RESULT_REPLAYED = "replayed";
+    private static final String RESULT_FAILED = "failed";
+    private static final String RESULT_DRY_RUN = "dry_run";
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Executor executor;
+    private final String groupId;
+    private final Set<String> allowedTopics;
+    private final int defaultRatePerSecond;
+    private final int maxRatePerSecond;
+
+    private final AtomicReference<Job> current = new AtomicReference<>();
+
+    @Autowired
+    public DltReplayServiceImpl(ConsumerFactory<String, String> consumerFactory,
+                                KafkaTemplate<String, String> kafkaTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.kafka.dlt-replay.group-id}") String groupId,
+                                @Value("${app.kafka.dlt-replay.topics}") List<String> allowedTopics,
+                                @Value("${app.kafka.dlt-replay.rate-per-second:50}") int defaultRatePerSecond,
+                                @Value("${app.kafka.dlt-replay.max-rate-per-second:500}") int maxRatePerSecond) {
+        this(consumerFactory, kafkaTemplate, meterRegistry, groupId, allowedTopics, defaultRatePerSecond, maxRatePerSecond,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "dlt-replay");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    DltReplayServiceImpl(ConsumerFactory<String, String> consumerFactory, KafkaTemplate<String, String> kafkaTemplate,
+                         MeterRegistry meterRegistry, String groupId, List<String> allowedTopics,
+                         int defaultRatePerSecond, int maxRatePerSecond, Executor executor) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+        this.groupId = groupId;
+        this.allowedTopics = Set.copyOf(allowedTopics);
+        this.defaultRatePerSecond = defaultRatePerSecond;
+        this.maxRatePerSecond = maxRatePerSecond;
+        this.executor = executor;
+
+        Gauge.builder(REMAINING_METRIC_NAME, current, ref -> {
+                    Job job = ref.get();
+                    return job == null || job.state != State.RUNNING ? 0 : job.total.get() - job.scanned.get();
+                })
+                .description("진행 중인 DLT 재처리 작업에서 아직 읽지 않은 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 재처리 작업 시작 (진행 중인 작업이 있으면 거절)
+     */
+    @Override
+    public DltReplayStatusDto start(DltReplayRequestDto request) {
+        String topic = request.getTopic();
+        if (topic == null || !allowedTopics.contains(topic)) {
+            throw new DltReplayTopicNotAllowedException(topic);
+        }
+
+        Job running = current.get();
+        if (running != null && running.state == State.RUNNING) {
+            throw new DltReplayInProgressException(running.id);
+        }
+        Job job = new Job(request, resolveRate(request.getRatePerSecond()));
+        if (!current.compareAndSet(running, job)) {
+            throw new DltReplayInProgressException(current.get().id);
+        }
+
+        log.info("DLT 재처리 시작 - 작업: {}, 토픽: {}, 범위: {} ~ {}, 예외: {}, 최대: {}건, 초당: {}건, dry-run: {}",
+                job.id, job.topic, request.getFrom(), request.getTo(), job.exceptionType, job.limit, job.ratePerSecond, job.dryRun);
+        executor.execute(() -> run(job));
+        return job.toDto();
+    }
+
+    @Override
+    public Optional<DltReplayStatusDto> getStatus() {
+        return Optional.ofNullable(current.get()).map(Job::toDto);
+    }
+
+    /**
+     * 진행 중인 작업 중단 요청 (지금 처리 중인 메시지까지 보내고 멈춤)
+     */
+    @Override
+    public Optional<DltReplayStatusDto> cancel() {
+        Job job = current.get();
+        if (job == null) {
+            return Optional.empty();
+        }
+        job.cancelled = true;
+        return Optional.of(job.toDto());
+    }
+
+    @Override
+    public void destroy() {
+        Job job = current.get();
+        if (job != null) {
+            job.cancelled = true;
+        }
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void run(Job job) {
+        Properties properties = new Properties();
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        try (Consumer<String, String> consumer = consumerFactory.createConsumer(groupId, null, "-" + job.id, properties)) {
+            replay(consumer, job);
+            job.finish(job.cancelled ? State.CANCELLED : State.COMPLETED, null);
+        } catch (Exception e) {
+            log.error("DLT 재처리 실패 - 작업: {}: {}", job.id, e.getMessage(), e);
+            job.finish(State.FAILED, e.getMessage());
+        }
+        log.info("DLT 재처리 종료 - 작업: {}, 상태: {}, 읽음: {}/{}, 대상: {}, 재전송: {}, 실패: {}",
+                job.id, job.state, job.scanned.get(), job.total.get(), job.matched.get(), job.replayed.get(), job.failed.get());
+    }
+
+    private void replay(Consumer<String, String> consumer, Job job) {
+        String dltTopic = job.topic + DLT_SUFFIX;
+        List<PartitionInfo> partitionInfos = consumer.partitionsFor(dltTopic);
+        if (partitionInfos == null || partitionInfos.isEmpty()) {
+            log.info("DLT 토픽이 없거나 비어 있음: {}", dltTopic);
+            return;
+        }
+
+        List<TopicPartition> partitions = partitionInfos.stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+        consumer.assign(partitions);
+
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+        Map<TopicPartition, Long> startOffsets = startOffsets(consumer, partitions, endOffsets, job.fromMillis);
+
+        Set<TopicPartition> remaining = new HashSet<>();
+        for (TopicPartition partition : partitions) {
+            long start = startOffsets.get(partition);
+            long end = endOffsets.get(partition);
+            if (start < end) {
+                consumer.seek(partition, start);
+                remaining.add(partition);
+                job.total.addAndGet(end - start);
+            }
+        }
+
+        RateLimiter rateLimiter = new RateLimiter(job.ratePerSecond);
+        while (!remaining.isEmpty() && !job.isStopped()) {
+            ConsumerRecords<String, String> records = consumer.poll(POLL_TIMEOUT);
+            for (ConsumerRecord<String, String> record : records) {
+                TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                // 작업 시작 이후 DLT에 들어온 메시지는 제외
+                if (!remaining.contains(partition) || record.offset() >= endOffsets.get(partition)) {
+                    continue;
+                }
+                if (job.isStopped()) {
+                    break;
+                }
+                job.scanned.incrementAndGet();
+                if (!matches(job, record)) {
+                    continue;
+                }
+                job.matched.incrementAndGet();
+
+                if (job.dryRun) {
+                    count(job.topic, RESULT_DRY_RUN);
+                    continue;
+                }
+                rateLimiter.acquire();
+                send(job, record);
+            }
+            remaining.removeIf(partition -> consumer.position(partition) >= endOffsets.get(partition));
+        }
+    }
+
+    // from 이 있으면 그 시각 이후 첫 오프셋부터, 없으면 처음부터
+    private Map<TopicPartition, Long> startOffsets(Consumer<String, String> consumer, List<TopicPartition> partitions,
+                                                   Map<TopicPartition, Long> endOffsets, Long fromMillis) {
+        if (fromMillis == null) {
+            return consumer.beginningOffsets(partitions);
+        }
+
+        Map<TopicPartition, Long> timestamps = new HashMap<>();
+        partitions.forEach(partition -> timestamps.put(partition, fromMillis));
+        Map<TopicPartition, OffsetAndTimestamp> found = consumer.offsetsForTimes(timestamps);
+
+        Map<TopicPartition, Long> result = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            OffsetAndTimestamp offset = found.get(partition);
+            result.put(partition, offset == null ? endOffsets.get(partition) : offset.offset());
+        }
+        return result;
+    }
+
+    private boolean matches(Job job, ConsumerRecord<String, String> record) {
+        if (job.fromMillis != null && record.timestamp() < job.fromMillis) {
+            return false;
+        }
+        if (job.toMillis != null && record.timestamp() > job.toMillis) {
+            return false;
+        }
+        if (job.exceptionType == null) {
+            return true;
+        }
+        return isExceptionType(DltReplayHeaders.exceptionClassName(record.headers()), job.exceptionType)
+                || isExceptionType(DltReplayHeaders.causeClassName(record.headers()), job.exceptionType);
+    }
+
+    // 전체 이름 또는 단순 이름으로 비교
+    private boolean isExceptionType(String className, String type) {
+        return className != null && (className.equals(type) || className.endsWith("." + type));
+    }
+
+    private void send(Job job, ConsumerRecord<String, String> record) {
+        ProducerRecord<String, String> replay = new ProducerRecord<>(
+                job.topic, null, record.key(), record.value(), DltReplayHeaders.forReplay(record.headers()));
+        try {
+            kafkaTemplate.send(replay).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            job.replayed.incrementAndGet();
+            count(job.topic, RESULT_REPLAYED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.cancelled = true;
+            job.failed.incrementAndGet();
+            count(job.topic, RESULT_FAILED);
+        } catch (Exception e) {
+            log.warn("DLT 메시지 재전송 실패 (partition: {}, offset: {}): {}", record.partition(), record.offset(), e.getMessage());
+            job.failed.incrementAndGet();
+            count(job.topic, RESULT_FAILED);
+        }
+    }
+
+    private void count(String topic, String result) {
+        Counter.builder(METRIC_NAME)
+                .description("DLT 재처리 결과별 메시지 수")
+                .tag("topic", topic)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private int resolveRate(Integer requested) {
+        int rate = requested == null ? defaultRatePerSecond : requested;
+        return Math.max(1, Math.min(rate, maxRatePerSecond));
+    }
+
+    private static Long toEpochMillis(LocalDateTime time) {
+        return time == null ? null : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static final class Job {
+        private final String id = UUID.randomUUID().toString();
+        private final String topic;
+        private final Long fromMillis;
+        private final Long toMillis;
+        private final String exceptionType;
+        private final Long limit;
+        private final int ratePerSecond;
+        private final boolean dryRun;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong scanned = new AtomicLong();
+        private final AtomicLong matched = new AtomicLong();
+        private final AtomicLong replayed = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+
+        private volatile State state = State.RUNNING;
+        private volatile boolean cancelled;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        private Job(DltReplayRequestDto request, int ratePerSecond) {
+            this.topic = request.getTopic();
+            this.fromMillis = toEpochMillis(request.getFrom());
+            this.toMillis = toEpochMillis(request.getTo());
+            this.exceptionType = StringUtils.hasText(request.getExceptionType()) ? request.getExceptionType().strip() : null;
+            this.limit = request.getLimit();
+            this.ratePerSecond = ratePerSecond;
+            this.dryRun = request.isDryRun();
+        }
+
+        // 중단 요청을 받았거나 최대 건수를 채움
+        private boolean isStopped() {
+            return cancelled || (limit != null && matched.get() >= limit);
+        }
+
+        private void finish(State state, String error) {
+            this.error = error;
+            this.finishedAt = LocalDateTime.now();
+            this.state = state;
+        }
+
+        private DltReplayStatusDto toDto() {
+            return DltReplayStatusDto.builder()
+                    .jobId(id)
+                    .topic(topic)
+                    .dryRun(dryRun)
+                    .state(state)
+                    .total(total.get())
+                    .scanned(scanned.get())
+                    .matched(matched.get())
+                    .replayed(replayed.get())
+                    .failed(failed.get())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+
+    // 요청 간격을 1/rate 초로 맞추는 단순 속도 제한 (재처리 스레드 하나에서만 사용)
+    private static final class RateLimiter {
+        private final long intervalNanos;
+        private long nextAt = System.nanoTime();
+
+        private RateLimiter(int ratePerSecond) {
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        }
+
+        private void acquire() {
+            long now = System.nanoTime();
+            if (nextAt > now) {
+                LockSupport.parkNanos(nextAt - now);
+            }
+            nextAt = Math.max(now, nextAt) + intervalNanos;
+        }
+    }
+}
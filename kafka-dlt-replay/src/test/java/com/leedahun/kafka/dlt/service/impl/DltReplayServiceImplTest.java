@@ -0,0 +1,286 @@
+package com.leedahun.kafka.dlt.service.impl;
+
+import com.leedahun.kafka.dlt.DltReplayHeaders;
+import com.leedahun.kafka.dlt.dto.DltReplayRequestDto;
+import com.leedahun.kafka.dlt.dto.DltReplayStatusDto;
+import com.leedahun.kafka.dlt.exception.DltReplayInProgressException;
+import com.leedahun.kafka.dlt.exception.DltReplayTopicNotAllowedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DltReplayServiceImplTest {
+
+    private static final String GROUP_ID = "service.dlt.replay";
+    private static final String TOPIC = "service.event.created";
+    private static final String DLT_TOPIC = TOPIC + ".dlt";
+    private static final TopicPartition PARTITION = new TopicPartition(DLT_TOPIC, 0);
+    private static final String ORIGIN_HEADER = "x-origin";   // 원본 메시지에 붙어 있던 헤더 (재처리 시 유지)
+    private static final String LISTENER_EXCEPTION = "org.springframework.kafka.listener.ListenerExecutionFailedException";
+    private static final String JSON_EXCEPTION = "com.fasterxml.jackson.core.JsonParseException";
+
+    @Mock
+    private ConsumerFactory<String, String> consumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private Consumer<String, String> consumer;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DltReplayServiceImpl dltReplayService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 재처리를 호출 스레드에서 바로 실행해 결과를 결정적으로 확인
+        dltReplayService = new DltReplayServiceImpl(consumerFactory, kafkaTemplate, meterRegistry,
+                GROUP_ID, List.of(TOPIC), 1000, 1000, Runnable::run);
+    }
+
+    private static long millis(String instant) {
+        return Instant.parse(instant).toEpochMilli();
+    }
+
+    private static LocalDateTime localDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private ConsumerRecord<String, String> dltRecord(long offset, long timestamp, String exceptionFqcn) {
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(KafkaHeaders.DLT_EXCEPTION_FQCN, exceptionFqcn.getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, TOPIC.getBytes(StandardCharsets.UTF_8));
+        headers.add("retry_topic-attempts", new byte[]{0, 0, 0, 3});
+        headers.add(ORIGIN_HEADER, "origin".getBytes(StandardCharsets.UTF_8));
+        return new ConsumerRecord<>(DLT_TOPIC, 0, offset, timestamp, TimestampType.CREATE_TIME,
+                -1, -1, "key-" + offset, "value-" + offset, headers, Optional.empty());
+    }
+
+    private void givenDlt(List<ConsumerRecord<String, String>> records) {
+        when(consumerFactory.createConsumer(eq(GROUP_ID), isNull(), anyString(), any(Properties.class)))
+                .thenReturn(consumer);
+        when(consumer.partitionsFor(DLT_TOPIC)).thenReturn(List.of(new PartitionInfo(DLT_TOPIC, 0, null, null, null)));
+        when(consumer.endOffsets(anyCollection())).thenReturn(Map.of(PARTITION, (long) records.size()));
+        lenient().when(consumer.beginningOffsets(anyCollection())).thenReturn(Map.of(PARTITION, 0L));
+        lenient().when(consumer.poll(any(Duration.class))).thenReturn(new ConsumerRecords<>(Map.of(PARTITION, records)));
+        lenient().when(consumer.position(PARTITION)).thenReturn((long) records.size());
+    }
+
+    private void givenSendSucceeds() {
+        doReturn(CompletableFuture.completedFuture(null)).when(kafkaTemplate).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("DLT 메시지를 원래 토픽으로 키와 원본 헤더를 유지한 채 다시 보내고, DLT/재시도 헤더는 버린다")
+    @SuppressWarnings("unchecked")
+    void start_Replay() {
+        // given
+        givenDlt(List.of(dltRecord(0, 1_000L, LISTENER_EXCEPTION), dltRecord(1, 2_000L, JSON_EXCEPTION)));
+        givenSendSucceeds();
+
+        // when
+        DltReplayStatusDto status = dltReplayService.start(DltReplayRequestDto.builder().topic(TOPIC).build());
+
+        // then
+        assertThat(status.getState()).isEqualTo(DltReplayStatusDto.State.COMPLETED);
+        assertThat(status.getTotal()).isEqualTo(2);
+        assertThat(status.getScanned()).isEqualTo(2);
+        assertThat(status.getReplayed()).isEqualTo(2);
+        assertThat(status.getFailed()).isZero();
+
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(captor.capture());
+        ProducerRecord<String, String> replayed = captor.getAllValues().get(0);
+        assertThat(replayed.topic()).isEqualTo(TOPIC);
+        assertThat(replayed.partition()).isNull();
+        assertThat(replayed.key()).isEqualTo("key-0");
+        assertThat(replayed.value()).isEqualTo("value-0");
+        assertThat(DltReplayHeaders.isReplayed(replayed.headers())).isTrue();
+        assertThat(replayed.headers().lastHeader(ORIGIN_HEADER).value()).isEqualTo("origin".getBytes(StandardCharsets.UTF_8));
+        assertThat(replayed.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_FQCN)).isNull();
+        assertThat(replayed.headers().lastHeader("retry_topic-attempts")).isNull();
+
+        verify(consumer).seek(PARTITION, 0L);
+        verify(consumer).close();
+        assertThat(meterRegistry.get("keyfeed.dlt.replay").tag("result", "replayed").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("예외 클래스(단순 이름)로 재처리 대상을 거른다")
+    void start_FilterByExceptionType() {
+        // given
+        givenDlt(List.of(dltRecord(0, 1_000L, LISTENER_EXCEPTION), dltRecord(1, 2_000L, JSON_EXCEPTION)));
+        givenSendSucceeds();
+
+        // when
+        DltReplayStatusDto status = dltReplayService.start(DltReplayRequestDto.builder()
+                .topic(TOPIC)
+                .exceptionType("ListenerExecutionFailedException")
+                .build());
+
+        // then
+        assertThat(status.getScanned()).isEqualTo(2);
+        assertThat(status.getMatched()).isEqualTo(1);
+        verify(kafkaTemplate, times(1)).send(argThat((ProducerRecord<String, String> record) -> "key-0".equals(record.key())));
+    }
+
+    @Test
+    @DisplayName("시작 시각이 있으면 그 시각의 오프셋부터 읽고, 종료 시각 이후 메시지는 제외한다")
+    void start_FilterByTimeRange() {
+        // given
+        long from = millis("2026-01-01T00:00:00Z");
+        long to = millis("2026-01-01T01:00:00Z");
+        List<ConsumerRecord<String, String>> records = List.of(
+                dltRecord(0, from - 1, LISTENER_EXCEPTION),
+                dltRecord(1, from + 10, LISTENER_EXCEPTION),
+                dltRecord(2, to + 10, LISTENER_EXCEPTION));
+        givenDlt(records);
+        when(consumer.offsetsForTimes(Map.of(PARTITION, from))).thenReturn(Map.of(PARTITION, new OffsetAndTimestamp(1L, from + 10)));
+        lenient().when(consumer.poll(any(Duration.class))).thenReturn(new ConsumerRecords<>(Map.of(PARTITION, records.subList(1, 3))));
+        givenSendSucceeds();
+
+        // when
+        DltReplayStatusDto status = dltReplayService.start(DltReplayRequestDto.builder()
+                .topic(TOPIC)
+                .from(localDateTime(from))
+                .to(localDateTime(to))
+                .build());
+
+        // then
+        verify(consumer).seek(PARTITION, 1L);
+        assertThat(status.getTotal()).isEqualTo(2);
+        assertThat(status.getReplayed()).isEqualTo(1);
+        verify(kafkaTemplate, times(1)).send(argThat((ProducerRecord<String, String> record) -> "key-1".equals(record.key())));
+    }
+
+    @Test
+    @DisplayName("dry-run 이면 보내지 않고 대상 건수만 센다")
+    void start_DryRun() {
+        // given
+        givenDlt(List.of(dltRecord(0, 1_000L, LISTENER_EXCEPTION), dltRecord(1, 2_000L, JSON_EXCEPTION)));
+
+        // when
+        DltReplayStatusDto status = dltReplayService.start(DltReplayRequestDto.builder().topic(TOPIC).dryRun(true).build());
+
+        // then
+        assertThat(status.isDryRun()).isTrue();
+        assertThat(status.getMatched()).isEqualTo(2);
+        assertThat(status.getReplayed()).isZero();
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+        assertThat(meterRegistry.get("keyfeed.dlt.replay").tag("result", "dry_run").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("최대 건수를 채우면 나머지는 읽지 않고 끝낸다")
+    void start_Limit() {
+        // given
+        givenDlt(List.of(dltRecord(0, 1_000L, LISTENER_EXCEPTION), dltRecord(1, 2_000L, LISTENER_EXCEPTION), dltRecord(2, 3_000L, LISTENER_EXCEPTION)));
+        givenSendSucceeds();
+
+        // when
+        DltReplayStatusDto status = dltReplayService.start(DltReplayRequestDto.builder().topic(TOPIC).limit(2L).build());
+
+        // then
+        assertThat(status.getState()).isEqualTo(DltReplayStatusDto.State.COMPLETED);
+        assertThat(status.getReplayed()).isEqualTo(2);
+        verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("재전송에 실패한 메시지는 실패 건수로 세고 나머지는 계속 보낸다")
+    void start_SendFailure() {
+        // given
+        givenDlt(List.of(dltRecord(0, 1_000L, LISTENER_EXCEPTION), dltRecord(1, 2_000L, LISTENER_EXCEPTION)));
+        doReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")), CompletableFuture.completedFuture(null))
+                .when(kafkaTemplate).send(any(ProducerRecord.class));
+
+        // when
+        DltReplayStatusDto status = dltReplayService.start(DltReplayRequestDto.builder().topic(TOPIC).build());
+
+        // then
+        assertThat(status.getFailed()).isEqualTo(1);
+        assertThat(status.getReplayed()).isEqualTo(1);
+        assertThat(meterRegistry.get("keyfeed.dlt.replay").tag("result", "failed").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 토픽은 재처리하지 않는다")
+    void start_TopicNotAllowed() {
+        // when & then
+        assertThatThrownBy(() -> dltReplayService.start(DltReplayRequestDto.builder().topic("other.topic").build()))
+                .isInstanceOf(DltReplayTopicNotAllowedException.class);
+        verifyNoInteractions(consumerFactory);
+    }
+
+    @Test
+    @DisplayName("진행 중인 작업이 있으면 새 작업을 거절하고, 중단 요청 후에는 진행 상황을 조회할 수 있다")
+    void start_InProgress() {
+        // given
+        List<Runnable> submitted = new ArrayList<>();
+        dltReplayService = new DltReplayServiceImpl(consumerFactory, kafkaTemplate, meterRegistry,
+                GROUP_ID, List.of(TOPIC), 1000, 1000, submitted::add);
+        DltReplayStatusDto first = dltReplayService.start(DltReplayRequestDto.builder().topic(TOPIC).build());
+
+        // when & then
+        assertThatThrownBy(() -> dltReplayService.start(DltReplayRequestDto.builder().topic(TOPIC).build()))
+                .isInstanceOf(DltReplayInProgressException.class);
+        assertThat(dltReplayService.cancel()).get()
+                .extracting(DltReplayStatusDto::getJobId).isEqualTo(first.getJobId());
+        assertThat(dltReplayService.getStatus()).get()
+                .extracting(DltReplayStatusDto::getState).isEqualTo(DltReplayStatusDto.State.RUNNING);
+        assertThat(submitted).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("DLT 토픽이 없으면 아무것도 보내지 않고 끝낸다")
+    void start_NoDltTopic() {
+        // given
+        when(consumerFactory.createConsumer(eq(GROUP_ID), isNull(), anyString(), any(Properties.class)))
+                .thenReturn(consumer);
+        when(consumer.partitionsFor(DLT_TOPIC)).thenReturn(List.of());
+
+        // when
+        DltReplayStatusDto status = dltReplayService.start(DltReplayRequestDto.builder().topic(TOPIC).build());
+
+        // then
+        assertThat(status.getState()).isEqualTo(DltReplayStatusDto.State.COMPLETED);
+        assertThat(status.getTotal()).isZero();
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+}
@@ -0,0 +1,13 @@
+package com.leedahun.kafka.freshness;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 콘텐츠 신선도 지표(keyfeed.freshness) 기록 빈 등록
+ * 서비스의 기본 패키지 밖에 있어 컴포넌트 스캔에 걸리지 않으므로 각 서비스 설정에서 @Import 한다.
+ */
+@Configuration
+@Import(FreshnessMetrics.class)
+public class FreshnessConfiguration {
+}
@@ -0,0 +1,40 @@
+package com.leedahun.kafka.freshness;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * 콘텐츠가 파이프라인(crawl -> match -> notification)을 지나는 시각을 Kafka 헤더로 전달하기 위한 헤더 이름과 변환
+ * 값은 epoch millis 문자열로 기록한다.
+ */
+public final class FreshnessHeaders {
+
+    public static final String PUBLISHED_AT = "x-freshness-published-at";   // 피드에 게시된 시각
+    public static final String FETCHED_AT = "x-freshness-fetched-at";       // 크롤러가 피드를 가져온 시각
+    public static final String INDEXED_AT = "x-freshness-indexed-at";       // ES에 저장된 시각
+    public static final String MATCHED_AT = "x-freshness-matched-at";       // 알림 대상 매칭이 끝난 시각
+
+    private FreshnessHeaders() {
+    }
+
+    public static void put(Headers headers, String name, Long epochMillis) {
+        if (epochMillis == null) {
+            return;
+        }
+        headers.remove(name);
+        headers.add(name, Long.toString(epochMillis).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Long get(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        if (header == null || header.value() == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(header.value(), StandardCharsets.UTF_8));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.leedahun.kafka.freshness;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 콘텐츠 신선도(게시 -> 사용자 수신) 구간별 지연 시간 기록
+ * 구간 이름을 stage 태그로 가지는 keyfeed.freshness 타이머에 히스토그램과 함께 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FreshnessMetrics {
+
+    private static final String METRIC_NAME = "keyfeed.freshness";
+
+    // 구간 (crawl-service / match-service / notification-service 에서 같은 이름 사용)
+    public static final String PUBLISH_TO_FETCH = "publish_to_fetch";
+    public static final String FETCH_TO_INDEX = "fetch_to_index";
+    public static final String INDEX_TO_MATCH = "index_to_match";
+    public static final String MATCH_TO_DELIVERY = "match_to_delivery";
+    public static final String FETCH_TO_DELIVERY = "fetch_to_delivery";
+    public static final String PUBLISH_TO_DELIVERY = "publish_to_delivery";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    /**
+     * from 시각부터 to 시각까지 걸린 시간을 구간별로 기록
+     * 시작 시각을 모르면 기록하지 않고, 서버 간 시계 차이로 음수가 나오면 0으로 기록한다.
+     */
+    public void record(String stage, Long fromEpochMillis, long toEpochMillis) {
+        if (fromEpochMillis == null) {
+            return;
+        }
+        long elapsed = Math.max(0L, toEpochMillis - fromEpochMillis);
+        timers.computeIfAbsent(stage, this::timer).record(Duration.ofMillis(elapsed));
+    }
+
+    private Timer timer(String stage) {
+        return Timer.builder(METRIC_NAME)
+                .description("콘텐츠 파이프라인 구간별 지연 시간")
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,63 @@
+package com.leedahun.kafka.freshness;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FreshnessMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FreshnessMetrics freshnessMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        freshnessMetrics = new FreshnessMetrics(meterRegistry);
+    }
+
+    private Timer timer(String stage) {
+        return meterRegistry.find("keyfeed.freshness").tag("stage", stage).timer();
+    }
+
+    @Test
+    @DisplayName("구간별로 시작 시각부터 종료 시각까지의 지연을 기록한다")
+    void record_Success() {
+        // when
+        freshnessMetrics.record(FreshnessMetrics.FETCH_TO_INDEX, 1_000L, 1_250L);
+        freshnessMetrics.record(FreshnessMetrics.FETCH_TO_INDEX, 2_000L, 2_750L);
+
+        // then
+        Timer timer = timer(FreshnessMetrics.FETCH_TO_INDEX);
+        assertThat(timer.count()).isEqualTo(2);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1_000.0);
+        assertThat(timer.max(TimeUnit.MILLISECONDS)).isEqualTo(750.0);
+    }
+
+    @Test
+    @DisplayName("시작 시각을 모르면 기록하지 않는다")
+    void record_UnknownStart() {
+        // when
+        freshnessMetrics.record(FreshnessMetrics.INDEX_TO_MATCH, null, 1_000L);
+
+        // then
+        assertThat(timer(FreshnessMetrics.INDEX_TO_MATCH)).isNull();
+    }
+
+    @Test
+    @DisplayName("서버 간 시계 차이로 음수가 나오면 0으로 기록한다")
+    void record_ClockSkew() {
+        // when
+        freshnessMetrics.record(FreshnessMetrics.INDEX_TO_MATCH, 2_000L, 1_000L);
+
+        // then
+        Timer timer = timer(FreshnessMetrics.INDEX_TO_MATCH);
+        assertThat(timer.count()).isEqualTo(1);
+        assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isZero();
+    }
+}
@@ -0,0 +1,194 @@
+package com.leedahun.keyword.expression;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 키워드 표현식 (identity-service 검증, match-service 매칭, feed-service 조회가 함께 쓰는 문법)
+ * - 공백으로 구분한 단어는 모두 포함되어야 한다 (단어 사이의 AND 는 생략 가능)
+ * - 큰따옴표로 감싼 구("spring boot")는 하나의 단어로 취급한다
+ * - 단어 앞에 '-' 를 붙이거나 NOT 을 쓰면 해당 단어가 포함된 글은 제외한다
+ * 따옴표, '-' 로 시작하는 단어, AND/NOT 이 하나도 없으면 키워드 전체를 하나의 구로 취급한다.
+ * 단어는 입력한 그대로(따옴표 제외) 돌려주므로, 비교 방식에 맞는 정규화는 각 서비스가 한다.
+ */
+public final class KeywordExpression {
+
+    // 새로 저장하는 키워드의 최대 단어 수 (identity-service가 저장 전에 검사, 이미 저장된 키워드는 한도와 관계없이 해석)
+    public static final int MAX_TERMS = 5;
+
+    private static final char QUOTE = '"';
+    private static final char NEGATION = '-';
+    private static final String AND = "AND";
+    private static final String NOT = "NOT";
+
+    private final List<String> positiveTerms;
+    private final List<String> negativeTerms;
+
+    private KeywordExpression(List<String> positiveTerms, List<String> negativeTerms) {
+        this.positiveTerms = List.copyOf(positiveTerms);
+        this.negativeTerms = List.copyOf(negativeTerms);
+    }
+
+    /**
+     * 키워드 표현식 해석
+     * 형식이 올바르지 않으면 이유를 담아 KeywordExpressionException 을 던진다.
+     */
+    public static KeywordExpression parse(String value) {
+        if (value == null || value.isBlank()) {
+            throw new KeywordExpressionException("키워드가 비어 있습니다.");
+        }
+
+        String expression = value.strip();
+        if (!isExpression(expression)) {
+            requireWord(expression);
+            return new KeywordExpression(List.of(expression), List.of());
+        }
+
+        List<String> positives = new ArrayList<>();
+        List<String> negatives = new ArrayList<>();
+        boolean pendingAnd = false;
+        boolean pendingNot = false;
+
+        int length = expression.length();
+        int i = 0;
+        while (i < length) {
+            if (Character.isWhitespace(expression.charAt(i))) {
+                i++;
+                continue;
+            }
+
+            boolean negated = expression.charAt(i) == NEGATION;
+            if (negated) {
+                i++;
+                if (i >= length || Character.isWhitespace(expression.charAt(i))) {
+                    throw new KeywordExpressionException("'-' 뒤에 제외할 단어가 필요합니다.");
+                }
+            }
+
+            boolean quoted = expression.charAt(i) == QUOTE;
+            String term;
+            if (quoted) {
+                int end = expression.indexOf(QUOTE, i + 1);
+                if (end < 0) {
+                    throw new KeywordExpressionException("따옴표가 닫히지 않았습니다.");
+                }
+                term = expression.substring(i + 1, end).strip();
+                i = end + 1;
+                if (i < length && !Character.isWhitespace(expression.charAt(i))) {
+                    throw new KeywordExpressionException("닫는 따옴표 뒤에는 공백이 필요합니다.");
+                }
+            } else {
+                int end = i;
+                while (end < length && !Character.isWhitespace(expression.charAt(end))) {
+                    if (expression.charAt(end) == QUOTE) {
+                        throw new KeywordExpressionException("따옴표는 단어의 앞뒤에만 쓸 수 있습니다.");
+                    }
+                    end++;
+                }
+                term = expression.substring(i, end);
+                i = end;
+            }
+
+            if (!quoted && !negated && AND.equals(term)) {
+                if (pendingAnd || pendingNot || (positives.isEmpty() && negatives.isEmpty())) {
+                    throw new KeywordExpressionException("AND 앞뒤에 단어가 필요합니다.");
+                }
+                pendingAnd = true;
+                continue;
+            }
+            if (!quoted && !negated && NOT.equals(term)) {
+                if (pendingNot) {
+                    throw new KeywordExpressionException("NOT 뒤에 제외할 단어가 필요합니다.");
+                }
+                pendingNot = true;
+                continue;
+            }
+            if (negated && pendingNot) {
+                throw new KeywordExpressionException("NOT 과 '-' 는 함께 쓸 수 없습니다.");
+            }
+
+            requireWord(term);
+            if (negated || pendingNot) {
+                negatives.add(term);
+            } else {
+                positives.add(term);
+            }
+            pendingAnd = false;
+            pendingNot = false;
+        }
+
+        if (pendingAnd) {
+            throw new KeywordExpressionException("AND 앞뒤에 단어가 필요합니다.");
+        }
+        if (pendingNot) {
+            throw new KeywordExpressionException("NOT 뒤에 제외할 단어가 필요합니다.");
+        }
+        if (positives.isEmpty()) {
+            throw new KeywordExpressionException("포함할 단어가 하나 이상 필요합니다.");
+        }
+
+        Set<String> normalizedPositives = new HashSet<>();
+        positives.forEach(term -> normalizedPositives.add(normalize(term)));
+        for (String term : negatives) {
+            if (normalizedPositives.contains(normalize(term))) {
+                throw new KeywordExpressionException("같은 단어를 포함하면서 제외할 수 없습니다: " + term);
+            }
+        }
+        return new KeywordExpression(positives, negatives);
+    }
+
+    // 포함 단어 (입력 순서)
+    public List<String> getPositiveTerms() {
+        return positiveTerms;
+    }
+
+    // 제외 단어 (입력 순서)
+    public List<String> getNegativeTerms() {
+        return negativeTerms;
+    }
+
+    public int termCount() {
+        return positiveTerms.size() + negativeTerms.size();
+    }
+
+    /**
+     * 단어 비교용 정규화 (match-service KeywordAutomaton.normalize 와 같은 규칙)
+     * 소문자로 바꾸고, 문자/숫자 외에는 공백으로 바꾼 뒤 연속 공백을 하나로 줄이고 앞뒤 공백을 제거한다.
+     */
+    public static String normalize(String term) {
+        StringBuilder builder = new StringBuilder(term.length());
+        boolean previousSpace = true;
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(Character.toLowerCase(c));
+                previousSpace = false;
+            } else if (!previousSpace) {
+                builder.append(' ');
+                previousSpace = true;
+            }
+        }
+        return builder.toString().strip();
+    }
+
+    // 따옴표, '-' 로 시작하는 단어, AND/NOT 중 하나라도 있으면 표현식으로 해석
+    private static boolean isExpression(String value) {
+        if (value.indexOf(QUOTE) >= 0) {
+            return true;
+        }
+        for (String token : value.split("\\s+")) {
+            if (AND.equals(token) || NOT.equals(token) || (token.length() > 1 && token.charAt(0) == NEGATION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void requireWord(String term) {
+        if (normalize(term).isEmpty()) {
+            throw new KeywordExpressionException("문자나 숫자가 없는 단어는 쓸 수 없습니다: " + term);
+        }
+    }
+}
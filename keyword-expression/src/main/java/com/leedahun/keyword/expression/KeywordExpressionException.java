@@ -0,0 +1,12 @@
+package com.leedahun.keyword.expression;
+
+/**
+ * 키워드 표현식 형식 오류 (메시지는 사용자에게 보여줄 수 있는 이유)
+ * 각 서비스는 이 예외를 자신의 오류 응답으로 바꾸거나, 해석할 수 없는 키워드로 보고 건너뛴다.
+ */
+public class KeywordExpressionException extends IllegalArgumentException {
+
+    public KeywordExpressionException(String reason) {
+        super(reason);
+    }
+}
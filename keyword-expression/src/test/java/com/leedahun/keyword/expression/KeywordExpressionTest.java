@@ -0,0 +1,100 @@
+package com.leedahun.keyword.expression;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeywordExpressionTest {
+
+    @Test
+    @DisplayName("연산자나 따옴표가 없으면 키워드 전체를 하나의 구로 취급한다")
+    void parse_LegacyPhrase() {
+        // when
+        KeywordExpression expression = KeywordExpression.parse("  Spring Boot ");
+
+        // then
+        assertThat(expression.getPositiveTerms()).containsExactly("Spring Boot");
+        assertThat(expression.getNegativeTerms()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("'-' 를 붙인 단어는 제외 단어가 된다")
+    void parse_Negation() {
+        // when
+        KeywordExpression expression = KeywordExpression.parse("kafka -tutorial");
+
+        // then
+        assertThat(expression.getPositiveTerms()).containsExactly("kafka");
+        assertThat(expression.getNegativeTerms()).containsExactly("tutorial");
+    }
+
+    @Test
+    @DisplayName("따옴표로 감싼 구와 AND 를 함께 쓸 수 있다")
+    void parse_PhraseAndOperators() {
+        // when
+        KeywordExpression expression = KeywordExpression.parse("\"spring boot\" AND 3.5");
+
+        // then
+        assertThat(expression.getPositiveTerms()).containsExactly("spring boot", "3.5");
+        assertThat(expression.getNegativeTerms()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("공백으로 구분한 단어는 AND 로 묶이고 NOT 은 바로 뒤 단어만 제외한다")
+    void parse_ImplicitAnd() {
+        // when
+        KeywordExpression expression = KeywordExpression.parse("kafka streams NOT \"hello world\"");
+
+        // then
+        assertThat(expression.getPositiveTerms()).containsExactly("kafka", "streams");
+        assertThat(expression.getNegativeTerms()).containsExactly("hello world");
+    }
+
+    @Test
+    @DisplayName("단어 수는 포함/제외 단어를 합친 수이고, 한도는 해석할 때 검사하지 않는다")
+    void parse_TermCount() {
+        // when
+        KeywordExpression expression = KeywordExpression.parse("a b c d e -f");
+
+        // then
+        assertThat(expression.termCount()).isEqualTo(6).isGreaterThan(KeywordExpression.MAX_TERMS);
+    }
+
+    @Test
+    @DisplayName("정규화는 소문자로 바꾸고 문자/숫자 외의 문자를 하나의 공백으로 줄인다")
+    void normalize() {
+        // when & then
+        assertThat(KeywordExpression.normalize("  Spring--Boot 3.5 ")).isEqualTo("spring boot 3 5");
+        assertThat(KeywordExpression.normalize("!!")).isEmpty();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "",
+            "   ",
+            "\"spring boot",
+            "spring\"boot\"",
+            "\"spring\"boot",
+            "-kafka",
+            "NOT kafka",
+            "kafka AND",
+            "AND kafka",
+            "kafka AND AND java",
+            "kafka NOT",
+            "kafka NOT -java",
+            "kafka - java -x",
+            "kafka -\"!!\"",
+            "kafka -\"\"",
+            "Kafka -kafka"
+    })
+    @DisplayName("형식이 잘못된 표현식은 예외를 던진다")
+    void parse_Invalid(String value) {
+        // when & then
+        assertThatThrownBy(() -> KeywordExpression.parse(value))
+                .isInstanceOf(KeywordExpressionException.class);
+    }
+}
@@ -0,0 +1,51 @@
+package com.leedahun.matchservice.benchmark;
+
+import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크용 콘텐츠 (실제 수집되는 기술 블로그 글과 비슷한 길이/구성)
+ * korean: 한글 위주, english: 영문 위주, mixed: 한글 본문에 영문 고유명사와 숫자가 섞인 글
+ */
+final class ContentFixtures {
+
+    static final String KOREAN = "korean";
+    static final String ENGLISH = "english";
+    static final String MIXED = "mixed";
+
+    private ContentFixtures() {
+    }
+
+    static String title(String fixture) {
+        return switch (fixture) {
+            case KOREAN -> "카프카는 쿠버네티스를 만나 어떻게 달라졌을까? 운영 환경에서의 경험 공유";
+            case ENGLISH -> "Spring Boot 3.5: What's New in Observability and Virtual Threads?";
+            default -> "Kafka Streams로 실시간 추천 파이프라인 구축하기 (feat. Elasticsearch)";
+        };
+    }
+
+    static String summary(String fixture) {
+        return switch (fixture) {
+            case KOREAN -> "이번 글에서는 카프카 클러스터를 쿠버네티스 위에서 운영하면서 겪었던 문제들과 "
+                    + "스트림즈 애플리케이션의 리밸런싱 이슈를 해결한 과정을 정리했습니다. 모니터링은 "
+                    + "프로메테우스와 그라파나를 사용했고, 브로커 설정은 운영 데이터를 기반으로 조정했습니다...";
+            case ENGLISH -> "In this post we walk through the new observability features in Spring Boot 3.5, "
+                    + "including improved Micrometer tracing, structured logging and how virtual threads "
+                    + "interact with blocking JDBC drivers. We also benchmark Tomcat against Jetty under load...";
+            default -> "Kafka Streams의 KTable과 Elasticsearch의 bulk API를 이용해 실시간 추천 파이프라인을 "
+                    + "구축한 경험을 공유합니다. 처리량은 초당 5,000건 이상이며, p99 지연 시간은 120ms 이하로 "
+                    + "유지하고 있습니다. Spring Boot와 Spring Kafka를 사용했습니다...";
+        };
+    }
+
+    static CrawledContentDto content(String fixture) {
+        return CrawledContentDto.builder()
+                .sourceId(42L)
+                .title(title(fixture))
+                .summary(summary(fixture))
+                .originalUrl("https://tech.example.com/posts/2025/11/" + fixture + "-pipeline")
+                .thumbnailUrl("https://tech.example.com/images/" + fixture + "-thumbnail.png")
+                .publishedAt(LocalDateTime.of(2025, 11, 3, 9, 30))
+                .build();
+    }
+}
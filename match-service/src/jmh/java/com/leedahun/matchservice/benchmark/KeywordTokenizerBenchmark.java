@@ -0,0 +1,67 @@
+package com.leedahun.matchservice.benchmark;
+
+import com.leedahun.matchservice.domain.content.keyword.KeywordTokenizer;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 키워드 추출 벤치마크
+ * legacy: 기존 NotificationTriggerServiceImpl.extractKeywords (replaceAll + split + Stream)
+ * tokenizer: KeywordTokenizer (문자 분류 테이블, 단일 순회, 버퍼 재사용)
+ *
+ * 실행: ./gradlew jmh  (gc 프로파일러로 op당 할당량도 함께 확인)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class KeywordTokenizerBenchmark {
+
+    @Param({"korean", "english", "mixed"})
+    private String fixture;
+
+    private String title;
+    private String summary;
+
+    @Setup
+    public void setUp() {
+        title = ContentFixtures.title(fixture);
+        summary = ContentFixtures.summary(fixture);
+    }
+
+    @Benchmark
+    public Set<String> legacy() {
+        return legacyExtractKeywords(title, summary);
+    }
+
+    @Benchmark
+    public Set<String> tokenizer() {
+        return KeywordTokenizer.extract(title, summary);
+    }
+
+    // 기존 구현 (비교 기준)
+    private static Set<String> legacyExtractKeywords(String title, String summary) {
+        if (title == null) {
+            title = "";
+        }
+        if (summary == null) {
+            summary = "";
+        }
+        String text = title + " " + summary;
+
+        String[] tokens = text.replaceAll("[^a-zA-Z0-9가-힣\\s]", "").split("\\s+");
+
+        return Arrays.stream(tokens)
+                .filter(token -> token.length() >= 2)
+                .collect(Collectors.toSet());
+    }
+}
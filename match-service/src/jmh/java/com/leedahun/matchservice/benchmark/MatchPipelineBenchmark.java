@@ -0,0 +1,151 @@
+package com.leedahun.matchservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.keyword.KeywordMatchPlan;
+import com.leedahun.matchservice.domain.content.keyword.KeywordTokenizer;
+import com.leedahun.matchservice.domain.content.util.ContentIdGenerator;
+import com.leedahun.matchservice.domain.idgen.dto.WorkerIdLeaseDto;
+import com.leedahun.matchservice.domain.idgen.snowflake.LeasedSnowflake;
+import com.leedahun.matchservice.infra.client.dto.KeywordSubscriptionDto;
+import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import com.leedahun.matchservice.infra.kafka.dto.NotificationFanoutEventDto;
+import com.leedahun.matchservice.infra.kafka.message.KafkaMessage;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 알림 매칭 파이프라인 단계별 벤치마크 (콘텐츠 한 건 기준)
+ * deserialize: Kafka 메시지(String) -> CrawledContentDto
+ * extractKeywords: 제목/요약 키워드 추출 (identity-service 조회 경로)
+ * match: 구독 키워드 매칭 계획으로 알림 대상 유저 찾기 (인메모리 매처 경로)
+ * buildFanoutEvent: 유저별 알림 ID 발급 + NotificationFanoutEventDto 생성 + JSON 직렬화
+ * nextId: Snowflake ID 한 개 발급
+ *
+ * ObjectMapper, Snowflake, 매칭 계획은 서비스와 같이 모든 스레드가 공유한다.
+ * Single(스레드 1개)로 op당 CPU 비용과 할당량을, Contended(스레드 4개)로 공유 자원 경합 비용을 본다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=MatchPipelineBenchmark  (gc 프로파일러로 op당 할당량도 함께 확인)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public abstract class MatchPipelineBenchmark {
+
+    private static final int SUBSCRIBER_COUNT = 10_000;
+    private static final int RECIPIENT_COUNT = 100;
+    private static final String[] KEYWORDS = {
+            "카프카", "쿠버네티스", "프로메테우스", "그라파나", "리밸런싱", "스트림즈", "모니터링", "파이프라인",
+            "Kafka", "Kafka Streams", "Spring Boot", "Spring Kafka", "Elasticsearch", "Micrometer", "Jetty",
+            "virtual threads", "observability", "JDBC", "Tomcat", "Redis", "MySQL", "GraphQL", "gRPC", "React",
+            "kafka -tutorial", "\"spring boot\" AND 3.5", "Elasticsearch NOT 입문", "쿠버네티스 운영"
+    };
+
+    @State(Scope.Benchmark)
+    public static class Pipeline {
+
+        @Param({ContentFixtures.KOREAN, ContentFixtures.ENGLISH, ContentFixtures.MIXED})
+        private String fixture;
+
+        private ObjectMapper objectMapper;
+        private LeasedSnowflake snowflake;
+        private KeywordMatchPlan plan;
+        private long[] subscribers;
+
+        private String payload;
+        private CrawledContentDto content;
+        private List<Long> recipients;
+
+        @Setup
+        public void setUp() throws JsonProcessingException {
+            // 서비스와 같은 설정 (스프링 부트 기본 ObjectMapper)
+            objectMapper = Jackson2ObjectMapperBuilder.json().build();
+            snowflake = new LeasedSnowflake(WorkerIdLeaseDto.builder()
+                    .nodeId(32)
+                    .datacenterId(1L)
+                    .workerId(0L)
+                    .owner("benchmark")
+                    .expiresAt(Long.MAX_VALUE)
+                    .build(), Clock.systemUTC());
+
+            // 유저마다 키워드 3개씩 구독, 모든 유저가 콘텐츠 소스를 구독
+            List<KeywordSubscriptionDto> keywords = new ArrayList<>(SUBSCRIBER_COUNT * 3);
+            subscribers = new long[SUBSCRIBER_COUNT];
+            for (int i = 0; i < SUBSCRIBER_COUNT; i++) {
+                long userId = i + 1L;
+                subscribers[i] = userId;
+                for (int k = 0; k < 3; k++) {
+                    keywords.add(new KeywordSubscriptionDto(userId, KEYWORDS[(i * 7 + k * 11) % KEYWORDS.length]));
+                }
+            }
+            plan = KeywordMatchPlan.compile(keywords);
+
+            content = ContentFixtures.content(fixture);
+            payload = objectMapper.writeValueAsString(content);
+            recipients = new ArrayList<>(RECIPIENT_COUNT);
+            for (int i = 0; i < RECIPIENT_COUNT; i++) {
+                recipients.add(subscribers[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    public CrawledContentDto deserialize(Pipeline pipeline) throws JsonProcessingException {
+        return pipeline.objectMapper.readValue(pipeline.payload, CrawledContentDto.class);
+    }
+
+    @Benchmark
+    public Set<String> extractKeywords(Pipeline pipeline) {
+        return KeywordTokenizer.extract(pipeline.content.getTitle(), pipeline.content.getSummary());
+    }
+
+    @Benchmark
+    public List<Long> match(Pipeline pipeline) {
+        return pipeline.plan.findUserIds(pipeline.subscribers, pipeline.content.getTitle(), pipeline.content.getSummary());
+    }
+
+    @Benchmark
+    public String buildFanoutEvent(Pipeline pipeline) throws JsonProcessingException {
+        CrawledContentDto content = pipeline.content;
+        List<Long> notificationIds = new ArrayList<>(pipeline.recipients.size());
+        for (int i = 0; i < pipeline.recipients.size(); i++) {
+            notificationIds.add(pipeline.snowflake.nextId());
+        }
+        NotificationFanoutEventDto event = NotificationFanoutEventDto.builder()
+                .contentId(ContentIdGenerator.generate(content.getSourceId(), content.getOriginalUrl()))
+                .title(content.getTitle())
+                .message(KafkaMessage.NOTIFICATION_MESSAGE.getMessage())
+                .originalUrl(content.getOriginalUrl())
+                .chunkIndex(0)
+                .chunkCount(1)
+                .userIds(pipeline.recipients)
+                .notificationIds(notificationIds)
+                .build();
+        return pipeline.objectMapper.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public long nextId(Pipeline pipeline) {
+        return pipeline.snowflake.nextId();
+    }
+
+    @Threads(1)
+    public static class Single extends MatchPipelineBenchmark {
+    }
+
+    @Threads(4)
+    public static class Contended extends MatchPipelineBenchmark {
+    }
+}
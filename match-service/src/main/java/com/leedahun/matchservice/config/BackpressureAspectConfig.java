@@ -0,0 +1,39 @@
+package com.leedahun.matchservice.config;
+
+import com.leedahun.matchservice.infra.kafka.backpressure.BackpressureController;
+import com.leedahun.matchservice.infra.kafka.backpressure.Dependency;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.stereotype.Component;
+
+/**
+ * identity-service Feign 호출의 지연 시간과 실패 여부를 백프레셔 제어기에 기록
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class BackpressureAspectConfig {
+
+    private final BackpressureController backpressureController;
+
+    @Pointcut("execution(* com.leedahun.matchservice.infra.client.UserInternalApiClient.*(..))")
+    public void identityClient() {}
+
+    @Around("identityClient()")
+    public Object recordIdentityCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            Object ret = joinPoint.proceed();
+            failed = false;
+            return ret;
+        } finally {
+            backpressureController.record(Dependency.IDENTITY,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failed);
+        }
+    }
+}
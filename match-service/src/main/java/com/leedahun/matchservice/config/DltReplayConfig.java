@@ -0,0 +1,13 @@
+package com.leedahun.matchservice.config;
+
+import com.leedahun.kafka.dlt.DltReplayConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * DLT 재처리 API 등록 (공유 소스 kafka-dlt-replay, 설정은 app.kafka.dlt-replay.*)
+ */
+@Configuration
+@Import(DltReplayConfiguration.class)
+public class DltReplayConfig {
+}
@@ -0,0 +1,71 @@
+package com.leedahun.matchservice.config;
+
+import com.leedahun.matchservice.infra.kafka.consumer.KeyOrderedParallelProcessor;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    private static final String DLT_SUFFIX = ".dlt";
+
+    /**
+     * 처리에 실패한 레코드를 "{원본 토픽}.dlt" 로 전송
+     * 파티션은 지정하지 않고 DLT 토픽의 파티셔너에 맡긴다.
+     */
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer(KafkaTemplate<String, String> kafkaTemplate) {
+        return new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> new TopicPartition(record.topic() + DLT_SUFFIX, -1));
+    }
+
+    /**
+     * 배치 전체가 실패한 경우(ES 장애 등) 1초부터 2배씩 늘려가며 2번 더 시도하고,
+     * 그래도 실패하면 배치의 레코드를 하나씩 DLT로 보낸다. (기존 @RetryableTopic 설정과 동일한 재시도 횟수)
+     * 리스너가 BatchListenerFailedException 으로 실패한 레코드를 알리면 그 앞까지 커밋하고
+     * 실패한 레코드부터 같은 백오프로 재시도한 뒤, 그 레코드만 DLT로 보낸다.
+     */
+    @Bean
+    public DefaultErrorHandler contentBatchErrorHandler(DeadLetterPublishingRecoverer deadLetterPublishingRecoverer) {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(2);
+        backOff.setInitialInterval(1000L);
+        backOff.setMultiplier(2.0);
+        return new DefaultErrorHandler(deadLetterPublishingRecoverer, backOff);
+    }
+
+    /**
+     * 크롤링 콘텐츠 배치 리스너용 컨테이너 팩토리
+     * 기본 설정(spring.kafka.*)은 그대로 적용하고 배치 모드와 에러 핸들러만 추가한다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> batchKafkaListenerContainerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            DefaultErrorHandler contentBatchErrorHandler) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(contentBatchErrorHandler);
+        return factory;
+    }
+
+    /**
+     * 크롤링 콘텐츠 알림 매칭을 소스 ID 순서를 지키며 병렬로 처리하는 실행기
+     * max-in-flight 가 1이면 기존처럼 리스너 스레드에서 순서대로 처리한다.
+     */
+    @Bean
+    public KeyOrderedParallelProcessor contentKeyOrderedProcessor(
+            @Value("${app.kafka.content.parallel.max-in-flight:16}") int maxInFlight) {
+        return new KeyOrderedParallelProcessor(maxInFlight);
+    }
+
+}
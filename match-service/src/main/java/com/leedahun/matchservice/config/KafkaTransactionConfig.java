@@ -0,0 +1,26 @@
+package com.leedahun.matchservice.config;
+
+import com.leedahun.matchservice.domain.idgen.snowflake.LeasedSnowflake;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "app.kafka.transaction.enabled", havingValue = "true")
+public class KafkaTransactionConfig {
+
+    /**
+     * Kafka 트랜잭션 모드에서 기본 프로듀서 팩토리에 transactional.id 접두사 설정
+     * 인스턴스끼리 겹치면 서로의 트랜잭션을 끊어 버리므로 Snowflake 워커 ID 리스 소유자 값(인스턴스마다 고유)을 붙인다.
+     * (spring.kafka.producer.transaction-id-prefix 를 쓰면 KafkaTransactionManager 빈이 등록되어 JPA 트랜잭션 매니저와 충돌하므로 사용하지 않음)
+     */
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer transactionalProducerFactoryCustomizer(
+            LeasedSnowflake leasedSnowflake,
+            @Value("${app.kafka.transaction.id-prefix:match-tx-}") String transactionIdPrefix) {
+        return producerFactory -> producerFactory.setTransactionIdPrefix(transactionIdPrefix + leasedSnowflake.getOwner() + "-");
+    }
+
+}
@@ -1,7 +1,12 @@
 package com.leedahun.matchservice.config;
 
-import cn.hutool.core.lang.Snowflake;
-import cn.hutool.core.util.IdUtil;
+import com.leedahun.matchservice.domain.idgen.dto.WorkerIdLeaseDto;
+import com.leedahun.matchservice.domain.idgen.service.WorkerIdLeaseService;
+import com.leedahun.matchservice.domain.idgen.snowflake.LeasedSnowflake;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.util.UUID;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,12 +14,27 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class SnowFlakeIdConfig {
 
+    /**
+     * 워커 ID는 시작할 때 DB 리스로 datacenter 안에서 비어 있는 값을 받아 사용 (인스턴스를 늘려도 설정 수정 불필요)
+     */
     @Bean
-    public Snowflake snowflake(
-            @Value("${snowflake.worker-id}") long workerId,
+    public LeasedSnowflake snowflake(
+            WorkerIdLeaseService workerIdLeaseService,
+            @Value("${spring.application.name:match-service}") String applicationName,
             @Value("${snowflake.datacenter-id}") long datacenterId
     ) {
-        return IdUtil.getSnowflake(workerId, datacenterId);
+        // 같은 호스트에서 재시작해도 이전 프로세스와 구분되도록 임의 값을 붙임
+        String owner = applicationName + "@" + hostName() + "#" + UUID.randomUUID().toString().substring(0, 8);
+        WorkerIdLeaseDto lease = workerIdLeaseService.acquire(datacenterId, owner);
+        return new LeasedSnowflake(lease, Clock.systemUTC());
+    }
+
+    private String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
     }
 
 }
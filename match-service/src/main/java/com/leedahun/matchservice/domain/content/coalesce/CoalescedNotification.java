@@ -0,0 +1,18 @@
+package com.leedahun.matchservice.domain.content.coalesce;
+
+import com.leedahun.matchservice.infra.kafka.dto.RelatedContentDto;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 한 유저에 대해 묶음 구간 동안 모인 알림
+ * totalCount는 구간 동안 매칭된 전체 콘텐츠 수, relatedContents는 그중 최근 것부터 최대 N건
+ */
+@Getter
+@AllArgsConstructor
+public class CoalescedNotification {
+    private final Long userId;
+    private final int totalCount;
+    private final List<RelatedContentDto> relatedContents;
+}
@@ -0,0 +1,217 @@
+package com.leedahun.matchservice.domain.content.coalesce;
+
+import com.leedahun.matchservice.infra.kafka.dto.RelatedContentDto;
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저별 알림 묶음 처리기
+ * - 구간이 열려 있지 않은 유저는 바로 알림을 보내고 window 동안의 구간을 연다.
+ * - 구간이 열려 있는 동안 매칭된 콘텐츠는 보내지 않고 모아 두었다가, 구간이 끝나면 "새 글 N건" 알림 한 건으로 보낸다.
+ *   (참조는 최근 것부터 최대 max-related 건만 보관하고 개수는 모두 셈)
+ * - 묶음 알림을 보낸 뒤에는 구간을 다시 열어, 계속 글이 올라오는 동안은 window 마다 한 건씩만 보낸다.
+ * - 구간을 연 콘텐츠나 이미 모인 콘텐츠가 다시 들어오면(재수신한 레코드의 재매칭) 세지 않는다.
+ * 만료는 tick 단위 타이밍 휠로 처리한다. 휠의 칸마다 그 tick에 만료되는 유저 ID를 담아 두고,
+ * tick이 지날 때 해당 칸만 확인하므로 유저 수와 무관하게 만료 비용이 일정하다.
+ * 구간은 메모리에만 있으므로 정상 종료 시에는 drainAll 로 모두 보내지만,
+ * 프로세스가 비정상 종료되면 열려 있던 구간에 모인 알림(유저당 최대 window-ms 동안 매칭된 글)은 유실된다.
+ * (원본 오프셋은 매칭 시점에 이미 커밋되므로 재처리로 복구되지 않음)
+ */
+@Component
+public class NotificationCoalescer {
+
+    @Value("${app.match.coalesce.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.match.coalesce.window-ms:60000}")
+    private long windowMs;
+
+    @Value("${app.match.coalesce.tick-ms:1000}")
+    private long tickMs;
+
+    @Value("${app.match.coalesce.max-related:10}")
+    private int maxRelated;
+
+    private Clock clock = Clock.systemUTC();
+
+    private final Map<Long, Window> windows = new HashMap<>();
+    private LongBucket[] wheel;
+    private long lastTick = -1;
+
+    /**
+     * 매칭된 유저 중 지금 바로 알림을 보낼 유저 반환
+     * 나머지 유저는 콘텐츠를 구간에 모아 두고 구간이 끝날 때 묶어서 보낸다.
+     */
+    public synchronized List<Long> admit(List<Long> userIds, RelatedContentDto content) {
+        if (!enabled) {
+            return userIds;
+        }
+        long now = currentTick();
+        initWheel(now);
+
+        List<Long> immediate = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            Window window = windows.get(userId);
+            if (window == null) {
+                openWindow(userId, now).contentIds.add(content.getContentId());
+                immediate.add(userId);
+            } else {
+                window.add(content, maxRelated);
+            }
+        }
+        return immediate;
+    }
+
+    /**
+     * 지난 tick 동안 만료된 구간을 정리하고, 모인 콘텐츠가 있는 구간은 묶음 알림으로 반환
+     */
+    public synchronized List<CoalescedNotification> drainExpired() {
+        if (!enabled || wheel == null) {
+            return List.of();
+        }
+        long now = currentTick();
+        List<CoalescedNotification> result = new ArrayList<>();
+
+        // 휠 한 바퀴 이상 밀렸으면 모든 칸을 한 번씩만 확인하면 됨
+        long from = Math.max(lastTick + 1, now - wheel.length + 1);
+        for (long tick = from; tick <= now; tick++) {
+            LongBucket bucket = wheel[slot(tick)];
+            long[] userIds = bucket.drain();
+            for (long userId : userIds) {
+                Window window = windows.get(userId);
+                if (window == null) {
+                    continue;
+                }
+                if (window.expiresAtTick > now) {
+                    // 다음 바퀴에 만료될 구간
+                    wheel[slot(window.expiresAtTick)].add(userId);
+                    continue;
+                }
+
+                if (window.count == 0) {
+                    windows.remove(userId);
+                    continue;
+                }
+                result.add(new CoalescedNotification(userId, window.count, window.drain()));
+                openWindow(userId, now);
+            }
+        }
+        lastTick = now;
+        return result;
+    }
+
+    /**
+     * 만료 여부와 관계없이 모인 콘텐츠가 있는 구간을 모두 묶음 알림으로 반환하고 구간을 닫음 (종료 시 사용)
+     */
+    public synchronized List<CoalescedNotification> drainAll() {
+        List<CoalescedNotification> result = new ArrayList<>();
+        windows.forEach((userId, window) -> {
+            if (window.count > 0) {
+                result.add(new CoalescedNotification(userId, window.count, window.drain()));
+            }
+        });
+        windows.clear();
+        wheel = null;
+        lastTick = -1;
+        return result;
+    }
+
+    public synchronized int openWindowCount() {
+        return windows.size();
+    }
+
+    private Window openWindow(Long userId, long now) {
+        long expiresAtTick = now + windowTicks();
+        Window window = windows.computeIfAbsent(userId, k -> new Window());
+        window.expiresAtTick = expiresAtTick;
+        wheel[slot(expiresAtTick)].add(userId);
+        return window;
+    }
+
+    private void initWheel(long now) {
+        if (wheel != null) {
+            return;
+        }
+        wheel = new LongBucket[(int) windowTicks() + 1];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new LongBucket();
+        }
+        lastTick = now;
+    }
+
+    private long windowTicks() {
+        return Math.max(1L, (windowMs + tickMs - 1) / tickMs);
+    }
+
+    private long currentTick() {
+        return clock.millis() / tickMs;
+    }
+
+    private int slot(long tick) {
+        return (int) (tick % wheel.length);
+    }
+
+    private static final class Window {
+        private long expiresAtTick;
+        private int count;
+        private final ArrayDeque<RelatedContentDto> recent = new ArrayDeque<>();
+        private final Set<String> contentIds = new HashSet<>();   // 이 구간에서 이미 보냈거나 모은 콘텐츠
+
+        private void add(RelatedContentDto content, int maxRelated) {
+            if (!contentIds.add(content.getContentId())) {
+                return;
+            }
+            count++;
+            if (maxRelated <= 0) {
+                return;
+            }
+            if (recent.size() == maxRelated) {
+                recent.pollFirst();
+            }
+            recent.addLast(content);
+        }
+
+        // 최근 것부터 반환하고 비움
+        private List<RelatedContentDto> drain() {
+            List<RelatedContentDto> result = new ArrayList<>(recent.size());
+            recent.descendingIterator().forEachRemaining(result::add);
+            recent.clear();
+            contentIds.clear();
+            count = 0;
+            return result;
+        }
+    }
+
+    // 박싱 없이 유저 ID를 담는 가변 long 배열
+    private static final class LongBucket {
+        private static final long[] EMPTY = new long[0];
+
+        private long[] values = EMPTY;
+        private int size;
+
+        private void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(4, size * 2));
+            }
+            values[size++] = value;
+        }
+
+        private long[] drain() {
+            long[] result = Arrays.copyOf(values, size);
+            size = 0;
+            if (values.length > 64) {
+                values = EMPTY;
+            }
+            return result;
+        }
+    }
+}
@@ -8,12 +8,13 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.elasticsearch.annotations.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Document(indexName = "contents", createIndex = true)
+@Document(indexName = "contents", createIndex = true, alwaysWriteMapping = true)
 @Setting(settingPath = "/elasticsearch/settings.json")
 public class ContentDocument {
 
@@ -26,6 +27,10 @@ public class ContentDocument {
     @Field(name = "source_id", type = FieldType.Long)
     private Long sourceId;
 
+    // 거의 같은 글이 여러 소스로 들어온 경우 대표 콘텐츠의 ID (대표 콘텐츠 자신은 자기 ID)
+    @Field(name = "canonical_id", type = FieldType.Keyword)
+    private String canonicalId;
+
     @Field(name = "source_name", type = FieldType.Keyword)
     private String sourceName;
 
@@ -35,6 +40,10 @@ public class ContentDocument {
     @Field(type = FieldType.Text, analyzer = "korean_analyzer")
     private String summary;
 
+    // 저장 시 KeywordTokenizer 로 제목/요약에서 뽑은 정규화 단어 (키워드 조회를 term 필터로 처리하기 위함)
+    @Field(name = "keyword_terms", type = FieldType.Keyword)
+    private List<String> keywordTerms;
+
     @Field(name = "original_url", type = FieldType.Keyword, index = false)
     private String originalUrl;
 
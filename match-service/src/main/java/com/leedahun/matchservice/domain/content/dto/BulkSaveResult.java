@@ -0,0 +1,38 @@
+package com.leedahun.matchservice.domain.content.dto;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * bulk 저장 결과
+ * failures: 요청 목록에서의 위치 -> 실패 사유 (최종적으로 저장하지 못한 항목만 포함)
+ * duplicates: 이미 저장되어 있어 건너뛴 항목의 위치
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class BulkSaveResult {
+
+    private final Map<Integer, String> failures;
+    private final Set<Integer> duplicates;
+
+    public static BulkSaveResult success() {
+        return new BulkSaveResult(Collections.emptyMap(), Collections.emptySet());
+    }
+
+    public boolean isFailed(int index) {
+        return failures.containsKey(index);
+    }
+
+    public boolean isDuplicate(int index) {
+        return duplicates.contains(index);
+    }
+
+    public int getFailedCount() {
+        return failures.size();
+    }
+}
@@ -0,0 +1,24 @@
+package com.leedahun.matchservice.domain.content.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 기존 인덱스 중복 정리 결과
+ * scanned: 검사한 문서 수
+ * migrated: 결정적 ID 문서로 옮긴 문서 수 (해당 글의 첫 문서)
+ * removed: 이미 같은 글이 있어 삭제만 한 중복 문서 수
+ * remappedBookmarks: 새 ID로 옮긴 북마크 수
+ */
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class ContentDedupeResult {
+    private long scanned;
+    private long migrated;
+    private long removed;
+    private long remappedBookmarks;
+}
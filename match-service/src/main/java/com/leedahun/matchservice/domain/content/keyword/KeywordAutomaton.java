@@ -0,0 +1,308 @@
+package com.leedahun.matchservice.domain.content.keyword;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * 전체 구독 키워드를 한 번에 찾는 Aho-Corasick 오토마톤
+ * - 키워드와 본문을 같은 규칙으로 정규화(normalize)한 뒤 비교하므로 대소문자, 구두점, 연속 공백 차이를 무시한다
+ * - 공백을 포함한 키워드("Spring Boot")도 하나의 패턴으로 매칭된다
+ * - 본문을 한 번만 순회하며, 단어 경계에서 시작하고 끝나는 매칭만 보고한다 (끝에 조사가 붙은 경우는 허용)
+ * 생성 후에는 읽기 전용이므로 여러 스레드에서 동시에 match()를 호출해도 된다.
+ */
+public final class KeywordAutomaton {
+
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+    private static final long EMPTY_KEY = -1L;
+    private static final char SPACE = ' ';
+
+    // ASCII 문자 정규화 테이블 (0이면 구분자)
+    private static final char[] ASCII_NORMALIZED = new char[128];
+
+    private static final ThreadLocal<char[][]> TEXT_BUFFER = ThreadLocal.withInitial(() -> new char[][]{new char[256]});
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ASCII_NORMALIZED[c] = c;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            ASCII_NORMALIZED[c] = (char) (c + ('a' - 'A'));
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ASCII_NORMALIZED[c] = c;
+        }
+    }
+
+    // 전이 테이블: (상태 << 16 | 문자) -> 다음 상태, 선형 탐사 방식의 오픈 어드레싱
+    private final long[] transitionKeys;
+    private final int[] transitionValues;
+    private final int transitionMask;
+
+    private final int[] fail;
+    private final int[] output;       // 해당 상태에서 끝나는 패턴 번호 (없으면 NONE)
+    private final int[] dictionary;   // 실패 링크를 따라가며 만나는 다음 출력 상태 (없으면 NONE)
+    private final int[] patternLengths;
+
+    private KeywordAutomaton(long[] transitionKeys, int[] transitionValues, int[] fail, int[] output,
+                             int[] dictionary, int[] patternLengths) {
+        this.transitionKeys = transitionKeys;
+        this.transitionValues = transitionValues;
+        this.transitionMask = transitionKeys.length - 1;
+        this.fail = fail;
+        this.output = output;
+        this.dictionary = dictionary;
+        this.patternLengths = patternLengths;
+    }
+
+    /**
+     * 패턴 목록으로 오토마톤 생성
+     * 패턴 번호는 목록의 인덱스이며, 정규화 결과가 비어 있는 패턴은 무시된다.
+     * 정규화 결과가 같은 패턴이 여러 개면 먼저 나온 패턴 번호만 보고되므로 호출 측에서 중복을 제거해야 한다.
+     */
+    public static KeywordAutomaton build(List<String> patterns) {
+        TrieBuilder trie = new TrieBuilder();
+        int[] patternLengths = new int[patterns.size()];
+
+        for (int id = 0; id < patterns.size(); id++) {
+            String pattern = normalize(patterns.get(id));
+            patternLengths[id] = pattern.length();
+            if (!pattern.isEmpty()) {
+                trie.insert(pattern, id);
+            }
+        }
+        return trie.compile(patternLengths);
+    }
+
+    /**
+     * 키워드/본문 공통 정규화
+     * 영문은 소문자로, 문자와 숫자는 유지하고 나머지는 공백으로 바꾼 뒤 연속 공백을 하나로 줄이고 앞뒤 공백을 제거한다.
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        char[] buffer = new char[value.length() + 2];
+        int length = normalizeInto(value, buffer);
+        // 앞뒤 패딩 공백 제외
+        return length <= 2 ? "" : new String(buffer, 1, length - 2);
+    }
+
+    /**
+     * 본문에서 매칭된 패턴 번호를 consumer로 전달
+     * 같은 패턴이 여러 번 나오면 여러 번 전달된다.
+     */
+    public void match(CharSequence text, IntConsumer consumer) {
+        if (text == null || text.length() == 0) {
+            return;
+        }
+
+        char[][] holder = TEXT_BUFFER.get();
+        if (holder[0].length < text.length() + 2) {
+            holder[0] = new char[Math.max(text.length() + 2, holder[0].length * 2)];
+        }
+        char[] chars = holder[0];
+        int length = normalizeInto(text, chars);
+
+        int state = ROOT;
+        for (int i = 0; i < length; i++) {
+            char c = chars[i];
+            int next = transition(state, c);
+            while (next == NONE && state != ROOT) {
+                state = fail[state];
+                next = transition(state, c);
+            }
+            state = (next == NONE) ? ROOT : next;
+
+            int out = (output[state] != NONE) ? state : dictionary[state];
+            while (out != NONE) {
+                int patternId = output[out];
+                if (isWordBoundary(chars, length, i - patternLengths[patternId] + 1, i)) {
+                    consumer.accept(patternId);
+                }
+                out = dictionary[out];
+            }
+        }
+    }
+
+    // 매칭 구간 [start, end]가 단어 경계에 놓여 있는지 확인 (끝 뒤에 조사가 붙은 경우 허용)
+    private static boolean isWordBoundary(char[] chars, int length, int start, int end) {
+        if (chars[start - 1] != SPACE) {
+            return false;
+        }
+        if (chars[end + 1] == SPACE) {
+            return true;
+        }
+        int wordEnd = end + 1;
+        while (wordEnd < length && chars[wordEnd] != SPACE) {
+            wordEnd++;
+        }
+        return KeywordTokenizer.isParticle(chars, end + 1, wordEnd);
+    }
+
+    private int transition(int state, char c) {
+        long key = transitionKey(state, c);
+        int slot = slot(key, transitionMask);
+        while (true) {
+            long found = transitionKeys[slot];
+            if (found == key) {
+                return transitionValues[slot];
+            }
+            if (found == EMPTY_KEY) {
+                return NONE;
+            }
+            slot = (slot + 1) & transitionMask;
+        }
+    }
+
+    // 정규화 결과를 앞뒤에 공백 하나씩 붙여 buffer에 기록하고 길이를 반환 (buffer는 text.length() + 2 이상이어야 함)
+    private static int normalizeInto(CharSequence text, char[] buffer) {
+        int length = 0;
+        buffer[length++] = SPACE;
+        boolean previousSpace = true;
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            char normalized;
+            if (c < 128) {
+                normalized = ASCII_NORMALIZED[c];
+            } else if (Character.isLetterOrDigit(c)) {
+                normalized = Character.toLowerCase(c);
+            } else {
+                normalized = 0;
+            }
+
+            if (normalized != 0) {
+                buffer[length++] = normalized;
+                previousSpace = false;
+            } else if (!previousSpace) {
+                buffer[length++] = SPACE;
+                previousSpace = true;
+            }
+        }
+
+        if (!previousSpace) {
+            buffer[length++] = SPACE;
+        }
+        return length;
+    }
+
+    private static long transitionKey(int state, char c) {
+        return ((long) state << 16) | c;
+    }
+
+    private static int slot(long key, int mask) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * 생성 단계에서만 사용하는 트라이
+     * 자식 목록을 (첫 자식, 다음 형제) 배열로 관리하고, compile() 시 BFS로 실패 링크를 계산한 뒤 전이 테이블을 만든다.
+     */
+    private static final class TrieBuilder {
+
+        private int[] firstChild = new int[64];
+        private int[] nextSibling = new int[64];
+        private char[] edge = new char[64];
+        private int[] output = new int[64];
+        private int stateCount;
+
+        TrieBuilder() {
+            newState(SPACE);  // ROOT
+        }
+
+        void insert(String pattern, int patternId) {
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                int child = child(state, c);
+                if (child == NONE) {
+                    child = newState(c);
+                    nextSibling[child] = firstChild[state];
+                    firstChild[state] = child;
+                }
+                state = child;
+            }
+            if (output[state] == NONE) {
+                output[state] = patternId;
+            }
+        }
+
+        KeywordAutomaton compile(int[] patternLengths) {
+            int capacity = Integer.highestOneBit(Math.max(2, stateCount * 2 - 1)) << 1;
+            long[] keys = new long[capacity];
+            int[] values = new int[capacity];
+            Arrays.fill(keys, EMPTY_KEY);
+            int mask = capacity - 1;
+
+            for (int state = 0; state < stateCount; state++) {
+                for (int child = firstChild[state]; child != NONE; child = nextSibling[child]) {
+                    long key = transitionKey(state, edge[child]);
+                    int slot = slot(key, mask);
+                    while (keys[slot] != EMPTY_KEY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = key;
+                    values[slot] = child;
+                }
+            }
+
+            int[] fail = new int[stateCount];
+            int[] dictionary = new int[stateCount];
+            Arrays.fill(dictionary, NONE);
+
+            int[] queue = new int[stateCount];
+            int head = 0;
+            int tail = 0;
+            for (int child = firstChild[ROOT]; child != NONE; child = nextSibling[child]) {
+                fail[child] = ROOT;
+                queue[tail++] = child;
+            }
+
+            while (head < tail) {
+                int state = queue[head++];
+                for (int child = firstChild[state]; child != NONE; child = nextSibling[child]) {
+                    char c = edge[child];
+                    int f = fail[state];
+                    int next = child(f, c);
+                    while (next == NONE && f != ROOT) {
+                        f = fail[f];
+                        next = child(f, c);
+                    }
+                    fail[child] = (next == NONE) ? ROOT : next;
+                    dictionary[child] = (output[fail[child]] != NONE) ? fail[child] : dictionary[fail[child]];
+                    queue[tail++] = child;
+                }
+            }
+
+            return new KeywordAutomaton(keys, values, fail, Arrays.copyOf(output, stateCount), dictionary, patternLengths);
+        }
+
+        private int child(int state, char c) {
+            for (int child = firstChild[state]; child != NONE; child = nextSibling[child]) {
+                if (edge[child] == c) {
+                    return child;
+                }
+            }
+            return NONE;
+        }
+
+        private int newState(char c) {
+            if (stateCount == edge.length) {
+                int capacity = edge.length * 2;
+                firstChild = Arrays.copyOf(firstChild, capacity);
+                nextSibling = Arrays.copyOf(nextSibling, capacity);
+                edge = Arrays.copyOf(edge, capacity);
+                output = Arrays.copyOf(output, capacity);
+            }
+            int state = stateCount++;
+            firstChild[state] = NONE;
+            nextSibling[state] = NONE;
+            edge[state] = c;
+            output[state] = NONE;
+            return state;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.leedahun.matchservice.domain.content.keyword;
+
+import com.leedahun.keyword.expression.KeywordExpression;
+import com.leedahun.matchservice.infra.client.dto.KeywordSubscriptionDto;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 구독 키워드 표현식 전체를 컴파일한 공유 매칭 계획
+ * - 모든 표현식의 단어를 중복 없이 하나의 KeywordAutomaton에 넣어, 콘텐츠마다 본문을 한 번만 순회하며 단어별 포함 여부를 구한다
+ * - 정규화한 단어 구성이 같은 표현식은 하나로 합치고 유저 목록을 공유한다 ("Spring Boot", "spring-boot")
+ * - 표현식은 첫 번째 포함 단어 아래에만 색인하므로, 매칭된 단어에 걸린 표현식만 한 번씩 평가한다
+ * 콘텐츠당 비용은 유저 수가 아니라 본문 길이와 매칭된 단어/표현식 수에 비례한다.
+ * 생성 후에는 읽기 전용이므로 여러 스레드에서 동시에 사용해도 된다.
+ */
+public final class KeywordMatchPlan {
+
+    private static final char TERM_SEPARATOR = '\u0000';
+    private static final char GROUP_SEPARATOR = '\u0001';
+
+    private final KeywordAutomaton automaton;
+    private final int termCount;
+    private final int[][] positiveTerms;        // 표현식 번호 -> 포함 단어 번호
+    private final int[][] negativeTerms;        // 표현식 번호 -> 제외 단어 번호
+    private final long[][] usersByExpression;   // 표현식 번호 -> 정렬된 유저 ID
+    private final int[][] expressionsByTerm;    // 단어 번호 -> 이 단어를 첫 포함 단어로 가진 표현식 번호
+    private final int invalidCount;
+
+    private KeywordMatchPlan(KeywordAutomaton automaton, int termCount, int[][] positiveTerms, int[][] negativeTerms,
+                             long[][] usersByExpression, int[][] expressionsByTerm, int invalidCount) {
+        this.automaton = automaton;
+        this.termCount = termCount;
+        this.positiveTerms = positiveTerms;
+        this.negativeTerms = negativeTerms;
+        this.usersByExpression = usersByExpression;
+        this.expressionsByTerm = expressionsByTerm;
+        this.invalidCount = invalidCount;
+    }
+
+    /**
+     * 구독 키워드 목록으로 매칭 계획 생성
+     * 형식이 잘못된 키워드는 건너뛰고 invalidCount()로 개수만 남긴다.
+     */
+    public static KeywordMatchPlan compile(List<KeywordSubscriptionDto> keywords) {
+        Map<String, NormalizedTerms> termsByName = new HashMap<>();
+        Map<String, Integer> termIds = new HashMap<>();
+        List<String> terms = new ArrayList<>();
+        Map<String, Integer> expressionIds = new HashMap<>();
+        List<int[]> positives = new ArrayList<>();
+        List<int[]> negatives = new ArrayList<>();
+        List<Set<Long>> users = new ArrayList<>();
+        int invalidCount = 0;
+
+        for (KeywordSubscriptionDto keyword : keywords) {
+            if (keyword.getUserId() == null) {
+                continue;
+            }
+            NormalizedTerms expression;
+            try {
+                // 같은 키워드를 구독한 유저가 많으므로 원문 기준으로 한 번만 해석
+                expression = termsByName.computeIfAbsent(keyword.getName(), NormalizedTerms::parse);
+            } catch (IllegalArgumentException e) {
+                invalidCount++;
+                continue;
+            }
+
+            String key = String.join(String.valueOf(TERM_SEPARATOR), expression.positives())
+                    + GROUP_SEPARATOR + String.join(String.valueOf(TERM_SEPARATOR), expression.negatives());
+            Integer expressionId = expressionIds.get(key);
+            if (expressionId == null) {
+                expressionId = users.size();
+                expressionIds.put(key, expressionId);
+                positives.add(toTermIds(expression.positives(), termIds, terms));
+                negatives.add(toTermIds(expression.negatives(), termIds, terms));
+                users.add(new TreeSet<>());
+            }
+            users.get(expressionId).add(keyword.getUserId());
+        }
+
+        List<List<Integer>> anchored = new ArrayList<>(terms.size());
+        for (int i = 0; i < terms.size(); i++) {
+            anchored.add(new ArrayList<>(1));
+        }
+        long[][] usersByExpression = new long[users.size()][];
+        for (int expressionId = 0; expressionId < users.size(); expressionId++) {
+            anchored.get(positives.get(expressionId)[0]).add(expressionId);
+            usersByExpression[expressionId] = toSortedArray(users.get(expressionId));
+        }
+
+        int[][] expressionsByTerm = new int[terms.size()][];
+        for (int termId = 0; termId < terms.size(); termId++) {
+            expressionsByTerm[termId] = anchored.get(termId).stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new KeywordMatchPlan(KeywordAutomaton.build(terms), terms.size(),
+                positives.toArray(new int[0][]), negatives.toArray(new int[0][]),
+                usersByExpression, expressionsByTerm, invalidCount);
+    }
+
+    /**
+     * 소스 구독자 중 표현식이 참인 유저 ID 목록 반환 (subscribers: 오름차순)
+     * 포함 단어는 제목과 요약 중 어느 쪽에 있어도 되고, 제외 단어는 어느 쪽에든 있으면 제외한다.
+     */
+    public List<Long> findUserIds(long[] subscribers, String title, String summary) {
+        if (usersByExpression.length == 0) {
+            return Collections.emptyList();
+        }
+
+        // 제목과 요약을 이어 붙이면 경계를 넘는 매칭이 생기므로 각각 검사
+        BitSet matched = new BitSet(termCount);
+        automaton.match(title, matched::set);
+        automaton.match(summary, matched::set);
+        if (matched.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (int termId = matched.nextSetBit(0); termId >= 0; termId = matched.nextSetBit(termId + 1)) {
+            for (int expressionId : expressionsByTerm[termId]) {
+                if (!containsAll(matched, positiveTerms[expressionId]) || containsAny(matched, negativeTerms[expressionId])) {
+                    continue;
+                }
+                addSubscribedUsers(usersByExpression[expressionId], subscribers, userIds);
+            }
+        }
+        return new ArrayList<>(userIds);
+    }
+
+    public int termCount() {
+        return termCount;
+    }
+
+    public int expressionCount() {
+        return usersByExpression.length;
+    }
+
+    public int invalidCount() {
+        return invalidCount;
+    }
+
+    private static int[] toTermIds(Set<String> values, Map<String, Integer> termIds, List<String> terms) {
+        int[] result = new int[values.size()];
+        int i = 0;
+        for (String value : values) {
+            result[i++] = termIds.computeIfAbsent(value, term -> {
+                terms.add(term);
+                return terms.size() - 1;
+            });
+        }
+        return result;
+    }
+
+    // 두 정렬된 목록의 교집합: 작은 쪽을 순회하며 큰 쪽을 이진 탐색 (인기 키워드의 유저 수가 소스 구독자보다 훨씬 많을 수 있음)
+    private static void addSubscribedUsers(long[] users, long[] subscribers, Set<Long> result) {
+        long[] smaller = users.length <= subscribers.length ? users : subscribers;
+        long[] larger = smaller == users ? subscribers : users;
+        for (long userId : smaller) {
+            if (Arrays.binarySearch(larger, userId) >= 0) {
+                result.add(userId);
+            }
+        }
+    }
+
+    private static boolean containsAll(BitSet matched, int[] termIds) {
+        for (int termId : termIds) {
+            if (!matched.get(termId)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean containsAny(BitSet matched, int[] termIds) {
+        for (int termId : termIds) {
+            if (matched.get(termId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long[] toSortedArray(Set<Long> values) {
+        long[] result = new long[values.size()];
+        int i = 0;
+        for (Long value : values) {
+            result[i++] = value;
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * 표현식의 정규화한 단어 (중복 제거, 오름차순)
+     * 정렬해 두므로 표기나 순서만 다른 표현식("kafka streams", "Streams AND KAFKA")은 같은 단어 목록이 된다.
+     */
+    private record NormalizedTerms(TreeSet<String> positives, TreeSet<String> negatives) {
+
+        static NormalizedTerms parse(String name) {
+            KeywordExpression expression = KeywordExpression.parse(name);
+            return new NormalizedTerms(normalize(expression.getPositiveTerms()), normalize(expression.getNegativeTerms()));
+        }
+
+        private static TreeSet<String> normalize(List<String> values) {
+            TreeSet<String> result = new TreeSet<>();
+            for (String value : values) {
+                result.add(KeywordAutomaton.normalize(value));
+            }
+            return result;
+        }
+    }
+}
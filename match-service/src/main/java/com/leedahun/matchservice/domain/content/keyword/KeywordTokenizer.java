@@ -0,0 +1,183 @@
+package com.leedahun.matchservice.domain.content.keyword;
+
+import java.util.Set;
+
+/**
+ * 콘텐츠 제목/요약에서 키워드 후보 토큰을 추출하는 토크나이저
+ * - 문자 분류 테이블을 이용해 텍스트를 한 번만 순회 (정규식, 문자열 결합/분할 없음)
+ * - 공백으로 토큰을 나누고, 영문/숫자/한글 외의 문자는 버린 채 앞뒤를 이어 붙임 (기존 정규식 동작과 동일)
+ * - 영문은 소문자로 정규화
+ * - 한글로 끝나는 토큰은 원형과 함께 조사를 떼어낸 형태도 추가 ("카프카는" -> "카프카는", "카프카")
+ * - 2글자 이상인 토큰만 사용
+ */
+public final class KeywordTokenizer {
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+
+    private static final byte DROP = 0;
+    private static final byte WORD = 1;
+    private static final byte SEPARATOR = 2;
+
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+
+    // ASCII 문자 분류 / 정규화 테이블
+    private static final byte[] ASCII_CLASS = new byte[128];
+    private static final char[] ASCII_NORMALIZED = new char[128];
+
+    // 조사 (긴 것부터 검사해야 "에서"가 "서"보다 먼저 매칭됨)
+    private static final char[][] PARTICLES = toCharArrays(
+            "으로부터", "에서부터",
+            "로부터", "에게서", "한테서", "에서는", "에서도", "으로는", "으로도", "이라는",
+            "에서", "에게", "한테", "께서", "으로", "까지", "부터", "처럼", "보다", "이나", "이랑", "에는", "에도",
+            "와", "과", "은", "는", "이", "가", "을", "를", "의", "에", "도", "로", "만", "랑"
+    );
+
+    // 조사의 마지막 글자 여부 (한글 음절 오프셋 기준), 대부분의 토큰을 조사 비교 없이 걸러내기 위함
+    private static final boolean[] PARTICLE_LAST_CHAR = new boolean[HANGUL_END - HANGUL_BEGIN + 1];
+
+    private static final ThreadLocal<TokenBuffer> BUFFER = ThreadLocal.withInitial(TokenBuffer::new);
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            ASCII_CLASS[c] = WORD;
+            ASCII_NORMALIZED[c] = c;
+        }
+        for (char c = 'A'; c <= 'Z'; c++) {
+            ASCII_CLASS[c] = WORD;
+            ASCII_NORMALIZED[c] = (char) (c + ('a' - 'A'));
+        }
+        for (char c = '0'; c <= '9'; c++) {
+            ASCII_CLASS[c] = WORD;
+            ASCII_NORMALIZED[c] = c;
+        }
+        for (char c : new char[]{' ', '\t', '\n', '\u000B', '\f', '\r'}) {
+            ASCII_CLASS[c] = SEPARATOR;
+        }
+        for (char[] particle : PARTICLES) {
+            PARTICLE_LAST_CHAR[particle[particle.length - 1] - HANGUL_BEGIN] = true;
+        }
+    }
+
+    private KeywordTokenizer() {
+    }
+
+    /**
+     * 제목과 요약에서 키워드 후보 집합 추출
+     * 두 텍스트를 이어 붙이지 않고 각각 토큰화하며, 스레드별 버퍼를 재사용한다.
+     */
+    public static Set<String> extract(String title, String summary) {
+        TokenBuffer buffer = BUFFER.get();
+        buffer.clear();
+        tokenize(title, buffer);
+        tokenize(summary, buffer);
+        Set<String> result = buffer.toSet();
+        buffer.clear();
+        return result;
+    }
+
+    /**
+     * 텍스트를 토큰화하여 버퍼에 추가 (버퍼를 비우지 않으므로 여러 텍스트를 이어서 기록할 수 있음)
+     */
+    public static void tokenize(CharSequence text, TokenBuffer out) {
+        if (text == null) {
+            return;
+        }
+
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            byte charClass;
+            char normalized = c;
+            if (c < 128) {
+                charClass = ASCII_CLASS[c];
+                normalized = ASCII_NORMALIZED[c];
+            } else if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                charClass = WORD;
+            } else if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+                charClass = SEPARATOR;
+            } else {
+                charClass = DROP;
+            }
+
+            if (charClass == WORD) {
+                out.append(normalized);
+            } else if (charClass == SEPARATOR) {
+                flush(out);
+            }
+        }
+        flush(out);
+    }
+
+    // 현재까지 모은 문자를 토큰으로 확정
+    private static void flush(TokenBuffer out) {
+        int length = out.length;
+        out.length = 0;
+        if (length < MIN_TOKEN_LENGTH) {
+            return;
+        }
+
+        out.emit(length);
+
+        int stemLength = stemLength(out.chars, length);
+        if (stemLength != length) {
+            out.emit(stemLength);
+        }
+    }
+
+    // 조사를 뗀 길이 반환 (떼어낼 조사가 없거나 남는 어간이 2글자 미만이면 원래 길이)
+    private static int stemLength(char[] chars, int length) {
+        char last = chars[length - 1];
+        if (last < HANGUL_BEGIN || last > HANGUL_END || !PARTICLE_LAST_CHAR[last - HANGUL_BEGIN]) {
+            return length;
+        }
+
+        for (char[] particle : PARTICLES) {
+            int stemLength = length - particle.length;
+            if (stemLength < MIN_TOKEN_LENGTH) {
+                continue;
+            }
+            if (endsWith(chars, length, particle)) {
+                return stemLength;
+            }
+        }
+        return length;
+    }
+
+    // chars[from, to) 구간이 조사 하나로만 이루어져 있는지 확인 (KeywordAutomaton의 단어 경계 판단에 사용)
+    static boolean isParticle(char[] chars, int from, int to) {
+        if (to <= from) {
+            return false;
+        }
+        char last = chars[to - 1];
+        if (last < HANGUL_BEGIN || last > HANGUL_END || !PARTICLE_LAST_CHAR[last - HANGUL_BEGIN]) {
+            return false;
+        }
+
+        for (char[] particle : PARTICLES) {
+            if (particle.length == to - from && endsWith(chars, to, particle)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean endsWith(char[] chars, int length, char[] suffix) {
+        int offset = length - suffix.length;
+        for (int i = 0; i < suffix.length; i++) {
+            if (chars[offset + i] != suffix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char[][] toCharArrays(String... values) {
+        char[][] result = new char[values.length][];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i].toCharArray();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,148 @@
+package com.leedahun.matchservice.domain.content.keyword;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnership;
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnershipChangedEvent;
+import com.leedahun.matchservice.infra.client.UserInternalApiClient;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongPredicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소스 ID -> 구독 유저 ID(정렬된 long 배열) 로컬 캐시
+ * - 캐시에 없으면 identity-service에서 해당 소스의 구독자만 조회해 채운다.
+ * - refresh 주기가 지나면 다음 조회 때 기존 값을 돌려주면서 백그라운드로 다시 읽고, 갱신에 실패하면 기존 값을 유지한다.
+ * - ttl 이 지나도록 갱신되지 않은 항목은 버린다.
+ * - 구독 추가/해지/수신 여부 변경 이벤트를 받으면 해당 소스만 비운다. (UserSourceEventConsumer)
+ * - 배열 크기로 계산한 추정 바이트 합이 max-bytes 를 넘으면 오래 안 쓴 소스부터 내보낸다.
+ * - 유저 파티션 모드에서는 이 인스턴스가 가진 샤드의 유저만 담고, 샤드가 바뀌면 전부 비운다.
+ * 추정 메모리 사용량은 keyfeed.source_subscribers.bytes 게이지로 노출한다.
+ */
+@Slf4j
+@Component
+public class SourceSubscriberCache {
+
+    private static final String CACHE_NAME = "source_subscribers";
+    private static final String BYTES_METRIC_NAME = "keyfeed.source_subscribers.bytes";
+
+    // 항목당 대략적인 고정 비용 (키 Long, 배열 헤더, 캐시 노드)
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private static final long[] EMPTY = new long[0];
+
+    private final UserInternalApiClient userInternalApiClient;
+    private final LongPredicate ownedUser;
+    private final LoadingCache<Long, long[]> cache;
+
+    @Autowired
+    public SourceSubscriberCache(UserInternalApiClient userInternalApiClient,
+                                 ShardOwnership shardOwnership,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.match.subscriber-cache.max-bytes:67108864}") long maxBytes,
+                                 @Value("${app.match.subscriber-cache.refresh-seconds:60}") long refreshSeconds,
+                                 @Value("${app.match.subscriber-cache.ttl-seconds:600}") long ttlSeconds) {
+        this(userInternalApiClient, shardOwnership::owns, meterRegistry, maxBytes, refreshSeconds, ttlSeconds,
+                Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    SourceSubscriberCache(UserInternalApiClient userInternalApiClient, LongPredicate ownedUser, MeterRegistry meterRegistry,
+                          long maxBytes, long refreshSeconds, long ttlSeconds, Ticker ticker, Executor refreshExecutor) {
+        this.userInternalApiClient = userInternalApiClient;
+        this.ownedUser = ownedUser;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Long sourceId, long[] userIds) -> estimateBytes(userIds))
+                .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .expireAfterWrite(Duration.ofSeconds(Math.max(ttlSeconds, refreshSeconds)))
+                .executor(refreshExecutor)
+                .ticker(ticker)
+                .recordStats()
+                .build(this::load);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(BYTES_METRIC_NAME, this, SourceSubscriberCache::estimatedBytes)
+                .description("소스 구독자 캐시 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 소스 구독자 ID (오름차순, 중복 없음)
+     * 반환한 배열은 캐시와 공유하므로 수정하면 안 된다.
+     */
+    public long[] get(Long sourceId) {
+        if (sourceId == null) {
+            return EMPTY;
+        }
+        return cache.get(sourceId);
+    }
+
+    /**
+     * 구독 추가/해지로 소스 구독자가 바뀌었을 때 해당 소스만 비움
+     */
+    public void invalidate(Long sourceId) {
+        cache.invalidate(sourceId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @EventListener
+    public void onShardOwnershipChanged(ShardOwnershipChangedEvent event) {
+        invalidateAll();
+    }
+
+    public long estimatedBytes() {
+        return cache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    private long[] load(Long sourceId) {
+        List<Long> userIds = userInternalApiClient.getSourceSubscriberIds(sourceId);
+        long[] result = toSortedArray(userIds, ownedUser);
+        log.debug("소스 구독자 캐시 적재 - 소스: {}, 구독자: {}명", sourceId, result.length);
+        return result;
+    }
+
+    private static int estimateBytes(long[] userIds) {
+        return ENTRY_OVERHEAD_BYTES + userIds.length * Long.BYTES;
+    }
+
+    // 정렬 후 중복과 null, 다른 샤드의 유저 제거
+    static long[] toSortedArray(List<Long> values, LongPredicate filter) {
+        if (values == null || values.isEmpty()) {
+            return EMPTY;
+        }
+        long[] result = new long[values.size()];
+        int size = 0;
+        for (Long value : values) {
+            if (value != null && filter.test(value)) {
+                result[size++] = value;
+            }
+        }
+        Arrays.sort(result, 0, size);
+
+        int distinct = 0;
+        for (int i = 0; i < size; i++) {
+            if (distinct == 0 || result[distinct - 1] != result[i]) {
+                result[distinct++] = result[i];
+            }
+        }
+        return distinct == result.length ? result : Arrays.copyOf(result, distinct);
+    }
+}
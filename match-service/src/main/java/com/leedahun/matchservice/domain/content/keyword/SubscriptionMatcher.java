@@ -0,0 +1,112 @@
+package com.leedahun.matchservice.domain.content.keyword;
+
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnership;
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnershipChangedEvent;
+import com.leedahun.matchservice.infra.client.UserInternalApiClient;
+import com.leedahun.matchservice.infra.client.dto.KeywordSubscriptionDto;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 콘텐츠 제목/요약에서 구독 키워드를 찾아 알림 대상 유저를 계산하는 인메모리 매처
+ * identity-service에서 알림이 켜진 키워드 표현식을 주기적으로 받아 KeywordMatchPlan으로 컴파일하고,
+ * 소스 구독자는 SourceSubscriberCache에서 꺼내 교집합만 계산하므로 콘텐츠마다 Feign 호출 없이 로컬에서 매칭한다.
+ * 스냅샷은 새로 만든 뒤 참조만 교체하므로 매칭 중인 스레드는 항상 일관된 스냅샷을 본다.
+ * 유저 파티션 모드에서는 이 인스턴스가 가진 샤드의 유저 키워드만 담고, 샤드가 바뀌면 바로 다시 만든다.
+ * 키워드 추가/삭제/알림 토글 이벤트가 오면 짧은 주기 안에 다시 만들고, 주기 갱신은 이벤트 유실에 대비해 그대로 둔다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriptionMatcher {
+
+    private final UserInternalApiClient userInternalApiClient;
+    private final SourceSubscriberCache sourceSubscriberCache;
+    private final ShardOwnership shardOwnership;
+
+    @Value("${app.match.automaton.enabled:true}")
+    private boolean enabled;
+
+    private volatile KeywordMatchPlan plan;
+
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    /**
+     * 구독 정보 스냅샷 갱신
+     * 조회나 생성에 실패하면 기존 스냅샷을 그대로 사용한다.
+     * 주기 갱신, 변경 이벤트, 샤드 변경이 겹쳐도 늦게 조회한 스냅샷이 먼저 조회한 스냅샷에 덮이지 않도록 한 번에 하나씩 만든다.
+     */
+    @Scheduled(fixedDelayString = "${app.match.subscription.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            List<KeywordSubscriptionDto> keywords = userInternalApiClient.getNotificationEnabledKeywords();
+            if (shardOwnership.isEnabled()) {
+                keywords = keywords.stream()
+                        .filter(keyword -> keyword.getUserId() != null && shardOwnership.owns(keyword.getUserId()))
+                        .toList();
+            }
+
+            KeywordMatchPlan built = KeywordMatchPlan.compile(keywords);
+            plan = built;
+            log.info("구독 매칭 인덱스 갱신 완료 - 단어: {}개, 표현식: {}개, 형식 오류로 제외: {}개",
+                    built.termCount(), built.expressionCount(), built.invalidCount());
+        } catch (Exception e) {
+            log.warn("구독 매칭 인덱스 갱신 실패, 기존 인덱스를 유지합니다: {}", e.getMessage());
+        }
+    }
+
+    @EventListener
+    public void onShardOwnershipChanged(ShardOwnershipChangedEvent event) {
+        refresh();
+    }
+
+    /**
+     * 키워드 변경 이벤트로 갱신 요청
+     * 이벤트가 몰려도 한 번만 다시 만들도록 표시만 해 두고 refreshIfChanged 가 모아서 갱신한다.
+     * 유저 파티션 모드에서는 이 인스턴스가 가진 샤드의 유저 변경만 반영한다.
+     */
+    public void requestRefresh(Long userId) {
+        if (userId != null && shardOwnership.isEnabled() && !shardOwnership.owns(userId)) {
+            return;
+        }
+        changed.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${app.match.subscription.change-check-interval-ms:1000}")
+    public void refreshIfChanged() {
+        if (changed.getAndSet(false)) {
+            refresh();
+        }
+    }
+
+    public boolean isReady() {
+        return plan != null;
+    }
+
+    /**
+     * 소스를 구독 중이면서 제목/요약이 키워드 표현식을 만족하는 유저 ID 목록 반환
+     */
+    public List<Long> findUserIds(Long sourceId, String title, String summary) {
+        KeywordMatchPlan current = plan;
+        if (current == null) {
+            return Collections.emptyList();
+        }
+        // 소스 구독자가 없으면 본문을 볼 필요가 없음
+        long[] subscribers = sourceSubscriberCache.get(sourceId);
+        if (subscribers.length == 0) {
+            return Collections.emptyList();
+        }
+        return current.findUserIds(subscribers, title, summary);
+    }
+}
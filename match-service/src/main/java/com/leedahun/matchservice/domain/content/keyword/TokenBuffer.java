@@ -0,0 +1,62 @@
+package com.leedahun.matchservice.domain.content.keyword;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * KeywordTokenizer가 토큰을 기록하는 재사용 버퍼
+ * 현재 만들고 있는 토큰의 문자(scratch)와 완성된 토큰 목록을 담으며, clear() 후 다시 사용한다.
+ * 스레드 간에 공유하면 안 된다.
+ */
+public final class TokenBuffer {
+
+    private static final int INITIAL_CHARS = 64;
+    private static final int INITIAL_TOKENS = 64;
+
+    char[] chars = new char[INITIAL_CHARS];
+    int length;
+
+    private String[] tokens = new String[INITIAL_TOKENS];
+    private int size;
+
+    public void clear() {
+        // 이전 토큰 참조를 남겨두지 않기 위해 사용한 구간만 비움
+        Arrays.fill(tokens, 0, size, null);
+        size = 0;
+        length = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return tokens[index];
+    }
+
+    public Set<String> toSet() {
+        Set<String> result = new HashSet<>(Math.max(16, (int) (size / 0.75f) + 1));
+        for (int i = 0; i < size; i++) {
+            result.add(tokens[i]);
+        }
+        return result;
+    }
+
+    void append(char c) {
+        if (length == chars.length) {
+            chars = Arrays.copyOf(chars, chars.length * 2);
+        }
+        chars[length++] = c;
+    }
+
+    void emit(int tokenLength) {
+        if (size == tokens.length) {
+            tokens = Arrays.copyOf(tokens, tokens.length * 2);
+        }
+        tokens[size++] = new String(chars, 0, tokenLength);
+    }
+}
@@ -1,8 +1,45 @@
 package com.leedahun.matchservice.domain.content.repository;
 
 import com.leedahun.matchservice.domain.content.document.ContentDocument;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.annotations.Query;
 import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
 
 public interface ContentDocumentRepository extends ElasticsearchRepository<ContentDocument, String> {
 
+    /**
+     * 구독 소스의 콘텐츠 중 createdAfter 이후 저장되었고 제목/요약에 키워드가 들어간 글 (키워드 추가 시 최근 콘텐츠 알림용)
+     */
+    @Query("""
+    {
+      "bool": {
+        "must": [
+          {
+            "multi_match": {
+              "query": "?0",
+              "fields": ["title", "summary"],
+              "type": "phrase"
+            }
+          }
+        ],
+        "filter": [
+          {
+            "terms": {
+              "source_id": ?1
+            }
+          },
+          {
+            "range": {
+              "created_at": {
+                "gte": "?2"
+              }
+            }
+          }
+        ]
+      }
+    }
+    """)
+    List<ContentDocument> searchRecentByKeyword(String keyword, List<Long> sourceIds, String createdAfter, Pageable pageable);
+
 }
\ No newline at end of file
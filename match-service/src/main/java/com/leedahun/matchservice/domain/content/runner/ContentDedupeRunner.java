@@ -0,0 +1,33 @@
+package com.leedahun.matchservice.domain.content.runner;
+
+import com.leedahun.matchservice.domain.content.service.ContentDedupeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결정적 문서 ID 도입 이전에 쌓인 중복 콘텐츠를 정리하는 일회성 작업
+ * app.content.dedupe.enabled=true 로 한 번 실행한 뒤 다시 끈다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.content.dedupe.enabled", havingValue = "true")
+public class ContentDedupeRunner implements ApplicationRunner {
+
+    private final ContentDedupeService contentDedupeService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("기존 콘텐츠 인덱스 중복 정리 시작");
+        try {
+            contentDedupeService.dedupe();
+        } catch (Exception e) {
+            // 서비스 기동은 막지 않음, 다시 실행하면 이어서 정리됨
+            log.error("기존 콘텐츠 인덱스 중복 정리 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.leedahun.matchservice.domain.content.service;
+
+import com.leedahun.matchservice.domain.content.dto.ContentDedupeResult;
+
+public interface ContentDedupeService {
+
+    ContentDedupeResult dedupe();
+}
@@ -1,8 +1,10 @@
 package com.leedahun.matchservice.domain.content.service;
 
+import com.leedahun.matchservice.domain.content.dto.BulkSaveResult;
 import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import java.util.List;
 
 public interface ContentService {
 
-    void saveContent(CrawledContentDto dto);
-}
\ No newline at end of file
+    BulkSaveResult saveContents(List<CrawledContentDto> dtos);
+}
@@ -0,0 +1,9 @@
+package com.leedahun.matchservice.domain.content.service;
+
+import com.leedahun.matchservice.infra.kafka.dto.KeywordAddedEventDto;
+
+public interface KeywordBackfillService {
+
+    int backfill(KeywordAddedEventDto event);
+
+}
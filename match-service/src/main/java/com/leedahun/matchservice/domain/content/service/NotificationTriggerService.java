@@ -1,9 +1,21 @@
 package com.leedahun.matchservice.domain.content.service;
 
 import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import com.leedahun.matchservice.infra.kafka.dto.RelatedContentDto;
+import com.leedahun.matchservice.infra.kafka.freshness.FreshnessTrace;
+import java.util.List;
+import java.util.function.LongPredicate;
 
 public interface NotificationTriggerService {
 
-    void matchAndSendNotification(CrawledContentDto content);
+    default void matchAndSendNotification(CrawledContentDto content) {
+        matchAndSendNotification(content, FreshnessTrace.empty());
+    }
+
+    void matchAndSendNotification(CrawledContentDto content, FreshnessTrace trace);
+
+    void rematchAndSendNotification(CrawledContentDto content, FreshnessTrace trace, LongPredicate recipientFilter);
+
+    void sendBackfillNotification(Long userId, String keyword, List<RelatedContentDto> relatedContents);
 
 }
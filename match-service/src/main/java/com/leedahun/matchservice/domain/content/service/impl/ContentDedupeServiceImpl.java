@@ -0,0 +1,119 @@
+package com.leedahun.matchservice.domain.content.service.impl;
+
+import com.leedahun.matchservice.domain.content.document.ContentDocument;
+import com.leedahun.matchservice.domain.content.dto.ContentDedupeResult;
+import com.leedahun.matchservice.domain.content.service.ContentDedupeService;
+import com.leedahun.matchservice.domain.content.util.ContentIdGenerator;
+import com.leedahun.matchservice.infra.client.UserInternalApiClient;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContentDedupeServiceImpl implements ContentDedupeService {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final UserInternalApiClient userInternalApiClient;
+
+    @Value("${app.content.dedupe.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 랜덤 ID로 저장된 기존 문서를 (소스 ID, 원문 URL) 기반의 결정적 ID 문서로 정리
+     * 1. 생성 시각 오름차순으로 전체 문서를 scroll
+     * 2. 결정적 ID 문서가 없으면 현재 문서를 그 ID로 복사 (같은 글 중 가장 먼저 저장된 문서가 남음)
+     * 3. 이전 ID -> 결정적 ID 매핑을 모아 identity-service의 북마크를 먼저 옮긴 뒤 이전 문서를 삭제
+     * 중간에 실패해도 다시 실행하면 이어서 정리된다. (이미 옮긴 문서는 ID가 같아 건너뜀)
+     */
+    @Override
+    public ContentDedupeResult dedupe() {
+        Query query = Query.findAll();
+        query.setPageable(PageRequest.of(0, batchSize));
+        query.addSort(Sort.by(Sort.Direction.ASC, "createdAt"));
+
+        Map<String, String> pending = new LinkedHashMap<>();
+        long scanned = 0;
+        long migrated = 0;
+        long removed = 0;
+        long remappedBookmarks = 0;
+
+        try (SearchHitsIterator<ContentDocument> hits = elasticsearchOperations.searchForStream(query, ContentDocument.class)) {
+            while (hits.hasNext()) {
+                ContentDocument document = hits.next().getContent();
+                scanned++;
+                if (document.getOriginalUrl() == null) {
+                    continue;
+                }
+
+                String targetId = ContentIdGenerator.generate(document.getSourceId(), document.getOriginalUrl());
+                if (targetId.equals(document.getId())) {
+                    continue;
+                }
+
+                if (elasticsearchOperations.exists(targetId, ContentDocument.class)) {
+                    removed++;
+                } else {
+                    elasticsearchOperations.save(copyWithId(document, targetId));
+                    migrated++;
+                }
+
+                pending.put(document.getId(), targetId);
+                if (pending.size() >= batchSize) {
+                    remappedBookmarks += flush(pending);
+                }
+            }
+        }
+        remappedBookmarks += flush(pending);
+
+        ContentDedupeResult result = ContentDedupeResult.builder()
+                .scanned(scanned)
+                .migrated(migrated)
+                .removed(removed)
+                .remappedBookmarks(remappedBookmarks)
+                .build();
+        log.info("콘텐츠 중복 정리 완료: {}", result);
+        return result;
+    }
+
+    // 북마크를 새 ID로 옮긴 뒤 이전 문서 삭제 (북마크 이전에 실패하면 문서는 그대로 남음)
+    private long flush(Map<String, String> pending) {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Integer remapped = userInternalApiClient.remapBookmarkContentIds(pending);
+        for (String oldId : pending.keySet()) {
+            elasticsearchOperations.delete(oldId, ContentDocument.class);
+        }
+        log.info("콘텐츠 중복 정리 진행 중: 이전 문서 {}건 삭제, 북마크 {}건 이전", pending.size(), remapped);
+        pending.clear();
+        return remapped == null ? 0 : remapped;
+    }
+
+    private ContentDocument copyWithId(ContentDocument document, String id) {
+        return ContentDocument.builder()
+                .id(id)
+                .canonicalId(document.getCanonicalId())
+                .contentId(document.getContentId())
+                .sourceId(document.getSourceId())
+                .sourceName(document.getSourceName())
+                .title(document.getTitle())
+                .summary(document.getSummary())
+                .originalUrl(document.getOriginalUrl())
+                .thumbnailUrl(document.getThumbnailUrl())
+                .publishedAt(document.getPublishedAt())
+                .createdAt(document.getCreatedAt())
+                .keywordTerms(document.getKeywordTerms())
+                .build();
+    }
+}
@@ -1,36 +1,159 @@
 package com.leedahun.matchservice.domain.content.service.impl;
 
 import com.leedahun.matchservice.domain.content.document.ContentDocument;
-import com.leedahun.matchservice.domain.content.repository.ContentDocumentRepository;
+import com.leedahun.matchservice.domain.content.dto.BulkSaveResult;
+import com.leedahun.matchservice.domain.content.keyword.KeywordTokenizer;
 import com.leedahun.matchservice.domain.content.service.ContentService;
+import com.leedahun.matchservice.domain.content.similarity.NearDuplicateDetector;
+import com.leedahun.matchservice.domain.content.util.ContentIdGenerator;
+import com.leedahun.matchservice.infra.kafka.backpressure.BackpressureController;
+import com.leedahun.matchservice.infra.kafka.backpressure.Dependency;
 import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ContentServiceImpl implements ContentService {
 
-    private final ContentDocumentRepository contentDocumentRepository;
+    private static final int CONFLICT = 409;
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVER_ERROR = 500;
 
-    @Transactional
-    public void saveContent(CrawledContentDto dto) {
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final BackpressureController backpressureController;
 
-        ContentDocument contentDocument = ContentDocument.builder()
+    /**
+     * 여러 콘텐츠를 한 번의 _bulk 요청으로 저장
+     * 문서 ID는 (소스 ID, 원문 URL)로 결정되며 create 요청을 사용하므로, 이미 있는 콘텐츠는 409(버전 충돌)로 건너뛴다.
+     * 다른 소스로 먼저 들어온 거의 같은 글이 있으면 그 글의 ID를 canonical_id 로 함께 저장한다.
+     * 유사 글 탐지 색인에는 저장에 성공한(또는 이미 있던) 콘텐츠만 등록한다.
+     * 제목/요약의 정규화 단어는 keyword_terms 로 함께 저장해 키워드 조회가 본문 검색 없이 term 필터로 처리되게 한다.
+     * 항목별 실패는 ID로 요청 목록의 위치에 되돌려 매핑한다.
+     * 같은 배치 안에 같은 글이 여러 번 있으면 첫 번째만 요청하고, 나머지는 첫 번째가 저장(또는 409)된 뒤에만 중복으로 처리한다.
+     * 첫 번째가 실패하면 나머지도 같은 사유로 실패 처리해 함께 재시도되게 한다.
+     * 실패 항목은 여기서 다시 요청하지 않는다. 리스너가 실패 레코드를 알리면 에러 핸들러의 BackOff 간격으로 재시도한다.
+     * bulk 요청 자체가 실패하면(ES 연결 불가 등) 예외를 그대로 던진다.
+     */
+    @Override
+    public BulkSaveResult saveContents(List<CrawledContentDto> dtos) {
+        if (dtos.isEmpty()) {
+            return BulkSaveResult.success();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<IndexQuery> queries = new ArrayList<>(dtos.size());
+        Map<String, Integer> indexById = new HashMap<>();
+        Map<Integer, Integer> firstIndexByCopy = new HashMap<>();
+        List<NearDuplicateDetector.Resolution> resolutions = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            CrawledContentDto dto = dtos.get(i);
+            String id = ContentIdGenerator.generate(dto.getSourceId(), dto.getOriginalUrl());
+            // 같은 배치 안에 같은 글이 두 번 들어온 경우 (첫 번째 결과를 보고 판단)
+            Integer firstIndex = indexById.putIfAbsent(id, i);
+            if (firstIndex != null) {
+                firstIndexByCopy.put(i, firstIndex);
+                continue;
+            }
+            NearDuplicateDetector.Resolution resolution =
+                    nearDuplicateDetector.resolve(id, dto.getTitle(), dto.getSummary(), resolutions);
+            resolutions.add(resolution);
+            queries.add(new IndexQueryBuilder()
+                    .withId(id)
+                    .withObject(toDocument(dto, id, resolution.canonicalId(), now))
+                    .withOpType(IndexQuery.OpType.CREATE)
+                    .build());
+        }
+
+        Map<Integer, String> failures = new HashMap<>();
+        Set<Integer> duplicates = new HashSet<>();
+        for (Map.Entry<String, BulkFailureException.FailureDetails> entry : bulkIndex(queries).entrySet()) {
+            Integer index = indexById.get(entry.getKey());
+            if (index == null) {
+                continue;
+            }
+            BulkFailureException.FailureDetails details = entry.getValue();
+            if (isConflict(details.status())) {
+                duplicates.add(index);
+            } else {
+                failures.put(index, details.errorMessage());
+            }
+        }
+        for (NearDuplicateDetector.Resolution resolution : resolutions) {
+            if (!failures.containsKey(indexById.get(resolution.contentId()))) {
+                nearDuplicateDetector.register(resolution);
+            }
+        }
+        firstIndexByCopy.forEach((copy, first) -> {
+            String failure = failures.get(first);
+            if (failure != null) {
+                failures.put(copy, failure);
+            } else {
+                duplicates.add(copy);
+            }
+        });
+
+        log.info("콘텐츠 bulk 저장 완료 (ES): 신규 {}건, 중복 {}건, 실패 {}건",
+                dtos.size() - duplicates.size() - failures.size(), duplicates.size(), failures.size());
+        if (failures.isEmpty() && duplicates.isEmpty()) {
+            return BulkSaveResult.success();
+        }
+        return new BulkSaveResult(failures, duplicates);
+    }
+
+    // 실패한 문서 ID -> 실패 정보 (모두 성공하면 빈 맵)
+    // 요청 자체가 실패했거나 429/5xx 항목이 있으면 ES 과부하로 보고 백프레셔에 기록한다.
+    private Map<String, BulkFailureException.FailureDetails> bulkIndex(List<IndexQuery> queries) {
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            elasticsearchOperations.bulkIndex(queries, ContentDocument.class);
+            failed = false;
+            return Map.of();
+        } catch (BulkFailureException e) {
+            failed = e.getFailedDocuments().values().stream().anyMatch(details -> isRetryable(details.status()));
+            return e.getFailedDocuments();
+        } finally {
+            backpressureController.record(Dependency.ELASTICSEARCH,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), failed);
+        }
+    }
+
+    private boolean isConflict(Integer status) {
+        return status != null && status == CONFLICT;
+    }
+
+    private boolean isRetryable(Integer status) {
+        return status != null && (status == TOO_MANY_REQUESTS || status >= SERVER_ERROR);
+    }
+
+    private ContentDocument toDocument(CrawledContentDto dto, String id, String canonicalId, LocalDateTime createdAt) {
+        return ContentDocument.builder()
+                .id(id)
+                .canonicalId(canonicalId)
                 .sourceId(dto.getSourceId())
                 .title(dto.getTitle())
                 .summary(dto.getSummary())
+                .keywordTerms(List.copyOf(KeywordTokenizer.extract(dto.getTitle(), dto.getSummary())))
                 .originalUrl(dto.getOriginalUrl())
                 .thumbnailUrl(dto.getThumbnailUrl())
                 .publishedAt(dto.getPublishedAt())
-                .createdAt(LocalDateTime.now())
+                .createdAt(createdAt)
                 .build();
-        contentDocumentRepository.save(contentDocument);
-
-        log.info("콘텐츠 저장 완료 (ES): {}", dto.getTitle());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package com.leedahun.matchservice.domain.content.service.impl;
+
+import com.leedahun.keyword.expression.KeywordExpression;
+import com.leedahun.matchservice.domain.content.document.ContentDocument;
+import com.leedahun.matchservice.domain.content.keyword.KeywordAutomaton;
+import com.leedahun.matchservice.domain.content.keyword.KeywordMatchPlan;
+import com.leedahun.matchservice.domain.content.repository.ContentDocumentRepository;
+import com.leedahun.matchservice.domain.content.service.KeywordBackfillService;
+import com.leedahun.matchservice.domain.content.service.NotificationTriggerService;
+import com.leedahun.matchservice.infra.client.dto.KeywordSubscriptionDto;
+import com.leedahun.matchservice.infra.kafka.dto.KeywordAddedEventDto;
+import com.leedahun.matchservice.infra.kafka.dto.RelatedContentDto;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KeywordBackfillServiceImpl implements KeywordBackfillService {
+
+    private static final DateTimeFormatter ES_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS");
+
+    // 여러 단어로 된 표현식은 검색 후 걸러내므로 그만큼 더 가져옴
+    private static final int EXPRESSION_FETCH_FACTOR = 3;
+
+    private final ContentDocumentRepository contentDocumentRepository;
+    private final NotificationTriggerService notificationTriggerService;
+
+    @Value("${app.match.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.match.backfill.lookback-days:3}")
+    private long lookbackDays;
+
+    @Value("${app.match.backfill.max-results:10}")
+    private int maxResults;
+
+    private Clock clock = Clock.systemDefaultZone();
+
+    /**
+     * 새로 등록한 키워드로 최근 lookback-days 일 동안 구독 소스에 올라온 글을 찾아 알림 한 건으로 발행
+     * 최신순 최대 max-results 건만 한 번의 ES 검색으로 가져오므로 비용이 키워드/소스 수와 관계없이 일정하다.
+     * 여러 소스로 들어온 같은 글(canonical_id 동일)은 하나만 담는다.
+     * 여러 단어로 된 표현식은 가장 긴 포함 단어로 검색한 뒤 실시간 매칭과 같은 KeywordMatchPlan으로 나머지 조건을 검사한다.
+     * 발행한 콘텐츠 수를 반환한다.
+     */
+    @Override
+    public int backfill(KeywordAddedEventDto event) {
+        if (!enabled || event.getUserId() == null || event.getKeyword() == null || event.getKeyword().isBlank()
+                || event.getSourceIds() == null || event.getSourceIds().isEmpty()) {
+            return 0;
+        }
+
+        String keyword = event.getKeyword().strip();
+        KeywordExpression expression;
+        try {
+            expression = KeywordExpression.parse(keyword);
+        } catch (IllegalArgumentException e) {
+            log.warn("키워드 추가 - 해석할 수 없는 키워드 표현식 (userId: {}, keyword: {}): {}",
+                    event.getUserId(), keyword, e.getMessage());
+            return 0;
+        }
+
+        boolean singleTerm = expression.getPositiveTerms().size() == 1 && expression.getNegativeTerms().isEmpty();
+        String searchTerm = expression.getPositiveTerms().stream()
+                .map(KeywordAutomaton::normalize)
+                .max(Comparator.comparingInt(String::length))
+                .orElseThrow();
+        String createdAfter = LocalDateTime.now(clock).minusDays(lookbackDays).format(ES_DATE_FORMATTER);
+        List<ContentDocument> documents = contentDocumentRepository.searchRecentByKeyword(
+                searchTerm, event.getSourceIds(), createdAfter,
+                PageRequest.of(0, singleTerm ? maxResults : maxResults * EXPRESSION_FETCH_FACTOR,
+                        Sort.by(Sort.Direction.DESC, "createdAt")));
+
+        KeywordMatchPlan plan = singleTerm ? null : KeywordMatchPlan.compile(List.of(KeywordSubscriptionDto.builder()
+                .userId(event.getUserId())
+                .name(keyword)
+                .build()));
+        long[] user = {event.getUserId()};
+
+        Set<String> canonicalIds = new HashSet<>();
+        List<RelatedContentDto> relatedContents = new ArrayList<>(Math.min(documents.size(), maxResults));
+        for (ContentDocument document : documents) {
+            if (relatedContents.size() >= maxResults) {
+                break;
+            }
+            if (plan != null && plan.findUserIds(user, document.getTitle(), document.getSummary()).isEmpty()) {
+                continue;
+            }
+            String canonicalId = document.getCanonicalId() == null ? document.getId() : document.getCanonicalId();
+            if (!canonicalIds.add(canonicalId)) {
+                continue;
+            }
+            relatedContents.add(RelatedContentDto.builder()
+                    .contentId(document.getId())
+                    .title(document.getTitle())
+                    .originalUrl(document.getOriginalUrl())
+                    .build());
+        }
+
+        if (relatedContents.isEmpty()) {
+            log.info("키워드 추가 - 최근 콘텐츠 없음 (userId: {}, keyword: {})", event.getUserId(), keyword);
+            return 0;
+        }
+
+        notificationTriggerService.sendBackfillNotification(event.getUserId(), keyword, relatedContents);
+        log.info("키워드 추가 - 최근 콘텐츠 {}건 알림 발행 (userId: {}, keyword: {})",
+                relatedContents.size(), event.getUserId(), keyword);
+        return relatedContents.size();
+    }
+}
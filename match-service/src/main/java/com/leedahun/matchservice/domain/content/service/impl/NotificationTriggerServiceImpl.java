@@ -3,93 +3,274 @@ package com.leedahun.matchservice.domain.content.service.impl;
 import cn.hutool.core.lang.Snowflake;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.coalesce.CoalescedNotification;
+import com.leedahun.matchservice.domain.content.coalesce.NotificationCoalescer;
+import com.leedahun.matchservice.domain.content.keyword.KeywordTokenizer;
+import com.leedahun.matchservice.domain.content.keyword.SubscriptionMatcher;
 import com.leedahun.matchservice.domain.content.service.NotificationTriggerService;
+import com.leedahun.matchservice.domain.content.shadow.ShadowMatchComparator;
+import com.leedahun.matchservice.domain.content.similarity.NearDuplicateDetector;
+import com.leedahun.matchservice.domain.content.util.ContentIdGenerator;
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnership;
+import com.leedahun.matchservice.domain.trending.service.TrendingKeywordService;
 import com.leedahun.matchservice.infra.client.UserInternalApiClient;
 import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
-import com.leedahun.matchservice.infra.kafka.dto.NotificationEventDto;
+import com.leedahun.matchservice.infra.kafka.dto.NotificationFanoutEventDto;
+import com.leedahun.matchservice.infra.kafka.dto.RelatedContentDto;
 import com.leedahun.matchservice.infra.kafka.exception.KafkaMessageProcessingException;
+import com.leedahun.kafka.freshness.FreshnessHeaders;
+import com.leedahun.kafka.freshness.FreshnessMetrics;
+import com.leedahun.matchservice.infra.kafka.freshness.FreshnessTrace;
 import com.leedahun.matchservice.infra.kafka.message.KafkaMessage;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.LongPredicate;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@DependsOn("workerIdLeaseHeartbeat")    // 종료 시 묶음 알림 발행(ID 발급)이 워커 ID 리스 반납보다 먼저 실행되도록
 public class NotificationTriggerServiceImpl implements NotificationTriggerService {
 
     private final UserInternalApiClient userInternalApiClient;
+    private final SubscriptionMatcher subscriptionMatcher;
+    private final NearDuplicateDetector nearDuplicateDetector;
+    private final NotificationCoalescer notificationCoalescer;
     private final ObjectMapper objectMapper;
     private final KafkaTemplate<String, String> kafkaTemplate;
+    private final FreshnessMetrics freshnessMetrics;
+    private final TrendingKeywordService trendingKeywordService;
+    private final ShardOwnership shardOwnership;
+    private final ShadowMatchComparator shadowMatchComparator;
 
     private final Snowflake snowflake;
 
-    @Value("${app.kafka.topic.notification}")
-    private String notificationTopic;
+    @Value("${app.kafka.topic.notification-fanout}")
+    private String notificationFanoutTopic;
+
+    @Value("${app.kafka.notification.fanout-chunk-size:1000}")
+    private int fanoutChunkSize;
 
     /**
      * 콘텐츠의 키워드를 구독 중인 유저를 찾고 알림 이벤트를 발행
      */
     @Override
-    public void matchAndSendNotification(CrawledContentDto content) {
-        // 키워드 추출
-        Set<String> keywords = extractKeywords(content.getTitle(), content.getSummary());
-        if (keywords.isEmpty()) {
+    public void matchAndSendNotification(CrawledContentDto content, FreshnessTrace trace) {
+        // 새로 저장된 콘텐츠만 이 단계로 들어오므로 여기서 트렌딩 키워드를 집계
+        trendingKeywordService.record(content.getSourceId(), content.getTitle(), content.getSummary());
+
+        long matchStartedAt = System.nanoTime();
+        List<Long> matchedUserIds = findMatchedUserIds(content);
+        // 섀도 모드가 켜져 있으면 샘플링된 콘텐츠를 후보 매칭 구현으로도 매칭해 결과를 비교 (발송에는 영향 없음)
+        shadowMatchComparator.compare(content, matchedUserIds, System.nanoTime() - matchStartedAt);
+
+        sendNotification(content, trace, matchedUserIds);
+    }
+
+    /**
+     * 이미 한 번 처리된 콘텐츠를 일부 유저에게만 다시 매칭 (떠난 멤버에게서 넘겨받은 샤드 등)
+     * 트렌딩 집계와 섀도 비교는 처음 처리할 때 이미 했으므로 하지 않는다.
+     */
+    @Override
+    public void rematchAndSendNotification(CrawledContentDto content, FreshnessTrace trace, LongPredicate recipientFilter) {
+        List<Long> matchedUserIds = findMatchedUserIds(content).stream()
+                .filter(recipientFilter::test)
+                .toList();
+        sendNotification(content, trace, matchedUserIds);
+    }
+
+    private void sendNotification(CrawledContentDto content, FreshnessTrace trace, List<Long> matchedUserIds) {
+        if (matchedUserIds.isEmpty()) {
             return;
         }
 
-        List<Long> userIds = userInternalApiClient.findUserIdsByKeywordsAndSource(keywords, content.getSourceId());
+        // 같은 글의 다른 사본으로 이미 알림을 받은 유저는 제외
+        String contentId = ContentIdGenerator.generate(content.getSourceId(), content.getOriginalUrl());
+        List<Long> recipients = nearDuplicateDetector.claimRecipients(contentId, matchedUserIds);
 
+        // 최근에 알림을 받은 유저는 묶음 구간에 모아 두고 구간이 끝날 때 한 번에 보냄
+        RelatedContentDto related = RelatedContentDto.builder()
+                .contentId(contentId)
+                .title(content.getTitle())
+                .originalUrl(content.getOriginalUrl())
+                .build();
+        List<Long> userIds = recipients.isEmpty() ? recipients : notificationCoalescer.admit(recipients, related);
         if (userIds.isEmpty()) {
             return;
         }
 
         log.info("알림 대상 유저 {}명 발견. 콘텐츠: {}", userIds.size(), content.getTitle());
 
-        // 각 유저에게 알림 메시지 발행
-        for (Long userId : userIds) {
-            sendNotificationKafkaMessage(userId, content);
+        long matchedAt = System.currentTimeMillis();
+        freshnessMetrics.record(FreshnessMetrics.INDEX_TO_MATCH, trace.getIndexedAt(), matchedAt);
+
+        // 유저 ID를 청크로 나눠 콘텐츠당 몇 건의 팬아웃 메시지로 발행
+        // 모든 청크를 만든 뒤에 보내므로, 메시지 생성에 실패하면 일부 청크만 발행되는 일이 없음
+        int chunkSize = Math.max(1, fanoutChunkSize);
+        int chunkCount = (userIds.size() + chunkSize - 1) / chunkSize;
+        List<ProducerRecord<String, String>> records = new ArrayList<>(chunkCount);
+        for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+            int from = chunkIndex * chunkSize;
+            List<Long> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+            records.add(createNotificationFanoutRecord(contentId, content, chunk, chunkIndex, chunkCount, trace, matchedAt));
+        }
+        records.forEach(kafkaTemplate::send);
+    }
+
+    /**
+     * 묶음 구간이 끝난 유저에게 구간 동안 모인 콘텐츠를 "N건" 알림 한 건으로 발행
+     */
+    @Scheduled(fixedDelayString = "${app.match.coalesce.tick-ms:1000}")
+    public void flushCoalescedNotifications() {
+        publishCoalescedNotifications(notificationCoalescer.drainExpired());
+    }
+
+    /**
+     * 종료 시 아직 끝나지 않은 묶음 구간까지 모두 발행
+     * 이 빈이 KafkaTemplate 에 의존하므로 프로듀서가 닫히기 전에 실행되고, 보낸 메시지는 flush 로 전송을 마친다.
+     * 알림 ID를 발급해야 하므로 @DependsOn 으로 워커 ID 리스 반납(WorkerIdLeaseHeartbeat.release)보다 먼저 실행한다.
+     * (반납 후에는 LeasedSnowflake 가 발급을 거부해 남은 묶음 알림을 모두 잃음)
+     * (리스너 컨테이너는 소멸 단계 전에 멈추므로 이후 새로 모이는 콘텐츠는 없음)
+     */
+    @PreDestroy
+    public void flushAllCoalescedNotifications() {
+        List<CoalescedNotification> pending = notificationCoalescer.drainAll();
+        if (pending.isEmpty()) {
+            return;
+        }
+        log.info("종료 전 묶음 알림 {}건 발행", pending.size());
+        publishCoalescedNotifications(pending);
+        kafkaTemplate.flush();
+    }
+
+    private void publishCoalescedNotifications(List<CoalescedNotification> coalescedNotifications) {
+        for (CoalescedNotification coalesced : coalescedNotifications) {
+            try {
+                sendCoalescedNotificationKafkaMessage(coalesced);
+            } catch (Exception e) {
+                log.error("묶음 알림 발행 실패 (userId: {}, {}건): {}", coalesced.getUserId(), coalesced.getTotalCount(), e.getMessage(), e);
+            }
         }
     }
 
-    private void sendNotificationKafkaMessage(Long userId, CrawledContentDto content) {
+    /**
+     * 인메모리 매처가 준비되어 있으면 로컬에서 매칭하고,
+     * 아직 첫 스냅샷을 만들지 못했다면 키워드를 추출해 identity-service에 조회한다.
+     * (유저 파티션 모드에서는 조회 결과 중 이 인스턴스가 가진 샤드의 유저만 남김)
+     */
+    private List<Long> findMatchedUserIds(CrawledContentDto content) {
+        if (subscriptionMatcher.isReady()) {
+            return subscriptionMatcher.findUserIds(content.getSourceId(), content.getTitle(), content.getSummary());
+        }
+
+        // 키워드 추출
+        Set<String> keywords = KeywordTokenizer.extract(content.getTitle(), content.getSummary());
+        if (keywords.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> userIds = userInternalApiClient.findUserIdsByKeywordsAndSource(keywords, content.getSourceId());
+        if (!shardOwnership.isEnabled()) {
+            return userIds;
+        }
+        return userIds.stream().filter(shardOwnership::owns).toList();
+    }
+
+    /**
+     * 콘텐츠 정보는 한 번만 담고 유저 ID 청크를 함께 담은 팬아웃 메시지 생성
+     * 알림 ID는 여기서 미리 발급해 메시지에 담으므로, 수신 측에서 재처리되어도 같은 알림 ID가 유지된다.
+     * 같은 콘텐츠의 청크는 콘텐츠 ID를 키로 같은 파티션에 모인다.
+     * 이전 단계의 시각과 매칭 시각은 헤더로 전달한다.
+     */
+    private ProducerRecord<String, String> createNotificationFanoutRecord(String contentId, CrawledContentDto content,
+                                                                        List<Long> userIds, int chunkIndex, int chunkCount,
+                                                                        FreshnessTrace trace, long matchedAt) {
         try {
-            NotificationEventDto event = NotificationEventDto.builder()
-                    .userId(userId)
-                    .notificationId(snowflake.nextId())
+            List<Long> notificationIds = new ArrayList<>(userIds.size());
+            for (int i = 0; i < userIds.size(); i++) {
+                notificationIds.add(snowflake.nextId());
+            }
+
+            NotificationFanoutEventDto event = NotificationFanoutEventDto.builder()
+                    .contentId(contentId)
                     .title(content.getTitle())
                     .message(KafkaMessage.NOTIFICATION_MESSAGE.getMessage())
                     .originalUrl(content.getOriginalUrl())
+                    .chunkIndex(chunkIndex)
+                    .chunkCount(chunkCount)
+                    .userIds(userIds)
+                    .notificationIds(notificationIds)
                     .build();
             String message = objectMapper.writeValueAsString(event);
-            kafkaTemplate.send(notificationTopic, message);
+            ProducerRecord<String, String> record = new ProducerRecord<>(notificationFanoutTopic, contentId, message);
+            trace.writeTo(record.headers());
+            FreshnessHeaders.put(record.headers(), FreshnessHeaders.MATCHED_AT, matchedAt);
+            return record;
         } catch (JsonProcessingException e) {
             log.error("Kafka 전송을 위한 JSON 변환 실패. ContentTitle: {}", content.getTitle(), e);
             throw new KafkaMessageProcessingException();
         }
     }
 
-    private Set<String> extractKeywords(String title, String summary) {
-        if (title == null) {
-            title = "";
-        }
-        if (summary == null) {
-            summary = "";
+    private void sendCoalescedNotificationKafkaMessage(CoalescedNotification coalesced) {
+        int totalCount = coalesced.getTotalCount();
+        sendDigestKafkaMessage(coalesced.getUserId(), coalesced.getRelatedContents(), totalCount,
+                String.format(KafkaMessage.COALESCED_NOTIFICATION_MESSAGE.getMessage(), totalCount));
+    }
+
+    /**
+     * 키워드를 새로 등록한 유저에게 최근 콘텐츠 중 키워드에 맞는 글을 알림 한 건으로 발행
+     */
+    @Override
+    public void sendBackfillNotification(Long userId, String keyword, List<RelatedContentDto> relatedContents) {
+        if (relatedContents.isEmpty()) {
+            return;
         }
-        String text = title + " " + summary;
+        int totalCount = relatedContents.size();
+        sendDigestKafkaMessage(userId, relatedContents, totalCount,
+                String.format(KafkaMessage.BACKFILL_NOTIFICATION_MESSAGE.getMessage(), keyword, totalCount));
+    }
+
+    /**
+     * 여러 콘텐츠를 담은 유저 한 명 대상 알림 (가장 최근 콘텐츠를 대표로 "제목 외 N건")
+     */
+    private void sendDigestKafkaMessage(Long userId, List<RelatedContentDto> relatedContents, int totalCount, String body) {
+        RelatedContentDto latest = relatedContents.isEmpty() ? null : relatedContents.get(0);
 
-        // 특수문자 제거 및 공백 기준 분리
-        String[] tokens = text.replaceAll("[^a-zA-Z0-9가-힣\\s]", "").split("\\s+");
+        String title = latest == null ? null : latest.getTitle();
+        if (latest != null && totalCount > 1) {
+            title = String.format(KafkaMessage.COALESCED_NOTIFICATION_TITLE.getMessage(), latest.getTitle(), totalCount - 1);
+        }
 
-        return Arrays.stream(tokens)
-                .filter(token -> token.length() >= 2) // 2글자 이상만
-                .collect(Collectors.toSet());
+        try {
+            NotificationFanoutEventDto event = NotificationFanoutEventDto.builder()
+                    .contentId(latest == null ? null : latest.getContentId())
+                    .title(title)
+                    .message(body)
+                    .originalUrl(latest == null ? null : latest.getOriginalUrl())
+                    .chunkIndex(0)
+                    .chunkCount(1)
+                    .userIds(List.of(userId))
+                    .notificationIds(List.of(snowflake.nextId()))
+                    .relatedContents(relatedContents)
+                    .build();
+            String message = objectMapper.writeValueAsString(event);
+            // 같은 유저의 묶음 알림은 같은 파티션으로
+            kafkaTemplate.send(new ProducerRecord<>(notificationFanoutTopic, String.valueOf(userId), message));
+        } catch (JsonProcessingException e) {
+            log.error("Kafka 전송을 위한 JSON 변환 실패. 묶음 알림 userId: {}", userId, e);
+            throw new KafkaMessageProcessingException();
+        }
     }
-}
\ No newline at end of file
+}
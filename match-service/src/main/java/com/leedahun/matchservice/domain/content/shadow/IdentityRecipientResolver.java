@@ -0,0 +1,58 @@
+package com.leedahun.matchservice.domain.content.shadow;
+
+import com.leedahun.matchservice.domain.content.keyword.KeywordMatchPlan;
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnership;
+import com.leedahun.matchservice.infra.client.UserInternalApiClient;
+import com.leedahun.matchservice.infra.client.dto.KeywordSubscriptionDto;
+import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * identity-service의 현재 구독 정보로 매칭하는 후보 (원본 DB 기준)
+ * 알림이 켜진 키워드 표현식(/internal/keywords/active)과 소스 구독자를 캐시 없이 바로 조회하고,
+ * 인메모리 매처와 같은 KeywordMatchPlan 으로 평가하므로 구문(여러 단어, AND/NOT)과 알림 꺼짐 처리가 같다.
+ * 차이가 나면 스냅샷/구독자 캐시가 원본과 어긋난 것이다.
+ * 비교할 때마다 전체 키워드를 받아 컴파일하므로 샘플링 비율을 낮게 두어야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class IdentityRecipientResolver implements RecipientResolver {
+
+    public static final String NAME = "identity";
+
+    private final UserInternalApiClient userInternalApiClient;
+    private final ShardOwnership shardOwnership;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public List<Long> resolve(CrawledContentDto content) {
+        long[] subscribers = userInternalApiClient.getSourceSubscriberIds(content.getSourceId()).stream()
+                .filter(Objects::nonNull)
+                .filter(this::owns)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        if (subscribers.length == 0) {
+            return Collections.emptyList();
+        }
+
+        List<KeywordSubscriptionDto> keywords = userInternalApiClient.getNotificationEnabledKeywords().stream()
+                .filter(keyword -> keyword.getUserId() != null && owns(keyword.getUserId()))
+                .toList();
+        return KeywordMatchPlan.compile(keywords).findUserIds(subscribers, content.getTitle(), content.getSummary());
+    }
+
+    // 유저 파티션 모드에서는 이 인스턴스가 가진 샤드의 유저만 비교 (인메모리 매처와 같은 범위)
+    private boolean owns(Long userId) {
+        return !shardOwnership.isEnabled() || shardOwnership.owns(userId);
+    }
+}
@@ -0,0 +1,17 @@
+package com.leedahun.matchservice.domain.content.shadow;
+
+import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import java.util.List;
+
+/**
+ * 콘텐츠의 알림 대상 유저를 고르는 후보 매칭 구현
+ * 섀도 모드에서 현재 매칭 결과와 비교하는 용도로만 실행되며, 결과는 알림 발송에 쓰이지 않는다.
+ */
+public interface RecipientResolver {
+
+    // app.match.shadow.candidate 로 후보를 고를 때 쓰는 이름
+    String name();
+
+    List<Long> resolve(CrawledContentDto content);
+
+}
@@ -0,0 +1,239 @@
+package com.leedahun.matchservice.domain.content.shadow;
+
+import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 섀도 모드 매칭 비교기
+ * - 샘플링된 콘텐츠의 사본으로 후보 매칭 구현(RecipientResolver)을 별도 스레드에서 실행하고 결과는 버린다
+ * - 현재 매칭 결과와의 차이(후보에서 빠진 유저, 후보에만 있는 유저)와 지연 시간을 메트릭으로 남긴다
+ * - 불일치는 log-interval-ms 에 한 번만 로그로 남긴다
+ * 대기열이 가득 차면 비교를 건너뛰므로 후보가 느려도 알림 발송은 기다리지 않는다.
+ */
+@Slf4j
+@Component
+public class ShadowMatchComparator {
+
+    private static final String COMPARED_METRIC_NAME = "keyfeed.match.shadow.compared";
+    private static final String DIFF_METRIC_NAME = "keyfeed.match.shadow.diff";
+    private static final String LATENCY_METRIC_NAME = "keyfeed.match.shadow.latency";
+    private static final String EXCESS_LATENCY_METRIC_NAME = "keyfeed.match.shadow.latency.excess";
+    private static final String SKIPPED_METRIC_NAME = "keyfeed.match.shadow.skipped";
+    private static final int MAX_LOGGED_USER_IDS = 20;
+
+    private final RecipientResolver candidate;
+    private final double sampleRate;
+    private final long logIntervalMs;
+    private final Executor executor;
+
+    private final Counter matched;
+    private final Counter mismatched;
+    private final DistributionSummary missingUsers;
+    private final DistributionSummary extraUsers;
+    private final Timer primaryLatency;
+    private final Timer candidateLatency;
+    private final Timer excessLatency;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private final AtomicLong lastLoggedAt = new AtomicLong();
+    private Clock clock = Clock.systemUTC();
+
+    @Autowired
+    public ShadowMatchComparator(List<RecipientResolver> resolvers,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.match.shadow.enabled:false}") boolean enabled,
+                                 @Value("${app.match.shadow.candidate:identity}") String candidateName,
+                                 @Value("${app.match.shadow.sample-rate:0.01}") double sampleRate,
+                                 @Value("${app.match.shadow.queue-capacity:100}") int queueCapacity,
+                                 @Value("${app.match.shadow.log-interval-ms:10000}") long logIntervalMs) {
+        this(enabled ? findCandidate(resolvers, candidateName) : null, meterRegistry, sampleRate, logIntervalMs,
+                new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity),
+                        runnable -> {
+                            Thread thread = new Thread(runnable, "match-shadow");
+                            thread.setDaemon(true);
+                            return thread;
+                        }));
+    }
+
+    ShadowMatchComparator(RecipientResolver candidate, MeterRegistry meterRegistry, double sampleRate,
+                          long logIntervalMs, Executor executor) {
+        this.candidate = candidate;
+        this.sampleRate = sampleRate;
+        this.logIntervalMs = logIntervalMs;
+        this.executor = executor;
+
+        String name = candidate == null ? "none" : candidate.name();
+        this.matched = compared(meterRegistry, name, "match");
+        this.mismatched = compared(meterRegistry, name, "mismatch");
+        this.missingUsers = diff(meterRegistry, name, "missing");
+        this.extraUsers = diff(meterRegistry, name, "extra");
+        this.primaryLatency = latency(meterRegistry, name, "primary");
+        this.candidateLatency = latency(meterRegistry, name, "candidate");
+        this.excessLatency = Timer.builder(EXCESS_LATENCY_METRIC_NAME)
+                .description("후보 매칭이 현재 매칭보다 더 걸린 시간 (더 빠르면 0)")
+                .tag("candidate", name)
+                .register(meterRegistry);
+        this.dropped = skipped(meterRegistry, name, "dropped");
+        this.failed = skipped(meterRegistry, name, "error");
+
+        if (candidate != null) {
+            log.info("섀도 매칭 활성화 - 후보: {}, 샘플링 비율: {}", name, sampleRate);
+        }
+    }
+
+    public boolean isEnabled() {
+        return candidate != null;
+    }
+
+    /**
+     * 현재 매칭 결과를 후보 매칭 결과와 비교하도록 예약
+     * 샘플링되지 않았거나 대기열이 가득 차면 아무것도 하지 않는다.
+     *
+     * @param primaryNanos 현재 매칭에 걸린 시간
+     */
+    public void compare(CrawledContentDto content, List<Long> primaryUserIds, long primaryNanos) {
+        if (candidate == null || ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        // 후보 구현이 원본을 바꾸거나 붙잡고 있어도 알림 발송에 영향이 없도록 사본을 넘김
+        CrawledContentDto copy = copyOf(content);
+        List<Long> primary = List.copyOf(primaryUserIds);
+        try {
+            executor.execute(() -> run(copy, primary, primaryNanos));
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    private void run(CrawledContentDto content, List<Long> primary, long primaryNanos) {
+        long startedAt = System.nanoTime();
+        List<Long> candidateUserIds;
+        try {
+            candidateUserIds = candidate.resolve(content);
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("섀도 매칭 실패 [{}] - 콘텐츠: {}, 원인: {}", candidate.name(), content.getTitle(), e.getMessage());
+            return;
+        }
+        long candidateNanos = System.nanoTime() - startedAt;
+
+        primaryLatency.record(primaryNanos, TimeUnit.NANOSECONDS);
+        candidateLatency.record(candidateNanos, TimeUnit.NANOSECONDS);
+        excessLatency.record(Math.max(0L, candidateNanos - primaryNanos), TimeUnit.NANOSECONDS);
+
+        List<Long> missing = difference(primary, candidateUserIds);
+        List<Long> extra = difference(candidateUserIds, primary);
+        missingUsers.record(missing.size());
+        extraUsers.record(extra.size());
+        if (missing.isEmpty() && extra.isEmpty()) {
+            matched.increment();
+            return;
+        }
+
+        mismatched.increment();
+        if (shouldLog()) {
+            log.info("섀도 매칭 불일치 [{}] - 소스: {}, 콘텐츠: {}, 후보에서 빠진 유저 {}명 {}, 후보에만 있는 유저 {}명 {}",
+                    candidate.name(), content.getSourceId(), content.getTitle(),
+                    missing.size(), head(missing), extra.size(), head(extra));
+        }
+    }
+
+    // 여러 스레드가 동시에 불일치를 찾아도 구간마다 한 번만 로그를 남김
+    private boolean shouldLog() {
+        long now = clock.millis();
+        long last = lastLoggedAt.get();
+        return now - last >= logIntervalMs && lastLoggedAt.compareAndSet(last, now);
+    }
+
+    private static List<Long> difference(List<Long> from, List<Long> excluded) {
+        Set<Long> excludedSet = new HashSet<>(excluded);
+        Set<Long> result = new LinkedHashSet<>();
+        for (Long userId : from) {
+            if (!excludedSet.contains(userId)) {
+                result.add(userId);
+            }
+        }
+        return new ArrayList<>(result);
+    }
+
+    private static List<Long> head(List<Long> userIds) {
+        return userIds.size() <= MAX_LOGGED_USER_IDS ? userIds : userIds.subList(0, MAX_LOGGED_USER_IDS);
+    }
+
+    private static CrawledContentDto copyOf(CrawledContentDto content) {
+        return CrawledContentDto.builder()
+                .sourceId(content.getSourceId())
+                .title(content.getTitle())
+                .summary(content.getSummary())
+                .originalUrl(content.getOriginalUrl())
+                .thumbnailUrl(content.getThumbnailUrl())
+                .publishedAt(content.getPublishedAt())
+                .build();
+    }
+
+    private static RecipientResolver findCandidate(List<RecipientResolver> resolvers, String name) {
+        for (RecipientResolver resolver : resolvers) {
+            if (resolver.name().equals(name)) {
+                return resolver;
+            }
+        }
+        log.warn("섀도 매칭 후보 '{}' 를 찾을 수 없어 섀도 모드를 끕니다.", name);
+        return null;
+    }
+
+    private static Counter compared(MeterRegistry meterRegistry, String candidate, String result) {
+        return Counter.builder(COMPARED_METRIC_NAME)
+                .description("섀도 매칭 비교 횟수")
+                .tag("candidate", candidate)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static DistributionSummary diff(MeterRegistry meterRegistry, String candidate, String kind) {
+        return DistributionSummary.builder(DIFF_METRIC_NAME)
+                .description("현재 매칭과 후보 매칭의 대상 유저 차이")
+                .baseUnit("users")
+                .tag("candidate", candidate)
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+
+    private static Timer latency(MeterRegistry meterRegistry, String candidate, String path) {
+        return Timer.builder(LATENCY_METRIC_NAME)
+                .description("섀도 비교 대상 콘텐츠의 매칭 시간")
+                .tag("candidate", candidate)
+                .tag("path", path)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static Counter skipped(MeterRegistry meterRegistry, String candidate, String reason) {
+        return Counter.builder(SKIPPED_METRIC_NAME)
+                .description("대기열 초과나 후보 오류로 건너뛴 섀도 비교 횟수")
+                .tag("candidate", candidate)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,247 @@
+package com.leedahun.matchservice.domain.content.similarity;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.leedahun.matchservice.domain.content.keyword.KeywordTokenizer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 소스로 거의 같은 글(보도자료, 전재 기사 등)이 들어왔을 때 원본(대표) 콘텐츠로 묶는 탐지기
+ * - 제목/요약 토큰의 SimHash 지문을 최근 window 동안 메모리에 보관
+ * - 64비트 지문을 16비트씩 4개 구간으로 나눠 구간별로 색인하고, 구간 하나라도 같은 후보만 해밍 거리를 비교
+ *   (거리가 3 이하인 두 지문은 비둘기집 원리에 의해 최소 한 구간이 같음)
+ * - 대표 ID 결정(resolve)과 색인 등록(register)을 나눠, 저장에 성공한 콘텐츠만 이후 사본의 대표가 될 수 있게 함
+ * - 대표 콘텐츠별로 이미 알림을 보낸 유저를 기록해 같은 글의 사본으로 다시 알림이 가지 않게 함
+ *   기록은 대표 ID 기준으로 마지막 사용 후 window 가 지나면 버리고, 최대 max-canonicals 개까지만 보관한다. (넘으면 오래 안 쓴 것부터)
+ *   잠금은 대표 ID별 기록에만 걸어 서로 다른 글을 매칭하는 스레드끼리는 기다리지 않는다.
+ * 탐지는 인스턴스 로컬 메모리 기준이므로 재시작하거나 다른 인스턴스로 들어온 사본은 묶지 못할 수 있다.
+ */
+@Slf4j
+@Component
+public class NearDuplicateDetector {
+
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = Long.SIZE / BANDS;
+    private static final int MAX_SUPPORTED_DISTANCE = BANDS - 1;
+
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxDistance;
+    private final int minTokens;
+    private final Clock clock;
+
+    // 지문 색인 (resolve/register 에서 변경, this 로 잠금)
+    private final List<Map<Integer, List<Entry>>> bands = new ArrayList<>(BANDS);
+    private final Deque<Entry> entries = new ArrayDeque<>();              // 등록 순서 (오래된 것부터 만료)
+    private final Map<String, Entry> entriesByContentId = new ConcurrentHashMap<>();
+
+    // 대표 ID -> 유저 ID -> 알림을 보낸 콘텐츠 ID (값 맵 단위로 잠금)
+    private final Cache<String, Map<Long, String>> notifiedByCanonicalId;
+
+    @Autowired
+    public NearDuplicateDetector(@Value("${app.match.near-duplicate.enabled:true}") boolean enabled,
+                                 @Value("${app.match.near-duplicate.window-minutes:60}") long windowMinutes,
+                                 @Value("${app.match.near-duplicate.max-distance:3}") int maxDistance,
+                                 @Value("${app.match.near-duplicate.min-tokens:5}") int minTokens,
+                                 @Value("${app.match.near-duplicate.max-canonicals:10000}") long maxCanonicals) {
+        this(enabled, windowMinutes, maxDistance, minTokens, maxCanonicals, Clock.systemUTC());
+    }
+
+    NearDuplicateDetector(boolean enabled, long windowMinutes, int maxDistance, int minTokens, long maxCanonicals,
+                          Clock clock) {
+        this.enabled = enabled;
+        this.windowMillis = TimeUnit.MINUTES.toMillis(windowMinutes);
+        this.maxDistance = maxDistance;
+        this.minTokens = minTokens;
+        this.clock = clock;
+        for (int i = 0; i < BANDS; i++) {
+            bands.add(new HashMap<>());
+        }
+        // 사본이 계속 들어오는 동안은 대표 콘텐츠의 기록을 유지해야 하므로 마지막 사용 기준으로 만료
+        this.notifiedByCanonicalId = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(windowMillis))
+                .maximumSize(maxCanonicals)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .build();
+    }
+
+    /**
+     * 콘텐츠의 대표 콘텐츠 ID 결정 (색인에는 등록하지 않음)
+     * window 안에 지문이 가까운 콘텐츠가 있으면 그 콘텐츠의 대표 ID를, 없으면 자기 자신의 ID를 대표로 한다.
+     * pending 에는 같은 배치에서 먼저 결정했지만 아직 저장 전인 콘텐츠를 넘겨, 배치 안의 사본끼리도 묶는다.
+     * 토큰이 너무 적은 글은 오탐을 피하기 위해 비교하지 않는다.
+     */
+    public synchronized Resolution resolve(String contentId, String title, String summary, List<Resolution> pending) {
+        if (!enabled) {
+            return new Resolution(contentId, contentId, null);
+        }
+        evictExpired(clock.millis());
+
+        Entry existing = entriesByContentId.get(contentId);
+        if (existing != null) {
+            return new Resolution(contentId, existing.canonicalId, null);
+        }
+
+        Set<String> tokens = KeywordTokenizer.extract(title, summary);
+        if (tokens.size() < minTokens) {
+            return new Resolution(contentId, contentId, null);
+        }
+
+        long fingerprint = SimHash.fingerprint(tokens);
+        int threshold = Math.min(maxDistance, MAX_SUPPORTED_DISTANCE);
+        Entry nearest = findNearest(fingerprint, threshold);
+        String canonicalId = nearest == null ? contentId : nearest.canonicalId;
+        int nearestDistance = nearest == null ? Integer.MAX_VALUE : SimHash.distance(fingerprint, nearest.fingerprint);
+        for (Resolution candidate : pending) {
+            if (candidate.fingerprint() == null) {
+                continue;
+            }
+            int distance = SimHash.distance(fingerprint, candidate.fingerprint());
+            if (distance <= threshold && distance < nearestDistance) {
+                canonicalId = candidate.canonicalId();
+                nearestDistance = distance;
+            }
+        }
+        if (!canonicalId.equals(contentId)) {
+            log.info("유사 콘텐츠 발견 - contentId: {}, canonicalId: {}, 거리: {}", contentId, canonicalId, nearestDistance);
+        }
+        return new Resolution(contentId, canonicalId, fingerprint);
+    }
+
+    /**
+     * 저장된 콘텐츠를 색인에 등록해 이후 들어오는 사본의 대표가 될 수 있게 함
+     * 저장에 실패한 콘텐츠는 등록하지 않는다. (이미 등록됐거나 비교 대상이 아닌 콘텐츠는 무시)
+     */
+    public synchronized void register(Resolution resolution) {
+        if (!enabled || resolution.fingerprint() == null || entriesByContentId.containsKey(resolution.contentId())) {
+            return;
+        }
+        long now = clock.millis();
+        evictExpired(now);
+        addEntry(new Entry(resolution.contentId(), resolution.canonicalId(), resolution.fingerprint(), now));
+    }
+
+    /**
+     * 알림 대상 중 대표 콘텐츠(또는 그 사본)로 아직 알림을 받지 않은 유저만 반환하고, 반환한 유저를 알림 받은 것으로 기록
+     * 같은 콘텐츠로 다시 요청하면(트랜잭션 중단 후 재시도, DLT 재처리) 그 콘텐츠로 기록된 유저는 다시 반환한다.
+     */
+    public List<Long> claimRecipients(String contentId, List<Long> userIds) {
+        if (!enabled) {
+            return userIds;
+        }
+        Entry entry = entriesByContentId.get(contentId);
+        if (entry == null) {
+            // 색인하지 않은 콘텐츠(토큰 부족 등)는 묶인 사본이 없으므로 그대로 보냄
+            return userIds;
+        }
+
+        Map<Long, String> notified = notifiedByCanonicalId.get(entry.canonicalId, k -> new HashMap<>());
+        List<Long> recipients = new ArrayList<>(userIds.size());
+        synchronized (notified) {
+            for (Long userId : userIds) {
+                String notifiedBy = notified.putIfAbsent(userId, contentId);
+                if (notifiedBy == null || notifiedBy.equals(contentId)) {
+                    recipients.add(userId);
+                }
+            }
+        }
+
+        if (recipients.size() < userIds.size()) {
+            log.info("유사 콘텐츠 알림 생략 - contentId: {}, canonicalId: {}, 생략 {}명",
+                    contentId, entry.canonicalId, userIds.size() - recipients.size());
+        }
+        return recipients;
+    }
+
+    /**
+     * 알림 기록을 보관 중인 대표 콘텐츠 수 (추정치)
+     */
+    long notifiedCanonicalCount() {
+        notifiedByCanonicalId.cleanUp();
+        return notifiedByCanonicalId.estimatedSize();
+    }
+
+    private Entry findNearest(long fingerprint, int threshold) {
+        Entry nearest = null;
+        int nearestDistance = Integer.MAX_VALUE;
+        for (int band = 0; band < BANDS; band++) {
+            List<Entry> candidates = bands.get(band).get(bandKey(fingerprint, band));
+            if (candidates == null) {
+                continue;
+            }
+            for (Entry candidate : candidates) {
+                int distance = SimHash.distance(fingerprint, candidate.fingerprint);
+                if (distance <= threshold && distance < nearestDistance) {
+                    nearest = candidate;
+                    nearestDistance = distance;
+                }
+            }
+        }
+        return nearest;
+    }
+
+    private void addEntry(Entry entry) {
+        entries.addLast(entry);
+        entriesByContentId.put(entry.contentId, entry);
+        for (int band = 0; band < BANDS; band++) {
+            bands.get(band).computeIfAbsent(bandKey(entry.fingerprint, band), k -> new ArrayList<>()).add(entry);
+        }
+    }
+
+    private void evictExpired(long now) {
+        long expireBefore = now - windowMillis;
+        while (!entries.isEmpty() && entries.peekFirst().registeredAt < expireBefore) {
+            Entry expired = entries.pollFirst();
+            entriesByContentId.remove(expired.contentId);
+            for (int band = 0; band < BANDS; band++) {
+                int key = bandKey(expired.fingerprint, band);
+                List<Entry> bucket = bands.get(band).get(key);
+                if (bucket != null) {
+                    bucket.remove(expired);
+                    if (bucket.isEmpty()) {
+                        bands.get(band).remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    private static int bandKey(long fingerprint, int band) {
+        return (int) ((fingerprint >>> (band * BAND_BITS)) & 0xFFFF);
+    }
+
+    /**
+     * 대표 ID 결정 결과
+     * fingerprint 가 null 이면 색인에 등록하지 않는다. (비활성화, 토큰 부족, 이미 등록된 콘텐츠)
+     */
+    public record Resolution(String contentId, String canonicalId, Long fingerprint) {
+    }
+
+    private static final class Entry {
+        private final String contentId;
+        private final String canonicalId;
+        private final long fingerprint;
+        private final long registeredAt;
+
+        private Entry(String contentId, String canonicalId, long fingerprint, long registeredAt) {
+            this.contentId = contentId;
+            this.canonicalId = canonicalId;
+            this.fingerprint = fingerprint;
+            this.registeredAt = registeredAt;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.leedahun.matchservice.domain.content.similarity;
+
+import java.util.Collection;
+
+/**
+ * 64비트 SimHash 지문
+ * 토큰마다 64비트 해시를 구해 비트 위치별로 +1/-1 을 누적하고, 양수인 위치를 1로 한 값을 지문으로 사용한다.
+ * 토큰 집합이 비슷한 글은 지문의 해밍 거리가 작다.
+ */
+public final class SimHash {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SimHash() {
+    }
+
+    public static long fingerprint(Collection<String> tokens) {
+        int[] weights = new int[Long.SIZE];
+        for (String token : tokens) {
+            long hash = hash64(token);
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) != 0 ? 1 : -1;
+            }
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    // FNV-1a 후 비트를 고르게 섞음 (MurmurHash3 fmix64)
+    static long hash64(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
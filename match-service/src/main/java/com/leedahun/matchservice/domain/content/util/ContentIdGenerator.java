@@ -0,0 +1,30 @@
+package com.leedahun.matchservice.domain.content.util;
+
+import com.leedahun.url.UrlCanonicalizer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 콘텐츠 문서 ID 생성기
+ * (소스 ID, UrlCanonicalizer로 정규화한 원문 URL)의 SHA-256 값을 ID로 사용하므로 같은 글은 몇 번을 수신해도 같은 ID가 된다.
+ */
+public final class ContentIdGenerator {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private ContentIdGenerator() {
+    }
+
+    public static String generate(Long sourceId, String originalUrl) {
+        String key = sourceId + "\n" + UrlCanonicalizer.canonicalize(originalUrl);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256은 모든 JVM 구현에서 제공이 보장됨
+            throw new IllegalStateException(e);
+        }
+    }
+}
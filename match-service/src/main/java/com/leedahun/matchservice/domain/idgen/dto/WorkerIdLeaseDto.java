@@ -0,0 +1,24 @@
+package com.leedahun.matchservice.domain.idgen.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 획득한 워커 ID 리스
+ * fenceMillis: 이전 소유자가 ID를 발급했을 수 있는 마지막 시각 (이 시각 이하의 타임스탬프로는 발급하지 않음)
+ */
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+public class WorkerIdLeaseDto {
+    private int nodeId;
+    private long datacenterId;
+    private long workerId;
+    private String owner;
+    private long fenceMillis;
+    private long heartbeatAt;
+    private long expiresAt;
+}
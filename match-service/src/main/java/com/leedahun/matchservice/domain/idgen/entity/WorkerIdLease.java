@@ -0,0 +1,73 @@
+package com.leedahun.matchservice.domain.idgen.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Snowflake 워커 ID 리스
+ * (datacenter ID, worker ID) 한 쌍을 한 인스턴스만 쓰도록 소유자와 만료 시각을 기록한다.
+ * 시각은 Snowflake 타임스탬프와 비교하므로 epoch 밀리초로 저장한다.
+ * ID를 직접 지정하므로 Persistable 로 새 리스임을 알려, save 가 merge(SELECT 후 UPDATE)가 아닌 INSERT 가 되게 한다.
+ * 그래야 다른 인스턴스가 먼저 만든 슬롯을 덮어쓰지 않고 PK 충돌(DataIntegrityViolationException)로 실패한다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "worker_id_lease")
+public class WorkerIdLease implements Persistable<Integer> {
+
+    @Id
+    @Column(name = "node_id")
+    private Integer nodeId;  // datacenterId * 32 + workerId
+
+    @Column(name = "datacenter_id", nullable = false)
+    private Integer datacenterId;
+
+    @Column(name = "worker_id", nullable = false)
+    private Integer workerId;
+
+    @Column(name = "owner", nullable = false, length = 255)
+    private String owner;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private Long heartbeatAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+
+    // 조회하거나 저장한 뒤에는 false
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private boolean newLease = true;
+
+    @Override
+    public Integer getId() {
+        return nodeId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newLease;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newLease = false;
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.leedahun.matchservice.domain.idgen.repository;
+
+import com.leedahun.matchservice.domain.idgen.entity.WorkerIdLease;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface WorkerIdLeaseRepository extends JpaRepository<WorkerIdLease, Integer> {
+
+    List<WorkerIdLease> findAllByDatacenterId(Integer datacenterId);
+
+    // 만료된 리스만 가져옴 (여러 인스턴스가 동시에 시도해도 한 곳만 1을 반환)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WorkerIdLease l SET l.owner = :owner, l.heartbeatAt = :now, l.expiresAt = :expiresAt "
+            + "WHERE l.nodeId = :nodeId AND l.expiresAt < :now")
+    int claimExpired(@Param("nodeId") Integer nodeId, @Param("owner") String owner,
+                     @Param("now") Long now, @Param("expiresAt") Long expiresAt);
+
+    // 소유자가 바뀌었으면 0을 반환
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WorkerIdLease l SET l.heartbeatAt = :now, l.expiresAt = :expiresAt "
+            + "WHERE l.nodeId = :nodeId AND l.owner = :owner")
+    int renew(@Param("nodeId") Integer nodeId, @Param("owner") String owner,
+              @Param("now") Long now, @Param("expiresAt") Long expiresAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE WorkerIdLease l SET l.expiresAt = :releasedAt WHERE l.nodeId = :nodeId AND l.owner = :owner")
+    int release(@Param("nodeId") Integer nodeId, @Param("owner") String owner, @Param("releasedAt") Long releasedAt);
+
+}
@@ -0,0 +1,13 @@
+package com.leedahun.matchservice.domain.idgen.service;
+
+import com.leedahun.matchservice.domain.idgen.dto.WorkerIdLeaseDto;
+
+public interface WorkerIdLeaseService {
+
+    WorkerIdLeaseDto acquire(long datacenterId, String owner);
+
+    boolean renew(int nodeId, String owner, long now, long expiresAt);
+
+    void release(int nodeId, String owner);
+
+}
@@ -0,0 +1,99 @@
+package com.leedahun.matchservice.domain.idgen.service.impl;
+
+import com.leedahun.matchservice.domain.idgen.dto.WorkerIdLeaseDto;
+import com.leedahun.matchservice.domain.idgen.entity.WorkerIdLease;
+import com.leedahun.matchservice.domain.idgen.repository.WorkerIdLeaseRepository;
+import com.leedahun.matchservice.domain.idgen.service.WorkerIdLeaseService;
+import java.time.Clock;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WorkerIdLeaseServiceImpl implements WorkerIdLeaseService {
+
+    // Snowflake worker ID / datacenter ID 는 각각 5비트
+    private static final int MAX_WORKER_ID = 31;
+    private static final int NODES_PER_DATACENTER = MAX_WORKER_ID + 1;
+
+    private final WorkerIdLeaseRepository workerIdLeaseRepository;
+
+    @Value("${snowflake.lease.ttl-ms:60000}")
+    private long ttlMs;
+
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * datacenter 안에서 비어 있거나 만료된 워커 ID 하나를 획득
+     * 슬롯마다 insert(처음 쓰는 ID) 또는 만료 조건부 update 로 시도하므로, 여러 인스턴스가 동시에 떠도 한 슬롯은 한 곳만 가져간다.
+     * 시도마다 트랜잭션을 따로 쓰므로 다른 인스턴스와 경합해 실패해도 다음 슬롯으로 넘어간다.
+     * 만료된 리스를 가져오면 이전 소유자의 만료 시각을 fence 로 넘겨, 시계가 그 전으로 되돌아가도 ID가 겹치지 않게 한다.
+     */
+    @Override
+    public WorkerIdLeaseDto acquire(long datacenterId, String owner) {
+        Map<Integer, WorkerIdLease> leases = workerIdLeaseRepository.findAllByDatacenterId((int) datacenterId).stream()
+                .collect(Collectors.toMap(WorkerIdLease::getWorkerId, Function.identity()));
+
+        for (int workerId = 0; workerId <= MAX_WORKER_ID; workerId++) {
+            int nodeId = (int) datacenterId * NODES_PER_DATACENTER + workerId;
+            WorkerIdLease lease = leases.get(workerId);
+            long now = clock.millis();
+            long expiresAt = now + ttlMs;
+
+            if (lease == null) {
+                try {
+                    workerIdLeaseRepository.saveAndFlush(WorkerIdLease.builder()
+                            .nodeId(nodeId)
+                            .datacenterId((int) datacenterId)
+                            .workerId(workerId)
+                            .owner(owner)
+                            .heartbeatAt(now)
+                            .expiresAt(expiresAt)
+                            .build());
+                } catch (DataIntegrityViolationException e) {
+                    continue;  // 다른 인스턴스가 먼저 만듦
+                }
+                return toDto(nodeId, datacenterId, workerId, owner, 0L, now, expiresAt);
+            }
+
+            if (lease.getExpiresAt() < now
+                    && workerIdLeaseRepository.claimExpired(nodeId, owner, now, expiresAt) == 1) {
+                return toDto(nodeId, datacenterId, workerId, owner, lease.getExpiresAt(), now, expiresAt);
+            }
+        }
+
+        throw new IllegalStateException("사용 가능한 Snowflake 워커 ID가 없음 (datacenter: " + datacenterId + ")");
+    }
+
+    @Override
+    public boolean renew(int nodeId, String owner, long now, long expiresAt) {
+        return workerIdLeaseRepository.renew(nodeId, owner, now, expiresAt) == 1;
+    }
+
+    // 바로 다른 인스턴스가 가져갈 수 있도록 현재 시각으로 만료 처리
+    @Override
+    public void release(int nodeId, String owner) {
+        workerIdLeaseRepository.release(nodeId, owner, clock.millis());
+    }
+
+    private WorkerIdLeaseDto toDto(int nodeId, long datacenterId, long workerId, String owner,
+                                   long fenceMillis, long heartbeatAt, long expiresAt) {
+        log.info("Snowflake 워커 ID 리스 획득 - datacenter: {}, worker: {}, owner: {}", datacenterId, workerId, owner);
+        return WorkerIdLeaseDto.builder()
+                .nodeId(nodeId)
+                .datacenterId(datacenterId)
+                .workerId(workerId)
+                .owner(owner)
+                .fenceMillis(fenceMillis)
+                .heartbeatAt(heartbeatAt)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.leedahun.matchservice.domain.idgen.snowflake;
+
+import cn.hutool.core.lang.Snowflake;
+import com.leedahun.matchservice.domain.idgen.dto.WorkerIdLeaseDto;
+import java.time.Clock;
+
+/**
+ * DB 리스로 획득한 워커 ID를 쓰는 Snowflake
+ * 다음 경우에는 ID를 발급하지 않고 예외를 던진다. (같은 워커 ID를 쓰는 다른 인스턴스와 ID가 겹칠 수 있음)
+ * - 리스가 만료됨 (하트비트가 만료 시각까지 갱신하지 못함)
+ * - 리스를 다른 인스턴스가 가져감 (새 리스로 교체하기 전까지)
+ * - 현재 시각이 fence 이하 (이전 소유자의 만료 시각 또는 마지막 하트비트보다 시계가 되돌아감)
+ * 워커 ID는 hutool Snowflake 생성 시 고정되므로, 새 리스를 받으면 그 워커 ID로 만든 Snowflake 로 바꿔 발급한다.
+ */
+public class LeasedSnowflake extends Snowflake {
+
+    private final String owner;
+    private final long datacenterId;
+    private final Clock clock;
+
+    private volatile Snowflake delegate;
+    private volatile int nodeId;
+    private volatile long fenceMillis;
+    private volatile long heartbeatAt;
+    private volatile long expiresAt;
+    private volatile boolean revoked;
+
+    public LeasedSnowflake(WorkerIdLeaseDto lease, Clock clock) {
+        super(lease.getWorkerId(), lease.getDatacenterId());
+        this.owner = lease.getOwner();
+        this.datacenterId = lease.getDatacenterId();
+        this.clock = clock;
+        this.delegate = new Snowflake(lease.getWorkerId(), lease.getDatacenterId());
+        this.nodeId = lease.getNodeId();
+        this.fenceMillis = lease.getFenceMillis();
+        this.heartbeatAt = lease.getHeartbeatAt();
+        this.expiresAt = lease.getExpiresAt();
+    }
+
+    @Override
+    public synchronized long nextId() {
+        long now = clock.millis();
+        if (revoked) {
+            throw new IllegalStateException("Snowflake 워커 ID 리스를 다른 인스턴스가 가져가 ID를 발급할 수 없음");
+        }
+        if (now >= expiresAt) {
+            throw new IllegalStateException("Snowflake 워커 ID 리스가 만료되어 ID를 발급할 수 없음");
+        }
+        if (now <= fenceMillis) {
+            throw new IllegalStateException("시계가 되돌아가 ID를 발급할 수 없음 (" + (fenceMillis - now) + "ms 후 재개)");
+        }
+        return delegate.nextId();
+    }
+
+    /**
+     * 잃은 리스 대신 새로 획득한 리스로 발급 재개
+     * 시계가 되돌아가 세운 fence 는 새 워커 ID에도 그대로 유지한다.
+     */
+    public synchronized void replace(WorkerIdLeaseDto lease) {
+        this.delegate = new Snowflake(lease.getWorkerId(), lease.getDatacenterId());
+        this.nodeId = lease.getNodeId();
+        this.fenceMillis = Math.max(this.fenceMillis, lease.getFenceMillis());
+        this.heartbeatAt = lease.getHeartbeatAt();
+        this.expiresAt = lease.getExpiresAt();
+        this.revoked = false;
+    }
+
+    /**
+     * 하트비트로 갱신한 리스 반영
+     */
+    public void extend(long heartbeatAt, long expiresAt) {
+        this.heartbeatAt = heartbeatAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 시계가 되돌아간 경우 이 시각이 지날 때까지 발급 중단
+     */
+    public void fence(long fenceMillis) {
+        this.fenceMillis = Math.max(this.fenceMillis, fenceMillis);
+    }
+
+    public void revoke() {
+        this.revoked = true;
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public long getDatacenterId() {
+        return datacenterId;
+    }
+
+    public long getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isRevoked() {
+        return revoked;
+    }
+}
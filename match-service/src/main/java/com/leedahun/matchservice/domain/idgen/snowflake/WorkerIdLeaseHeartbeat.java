@@ -0,0 +1,92 @@
+package com.leedahun.matchservice.domain.idgen.snowflake;
+
+import com.leedahun.matchservice.domain.idgen.dto.WorkerIdLeaseDto;
+import com.leedahun.matchservice.domain.idgen.service.WorkerIdLeaseService;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워커 ID 리스를 주기적으로 갱신하고, 종료 시 반납
+ * - DB 오류로 갱신하지 못하면 기존 만료 시각까지는 계속 발급한다.
+ * - 소유자가 바뀌었으면 발급을 멈추고 같은 datacenter 에서 새 워커 ID 리스를 받아 교체한다.
+ *   (비어 있는 슬롯이 없거나 DB 오류로 실패하면 다음 하트비트에 다시 시도)
+ * - 시계가 마지막 하트비트보다 되돌아갔으면 그 시각까지 발급을 멈추고, 만료 시각도 앞당기지 않는다.
+ *   (만료 시각이 줄면 다른 인스턴스가 이미 발급한 타임스탬프 범위로 리스를 가져갈 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkerIdLeaseHeartbeat {
+
+    private final WorkerIdLeaseService workerIdLeaseService;
+    private final LeasedSnowflake leasedSnowflake;
+
+    @Value("${snowflake.lease.ttl-ms:60000}")
+    private long ttlMs;
+
+    private Clock clock = Clock.systemUTC();
+
+    private volatile boolean released;
+
+    @Scheduled(fixedDelayString = "${snowflake.lease.heartbeat-interval-ms:10000}")
+    public void renew() {
+        if (released) {
+            return;
+        }
+        if (leasedSnowflake.isRevoked()) {
+            reacquire();
+            return;
+        }
+
+        long now = clock.millis();
+        long lastHeartbeatAt = leasedSnowflake.getHeartbeatAt();
+        if (now < lastHeartbeatAt) {
+            log.warn("시계가 {}ms 되돌아감, 마지막 하트비트 시각까지 ID 발급을 멈춥니다.", lastHeartbeatAt - now);
+            leasedSnowflake.fence(lastHeartbeatAt);
+        }
+        long expiresAt = Math.max(now + ttlMs, leasedSnowflake.getExpiresAt());
+
+        try {
+            if (!workerIdLeaseService.renew(leasedSnowflake.getNodeId(), leasedSnowflake.getOwner(), now, expiresAt)) {
+                log.error("Snowflake 워커 ID 리스를 다른 인스턴스가 가져감, 새 워커 ID를 받을 때까지 ID 발급을 중단합니다. (node: {})",
+                        leasedSnowflake.getNodeId());
+                leasedSnowflake.revoke();
+                reacquire();
+                return;
+            }
+            leasedSnowflake.extend(Math.max(now, lastHeartbeatAt), expiresAt);
+        } catch (Exception e) {
+            log.warn("Snowflake 워커 ID 리스 갱신 실패, 만료 시각까지 기존 리스를 사용합니다: {}", e.getMessage());
+        }
+    }
+
+    private void reacquire() {
+        try {
+            WorkerIdLeaseDto lease = workerIdLeaseService.acquire(leasedSnowflake.getDatacenterId(), leasedSnowflake.getOwner());
+            leasedSnowflake.replace(lease);
+            log.info("새 Snowflake 워커 ID 리스로 ID 발급을 재개합니다. (node: {})", lease.getNodeId());
+        } catch (Exception e) {
+            log.error("Snowflake 워커 ID 리스 재획득 실패, 다음 하트비트에 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        released = true;
+        if (leasedSnowflake.isRevoked()) {
+            return;
+        }
+        try {
+            leasedSnowflake.revoke();
+            workerIdLeaseService.release(leasedSnowflake.getNodeId(), leasedSnowflake.getOwner());
+            log.info("Snowflake 워커 ID 리스 반납 (node: {})", leasedSnowflake.getNodeId());
+        } catch (Exception e) {
+            log.warn("Snowflake 워커 ID 리스 반납 실패, 만료 후 다른 인스턴스가 사용합니다: {}", e.getMessage());
+        }
+    }
+}
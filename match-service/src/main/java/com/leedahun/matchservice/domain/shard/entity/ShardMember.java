@@ -0,0 +1,34 @@
+package com.leedahun.matchservice.domain.shard.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저 파티션 매칭에 참여 중인 match-service 인스턴스
+ * 인스턴스마다 하트비트로 만료 시각을 연장하며, 만료되지 않은 멤버 목록으로 각자 같은 규칙에 따라 샤드를 나눠 가진다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "match_shard_member")
+public class ShardMember {
+
+    @Id
+    @Column(name = "member_id", length = 255)
+    private String memberId;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private Long heartbeatAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Long expiresAt;
+
+}
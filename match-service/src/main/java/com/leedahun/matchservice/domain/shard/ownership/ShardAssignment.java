@@ -0,0 +1,61 @@
+package com.leedahun.matchservice.domain.shard.ownership;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 유저 -> 샤드, 샤드 -> 멤버 배정 규칙
+ * - 유저는 userId 해시로 shardCount 개 샤드 중 하나에 속한다.
+ * - 샤드는 rendezvous 해싱으로 살아 있는 멤버 중 점수가 가장 높은 멤버가 가진다.
+ *   모든 멤버가 같은 멤버 목록을 보면 배정이 겹치지 않고, 멤버가 하나 늘거나 줄면 평균 1/N 샤드만 옮겨진다.
+ */
+public final class ShardAssignment {
+
+    private ShardAssignment() {
+    }
+
+    public static int shardOf(long userId, int shardCount) {
+        return (int) Long.remainderUnsigned(mix(userId), shardCount);
+    }
+
+    /**
+     * members 중 memberId 가 가질 샤드 번호 집합
+     */
+    public static BitSet assign(String memberId, List<String> members, int shardCount) {
+        BitSet owned = new BitSet(shardCount);
+        if (!members.contains(memberId)) {
+            return owned;
+        }
+
+        long[] memberHashes = new long[members.size()];
+        for (int i = 0; i < members.size(); i++) {
+            memberHashes[i] = mix(members.get(i).hashCode());
+        }
+        long self = mix(memberId.hashCode());
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            long best = 0;
+            long bestScore = Long.MIN_VALUE;
+            for (long memberHash : memberHashes) {
+                long score = mix(memberHash ^ (shard * 0x9E3779B97F4A7C15L));
+                // 점수가 같으면 해시가 큰 멤버 (멤버 목록 순서와 관계없이 같은 결과)
+                if (score > bestScore || (score == bestScore && memberHash > best)) {
+                    bestScore = score;
+                    best = memberHash;
+                }
+            }
+            if (best == self) {
+                owned.set(shard);
+            }
+        }
+        return owned;
+    }
+
+    // SplitMix64 최종 단계
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,159 @@
+package com.leedahun.matchservice.domain.shard.ownership;
+
+import com.leedahun.matchservice.domain.idgen.snowflake.LeasedSnowflake;
+import com.leedahun.matchservice.domain.shard.service.ShardMembershipService;
+import jakarta.annotation.PreDestroy;
+import java.time.Clock;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 유저 파티션 매칭에서 이 인스턴스가 가진 샤드
+ * - 비활성화되어 있으면 모든 유저를 가진 것으로 본다. (기존 동작)
+ * - 하트비트마다 DB의 살아 있는 멤버 목록으로 샤드를 다시 나누고, 바뀌면 ShardOwnershipChangedEvent 를 발행한다.
+ * - 새로 받은 샤드는 바로 가지지만, 넘겨줄 샤드는 handoff-ms 동안 더 가진다.
+ *   새 소유자가 구독 정보를 적재하는 동안 알림이 빠지지 않게 하기 위함이며, 그 사이에는 같은 알림이 중복될 수 있다.
+ * - DB 오류로 하트비트에 실패하면 기존 샤드를 유지한다. (다른 멤버가 만료로 판단하면 샤드가 겹칠 수 있음)
+ * - 멤버가 사라져 그 멤버의 샤드를 넘겨받으면 ShardTakeoverEvent 를 발행한다.
+ *   떠난 멤버가 마지막으로 커밋한 오프셋부터 다시 매칭해 그 사이 콘텐츠의 알림이 빠지지 않게 하기 위함이다.
+ * 멤버 ID는 시작할 때 받은 Snowflake 워커 ID 슬롯 번호("node-{nodeId}")를 쓴다.
+ * 슬롯은 정상 종료 시 반납되어 재시작한 인스턴스가 다시 받으므로, 같은 멤버 ID(같은 컨슈머 그룹)로 이어서 읽는다.
+ * (리스를 잃고 다른 슬롯을 다시 받아도 멤버 ID는 바꾸지 않음. 컨슈머 그룹은 시작할 때 정해지기 때문)
+ */
+@Slf4j
+@Component
+public class ShardOwnership {
+
+    private static final String MEMBER_ID_PREFIX = "node-";
+
+    private final ShardMembershipService shardMembershipService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String memberId;
+
+    @Value("${app.match.partition.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.match.partition.shard-count:64}")
+    private int shardCount;
+
+    @Value("${app.match.partition.ttl-ms:15000}")
+    private long ttlMs;
+
+    @Value("${app.match.partition.handoff-ms:10000}")
+    private long handoffMs;
+
+    private Clock clock = Clock.systemUTC();
+
+    private volatile BitSet ownedShards = new BitSet();
+
+    // 넘겨주는 중인 샤드 -> 반납 시각 (스케줄러 스레드에서만 접근)
+    private final Map<Integer, Long> releasing = new HashMap<>();
+
+    // 직전 하트비트의 멤버 목록 (스케줄러 스레드에서만 접근)
+    private List<String> previousMembers = List.of();
+
+    public ShardOwnership(ShardMembershipService shardMembershipService, LeasedSnowflake leasedSnowflake,
+                          ApplicationEventPublisher eventPublisher) {
+        this.shardMembershipService = shardMembershipService;
+        this.eventPublisher = eventPublisher;
+        this.memberId = MEMBER_ID_PREFIX + leasedSnowflake.getNodeId();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getMemberId() {
+        return memberId;
+    }
+
+    public boolean owns(long userId) {
+        return !enabled || ownedShards.get(ShardAssignment.shardOf(userId, shardCount));
+    }
+
+    public int ownedShardCount() {
+        return enabled ? ownedShards.cardinality() : shardCount;
+    }
+
+    @Scheduled(fixedDelayString = "${app.match.partition.heartbeat-interval-ms:5000}")
+    public void rebalance() {
+        if (!enabled) {
+            return;
+        }
+
+        long now = clock.millis();
+        List<String> members;
+        try {
+            members = shardMembershipService.heartbeat(getMemberId(), now, now + ttlMs);
+        } catch (Exception e) {
+            log.warn("샤드 멤버십 하트비트 실패, 기존 샤드를 유지합니다: {}", e.getMessage());
+            return;
+        }
+
+        BitSet target = ShardAssignment.assign(getMemberId(), members, shardCount);
+        BitSet current = ownedShards;
+        BitSet next = (BitSet) target.clone();
+        for (int shard = current.nextSetBit(0); shard >= 0; shard = current.nextSetBit(shard + 1)) {
+            if (target.get(shard)) {
+                continue;
+            }
+            long releaseAt = releasing.computeIfAbsent(shard, s -> now + handoffMs);
+            if (now < releaseAt) {
+                next.set(shard);
+            }
+        }
+        releasing.keySet().removeIf(shard -> target.get(shard) || !next.get(shard));
+
+        if (!next.equals(current)) {
+            ownedShards = next;
+            log.info("샤드 재분배 - 멤버: {}명, 소유 샤드: {}/{}개 (넘겨주는 중: {}개)",
+                    members.size(), next.cardinality(), shardCount, releasing.size());
+            eventPublisher.publishEvent(new ShardOwnershipChangedEvent(next.cardinality(), shardCount));
+        }
+
+        // 구독 정보를 새 샤드 기준으로 다시 적재한 뒤에 넘겨받은 샤드를 다시 매칭하도록 변경 이벤트 다음에 발행
+        publishTakeovers(members, target);
+        previousMembers = members;
+    }
+
+    /**
+     * 직전 멤버 목록에는 있었지만 사라진 멤버가 가졌던 샤드 중 이 멤버가 넘겨받은 샤드
+     * (멤버 목록을 처음 받기 전에 떠난 멤버는 알 수 없으므로 다시 매칭하지 않음)
+     */
+    private void publishTakeovers(List<String> members, BitSet target) {
+        Set<String> alive = Set.copyOf(members);
+        for (String member : previousMembers) {
+            if (alive.contains(member)) {
+                continue;
+            }
+            BitSet taken = ShardAssignment.assign(member, previousMembers, shardCount);
+            taken.and(target);
+            if (taken.isEmpty()) {
+                continue;
+            }
+            log.info("떠난 멤버의 샤드 인수 - 멤버: {}, 샤드: {}개", member, taken.cardinality());
+            eventPublisher.publishEvent(new ShardTakeoverEvent(member, taken, shardCount));
+        }
+    }
+
+    @PreDestroy
+    public void leave() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            shardMembershipService.leave(getMemberId());
+            log.info("샤드 멤버 탈퇴 - {}", getMemberId());
+        } catch (Exception e) {
+            log.warn("샤드 멤버 탈퇴 실패, 만료 후 다른 멤버가 샤드를 나눠 가집니다: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.leedahun.matchservice.domain.shard.ownership;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 이 인스턴스가 가진 샤드가 바뀜 (구독 정보를 새 샤드 기준으로 다시 적재해야 함)
+ */
+@Getter
+@AllArgsConstructor
+public class ShardOwnershipChangedEvent {
+
+    private final int ownedShardCount;
+    private final int shardCount;
+
+}
@@ -0,0 +1,26 @@
+package com.leedahun.matchservice.domain.shard.ownership;
+
+import java.util.BitSet;
+import lombok.Getter;
+
+/**
+ * 사라진 멤버가 가졌던 샤드를 이 인스턴스가 넘겨받음
+ * 떠난 멤버의 컨슈머 그룹이 마지막으로 커밋한 오프셋부터 이 샤드의 유저만 다시 매칭해야 한다.
+ */
+@Getter
+public class ShardTakeoverEvent {
+
+    private final String departedMemberId;
+    private final BitSet shards;
+    private final int shardCount;
+
+    public ShardTakeoverEvent(String departedMemberId, BitSet shards, int shardCount) {
+        this.departedMemberId = departedMemberId;
+        this.shards = (BitSet) shards.clone();
+        this.shardCount = shardCount;
+    }
+
+    public boolean covers(long userId) {
+        return shards.get(ShardAssignment.shardOf(userId, shardCount));
+    }
+}
@@ -0,0 +1,26 @@
+package com.leedahun.matchservice.domain.shard.repository;
+
+import com.leedahun.matchservice.domain.shard.entity.ShardMember;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ShardMemberRepository extends JpaRepository<ShardMember, String> {
+
+    List<ShardMember> findAllByExpiresAtGreaterThanOrderByMemberIdAsc(Long now);
+
+    // 등록된 적 없거나 이미 지워진 멤버면 0을 반환
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ShardMember m SET m.heartbeatAt = :now, m.expiresAt = :expiresAt WHERE m.memberId = :memberId")
+    int renew(@Param("memberId") String memberId, @Param("now") Long now, @Param("expiresAt") Long expiresAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ShardMember m WHERE m.expiresAt < :before")
+    int deleteExpired(@Param("before") Long before);
+
+}
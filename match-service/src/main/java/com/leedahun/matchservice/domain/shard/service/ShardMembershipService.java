@@ -0,0 +1,11 @@
+package com.leedahun.matchservice.domain.shard.service;
+
+import java.util.List;
+
+public interface ShardMembershipService {
+
+    List<String> heartbeat(String memberId, long now, long expiresAt);
+
+    void leave(String memberId);
+
+}
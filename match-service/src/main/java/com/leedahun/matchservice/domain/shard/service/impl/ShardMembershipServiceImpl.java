@@ -0,0 +1,44 @@
+package com.leedahun.matchservice.domain.shard.service.impl;
+
+import com.leedahun.matchservice.domain.shard.entity.ShardMember;
+import com.leedahun.matchservice.domain.shard.repository.ShardMemberRepository;
+import com.leedahun.matchservice.domain.shard.service.ShardMembershipService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShardMembershipServiceImpl implements ShardMembershipService {
+
+    private final ShardMemberRepository shardMemberRepository;
+
+    /**
+     * 멤버 만료 시각을 연장하고(처음이면 등록) 현재 살아 있는 멤버 ID 목록을 오름차순으로 반환
+     * 오래전에 만료된 멤버(종료 시 정리하지 못한 인스턴스)는 여기서 함께 지운다.
+     */
+    @Override
+    public List<String> heartbeat(String memberId, long now, long expiresAt) {
+        if (shardMemberRepository.renew(memberId, now, expiresAt) == 0) {
+            shardMemberRepository.saveAndFlush(ShardMember.builder()
+                    .memberId(memberId)
+                    .heartbeatAt(now)
+                    .expiresAt(expiresAt)
+                    .build());
+            log.info("샤드 멤버 등록 - {}", memberId);
+        }
+        shardMemberRepository.deleteExpired(now - (expiresAt - now));
+
+        return shardMemberRepository.findAllByExpiresAtGreaterThanOrderByMemberIdAsc(now).stream()
+                .map(ShardMember::getMemberId)
+                .toList();
+    }
+
+    // 다른 멤버가 만료를 기다리지 않고 다음 하트비트에서 바로 샤드를 나눠 갖도록 삭제
+    @Override
+    public void leave(String memberId) {
+        shardMemberRepository.deleteById(memberId);
+    }
+}
@@ -0,0 +1,43 @@
+package com.leedahun.matchservice.domain.trending.controller;
+
+import com.leedahun.matchservice.common.message.SuccessMessage;
+import com.leedahun.matchservice.common.response.HttpResponse;
+import com.leedahun.matchservice.domain.trending.dto.TrendingKeywordResponseDto;
+import com.leedahun.matchservice.domain.trending.service.TrendingKeywordService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/internal/trending")
+@RequiredArgsConstructor
+public class TrendingKeywordController {
+
+    private final TrendingKeywordService trendingKeywordService;
+
+    /**
+     * 최근 window 동안 전체 콘텐츠에서 많이 등장한 키워드 (최대 top-k 개)
+     */
+    @GetMapping
+    public ResponseEntity<?> getTrending(@RequestParam(defaultValue = "10") int limit) {
+        TrendingKeywordResponseDto response = trendingKeywordService.getTrending(limit);
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, SuccessMessage.READ_SUCCESS.getMessage(), response));
+    }
+
+    /**
+     * 최근 window 동안 특정 소스의 콘텐츠에서 많이 등장한 키워드
+     */
+    @GetMapping("/sources/{sourceId}")
+    public ResponseEntity<?> getTrendingBySource(@PathVariable Long sourceId,
+                                                 @RequestParam(defaultValue = "10") int limit) {
+        TrendingKeywordResponseDto response = trendingKeywordService.getTrendingBySource(sourceId, limit);
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, SuccessMessage.READ_SUCCESS.getMessage(), response));
+    }
+}
@@ -0,0 +1,19 @@
+package com.leedahun.matchservice.domain.trending.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * keyword: 정규화된 키워드 토큰
+ * count: window 동안 등장한 콘텐츠 수 (추정치, 실제보다 클 수 있음)
+ * score: 최근 구간일수록 가중치를 크게 준 점수 (정렬 기준)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class TrendingKeywordDto {
+    private String keyword;
+    private long count;
+    private double score;
+}
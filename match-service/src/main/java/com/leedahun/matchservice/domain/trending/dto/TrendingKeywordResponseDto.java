@@ -0,0 +1,19 @@
+package com.leedahun.matchservice.domain.trending.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class TrendingKeywordResponseDto {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long sourceId;  // 전체 집계면 null
+
+    private long windowSeconds;
+    private List<TrendingKeywordDto> keywords;
+}
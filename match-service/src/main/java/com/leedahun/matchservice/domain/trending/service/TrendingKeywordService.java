@@ -0,0 +1,13 @@
+package com.leedahun.matchservice.domain.trending.service;
+
+import com.leedahun.matchservice.domain.trending.dto.TrendingKeywordResponseDto;
+
+public interface TrendingKeywordService {
+
+    void record(Long sourceId, String title, String summary);
+
+    TrendingKeywordResponseDto getTrending(int limit);
+
+    TrendingKeywordResponseDto getTrendingBySource(Long sourceId, int limit);
+
+}
@@ -0,0 +1,253 @@
+package com.leedahun.matchservice.domain.trending.service.impl;
+
+import com.leedahun.matchservice.domain.content.keyword.KeywordTokenizer;
+import com.leedahun.matchservice.domain.trending.dto.TrendingKeywordDto;
+import com.leedahun.matchservice.domain.trending.dto.TrendingKeywordResponseDto;
+import com.leedahun.matchservice.domain.trending.service.TrendingKeywordService;
+import com.leedahun.matchservice.domain.trending.sketch.CountMinSketch;
+import com.leedahun.matchservice.domain.trending.sketch.TopKHeap;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 콘텐츠 토큰 스트림에서 최근 많이 등장한 키워드(heavy hitter)를 찾는 집계기
+ * - window 를 buckets 개 구간으로 나누고 구간마다 Count-Min Sketch 를 둔다. 시간이 지나면 가장 오래된 구간을 비워 재사용한다.
+ * - 점수는 구간별 추정치에 decay^(구간 나이)를 곱해 더한 값이라 최근에 몰린 키워드가 위로 올라온다.
+ * - 전체/소스별 상위 후보는 TopKHeap 으로 유지하고, 구간이 바뀔 때 점수를 다시 계산한다.
+ * - 소스별 키는 (소스 ID, 키워드) 해시로 전체와 따로 둔 스케치 구간에 기록하고, 소스별 힙은 최근에 쓴 max-sources 개만 유지한다.
+ *   (같은 스케치에 함께 넣으면 카운터 충돌이 두 배가 되어 전체 집계의 과대 추정 오차도 커짐)
+ * 따라서 메모리는 어휘 크기와 관계없이 2 * buckets * depth * width 카운터와 힙 크기로 고정된다.
+ * 콘텐츠 저장 스레드마다 기록하므로 토큰화, 스케치 기록, 점수 계산은 락 없이 하고 후보 힙 갱신과 구간 교체만 락을 잡는다.
+ * 구간이 바뀌는 순간 동시에 기록한 몇 건은 이전 구간에 들어갈 수 있다. (근사 집계라 허용)
+ * ES 집계 없이 인메모리로만 계산하므로 인스턴스별 값이며 재시작하면 초기화된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingKeywordServiceImpl implements TrendingKeywordService {
+
+    private static final String MEMORY_METRIC_NAME = "keyfeed.trending.sketch.bytes";
+
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.match.trending.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.match.trending.window-minutes:60}")
+    private long windowMinutes;
+
+    @Value("${app.match.trending.buckets:12}")
+    private int bucketCount;
+
+    @Value("${app.match.trending.decay:0.8}")
+    private double decay;
+
+    @Value("${app.match.trending.depth:4}")
+    private int depth;
+
+    @Value("${app.match.trending.width:4096}")
+    private int width;
+
+    @Value("${app.match.trending.top-k:20}")
+    private int topK;
+
+    @Value("${app.match.trending.candidates:100}")
+    private int candidates;
+
+    @Value("${app.match.trending.max-sources:500}")
+    private int maxSources;
+
+    private Clock clock = Clock.systemUTC();
+
+    private CountMinSketch[] buckets;        // 전체 키워드
+    private CountMinSketch[] sourceBuckets;  // (소스 ID, 키워드)
+    private double[] weights;  // 구간 나이 -> decay^나이
+    private long bucketMillis;
+    private volatile long currentBucket;  // 현재 구간 번호 (epoch 밀리초 / bucketMillis)
+
+    private TopKHeap overall;
+    private Map<Long, TopKHeap> bySource;
+
+    @PostConstruct
+    public void init() {
+        buckets = new CountMinSketch[bucketCount];
+        sourceBuckets = new CountMinSketch[bucketCount];
+        weights = new double[bucketCount];
+        for (int age = 0; age < bucketCount; age++) {
+            buckets[age] = new CountMinSketch(depth, width);
+            sourceBuckets[age] = new CountMinSketch(depth, width);
+            weights[age] = Math.pow(decay, age);
+        }
+        bucketMillis = Math.max(1L, windowMinutes * 60_000L / bucketCount);
+        currentBucket = clock.millis() / bucketMillis;
+
+        overall = new TopKHeap(candidates);
+        // 접근 순서 기준으로 가장 오래 쓰지 않은 소스의 힙부터 제거
+        bySource = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, TopKHeap> eldest) {
+                return size() > maxSources;
+            }
+        };
+
+        long bytes = 2L * bucketCount * buckets[0].estimatedBytes();
+        Gauge.builder(MEMORY_METRIC_NAME, () -> bytes)
+                .description("트렌딩 키워드 Count-Min Sketch 메모리 (고정)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 콘텐츠 한 건의 제목/요약 키워드를 기록 (콘텐츠 하나에서 같은 키워드는 한 번만 셈)
+     */
+    @Override
+    public void record(Long sourceId, String title, String summary) {
+        if (!enabled) {
+            return;
+        }
+        Set<String> keywords = KeywordTokenizer.extract(title, summary);
+        long bucket = advance(clock.millis());
+
+        int currentIndex = index(bucket, 0);
+        CountMinSketch current = buckets[currentIndex];
+        CountMinSketch currentSource = sourceBuckets[currentIndex];
+        List<Candidate> overallCandidates = new ArrayList<>(keywords.size());
+        List<Candidate> sourceCandidates = new ArrayList<>(sourceId == null ? 0 : keywords.size());
+        for (String keyword : keywords) {
+            if (isNumeric(keyword)) {
+                continue;
+            }
+            long hash = CountMinSketch.hash(keyword);
+            current.add(hash, 1);
+            overallCandidates.add(candidate(buckets, keyword, hash, bucket));
+
+            if (sourceId != null) {
+                long sourceHash = CountMinSketch.combine(hash, sourceId);
+                currentSource.add(sourceHash, 1);
+                sourceCandidates.add(candidate(sourceBuckets, keyword, sourceHash, bucket));
+            }
+        }
+
+        if (!overallCandidates.isEmpty()) {
+            offer(sourceId, overallCandidates, sourceCandidates);
+        }
+    }
+
+    @Override
+    public synchronized TrendingKeywordResponseDto getTrending(int limit) {
+        advance(clock.millis());
+        return toResponse(null, overall, limit);
+    }
+
+    @Override
+    public synchronized TrendingKeywordResponseDto getTrendingBySource(Long sourceId, int limit) {
+        advance(clock.millis());
+        return toResponse(sourceId, bySource.get(sourceId), limit);
+    }
+
+    // 락 없이 계산한 점수로 후보 힙만 갱신
+    private synchronized void offer(Long sourceId, List<Candidate> overallCandidates, List<Candidate> sourceCandidates) {
+        for (Candidate candidate : overallCandidates) {
+            overall.offer(candidate.keyword(), candidate.score(), candidate.count());
+        }
+        if (sourceId == null) {
+            return;
+        }
+        TopKHeap sourceHeap = bySource.computeIfAbsent(sourceId, id -> new TopKHeap(candidates));
+        for (Candidate candidate : sourceCandidates) {
+            sourceHeap.offer(candidate.keyword(), candidate.score(), candidate.count());
+        }
+    }
+
+    /**
+     * 지난 구간 수만큼 오래된 스케치를 비우고 후보 점수를 다시 계산한 뒤 현재 구간 번호를 반환
+     * 구간이 그대로면 락 없이 끝난다. 비울 스케치는 현재 구간으로 바꾸기 전에 비워, 이미 새 구간에 기록한 값을 지우지 않는다.
+     */
+    private long advance(long now) {
+        long target = now / bucketMillis;
+        long bucket = currentBucket;
+        if (target <= bucket) {
+            return bucket;
+        }
+        synchronized (this) {
+            bucket = currentBucket;
+            if (target <= bucket) {
+                return bucket;
+            }
+            long steps = Math.min(target - bucket, bucketCount);
+            for (int age = 0; age < steps; age++) {
+                buckets[index(target, age)].clear();
+                sourceBuckets[index(target, age)].clear();
+            }
+            currentBucket = target;
+
+            overall.rescore(entry -> rescore(buckets, entry, CountMinSketch.hash(entry.getKeyword()), target));
+            bySource.entrySet().removeIf(source -> {
+                source.getValue().rescore(entry -> rescore(sourceBuckets, entry,
+                        CountMinSketch.combine(CountMinSketch.hash(entry.getKeyword()), source.getKey()), target));
+                return source.getValue().isEmpty();
+            });
+            return target;
+        }
+    }
+
+    private Candidate candidate(CountMinSketch[] ring, String keyword, long hash, long bucket) {
+        long count = 0;
+        double score = 0;
+        for (int age = 0; age < bucketCount; age++) {
+            int estimate = ring[index(bucket, age)].estimate(hash);
+            count += estimate;
+            score += weights[age] * estimate;
+        }
+        return new Candidate(keyword, score, count);
+    }
+
+    private void rescore(CountMinSketch[] ring, TopKHeap.Entry entry, long hash, long bucket) {
+        Candidate candidate = candidate(ring, entry.getKeyword(), hash, bucket);
+        entry.update(candidate.score(), candidate.count());
+    }
+
+    // 구간 번호 기준 나이(0 = 현재 구간)에 해당하는 스케치 위치
+    private int index(long bucket, int age) {
+        return (int) Math.floorMod(bucket - age, (long) bucketCount);
+    }
+
+    private TrendingKeywordResponseDto toResponse(Long sourceId, TopKHeap heap, int limit) {
+        int size = Math.max(1, Math.min(limit, topK));
+        List<TrendingKeywordDto> keywords = heap == null ? List.of() : heap.top(size).stream()
+                .map(entry -> TrendingKeywordDto.builder()
+                        .keyword(entry.getKeyword())
+                        .count(entry.getCount())
+                        .score(Math.round(entry.getScore() * 100) / 100.0)
+                        .build())
+                .toList();
+        return TrendingKeywordResponseDto.builder()
+                .sourceId(sourceId)
+                .windowSeconds(windowMinutes * 60)
+                .keywords(keywords)
+                .build();
+    }
+
+    private record Candidate(String keyword, double score, long count) {
+    }
+
+    private boolean isNumeric(String keyword) {
+        for (int i = 0; i < keyword.length(); i++) {
+            if (!Character.isDigit(keyword.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
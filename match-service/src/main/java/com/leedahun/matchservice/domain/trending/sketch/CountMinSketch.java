@@ -0,0 +1,90 @@
+package com.leedahun.matchservice.domain.trending.sketch;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-Min Sketch
+ * depth 개의 해시 행마다 width 칸의 카운터를 두고, 추정치는 행별 카운터의 최솟값이다.
+ * 과대 추정만 발생하며(오차는 전체 건수 / width 수준), 메모리는 어휘 수와 관계없이 depth * width 로 고정된다.
+ * 행별 해시는 64비트 해시 하나를 두 부분으로 나눠 h1 + i * h2 로 만든다.
+ * 카운터는 행마다 AtomicIntegerArray 라 여러 스레드가 락 없이 동시에 기록/추정할 수 있다.
+ * (한 번의 추정은 행별로 다른 시점의 값을 읽을 수 있지만, 카운터가 줄지 않는 동안에는 과소 추정하지 않는다)
+ */
+public final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final AtomicIntegerArray[] counts;
+
+    public CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0) {
+            throw new IllegalArgumentException("depth, width는 1 이상이어야 합니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.counts = new AtomicIntegerArray[depth];
+        for (int row = 0; row < depth; row++) {
+            counts[row] = new AtomicIntegerArray(width);
+        }
+    }
+
+    public void add(long hash, int count) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int row = 0; row < depth; row++) {
+            // 오래 켜 두어도 음수로 넘어가지 않게 최댓값에서 멈춤
+            counts[row].getAndUpdate(index(h1 + row * h2), value -> (int) Math.min(Integer.MAX_VALUE, (long) value + count));
+        }
+    }
+
+    public int estimate(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counts[row].get(index(h1 + row * h2)));
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (AtomicIntegerArray counters : counts) {
+            for (int i = 0; i < width; i++) {
+                counters.set(i, 0);
+            }
+        }
+    }
+
+    public long estimatedBytes() {
+        return (long) depth * width * Integer.BYTES;
+    }
+
+    private int index(int combined) {
+        return (combined & Integer.MAX_VALUE) % width;
+    }
+
+    /**
+     * 문자열 64비트 해시 (FNV-1a 후 비트 섞기)
+     */
+    public static long hash(CharSequence value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * 두 해시를 하나로 합침 (소스별 키 등)
+     */
+    public static long combine(long hash, long salt) {
+        return mix(hash ^ mix(salt + 0x9e3779b97f4a7c15L));
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
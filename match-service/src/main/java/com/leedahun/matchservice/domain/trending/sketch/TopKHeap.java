@@ -0,0 +1,111 @@
+package com.leedahun.matchservice.domain.trending.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * 점수가 높은 후보 키워드를 최대 capacity 개까지 유지하는 최소 힙
+ * 가득 찼을 때는 힙의 최솟값보다 점수가 높은 키워드만 들어오고 최솟값이 밀려난다.
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+public final class TopKHeap {
+
+    private static final Comparator<Entry> BY_SCORE = Comparator.comparingDouble(Entry::getScore);
+
+    private final int capacity;
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final PriorityQueue<Entry> heap = new PriorityQueue<>(BY_SCORE);
+
+    public TopKHeap(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+    }
+
+    public void offer(String keyword, double score, long count) {
+        Entry entry = entries.get(keyword);
+        if (entry != null) {
+            heap.remove(entry);
+            entry.score = score;
+            entry.count = count;
+            heap.add(entry);
+            return;
+        }
+
+        if (entries.size() >= capacity) {
+            Entry min = heap.peek();
+            if (min == null || min.score >= score) {
+                return;
+            }
+            heap.poll();
+            entries.remove(min.keyword);
+        }
+        entry = new Entry(keyword, score, count);
+        entries.put(keyword, entry);
+        heap.add(entry);
+    }
+
+    /**
+     * 모든 후보의 점수를 다시 계산하고, 건수가 0이 된 후보는 제거
+     */
+    public void rescore(Consumer<Entry> updater) {
+        heap.clear();
+        entries.values().removeIf(entry -> {
+            updater.accept(entry);
+            return entry.count <= 0;
+        });
+        heap.addAll(entries.values());
+    }
+
+    /**
+     * 점수 내림차순 상위 limit 개
+     */
+    public List<Entry> top(int limit) {
+        List<Entry> sorted = new ArrayList<>(entries.values());
+        sorted.sort(BY_SCORE.reversed().thenComparing(Entry::getKeyword));
+        return sorted.size() > limit ? new ArrayList<>(sorted.subList(0, limit)) : sorted;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public static final class Entry {
+        private final String keyword;
+        private double score;
+        private long count;
+
+        private Entry(String keyword, double score, long count) {
+            this.keyword = keyword;
+            this.score = score;
+            this.count = count;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public void update(double score, long count) {
+            this.score = score;
+            this.count = count;
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.leedahun.matchservice.infra.client;
 
 import com.leedahun.matchservice.infra.client.dto.KeywordResponseDto;
+import com.leedahun.matchservice.infra.client.dto.KeywordSubscriptionDto;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.*;
@@ -16,4 +18,13 @@ public interface UserInternalApiClient {
     List<Long> findUserIdsByKeywordsAndSource(@RequestBody Set<String> keywords,
                                               @RequestParam("sourceId") Long sourceId);
 
+    @GetMapping("/internal/keywords/active")
+    List<KeywordSubscriptionDto> getNotificationEnabledKeywords();
+
+    @GetMapping("/internal/sources/{sourceId}/subscribers")
+    List<Long> getSourceSubscriberIds(@PathVariable("sourceId") Long sourceId);
+
+    @PostMapping("/internal/bookmarks/remap")
+    Integer remapBookmarkContentIds(@RequestBody Map<String, String> contentIdMap);
+
 }
@@ -0,0 +1,19 @@
+package com.leedahun.matchservice.infra.client.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordSubscriptionDto {
+    private Long userId;
+    private String name;
+}
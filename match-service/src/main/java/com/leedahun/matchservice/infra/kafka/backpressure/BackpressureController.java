@@ -0,0 +1,207 @@
+package com.leedahun.matchservice.infra.kafka.backpressure;
+
+import com.leedahun.matchservice.infra.kafka.consumer.ContentEventConsumer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 외부 의존성(identity-service, ES)의 지연 시간과 실패율을 보고 크롤링 콘텐츠 리스너를 멈추거나 다시 시작하는 백프레셔 제어기
+ * - 최근 window 초 동안 호출이 min-samples 건 이상이고, 평균 지연이 pause-latency-ms 를 넘거나 실패율이 pause-error-rate 를 넘으면
+ *   리스너 컨테이너의 파티션을 pause 한다. (컨슈머는 계속 poll 하므로 리밸런싱 없이 lag 만 쌓임)
+ * - 멈춘 뒤 pause 시간이 지나고 모든 의존성이 resume 기준(pause 기준보다 낮음) 아래로 내려가면 resume 한다.
+ *   멈춘 동안 호출이 없어 판단할 표본이 부족하면 다시 시작해서 상태를 확인한다.
+ * - resume 후 window 안에 다시 멈추게 되면 pause 시간을 두 배로 늘려(최대 max-pause-ms) 반복 재시작을 줄인다.
+ * 상태는 keyfeed.backpressure.paused 게이지(1이면 멈춤)와 의존성별 지연/실패율 게이지로 노출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BackpressureController {
+
+    private static final String PAUSED_METRIC_NAME = "keyfeed.backpressure.paused";
+    private static final String LATENCY_METRIC_NAME = "keyfeed.backpressure.latency";
+    private static final String ERROR_RATE_METRIC_NAME = "keyfeed.backpressure.error_rate";
+    private static final String TRANSITION_METRIC_NAME = "keyfeed.backpressure.transitions";
+
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.match.backpressure.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.match.backpressure.window-seconds:10}")
+    private int windowSeconds;
+
+    @Value("${app.match.backpressure.min-samples:5}")
+    private int minSamples;
+
+    @Value("${app.match.backpressure.pause-latency-ms:2000}")
+    private long pauseLatencyMs;
+
+    @Value("${app.match.backpressure.resume-latency-ms:500}")
+    private long resumeLatencyMs;
+
+    @Value("${app.match.backpressure.pause-error-rate:0.5}")
+    private double pauseErrorRate;
+
+    @Value("${app.match.backpressure.resume-error-rate:0.1}")
+    private double resumeErrorRate;
+
+    @Value("${app.match.backpressure.min-pause-ms:5000}")
+    private long minPauseMs;
+
+    @Value("${app.match.backpressure.max-pause-ms:60000}")
+    private long maxPauseMs;
+
+    private Clock clock = Clock.systemUTC();
+
+    private final Map<Dependency, DependencyStats> stats = new EnumMap<>(Dependency.class);
+
+    private volatile boolean paused;
+    private long pausedAt;
+    private long resumedAt = -1L;  // 아직 resume 한 적 없으면 -1
+    private long currentPauseMs;
+
+    @PostConstruct
+    public void registerMetrics() {
+        for (Dependency dependency : Dependency.values()) {
+            stats.put(dependency, new DependencyStats(windowSeconds));
+            Gauge.builder(LATENCY_METRIC_NAME, this, controller -> controller.snapshot(dependency).averageLatencyMillis())
+                    .description("최근 구간의 의존성 평균 호출 지연 시간")
+                    .baseUnit("milliseconds")
+                    .tag("dependency", dependency.getTag())
+                    .register(meterRegistry);
+            Gauge.builder(ERROR_RATE_METRIC_NAME, this, controller -> controller.snapshot(dependency).errorRate())
+                    .description("최근 구간의 의존성 호출 실패율")
+                    .tag("dependency", dependency.getTag())
+                    .register(meterRegistry);
+        }
+        Gauge.builder(PAUSED_METRIC_NAME, this, controller -> controller.isPaused() ? 1 : 0)
+                .description("크롤링 콘텐츠 리스너 일시 정지 여부 (1이면 정지)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 의존성 호출 결과 기록
+     */
+    public void record(Dependency dependency, long elapsedMillis, boolean failed) {
+        stats.get(dependency).record(clock.millis(), elapsedMillis, failed);
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * 주기적으로 의존성 상태를 보고 리스너를 멈추거나 다시 시작
+     */
+    @Scheduled(fixedDelayString = "${app.match.backpressure.check-interval-ms:1000}")
+    public synchronized void evaluate() {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+
+        if (!paused) {
+            Dependency overloaded = findOverloaded(now);
+            if (overloaded != null) {
+                pause(overloaded, now);
+            }
+            return;
+        }
+
+        if (now - pausedAt >= currentPauseMs && allRecovered(now)) {
+            resume(now);
+        }
+    }
+
+    private Dependency findOverloaded(long now) {
+        for (Dependency dependency : Dependency.values()) {
+            DependencyStats.Snapshot snapshot = stats.get(dependency).snapshot(now);
+            if (snapshot.calls() < minSamples) {
+                continue;
+            }
+            if (snapshot.averageLatencyMillis() > pauseLatencyMs || snapshot.errorRate() > pauseErrorRate) {
+                return dependency;
+            }
+        }
+        return null;
+    }
+
+    // 표본이 부족한 의존성은 회복된 것으로 봄 (멈춘 동안에는 호출이 거의 없음)
+    private boolean allRecovered(long now) {
+        for (Dependency dependency : Dependency.values()) {
+            DependencyStats.Snapshot snapshot = stats.get(dependency).snapshot(now);
+            if (snapshot.calls() < minSamples) {
+                continue;
+            }
+            if (snapshot.averageLatencyMillis() >= resumeLatencyMs || snapshot.errorRate() >= resumeErrorRate) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void pause(Dependency dependency, long now) {
+        MessageListenerContainer container = container();
+        if (container == null) {
+            return;
+        }
+
+        // 다시 시작하고 얼마 안 돼 또 멈추면 pause 시간을 늘림
+        boolean relapsed = resumedAt >= 0 && now - resumedAt < windowSeconds * 1000L;
+        currentPauseMs = relapsed ? Math.min(Math.max(currentPauseMs, minPauseMs) * 2, maxPauseMs) : minPauseMs;
+
+        DependencyStats.Snapshot snapshot = stats.get(dependency).snapshot(now);
+        log.warn("{} 지연/실패 증가로 콘텐츠 수신 일시 정지 - 평균 지연: {}ms, 실패율: {}, 최소 정지 시간: {}ms",
+                dependency.getTag(), Math.round(snapshot.averageLatencyMillis()),
+                String.format("%.2f", snapshot.errorRate()), currentPauseMs);
+        container.pause();
+        paused = true;
+        pausedAt = now;
+        countTransition("paused");
+    }
+
+    private void resume(long now) {
+        MessageListenerContainer container = container();
+        if (container != null) {
+            container.resume();
+        }
+        log.info("의존성 회복, 콘텐츠 수신 재개 - 정지 시간: {}ms", now - pausedAt);
+        paused = false;
+        resumedAt = now;
+        countTransition("resumed");
+    }
+
+    private MessageListenerContainer container() {
+        MessageListenerContainer container = kafkaListenerEndpointRegistry.getListenerContainer(ContentEventConsumer.LISTENER_ID);
+        if (container == null) {
+            log.warn("콘텐츠 리스너 컨테이너를 찾을 수 없음: {}", ContentEventConsumer.LISTENER_ID);
+        }
+        return container;
+    }
+
+    private DependencyStats.Snapshot snapshot(Dependency dependency) {
+        return stats.get(dependency).snapshot(clock.millis());
+    }
+
+    private void countTransition(String state) {
+        Counter.builder(TRANSITION_METRIC_NAME)
+                .description("백프레셔 상태 전환 횟수")
+                .tag("state", state)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,16 @@
+package com.leedahun.matchservice.infra.kafka.backpressure;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 콘텐츠 처리 중 호출하는 외부 의존성 (백프레셔 판단 대상)
+ */
+@Getter
+@AllArgsConstructor
+public enum Dependency {
+    IDENTITY("identity-service"),
+    ELASTICSEARCH("elasticsearch");
+
+    private final String tag;
+}
@@ -0,0 +1,84 @@
+package com.leedahun.matchservice.infra.kafka.backpressure;
+
+import java.util.Arrays;
+
+/**
+ * 최근 windowSeconds 초 동안의 호출 수, 실패 수, 지연 시간 합을 초 단위 버킷으로 모으는 슬라이딩 윈도우
+ * 호출할 때마다 지난 버킷을 비우므로 메모리는 윈도우 크기만큼만 사용한다.
+ */
+class DependencyStats {
+
+    private final long[] bucketSecond;
+    private final long[] calls;
+    private final long[] failures;
+    private final long[] latencyMillis;
+
+    DependencyStats(int windowSeconds) {
+        int size = Math.max(1, windowSeconds);
+        this.bucketSecond = new long[size];
+        this.calls = new long[size];
+        this.failures = new long[size];
+        this.latencyMillis = new long[size];
+        Arrays.fill(bucketSecond, -1L);
+    }
+
+    synchronized void record(long nowMillis, long elapsedMillis, boolean failed) {
+        int index = bucket(nowMillis / 1000);
+        calls[index]++;
+        latencyMillis[index] += Math.max(0L, elapsedMillis);
+        if (failed) {
+            failures[index]++;
+        }
+    }
+
+    synchronized Snapshot snapshot(long nowMillis) {
+        long nowSecond = nowMillis / 1000;
+        long totalCalls = 0;
+        long totalFailures = 0;
+        long totalLatency = 0;
+        for (int i = 0; i < bucketSecond.length; i++) {
+            if (bucketSecond[i] > nowSecond - bucketSecond.length && bucketSecond[i] <= nowSecond) {
+                totalCalls += calls[i];
+                totalFailures += failures[i];
+                totalLatency += latencyMillis[i];
+            }
+        }
+        return new Snapshot(totalCalls, totalFailures, totalLatency);
+    }
+
+    // 해당 초의 버킷 위치 (다른 초의 값이 남아 있으면 비우고 재사용)
+    private int bucket(long second) {
+        int index = (int) (second % bucketSecond.length);
+        if (bucketSecond[index] != second) {
+            bucketSecond[index] = second;
+            calls[index] = 0;
+            failures[index] = 0;
+            latencyMillis[index] = 0;
+        }
+        return index;
+    }
+
+    static final class Snapshot {
+        private final long calls;
+        private final long failures;
+        private final long totalLatencyMillis;
+
+        Snapshot(long calls, long failures, long totalLatencyMillis) {
+            this.calls = calls;
+            this.failures = failures;
+            this.totalLatencyMillis = totalLatencyMillis;
+        }
+
+        long calls() {
+            return calls;
+        }
+
+        double averageLatencyMillis() {
+            return calls == 0 ? 0.0 : (double) totalLatencyMillis / calls;
+        }
+
+        double errorRate() {
+            return calls == 0 ? 0.0 : (double) failures / calls;
+        }
+    }
+}
@@ -1,15 +1,30 @@
 package com.leedahun.matchservice.infra.kafka.consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.dto.BulkSaveResult;
 import com.leedahun.matchservice.domain.content.service.ContentService;
 import com.leedahun.matchservice.domain.content.service.NotificationTriggerService;
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnership;
 import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
 import com.leedahun.matchservice.infra.kafka.exception.KafkaMessageProcessingException;
+import com.leedahun.kafka.freshness.FreshnessMetrics;
+import com.leedahun.matchservice.infra.kafka.freshness.FreshnessTrace;
+import com.leedahun.matchservice.infra.kafka.producer.IndexedContentProducer;
+import com.leedahun.matchservice.infra.kafka.transaction.KafkaBatchTransaction;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.kafka.annotation.RetryableTopic;
-import org.springframework.retry.annotation.Backoff;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -17,30 +32,161 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class ContentEventConsumer {
 
+    // 백프레셔 제어기가 컨테이너를 찾을 때 사용
+    public static final String LISTENER_ID = "match.content.listener";
+
     private final ContentService contentService;
     private final NotificationTriggerService notificationTriggerService;
     private final ObjectMapper objectMapper;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+    private final KeyOrderedParallelProcessor contentKeyOrderedProcessor;
+    private final FreshnessMetrics freshnessMetrics;
+    private final ShardOwnership shardOwnership;
+    private final IndexedContentProducer indexedContentProducer;
+    private final KafkaBatchTransaction kafkaBatchTransaction;
 
+    /**
+     * 크롤링 콘텐츠를 배치로 수신 (최대 max.poll.records 건, 최대 fetch.max.wait.ms 대기)
+     * 1. 레코드별로 역직렬화
+     * 2. 역직렬화된 콘텐츠를 한 번의 bulk 요청으로 저장
+     * 3. 저장된 콘텐츠를 알림 매칭
+     *    이미 저장되어 있던 콘텐츠도 다시 매칭한다. 저장 후 알림을 보내기 전에 죽었다가 재수신한 레코드일 수 있기 때문
+     *    (이미 알림을 받은 유저인지는 notification-service 가 콘텐츠 ID + 유저 ID 로 저장된 알림을 보고 판단)
+     *    트렌딩 집계와 수집 지연 기록은 새로 저장된 콘텐츠만 한다.
+     *    매칭은 소스 ID별 순서를 지키며 최대 max-in-flight 개 소스를 동시에 처리하고, 모두 끝난 뒤 반환한다.
+     * 크롤러가 헤더로 보낸 시각을 이어받아 저장 시각과 함께 알림 매칭 단계로 넘긴다.
+     * 유저 파티션 모드에서는 직접 매칭하지 않고 저장된 콘텐츠를 모든 샤드 소유자에게 전달한다. (IndexedContentConsumer)
+     * 역직렬화에 실패한 레코드는 다시 시도해도 같으므로 바로 DLT로 보낸다.
+     * 저장/매칭/전달에 실패한 레코드는 (ES 항목 거절, identity-service 장애처럼 일시적일 수 있으므로)
+     * 첫 실패 레코드를 BatchListenerFailedException 으로 알려, 에러 핸들러가 그 앞까지만 커밋하고
+     * 실패한 레코드부터 백오프를 두고 다시 받게 한다. 재시도 횟수를 넘기면 그 레코드만 DLT로 간다.
+     * 함께 다시 받는 뒤쪽 레코드는 이미 저장된 콘텐츠로 다시 매칭되고, 중복 알림은 notification-service 가 거른다.
+     * bulk 요청 자체가 실패하면 예외를 던져 에러 핸들러가 배치 전체를 재시도하도록 한다.
+     * Kafka 트랜잭션 모드에서는 배치에서 보낸 메시지와 오프셋을 함께 커밋한다.
+     */
     @KafkaListener(
+            id = LISTENER_ID,
             topics = "${app.kafka.topic.content}",
-            groupId = "match.content.collector"
-    )
-    @RetryableTopic(
-            attempts = "3",
-            backoff = @Backoff(delay = 1000, multiplier = 2),
-            dltTopicSuffix = ".dlt"
+            groupId = "match.content.collector",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            properties = {
+                    "max.poll.records=${app.kafka.content.batch.max-records:500}",
+                    "fetch.min.bytes=${app.kafka.content.batch.min-bytes:65536}",
+                    "fetch.max.wait.ms=${app.kafka.content.batch.max-wait-ms:500}"
+            }
     )
-    public void consume(String message) {
-        log.info("Kafka 메시지 수신: {}", message);
+    public void consume(List<ConsumerRecord<String, String>> records, Consumer<?, ?> consumer) {
+        log.info("Kafka 메시지 {}건 수신", records.size());
+        kafkaBatchTransaction.execute(records, consumer.groupMetadata(), () -> process(records));
+    }
 
+    private void process(List<ConsumerRecord<String, String>> records) {
+        Map<ConsumerRecord<String, String>, Exception> deadLetters = new HashMap<>();   // 역직렬화 실패 (바로 DLT)
+        Map<ConsumerRecord<String, String>, Exception> retries = new HashMap<>();       // 저장/매칭/전달 실패 (재시도)
+        List<ConsumerRecord<String, String>> parsedRecords = new ArrayList<>(records.size());
+        List<CrawledContentDto> contents = new ArrayList<>(records.size());
+        List<FreshnessTrace> traces = new ArrayList<>(records.size());
+
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                contents.add(objectMapper.readValue(record.value(), CrawledContentDto.class));
+                parsedRecords.add(record);
+                traces.add(FreshnessTrace.from(record.headers()));
+            } catch (Exception e) {
+                log.error("메시지 역직렬화 실패 (offset: {}): {}", record.offset(), e.getMessage());
+                deadLetters.put(record, e);
+            }
+        }
+
+        BulkSaveResult result;
         try {
-            CrawledContentDto crawledContent = objectMapper.readValue(message, CrawledContentDto.class);
-            contentService.saveContent(crawledContent);
-            notificationTriggerService.matchAndSendNotification(crawledContent);  // 알림 카프카 메시지 전송
+            result = contentService.saveContents(contents);
         } catch (Exception e) {
-            log.error("메시지 처리 중 오류 발생: {}", e.getMessage(), e);
+            log.error("콘텐츠 bulk 저장 요청 실패: {}", e.getMessage(), e);
             throw new KafkaMessageProcessingException();
         }
+        long indexedAt = System.currentTimeMillis();
+
+        List<Integer> matchTargets = new ArrayList<>(contents.size());
+        for (int i = 0; i < contents.size(); i++) {
+            ConsumerRecord<String, String> record = parsedRecords.get(i);
+            if (result.isFailed(i)) {
+                log.error("콘텐츠 저장 실패 (offset: {}): {}", record.offset(), result.getFailures().get(i));
+                retries.put(record, new KafkaMessageProcessingException());
+                continue;
+            }
+            if (result.isDuplicate(i)) {
+                log.info("이미 저장된 콘텐츠, 다시 매칭 (offset: {})", record.offset());
+            } else {
+                freshnessMetrics.record(FreshnessMetrics.FETCH_TO_INDEX, traces.get(i).getFetchedAt(), indexedAt);
+            }
+            matchTargets.add(i);
+        }
+
+        if (shardOwnership.isEnabled()) {
+            broadcast(matchTargets, parsedRecords, contents, traces, result, indexedAt, retries);
+            complete(records, deadLetters, retries);
+            return;
+        }
+
+        // 매칭 실패는 여러 스레드에서 기록되므로 레코드 순서로 정렬되는 맵에 모음
+        Map<Integer, Exception> matchFailures = new ConcurrentSkipListMap<>();
+        contentKeyOrderedProcessor.process(matchTargets, i -> contents.get(i).getSourceId(), kafkaBatchTransaction.propagate(i -> {
+            try {
+                FreshnessTrace trace = traces.get(i).withIndexedAt(indexedAt);
+                if (result.isDuplicate(i)) {
+                    notificationTriggerService.rematchAndSendNotification(contents.get(i), trace, userId -> true);
+                } else {
+                    notificationTriggerService.matchAndSendNotification(contents.get(i), trace);  // 알림 카프카 메시지 전송
+                }
+            } catch (Exception e) {
+                log.error("알림 매칭 실패 (offset: {}): {}", parsedRecords.get(i).offset(), e.getMessage(), e);
+                matchFailures.put(i, e);
+            }
+        }));
+        matchFailures.forEach((i, e) -> retries.put(parsedRecords.get(i), e));
+
+        complete(records, deadLetters, retries);
+    }
+
+    /**
+     * 레코드 순서대로 역직렬화 실패를 DLT로 보내다가, 재시도할 레코드를 만나면 그 위치로 BatchListenerFailedException 을 던짐
+     * 뒤쪽 역직렬화 실패는 다시 받을 때 DLT로 보내므로 여기서 보내지 않는다. (DLT 중복 방지)
+     */
+    private void complete(List<ConsumerRecord<String, String>> records,
+                          Map<ConsumerRecord<String, String>, Exception> deadLetters,
+                          Map<ConsumerRecord<String, String>, Exception> retries) {
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, String> record = records.get(i);
+            Exception retryCause = retries.get(record);
+            if (retryCause != null) {
+                log.warn("처리 실패한 레코드부터 재시도 (offset: {}, 재시도 대상: {}건)", record.offset(), retries.size());
+                throw new BatchListenerFailedException("콘텐츠 처리 실패 (offset: " + record.offset() + ")", retryCause, i);
+            }
+            Exception deadLetterCause = deadLetters.get(record);
+            if (deadLetterCause != null) {
+                deadLetterPublishingRecoverer.accept(record, deadLetterCause);
+            }
+        }
+    }
+
+    // 전송은 한꺼번에 시작하고 결과만 기다림, 전달하지 못한 레코드는 재시도 대상으로 모음
+    private void broadcast(List<Integer> matchTargets, List<ConsumerRecord<String, String>> parsedRecords,
+                           List<CrawledContentDto> contents, List<FreshnessTrace> traces, BulkSaveResult result,
+                           long indexedAt, Map<ConsumerRecord<String, String>, Exception> retries) {
+        Map<Integer, CompletableFuture<?>> sends = new LinkedHashMap<>();
+        for (int i : matchTargets) {
+            sends.put(i, indexedContentProducer.publish(contents.get(i).getSourceId(), parsedRecords.get(i).value(),
+                    traces.get(i).withIndexedAt(indexedAt), result.isDuplicate(i)));
+        }
+        sends.forEach((i, send) -> {
+            try {
+                send.join();
+            } catch (Exception e) {
+                log.error("샤드 소유자에게 콘텐츠 전달 실패 (offset: {}): {}", parsedRecords.get(i).offset(), e.getMessage());
+                retries.put(parsedRecords.get(i), e);
+            }
+        });
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,100 @@
+package com.leedahun.matchservice.infra.kafka.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.service.NotificationTriggerService;
+import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import com.leedahun.matchservice.infra.kafka.freshness.FreshnessTrace;
+import com.leedahun.matchservice.infra.kafka.producer.IndexedContentProducer;
+import com.leedahun.matchservice.infra.kafka.transaction.KafkaBatchTransaction;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IndexedContentConsumer {
+
+    public static final String LISTENER_ID = "match.content.indexed.listener";
+    public static final String GROUP_ID_PREFIX = "match.content.matcher.";
+
+    private final NotificationTriggerService notificationTriggerService;
+    private final ObjectMapper objectMapper;
+    private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+    private final KeyOrderedParallelProcessor contentKeyOrderedProcessor;
+    private final KafkaBatchTransaction kafkaBatchTransaction;
+
+    /**
+     * 유저 파티션 모드에서 저장된 콘텐츠를 받아 이 인스턴스가 가진 샤드의 유저에게만 알림 매칭
+     * 인스턴스마다 다른 컨슈머 그룹(멤버 ID)으로 구독하므로 모든 샤드 소유자가 같은 콘텐츠를 받는다.
+     * 멤버 ID는 워커 ID 슬롯 번호라 재시작해 같은 슬롯을 받으면 커밋한 오프셋부터 이어서 읽는다. (처음 쓰는 그룹만 최신 오프셋부터)
+     * 멤버가 사라지면 샤드를 넘겨받은 멤버가 그 그룹의 오프셋부터 다시 매칭한다. (ShardTakeoverReplayer)
+     * 이미 저장되어 있던 콘텐츠(재수신 등)는 트렌딩 집계 없이 다시 매칭만 한다.
+     * 매칭은 소스 ID별 순서를 지키며 병렬로 처리하고, 역직렬화/매칭에 실패한 레코드만 DLT로 보낸다.
+     * Kafka 트랜잭션 모드에서는 배치에서 보낸 알림과 오프셋을 함께 커밋한다.
+     */
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = "${app.kafka.topic.content-indexed}",
+            groupId = GROUP_ID_PREFIX + "#{@shardOwnership.memberId}",
+            containerFactory = "batchKafkaListenerContainerFactory",
+            autoStartup = "${app.match.partition.enabled:false}",
+            properties = {
+                    "auto.offset.reset=latest",
+                    "max.poll.records=${app.kafka.content.batch.max-records:500}"
+            }
+    )
+    public void consume(List<ConsumerRecord<String, String>> records, Consumer<?, ?> consumer) {
+        kafkaBatchTransaction.execute(records, consumer.groupMetadata(), () -> process(records));
+    }
+
+    private void process(List<ConsumerRecord<String, String>> records) {
+        Map<ConsumerRecord<String, String>, Exception> deadLetters = new LinkedHashMap<>();
+        List<ConsumerRecord<String, String>> parsedRecords = new ArrayList<>(records.size());
+        List<CrawledContentDto> contents = new ArrayList<>(records.size());
+
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                contents.add(objectMapper.readValue(record.value(), CrawledContentDto.class));
+                parsedRecords.add(record);
+            } catch (Exception e) {
+                log.error("메시지 역직렬화 실패 (offset: {}): {}", record.offset(), e.getMessage());
+                deadLetters.put(record, e);
+            }
+        }
+
+        List<Integer> targets = new ArrayList<>(contents.size());
+        for (int i = 0; i < contents.size(); i++) {
+            targets.add(i);
+        }
+
+        Map<Integer, Exception> matchFailures = new ConcurrentSkipListMap<>();
+        contentKeyOrderedProcessor.process(targets, i -> contents.get(i).getSourceId(), kafkaBatchTransaction.propagate(i -> {
+            try {
+                ConsumerRecord<String, String> record = parsedRecords.get(i);
+                FreshnessTrace trace = FreshnessTrace.from(record.headers());
+                if (IndexedContentProducer.isDuplicate(record.headers())) {
+                    notificationTriggerService.rematchAndSendNotification(contents.get(i), trace, userId -> true);
+                } else {
+                    notificationTriggerService.matchAndSendNotification(contents.get(i), trace);
+                }
+            } catch (Exception e) {
+                log.error("알림 매칭 실패 (offset: {}): {}", parsedRecords.get(i).offset(), e.getMessage(), e);
+                matchFailures.put(i, e);
+            }
+        }));
+        matchFailures.forEach((i, e) -> deadLetters.put(parsedRecords.get(i), e));
+
+        deadLetters.forEach(deadLetterPublishingRecoverer::accept);
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.leedahun.matchservice.infra.kafka.consumer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 같은 키의 항목은 순서대로, 다른 키의 항목은 동시에 처리하는 실행기
+ * - 항목을 키별로 묶고, 키 그룹 하나를 작업 하나로 실행 (그룹 안에서는 입력 순서 유지)
+ * - 동시에 실행되는 그룹 수는 최대 maxInFlight 개
+ * - 모든 항목의 처리가 끝난 뒤에 반환하므로, 배치 리스너의 오프셋 커밋은 배치 전체가 끝난 뒤에만 일어난다.
+ * maxInFlight가 1 이하이면 스레드 풀 없이 호출 스레드에서 순서대로 처리한다.
+ *
+ * 오프셋 커밋 단위를 파티션별 "연속으로 처리가 끝난 가장 낮은 오프셋"이 아니라 배치로 둔 이유
+ * - 커밋은 리스너가 반환한 뒤 컨테이너가 poll 스레드에서 한다. Kafka 트랜잭션 모드에서는 배치에서 보낸 알림과
+ *   오프셋을 sendOffsetsToTransaction 으로 한 트랜잭션에 묶으므로, 처리 중간에 다른 스레드에서 일부 오프셋만
+ *   커밋하면 알림과 오프셋의 원자성이 깨진다. (KafkaConsumer 도 poll 스레드 밖에서 쓸 수 없다)
+ * - 실패가 있으면 리스너는 배치 순서상 첫 실패 레코드 위치로 BatchListenerFailedException 을 던지고,
+ *   에러 핸들러는 그 앞의 레코드만 커밋한다. 그 앞은 모두 처리(또는 DLT 전송)가 끝났으므로 파티션마다
+ *   커밋되는 오프셋은 항상 처리가 끝난 연속 구간 안에 있다.
+ * - 대신 느린 그룹이 있으면 다른 파티션의 커밋도 배치가 끝날 때까지 늦어지고, 실패 뒤의 다른 파티션 레코드는
+ *   다시 받아 매칭한다. (중복 알림은 notification-service 가 콘텐츠 ID + 유저 ID 로 거른다)
+ */
+public class KeyOrderedParallelProcessor implements AutoCloseable {
+
+    private final int maxInFlight;
+    private final ExecutorService executor;
+
+    public KeyOrderedParallelProcessor(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        this.executor = maxInFlight > 1 ? Executors.newFixedThreadPool(maxInFlight, threadFactory()) : null;
+    }
+
+    /**
+     * 항목을 키별 순서를 지키며 처리하고, 모두 끝날 때까지 기다림
+     * 작업에서 예외가 새어 나오면 나머지 그룹이 모두 끝난 뒤 첫 번째 예외를 던진다.
+     * 실패한 그룹이 있어도 다른 그룹을 끝까지 기다리므로, 반환(또는 예외) 시점에는 실행 중인 작업이 남지 않는다.
+     */
+    public <T, K> void process(List<T> items, Function<T, K> keyExtractor, Consumer<T> task) {
+        if (executor == null || items.size() <= 1) {
+            items.forEach(task);
+            return;
+        }
+
+        Map<K, List<T>> groups = new LinkedHashMap<>();
+        for (T item : items) {
+            groups.computeIfAbsent(keyExtractor.apply(item), k -> new ArrayList<>()).add(item);
+        }
+        if (groups.size() == 1) {
+            items.forEach(task);
+            return;
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(groups.size());
+        for (List<T> group : groups.values()) {
+            futures.add(CompletableFuture.runAsync(() -> group.forEach(task), executor));
+        }
+
+        RuntimeException failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException cause ? cause : e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    @Override
+    public void close() {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "content-match-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
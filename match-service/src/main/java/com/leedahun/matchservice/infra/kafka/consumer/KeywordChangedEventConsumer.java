@@ -0,0 +1,51 @@
+package com.leedahun.matchservice.infra.kafka.consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.keyword.SubscriptionMatcher;
+import com.leedahun.matchservice.infra.kafka.dto.KeywordAddedEventDto;
+import com.leedahun.matchservice.infra.kafka.dto.KeywordChangedEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordChangedEventConsumer {
+
+    private final SubscriptionMatcher subscriptionMatcher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.kafka.topic.keyword-added}")
+    private String keywordAddedTopic;
+
+    /**
+     * 키워드 추가/삭제/알림 토글 이벤트 수신 후 구독 매칭 인덱스 갱신 요청
+     * 매칭 인덱스는 인스턴스마다 따로 있으므로 인스턴스마다 다른 컨슈머 그룹으로 구독해 모든 인스턴스가 같은 이벤트를 받는다.
+     * (키워드 추가 이벤트의 최근 콘텐츠 알림은 match.keyword.backfill 그룹이 한 번만 처리)
+     * 그룹은 기동마다 새로 만들어지므로 최신 오프셋부터 읽고, 기동 전 변경은 기동 시 갱신에 포함된다.
+     * 형식이 잘못된 메시지는 재시도해도 같으므로 로그만 남기고 넘어간다.
+     */
+    @KafkaListener(
+            topics = {"${app.kafka.topic.keyword-added}", "${app.kafka.topic.keyword-changed}"},
+            groupId = "match.subscription-matcher.#{T(java.util.UUID).randomUUID().toString()}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consume(ConsumerRecord<String, String> record) {
+        Long userId;
+        try {
+            userId = keywordAddedTopic.equals(record.topic())
+                    ? objectMapper.readValue(record.value(), KeywordAddedEventDto.class).getUserId()
+                    : objectMapper.readValue(record.value(), KeywordChangedEventDto.class).getUserId();
+        } catch (JsonProcessingException e) {
+            log.error("키워드 변경 이벤트 역직렬화 실패 (topic: {}, offset: {}): {}", record.topic(), record.offset(), e.getMessage());
+            return;
+        }
+
+        subscriptionMatcher.requestRefresh(userId);
+    }
+}
@@ -0,0 +1,41 @@
+package com.leedahun.matchservice.infra.kafka.consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.service.KeywordBackfillService;
+import com.leedahun.matchservice.infra.kafka.dto.KeywordAddedEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordEventConsumer {
+
+    private final KeywordBackfillService keywordBackfillService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 키워드 추가 이벤트 수신 후 최근 콘텐츠 알림
+     * 형식이 잘못된 메시지는 재시도해도 같으므로 로그만 남기고 넘어가고,
+     * 검색/발행 실패는 예외를 던져 기본 에러 핸들러가 재시도하도록 한다.
+     */
+    @KafkaListener(
+            topics = "${app.kafka.topic.keyword-added}",
+            groupId = "match.keyword.backfill"
+    )
+    public void consume(ConsumerRecord<String, String> record) {
+        KeywordAddedEventDto event;
+        try {
+            event = objectMapper.readValue(record.value(), KeywordAddedEventDto.class);
+        } catch (JsonProcessingException e) {
+            log.error("키워드 추가 이벤트 역직렬화 실패 (offset: {}): {}", record.offset(), e.getMessage());
+            return;
+        }
+
+        keywordBackfillService.backfill(event);
+    }
+}
@@ -0,0 +1,159 @@
+package com.leedahun.matchservice.infra.kafka.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.service.NotificationTriggerService;
+import com.leedahun.matchservice.domain.shard.ownership.ShardTakeoverEvent;
+import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import com.leedahun.matchservice.infra.kafka.freshness.FreshnessTrace;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사라진 멤버에게서 넘겨받은 샤드의 유저에게 빠진 알림을 다시 매칭
+ * 떠난 멤버의 컨슈머 그룹이 마지막으로 커밋한 오프셋부터, 샤드를 넘겨받은 시점의 끝 오프셋까지 읽는다.
+ * (그 이후는 이 인스턴스의 리스너가 이미 새 샤드 기준으로 매칭 중)
+ * - 떠난 멤버의 그룹에는 가입하지 않고(assign) 오프셋도 커밋하지 않는다. 같은 슬롯으로 재시작한 인스턴스가 그 오프셋을 이어받기 때문
+ * - 커밋한 오프셋이 없는 파티션은 건너뛴다.
+ * - 떠난 멤버가 이미 처리한 구간이 겹치거나 재시작한 멤버가 같은 구간을 다시 읽으면 알림이 중복될 수 있다.
+ * 리스너 스레드를 막지 않도록 별도 스레드 하나에서 차례로 처리한다.
+ */
+@Slf4j
+@Component
+public class ShardTakeoverReplayer implements DisposableBean {
+
+    private static final String CLIENT_ID_SUFFIX = "-takeover";
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final NotificationTriggerService notificationTriggerService;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final Executor executor;
+
+    private volatile boolean stopped;
+
+    @Autowired
+    public ShardTakeoverReplayer(ConsumerFactory<String, String> consumerFactory,
+                                 NotificationTriggerService notificationTriggerService,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.kafka.topic.content-indexed}") String topic) {
+        this(consumerFactory, notificationTriggerService, objectMapper, topic,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "shard-takeover-replay");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    ShardTakeoverReplayer(ConsumerFactory<String, String> consumerFactory,
+                          NotificationTriggerService notificationTriggerService, ObjectMapper objectMapper,
+                          String topic, Executor executor) {
+        this.consumerFactory = consumerFactory;
+        this.notificationTriggerService = notificationTriggerService;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.executor = executor;
+    }
+
+    @EventListener
+    public void onShardTakeover(ShardTakeoverEvent event) {
+        executor.execute(() -> replay(event));
+    }
+
+    @Override
+    public void destroy() {
+        stopped = true;
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void replay(ShardTakeoverEvent event) {
+        String groupId = IndexedContentConsumer.GROUP_ID_PREFIX + event.getDepartedMemberId();
+        Properties properties = new Properties();
+        properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        try (Consumer<String, String> consumer = consumerFactory.createConsumer(groupId, null, CLIENT_ID_SUFFIX, properties)) {
+            replay(consumer, event);
+        } catch (Exception e) {
+            log.error("넘겨받은 샤드 재매칭 실패 - 떠난 멤버: {}: {}", event.getDepartedMemberId(), e.getMessage(), e);
+        }
+    }
+
+    private void replay(Consumer<String, String> consumer, ShardTakeoverEvent event) {
+        List<PartitionInfo> partitionInfos = consumer.partitionsFor(topic);
+        if (partitionInfos == null || partitionInfos.isEmpty()) {
+            return;
+        }
+        List<TopicPartition> partitions = partitionInfos.stream()
+                .map(info -> new TopicPartition(info.topic(), info.partition()))
+                .toList();
+
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(Set.copyOf(partitions));
+        Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+        // 파티션 -> 여기까지 다시 매칭 (끝 오프셋, 미포함)
+        Map<TopicPartition, Long> remaining = new HashMap<>();
+        long total = 0;
+        for (TopicPartition partition : partitions) {
+            OffsetAndMetadata offset = committed.get(partition);
+            long endOffset = endOffsets.getOrDefault(partition, 0L);
+            if (offset != null && offset.offset() < endOffset) {
+                remaining.put(partition, endOffset);
+                total += endOffset - offset.offset();
+            }
+        }
+        if (remaining.isEmpty()) {
+            log.info("넘겨받은 샤드에서 다시 매칭할 콘텐츠 없음 - 떠난 멤버: {}", event.getDepartedMemberId());
+            return;
+        }
+
+        consumer.assign(Set.copyOf(remaining.keySet()));
+        remaining.keySet().forEach(partition -> consumer.seek(partition, committed.get(partition).offset()));
+        log.info("넘겨받은 샤드 재매칭 시작 - 떠난 멤버: {}, 샤드: {}개, 콘텐츠: {}건",
+                event.getDepartedMemberId(), event.getShards().cardinality(), total);
+
+        long replayed = 0;
+        while (!remaining.isEmpty() && !stopped) {
+            for (ConsumerRecord<String, String> record : consumer.poll(POLL_TIMEOUT)) {
+                Long endOffset = remaining.get(new TopicPartition(record.topic(), record.partition()));
+                if (endOffset == null || record.offset() >= endOffset) {
+                    continue;
+                }
+                rematch(record, event);
+                replayed++;
+            }
+            remaining.entrySet().removeIf(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+        }
+        log.info("넘겨받은 샤드 재매칭 종료 - 떠난 멤버: {}, 콘텐츠: {}/{}건", event.getDepartedMemberId(), replayed, total);
+    }
+
+    // 한 건이 실패해도 나머지는 계속 매칭 (원래 리스너처럼 DLT로 보내면 다른 샤드 소유자까지 다시 처리하게 됨)
+    private void rematch(ConsumerRecord<String, String> record, ShardTakeoverEvent event) {
+        try {
+            CrawledContentDto content = objectMapper.readValue(record.value(), CrawledContentDto.class);
+            notificationTriggerService.rematchAndSendNotification(content, FreshnessTrace.from(record.headers()), event::covers);
+        } catch (Exception e) {
+            log.error("넘겨받은 샤드 재매칭 실패 (offset: {}): {}", record.offset(), e.getMessage());
+        }
+    }
+}
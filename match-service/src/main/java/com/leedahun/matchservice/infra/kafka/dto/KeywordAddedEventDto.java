@@ -0,0 +1,26 @@
+package com.leedahun.matchservice.infra.kafka.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * identity-service 키워드 추가 이벤트
+ * sourceIds: 추가 시점에 유저가 구독 중인 소스 ID
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordAddedEventDto {
+    private Long userId;
+    private Long keywordId;
+    private String keyword;
+    private List<Long> sourceIds;
+    private LocalDateTime addedAt;
+}
@@ -0,0 +1,24 @@
+package com.leedahun.matchservice.infra.kafka.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * identity-service 키워드 삭제/알림 토글 이벤트
+ * type: REMOVED(삭제), TOGGLED(알림 여부 변경)
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeywordChangedEventDto {
+    private Long userId;
+    private Long keywordId;
+    private String type;
+    private LocalDateTime changedAt;
+}
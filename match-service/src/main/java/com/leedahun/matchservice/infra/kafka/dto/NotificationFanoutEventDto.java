@@ -0,0 +1,30 @@
+package com.leedahun.matchservice.infra.kafka.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 콘텐츠 한 건에 대한 알림 팬아웃 이벤트
+ * 콘텐츠 정보는 한 번만 담고, 알림 대상 유저 ID와 알림 ID를 같은 순서의 목록으로 묶어서 전달한다.
+ * notification-service가 수신 시 유저별 알림으로 펼친다.
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFanoutEventDto {
+    private String contentId;
+    private String title;
+    private String message;
+    private String originalUrl;
+    private int chunkIndex;
+    private int chunkCount;
+    private List<Long> userIds;
+    private List<Long> notificationIds;  // userIds와 같은 위치의 유저에게 보낼 알림 ID
+    private List<RelatedContentDto> relatedContents;  // 묶음 알림에 포함된 콘텐츠 (단건 알림이면 null)
+}
@@ -6,16 +6,16 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+/**
+ * 묶음 알림에 포함되는 콘텐츠 참조
+ */
 @Getter
 @Builder
 @ToString
 @NoArgsConstructor
 @AllArgsConstructor
-public class NotificationEventDto {
-    private Long notificationId;
-    private Long userId;
-    private Long contentId;
+public class RelatedContentDto {
+    private String contentId;
     private String title;
-    private String message;
     private String originalUrl;
-}
\ No newline at end of file
+}
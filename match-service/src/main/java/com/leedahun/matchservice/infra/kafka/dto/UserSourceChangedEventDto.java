@@ -0,0 +1,28 @@
+package com.leedahun.matchservice.infra.kafka.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * identity-service 구독 소스 변경 이벤트
+ * type: ADDED(등록), REMOVED(구독 취소), TOGGLED(피드 수신 여부 변경)
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSourceChangedEventDto {
+    private Long userId;
+    private Long userSourceId;
+    private Long sourceId;
+    private String type;
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,45 @@
+package com.leedahun.matchservice.infra.kafka.freshness;
+
+import com.leedahun.kafka.freshness.FreshnessHeaders;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * 콘텐츠 한 건이 이전 단계들을 지난 시각 (epoch millis, 모르는 값은 null)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FreshnessTrace {
+
+    private static final FreshnessTrace EMPTY = new FreshnessTrace(null, null, null);
+
+    private final Long publishedAt;
+    private final Long fetchedAt;
+    private final Long indexedAt;
+
+    public static FreshnessTrace empty() {
+        return EMPTY;
+    }
+
+    public static FreshnessTrace from(Headers headers) {
+        return new FreshnessTrace(
+                FreshnessHeaders.get(headers, FreshnessHeaders.PUBLISHED_AT),
+                FreshnessHeaders.get(headers, FreshnessHeaders.FETCHED_AT),
+                FreshnessHeaders.get(headers, FreshnessHeaders.INDEXED_AT));
+    }
+
+    public FreshnessTrace withIndexedAt(long indexedAt) {
+        return new FreshnessTrace(publishedAt, fetchedAt, indexedAt);
+    }
+
+    /**
+     * 다음 단계로 보낼 메시지 헤더에 기록
+     */
+    public void writeTo(Headers headers) {
+        FreshnessHeaders.put(headers, FreshnessHeaders.PUBLISHED_AT, publishedAt);
+        FreshnessHeaders.put(headers, FreshnessHeaders.FETCHED_AT, fetchedAt);
+        FreshnessHeaders.put(headers, FreshnessHeaders.INDEXED_AT, indexedAt);
+    }
+}
@@ -6,7 +6,10 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum KafkaMessage {
-    NOTIFICATION_MESSAGE("등록한 키워드의 게시글이 올라왔습니다.");
+    NOTIFICATION_MESSAGE("등록한 키워드의 게시글이 올라왔습니다."),
+    COALESCED_NOTIFICATION_TITLE("%s 외 %d건"),
+    COALESCED_NOTIFICATION_MESSAGE("등록한 키워드의 게시글 %d건이 올라왔습니다."),
+    BACKFILL_NOTIFICATION_MESSAGE("새로 등록한 키워드 '%s'의 최근 게시글 %d건이 있습니다.");
 
     private final String message;
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.leedahun.matchservice.infra.kafka.producer;
+
+import com.leedahun.matchservice.infra.kafka.freshness.FreshnessTrace;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class IndexedContentProducer {
+
+    public static final String DUPLICATE_HEADER = "x-content-duplicate";  // 이미 저장되어 있던 콘텐츠 (재수신 등) 표시
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    @Value("${app.kafka.topic.content-indexed}")
+    private String contentIndexedTopic;
+
+    /**
+     * 저장된 콘텐츠를 수신한 메시지 그대로 모든 샤드 소유자에게 전달 (유저 파티션 매칭 모드)
+     * 소스 ID를 키로 보내 소스별 순서를 유지하고, 이전 단계 시각과 저장 시각은 헤더로 넘긴다.
+     * 이미 저장되어 있던 콘텐츠는 헤더로 표시해 수신 측이 트렌딩 집계 없이 다시 매칭만 하게 한다.
+     */
+    public CompletableFuture<SendResult<String, String>> publish(Long sourceId, String payload, FreshnessTrace trace,
+                                                                 boolean duplicate) {
+        ProducerRecord<String, String> record = new ProducerRecord<>(contentIndexedTopic,
+                sourceId == null ? null : String.valueOf(sourceId), payload);
+        trace.writeTo(record.headers());
+        if (duplicate) {
+            record.headers().add(DUPLICATE_HEADER, "true".getBytes(StandardCharsets.UTF_8));
+        }
+        return kafkaTemplate.send(record);
+    }
+
+    public static boolean isDuplicate(Headers headers) {
+        return headers.lastHeader(DUPLICATE_HEADER) != null;
+    }
+}
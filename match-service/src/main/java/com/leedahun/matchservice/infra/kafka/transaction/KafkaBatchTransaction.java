@@ -0,0 +1,137 @@
+package com.leedahun.matchservice.infra.kafka.transaction;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 배치 수신 -> 메시지 발행을 하나의 Kafka 트랜잭션으로 처리 (app.kafka.transaction.enabled)
+ * - 배치에서 보낸 메시지(알림, DLT, 샤드 전달)와 배치의 다음 오프셋을 함께 커밋한다.
+ * - 처리 중 예외가 나거나 커밋에 실패하면 트랜잭션을 중단하고 예외를 그대로 던져, 에러 핸들러가 배치 전체를 재시도하게 한다.
+ *   중단된 트랜잭션의 메시지는 read_committed 컨슈머에게 보이지 않으므로 재시도해도 알림이 중복되지 않는다.
+ * - 처리 중 BatchListenerFailedException 이 나면 실패한 레코드 앞까지의 오프셋만 담아 커밋한 뒤 예외를 던진다.
+ *   에러 핸들러는 실패한 레코드부터 다시 받아 재시도하므로, 그 앞 레코드에서 보낸 메시지는 한 번만 커밋된다.
+ *   이미 처리한 뒤쪽 레코드의 메시지도 함께 커밋되므로 다시 받아 처리할 때 중복될 수 있다. (알림은 notification-service 가 거름)
+ * - 트랜잭션은 poll 한 배치(최대 max.poll.records 건)마다 한 번만 열어 커밋 비용을 배치 전체에 나눈다.
+ * 트랜잭션 밖(스케줄러, DLT 재처리 등)에서 보내는 메시지는 기존처럼 트랜잭션 없이 전송된다.
+ * 비활성화되어 있으면 트랜잭션 없이 그대로 실행한다.
+ */
+@Slf4j
+@Component
+public class KafkaBatchTransaction {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public KafkaBatchTransaction(KafkaTemplate<String, String> kafkaTemplate,
+                                 @Value("${app.kafka.transaction.enabled:false}") boolean enabled) {
+        this.kafkaTemplate = kafkaTemplate;
+        if (!enabled) {
+            this.transactionTemplate = null;
+            return;
+        }
+        if (!kafkaTemplate.isTransactional()) {
+            throw new IllegalStateException("Kafka 트랜잭션 모드에는 transactional.id 접두사가 설정된 프로듀서가 필요합니다.");
+        }
+        kafkaTemplate.setAllowNonTransactional(true);
+        // 빈으로 등록하면 JPA 트랜잭션 매니저 자동 설정과 충돌하므로 여기서만 사용
+        this.transactionTemplate = new TransactionTemplate(new KafkaTransactionManager<>(kafkaTemplate.getProducerFactory()));
+        log.info("Kafka 배치 트랜잭션 모드 활성화");
+    }
+
+    public boolean isEnabled() {
+        return transactionTemplate != null;
+    }
+
+    /**
+     * 배치 처리(work)와 오프셋 커밋을 하나의 트랜잭션으로 실행
+     *
+     * @param groupMetadata 배치를 poll 한 컨슈머의 그룹 메타데이터 (리밸런싱 이전 세대 컨슈머의 커밋을 막음)
+     */
+    public void execute(List<ConsumerRecord<String, String>> records, ConsumerGroupMetadata groupMetadata,
+                        Runnable work) {
+        if (transactionTemplate == null) {
+            work.run();
+            return;
+        }
+        BatchListenerFailedException failure = transactionTemplate.execute(status -> {
+            try {
+                work.run();
+            } catch (BatchListenerFailedException e) {
+                sendOffsets(records.subList(0, failedIndex(records, e)), groupMetadata);
+                return e;
+            }
+            sendOffsets(records, groupMetadata);
+            return null;
+        });
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * 현재 스레드(리스너 스레드)의 트랜잭션에 다른 스레드에서 실행되는 작업도 참여하도록 감쌈
+     * 트랜잭션 밖에서 호출하면 작업을 그대로 반환한다.
+     */
+    public <T> Consumer<T> propagate(Consumer<T> task) {
+        if (transactionTemplate == null) {
+            return task;
+        }
+        ProducerFactory<String, String> producerFactory = kafkaTemplate.getProducerFactory();
+        Object resource = TransactionSynchronizationManager.getResource(producerFactory);
+        if (resource == null) {
+            return task;
+        }
+        return item -> {
+            // 실행기가 호출 스레드에서 바로 실행하는 경우에는 이미 묶여 있음
+            if (TransactionSynchronizationManager.hasResource(producerFactory)) {
+                task.accept(item);
+                return;
+            }
+            TransactionSynchronizationManager.bindResource(producerFactory, resource);
+            try {
+                task.accept(item);
+            } finally {
+                TransactionSynchronizationManager.unbindResource(producerFactory);
+            }
+        };
+    }
+
+    private void sendOffsets(List<ConsumerRecord<String, String>> records, ConsumerGroupMetadata groupMetadata) {
+        if (!records.isEmpty()) {
+            kafkaTemplate.sendOffsetsToTransaction(nextOffsets(records), groupMetadata);
+        }
+    }
+
+    // 실패한 레코드를 찾지 못하면 아무것도 커밋하지 않음 (배치 전체 재시도)
+    private static int failedIndex(List<ConsumerRecord<String, String>> records, BatchListenerFailedException e) {
+        if (e.getIndex() >= 0 && e.getIndex() < records.size()) {
+            return e.getIndex();
+        }
+        int index = records.indexOf(e.getRecord());
+        return index < 0 ? 0 : index;
+    }
+
+    static Map<TopicPartition, OffsetAndMetadata> nextOffsets(List<ConsumerRecord<String, String>> records) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (ConsumerRecord<String, String> record : records) {
+            offsets.merge(new TopicPartition(record.topic(), record.partition()), new OffsetAndMetadata(record.offset() + 1),
+                    (a, b) -> a.offset() >= b.offset() ? a : b);
+        }
+        return offsets;
+    }
+}
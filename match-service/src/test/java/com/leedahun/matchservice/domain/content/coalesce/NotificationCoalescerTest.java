@@ -0,0 +1,194 @@
+package com.leedahun.matchservice.domain.content.coalesce;
+
+import com.leedahun.matchservice.infra.kafka.dto.RelatedContentDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationCoalescerTest {
+
+    private NotificationCoalescer coalescer;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        coalescer = new NotificationCoalescer();
+        now = Instant.parse("2026-01-01T00:00:00Z");
+        ReflectionTestUtils.setField(coalescer, "enabled", true);
+        ReflectionTestUtils.setField(coalescer, "windowMs", 60_000L);
+        ReflectionTestUtils.setField(coalescer, "tickMs", 1_000L);
+        ReflectionTestUtils.setField(coalescer, "maxRelated", 2);
+        advance(0);
+    }
+
+    private void advance(long millis) {
+        now = now.plusMillis(millis);
+        ReflectionTestUtils.setField(coalescer, "clock", Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    private RelatedContentDto content(String id) {
+        return RelatedContentDto.builder().contentId(id).title("title-" + id).originalUrl("http://example.com/" + id).build();
+    }
+
+    @Test
+    @DisplayName("구간이 열려 있지 않은 유저는 바로 알림 대상이 된다")
+    void admit_First() {
+        // when
+        List<Long> immediate = coalescer.admit(List.of(1L, 2L), content("a"));
+
+        // then
+        assertThat(immediate).containsExactly(1L, 2L);
+        assertThat(coalescer.openWindowCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("구간 안에 다시 매칭된 유저는 바로 보내지 않고, 구간이 끝나면 최근 콘텐츠부터 묶어서 반환한다")
+    void admit_WithinWindow_Coalesced() {
+        // given
+        coalescer.admit(List.of(1L), content("a"));
+
+        // when
+        advance(10_000);
+        List<Long> second = coalescer.admit(List.of(1L, 2L), content("b"));
+        advance(10_000);
+        List<Long> third = coalescer.admit(List.of(1L), content("c"));
+        advance(10_000);
+        List<Long> fourth = coalescer.admit(List.of(1L), content("d"));
+
+        // then
+        assertThat(second).containsExactly(2L);
+        assertThat(third).isEmpty();
+        assertThat(fourth).isEmpty();
+        assertThat(coalescer.drainExpired()).isEmpty();
+
+        advance(30_000);
+        List<CoalescedNotification> drained = coalescer.drainExpired();
+        assertThat(drained).hasSize(1);
+        CoalescedNotification coalesced = drained.get(0);
+        assertThat(coalesced.getUserId()).isEqualTo(1L);
+        assertThat(coalesced.getTotalCount()).isEqualTo(3);
+        // 최대 2건만 보관
+        assertThat(coalesced.getRelatedContents()).extracting(RelatedContentDto::getContentId).containsExactly("d", "c");
+    }
+
+    @Test
+    @DisplayName("구간 동안 모인 콘텐츠가 없으면 묶음 알림 없이 구간을 닫는다")
+    void drainExpired_Empty_WindowClosed() {
+        // given
+        coalescer.admit(List.of(1L), content("a"));
+
+        // when
+        advance(60_000);
+        List<CoalescedNotification> drained = coalescer.drainExpired();
+
+        // then
+        assertThat(drained).isEmpty();
+        assertThat(coalescer.openWindowCount()).isZero();
+        assertThat(coalescer.admit(List.of(1L), content("b"))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("묶음 알림을 보낸 뒤에는 구간을 다시 열어 계속 올라오는 글도 구간마다 한 건으로 묶는다")
+    void drainExpired_Reopen() {
+        // given
+        coalescer.admit(List.of(1L), content("a"));
+        advance(1_000);
+        coalescer.admit(List.of(1L), content("b"));
+        advance(59_000);
+        assertThat(coalescer.drainExpired()).hasSize(1);
+
+        // when
+        advance(1_000);
+        List<Long> immediate = coalescer.admit(List.of(1L), content("c"));
+
+        // then
+        assertThat(immediate).isEmpty();
+        advance(59_000);
+        List<CoalescedNotification> drained = coalescer.drainExpired();
+        assertThat(drained).hasSize(1);
+        assertThat(drained.get(0).getTotalCount()).isEqualTo(1);
+        assertThat(drained.get(0).getRelatedContents()).extracting(RelatedContentDto::getContentId).containsExactly("c");
+    }
+
+    @Test
+    @DisplayName("스케줄이 휠 한 바퀴 이상 밀려도 만료된 구간을 모두 처리한다")
+    void drainExpired_AfterLongPause() {
+        // given
+        coalescer.admit(List.of(1L), content("a"));
+        advance(5_000);
+        coalescer.admit(List.of(2L), content("a"));
+        coalescer.admit(List.of(1L, 2L), content("b"));
+
+        // when
+        advance(600_000);
+        List<CoalescedNotification> drained = coalescer.drainExpired();
+
+        // then
+        assertThat(drained).extracting(CoalescedNotification::getUserId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 모든 유저에게 바로 보낸다")
+    void admit_Disabled() {
+        // given
+        ReflectionTestUtils.setField(coalescer, "enabled", false);
+        coalescer.admit(List.of(1L), content("a"));
+
+        // when
+        List<Long> immediate = coalescer.admit(List.of(1L), content("b"));
+
+        // then
+        assertThat(immediate).containsExactly(1L);
+        assertThat(coalescer.drainExpired()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종료 시에는 만료되지 않은 구간의 모인 콘텐츠도 모두 반환하고 구간을 닫는다")
+    void drainAll() {
+        // given
+        coalescer.admit(List.of(1L, 2L), content("a"));
+        advance(10_000);
+        coalescer.admit(List.of(1L), content("b"));
+
+        // when
+        List<CoalescedNotification> drained = coalescer.drainAll();
+
+        // then
+        assertThat(drained).hasSize(1);
+        assertThat(drained.get(0).getUserId()).isEqualTo(1L);
+        assertThat(drained.get(0).getTotalCount()).isEqualTo(1);
+        assertThat(drained.get(0).getRelatedContents()).extracting(RelatedContentDto::getContentId).containsExactly("b");
+        assertThat(coalescer.openWindowCount()).isZero();
+        assertThat(coalescer.drainExpired()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구간을 연 콘텐츠나 이미 모인 콘텐츠가 다시 매칭되면 묶음에 다시 넣지 않는다")
+    void admit_SameContentAgain() {
+        // given
+        coalescer.admit(List.of(1L), content("a"));
+        advance(10_000);
+        coalescer.admit(List.of(1L), content("b"));
+
+        // when
+        List<Long> redeliveredOpener = coalescer.admit(List.of(1L), content("a"));
+        List<Long> redeliveredCoalesced = coalescer.admit(List.of(1L), content("b"));
+
+        // then
+        assertThat(redeliveredOpener).isEmpty();
+        assertThat(redeliveredCoalesced).isEmpty();
+        advance(50_000);
+        List<CoalescedNotification> drained = coalescer.drainExpired();
+        assertThat(drained).hasSize(1);
+        assertThat(drained.get(0).getTotalCount()).isEqualTo(1);
+        assertThat(drained.get(0).getRelatedContents()).extracting(RelatedContentDto::getContentId).containsExactly("b");
+    }
+}
@@ -0,0 +1,104 @@
+package com.leedahun.matchservice.domain.content.keyword;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordAutomatonTest {
+
+    private Set<String> match(List<String> patterns, String text) {
+        KeywordAutomaton automaton = KeywordAutomaton.build(patterns);
+        Set<String> result = new TreeSet<>();
+        automaton.match(text, id -> result.add(patterns.get(id)));
+        return result;
+    }
+
+    @Test
+    @DisplayName("정규화: 소문자로 바꾸고 구두점은 공백으로, 연속 공백은 하나로 줄인다")
+    void normalize() {
+        assertThat(KeywordAutomaton.normalize("  Spring--Boot!! ")).isEqualTo("spring boot");
+        assertThat(KeywordAutomaton.normalize("Node.js")).isEqualTo("node js");
+        assertThat(KeywordAutomaton.normalize("!!!")).isEmpty();
+        assertThat(KeywordAutomaton.normalize(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("공백이 포함된 키워드를 대소문자와 구분자 차이에 상관없이 매칭한다")
+    void match_MultiWordKeyword() {
+        // given
+        List<String> patterns = List.of("Spring Boot", "Boot");
+
+        // when & then
+        assertThat(match(patterns, "spring-boot 3.2 출시")).containsExactly("Boot", "Spring Boot");
+        assertThat(match(patterns, "SPRING    BOOT 가이드")).containsExactly("Boot", "Spring Boot");
+        assertThat(match(patterns, "Spring 가이드")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단어 중간에서 시작하거나 끝나는 매칭은 보고하지 않는다")
+    void match_WordBoundary() {
+        // given
+        List<String> patterns = List.of("java", "자바", "he");
+
+        // when & then
+        assertThat(match(patterns, "JavaScript 자바스크립트 ushers")).isEmpty();
+        assertThat(match(patterns, "Java와 he")).containsExactly("he", "java");
+    }
+
+    @Test
+    @DisplayName("키워드 뒤에 조사가 붙어 있어도 매칭한다")
+    void match_AllowParticleSuffix() {
+        // given
+        List<String> patterns = List.of("카프카", "Spring Boot");
+
+        // when & then
+        assertThat(match(patterns, "카프카는 빠르다")).containsExactly("카프카");
+        assertThat(match(patterns, "Spring Boot를 배우자")).containsExactly("Spring Boot");
+        assertThat(match(patterns, "카프카스 산맥")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("겹치는 패턴을 모두 찾는다")
+    void match_OverlappingPatterns() {
+        // given
+        List<String> patterns = List.of("he", "she", "his", "hers", "she sells");
+
+        // when
+        Set<String> result = match(patterns, "she sells hers his");
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder("she", "she sells", "hers", "his");
+    }
+
+    @Test
+    @DisplayName("같은 패턴이 여러 번 나오면 나온 횟수만큼 보고한다")
+    void match_ReportEveryOccurrence() {
+        // given
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of("kafka"));
+        List<Integer> result = new ArrayList<>();
+
+        // when
+        automaton.match("Kafka, kafka! KAFKA", result::add);
+
+        // then
+        assertThat(result).containsExactly(0, 0, 0);
+    }
+
+    @Test
+    @DisplayName("빈 패턴 목록이나 null 텍스트는 아무것도 보고하지 않는다")
+    void match_Empty() {
+        assertThat(match(List.of(), "Spring Boot")).isEmpty();
+        assertThat(match(List.of("!!!"), "!!!")).isEmpty();
+
+        KeywordAutomaton automaton = KeywordAutomaton.build(List.of("kafka"));
+        List<Integer> result = new ArrayList<>();
+        automaton.match(null, result::add);
+        assertThat(result).isEmpty();
+    }
+}
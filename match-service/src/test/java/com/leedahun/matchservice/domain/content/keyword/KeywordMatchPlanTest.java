@@ -0,0 +1,115 @@
+package com.leedahun.matchservice.domain.content.keyword;
+
+import com.leedahun.matchservice.infra.client.dto.KeywordSubscriptionDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordMatchPlanTest {
+
+    private static final long[] ALL_USERS = {1L, 2L, 3L, 4L, 5L};
+
+    private KeywordSubscriptionDto subscription(long userId, String name) {
+        return KeywordSubscriptionDto.builder().userId(userId).name(name).build();
+    }
+
+    @Test
+    @DisplayName("같은 단어는 한 번만 등록하고, 단어 구성이 같은 표현식은 하나로 합친다")
+    void compile_ShareTermsAndExpressions() {
+        // when
+        KeywordMatchPlan plan = KeywordMatchPlan.compile(List.of(
+                subscription(1L, "kafka -tutorial"),
+                subscription(2L, "Kafka NOT Tutorial"),
+                subscription(3L, "kafka"),
+                subscription(4L, "\"spring boot\" kafka")
+        ));
+
+        // then
+        assertThat(plan.termCount()).isEqualTo(3);        // kafka, tutorial, spring boot
+        assertThat(plan.expressionCount()).isEqualTo(3);
+        assertThat(plan.invalidCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("포함 단어가 모두 있고 제외 단어가 없는 표현식의 유저만 반환한다")
+    void findUserIds_EvaluateExpressions() {
+        // given
+        KeywordMatchPlan plan = KeywordMatchPlan.compile(List.of(
+                subscription(1L, "kafka -tutorial"),
+                subscription(2L, "kafka"),
+                subscription(3L, "\"spring boot\" AND 3.5"),
+                subscription(4L, "Spring Boot")
+        ));
+
+        // when & then
+        assertThat(plan.findUserIds(ALL_USERS, "Kafka tutorial for beginners", null)).containsExactly(2L);
+        assertThat(plan.findUserIds(ALL_USERS, "Kafka 4.0 출시", null)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(plan.findUserIds(ALL_USERS, "Spring Boot 3.5 릴리스", null)).containsExactlyInAnyOrder(3L, 4L);
+        assertThat(plan.findUserIds(ALL_USERS, "Spring Boot 3.4 릴리스", null)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("포함 단어는 제목과 요약에 나뉘어 있어도 되고, 제외 단어는 어느 쪽에 있어도 제외한다")
+    void findUserIds_TitleAndSummary() {
+        // given
+        KeywordMatchPlan plan = KeywordMatchPlan.compile(List.of(
+                subscription(1L, "kafka streams"),
+                subscription(2L, "kafka -tutorial")
+        ));
+
+        // when & then
+        assertThat(plan.findUserIds(ALL_USERS, "Kafka 4.0", "Streams 개선 사항")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(plan.findUserIds(ALL_USERS, "Kafka streams", "tutorial")).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("소스 구독자가 아닌 유저는 제외한다")
+    void findUserIds_FilterBySubscribers() {
+        // given
+        KeywordMatchPlan plan = KeywordMatchPlan.compile(List.of(
+                subscription(1L, "kafka"),
+                subscription(2L, "kafka")
+        ));
+
+        // when & then
+        assertThat(plan.findUserIds(new long[]{2L}, "Kafka", null)).containsExactly(2L);
+        assertThat(plan.findUserIds(new long[]{3L}, "Kafka", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("표현식 유저가 소스 구독자보다 많아도 구독자 쪽에서 찾아 같은 결과를 반환한다")
+    void findUserIds_MoreUsersThanSubscribers() {
+        // given
+        List<KeywordSubscriptionDto> subscriptions = new ArrayList<>();
+        for (long userId = 1; userId <= 1_000; userId++) {
+            subscriptions.add(subscription(userId, "kafka"));
+        }
+        KeywordMatchPlan plan = KeywordMatchPlan.compile(subscriptions);
+
+        // when & then
+        assertThat(plan.findUserIds(new long[]{7L, 500L, 2_000L}, "Kafka", null)).containsExactly(7L, 500L);
+        assertThat(plan.findUserIds(LongStream.rangeClosed(990, 1_010).toArray(), "Kafka", null))
+                .containsExactlyElementsOf(LongStream.rangeClosed(990, 1_000).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 키워드는 건너뛰고 개수만 센다")
+    void compile_SkipInvalid() {
+        // when
+        KeywordMatchPlan plan = KeywordMatchPlan.compile(List.of(
+                subscription(1L, "kafka"),
+                subscription(2L, "\"kafka"),
+                subscription(3L, "!!!")
+        ));
+
+        // then
+        assertThat(plan.expressionCount()).isEqualTo(1);
+        assertThat(plan.invalidCount()).isEqualTo(2);
+        assertThat(plan.findUserIds(ALL_USERS, "Kafka", null)).containsExactly(1L);
+    }
+}
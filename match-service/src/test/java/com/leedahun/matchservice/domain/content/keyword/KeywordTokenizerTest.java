@@ -0,0 +1,95 @@
+package com.leedahun.matchservice.domain.content.keyword;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordTokenizerTest {
+
+    @Test
+    @DisplayName("공백 기준으로 나누고 특수문자는 제거한 채 앞뒤를 이어 붙인다")
+    void extract_RemoveSpecialCharacters() {
+        // when
+        Set<String> result = KeywordTokenizer.extract("Spring-Boot 3.0 출시!", "MSA\t가이드\n(초안)");
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder("springboot", "30", "출시", "msa", "가이드", "초안");
+    }
+
+    @Test
+    @DisplayName("영문은 소문자로 정규화한다")
+    void extract_LowercaseAscii() {
+        // when
+        Set<String> result = KeywordTokenizer.extract("KAFKA Kafka kafka", null);
+
+        // then
+        assertThat(result).containsExactly("kafka");
+    }
+
+    @Test
+    @DisplayName("한글 토큰은 원형과 함께 조사를 뗀 형태도 추출한다")
+    void extract_StripHangulParticles() {
+        // when
+        Set<String> result = KeywordTokenizer.extract("카프카는 쿠버네티스를 대체하지 않는다", "서버에서 Spring을 실행");
+
+        // then
+        assertThat(result).contains(
+                "카프카는", "카프카",
+                "쿠버네티스를", "쿠버네티스",
+                "서버에서", "서버",
+                "spring을", "spring"
+        );
+    }
+
+    @Test
+    @DisplayName("조사를 떼면 2글자 미만이 되는 경우에는 떼지 않는다")
+    void extract_KeepShortStem() {
+        // when
+        Set<String> result = KeywordTokenizer.extract("책을 나는", null);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder("책을", "나는");
+    }
+
+    @Test
+    @DisplayName("2글자 미만 토큰과 null 입력은 무시한다")
+    void extract_IgnoreShortTokensAndNull() {
+        // when
+        Set<String> result = KeywordTokenizer.extract(null, "A B ! 가");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버퍼를 재사용해도 이전 호출의 토큰이 남지 않는다")
+    void extract_ReuseBuffer() {
+        // given
+        KeywordTokenizer.extract("first call tokens", null);
+
+        // when
+        Set<String> result = KeywordTokenizer.extract("second", null);
+
+        // then
+        assertThat(result).containsExactly("second");
+    }
+
+    @Test
+    @DisplayName("제목과 요약의 경계에서 토큰이 이어지지 않는다")
+    void tokenize_TextBoundary() {
+        // given
+        TokenBuffer buffer = new TokenBuffer();
+
+        // when
+        KeywordTokenizer.tokenize("spring", buffer);
+        KeywordTokenizer.tokenize("boot", buffer);
+
+        // then
+        assertThat(buffer.size()).isEqualTo(2);
+        assertThat(buffer.get(0)).isEqualTo("spring");
+        assertThat(buffer.get(1)).isEqualTo("boot");
+    }
+}
@@ -0,0 +1,181 @@
+package com.leedahun.matchservice.domain.content.keyword;
+
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnershipChangedEvent;
+import com.leedahun.matchservice.infra.client.UserInternalApiClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SourceSubscriberCacheTest {
+
+    @Mock
+    private UserInternalApiClient userInternalApiClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanos;
+    private SourceSubscriberCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nanos = new AtomicLong();
+        cache = create(1L << 20);
+    }
+
+    // 갱신은 호출 스레드에서 바로 실행해 결과를 결정적으로 확인
+    private SourceSubscriberCache create(long maxBytes) {
+        return new SourceSubscriberCache(userInternalApiClient, userId -> true, meterRegistry, maxBytes, 60, 600,
+                nanos::get, Runnable::run);
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("처음 조회한 소스는 identity-service에서 구독자를 읽어 정렬/중복 제거한 배열로 캐시한다")
+    void get_LoadSortedDistinct() {
+        // given
+        when(userInternalApiClient.getSourceSubscriberIds(10L)).thenReturn(Arrays.asList(3L, 1L, null, 2L, 3L));
+
+        // when
+        long[] first = cache.get(10L);
+        long[] second = cache.get(10L);
+
+        // then
+        assertThat(first).containsExactly(1L, 2L, 3L);
+        assertThat(second).isSameAs(first);
+        verify(userInternalApiClient, times(1)).getSourceSubscriberIds(10L);
+    }
+
+    @Test
+    @DisplayName("구독자가 없는 소스는 빈 배열을 반환하고, 소스 ID가 없으면 조회하지 않는다")
+    void get_Empty() {
+        // given
+        when(userInternalApiClient.getSourceSubscriberIds(10L)).thenReturn(List.of());
+
+        // when & then
+        assertThat(cache.get(10L)).isEmpty();
+        assertThat(cache.get(null)).isEmpty();
+        verify(userInternalApiClient, times(1)).getSourceSubscriberIds(anyLong());
+    }
+
+    @Test
+    @DisplayName("유저 파티션 모드에서는 이 인스턴스가 가진 샤드의 유저만 담고, 샤드가 바뀌면 다시 읽는다")
+    void get_OwnedUsersOnly() {
+        // given
+        SourceSubscriberCache partitioned = new SourceSubscriberCache(userInternalApiClient, userId -> userId % 2 == 0,
+                meterRegistry, 1L << 20, 60, 600, nanos::get, Runnable::run);
+        when(userInternalApiClient.getSourceSubscriberIds(10L)).thenReturn(List.of(1L, 2L, 3L, 4L));
+
+        // when
+        long[] first = partitioned.get(10L);
+        partitioned.onShardOwnershipChanged(new ShardOwnershipChangedEvent(1, 2));
+        partitioned.get(10L);
+
+        // then
+        assertThat(first).containsExactly(2L, 4L);
+        verify(userInternalApiClient, times(2)).getSourceSubscriberIds(10L);
+    }
+
+    @Test
+    @DisplayName("refresh 주기가 지나면 다시 읽고, 갱신에 실패하면 기존 값을 유지한다")
+    void get_RefreshKeepsOldValueOnFailure() {
+        // given
+        when(userInternalApiClient.getSourceSubscriberIds(10L))
+                .thenReturn(List.of(1L))
+                .thenThrow(new RuntimeException("identity-service down"))
+                .thenReturn(List.of(1L, 2L));
+        cache.get(10L);
+
+        // when
+        advance(Duration.ofSeconds(61));
+
+        // then
+        // 기존 값을 돌려주면서 갱신 시도 (실패)
+        assertThat(cache.get(10L)).containsExactly(1L);
+        // 여전히 기존 값을 돌려주면서 다시 갱신 시도 (성공)
+        assertThat(cache.get(10L)).containsExactly(1L);
+        assertThat(cache.get(10L)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("ttl이 지난 항목은 버리고 다음 조회 때 새로 읽는다")
+    void get_ExpireAfterTtl() {
+        // given
+        when(userInternalApiClient.getSourceSubscriberIds(10L)).thenReturn(List.of(1L), List.of(2L));
+        cache.get(10L);
+
+        // when
+        advance(Duration.ofSeconds(601));
+
+        // then
+        assertThat(cache.get(10L)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("invalidate 하면 해당 소스만 다시 읽는다")
+    void invalidate() {
+        // given
+        when(userInternalApiClient.getSourceSubscriberIds(10L)).thenReturn(List.of(1L), List.of(1L, 5L));
+        when(userInternalApiClient.getSourceSubscriberIds(20L)).thenReturn(List.of(3L));
+        cache.get(10L);
+        cache.get(20L);
+
+        // when
+        cache.invalidate(10L);
+
+        // then
+        assertThat(cache.get(10L)).containsExactly(1L, 5L);
+        assertThat(cache.get(20L)).containsExactly(3L);
+        verify(userInternalApiClient, times(1)).getSourceSubscriberIds(20L);
+    }
+
+    @Test
+    @DisplayName("추정 메모리 사용량을 게이지로 노출한다")
+    void estimatedBytes_Gauge() {
+        // given
+        when(userInternalApiClient.getSourceSubscriberIds(10L)).thenReturn(List.of(1L, 2L, 3L, 4L));
+
+        // when
+        cache.get(10L);
+
+        // then
+        double bytes = meterRegistry.get("keyfeed.source_subscribers.bytes").gauge().value();
+        assertThat(bytes).isEqualTo(cache.estimatedBytes()).isGreaterThanOrEqualTo(4 * Long.BYTES);
+
+        cache.invalidateAll();
+        assertThat(meterRegistry.get("keyfeed.source_subscribers.bytes").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("추정 크기가 max-bytes를 넘으면 항목을 내보낸다")
+    void get_BoundedByBytes() {
+        // given
+        SourceSubscriberCache small = create(2_000);
+        List<Long> manyUsers = LongStream.rangeClosed(1, 100).boxed().toList();
+        when(userInternalApiClient.getSourceSubscriberIds(anyLong())).thenReturn(manyUsers);
+
+        // when
+        for (long sourceId = 1; sourceId <= 10; sourceId++) {
+            small.get(sourceId);
+        }
+
+        // then
+        assertThat(small.estimatedBytes()).isLessThanOrEqualTo(2_000);
+    }
+}
@@ -0,0 +1,236 @@
+package com.leedahun.matchservice.domain.content.keyword;
+
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnership;
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnershipChangedEvent;
+import com.leedahun.matchservice.infra.client.UserInternalApiClient;
+import com.leedahun.matchservice.infra.client.dto.KeywordSubscriptionDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriptionMatcherTest {
+
+    @InjectMocks
+    private SubscriptionMatcher subscriptionMatcher;
+
+    @Mock
+    private UserInternalApiClient userInternalApiClient;
+
+    @Mock
+    private SourceSubscriberCache sourceSubscriberCache;
+
+    @Mock
+    private ShardOwnership shardOwnership;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(subscriptionMatcher, "enabled", true);
+    }
+
+    private void givenSubscriptions() {
+        when(userInternalApiClient.getNotificationEnabledKeywords()).thenReturn(List.of(
+                KeywordSubscriptionDto.builder().userId(1L).name("Spring Boot").build(),
+                KeywordSubscriptionDto.builder().userId(2L).name("spring-boot").build(),
+                KeywordSubscriptionDto.builder().userId(2L).name("Kafka").build(),
+                KeywordSubscriptionDto.builder().userId(3L).name("카프카").build()
+        ));
+        lenient().when(sourceSubscriberCache.get(anyLong())).thenReturn(new long[0]);
+        lenient().when(sourceSubscriberCache.get(10L)).thenReturn(new long[]{1L, 2L});
+        lenient().when(sourceSubscriberCache.get(20L)).thenReturn(new long[]{3L});
+    }
+
+    @Test
+    @DisplayName("갱신 전에는 준비되지 않은 상태이며 빈 목록을 반환한다")
+    void findUserIds_NotReady() {
+        // when & then
+        assertThat(subscriptionMatcher.isReady()).isFalse();
+        assertThat(subscriptionMatcher.findUserIds(10L, "Spring Boot", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("소스를 구독 중이고 키워드가 포함된 유저만 중복 없이 반환한다")
+    void findUserIds_Success() {
+        // given
+        givenSubscriptions();
+        subscriptionMatcher.refresh();
+
+        // when
+        List<Long> result = subscriptionMatcher.findUserIds(10L, "SPRING BOOT와 Kafka", "spring boot 3.2");
+
+        // then
+        assertThat(subscriptionMatcher.isReady()).isTrue();
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("키워드가 매칭되어도 해당 소스를 구독하지 않은 유저는 제외한다")
+    void findUserIds_FilterBySource() {
+        // given
+        givenSubscriptions();
+        subscriptionMatcher.refresh();
+
+        // when & then
+        assertThat(subscriptionMatcher.findUserIds(10L, "카프카는 빠르다", null)).isEmpty();
+        assertThat(subscriptionMatcher.findUserIds(20L, "카프카는 빠르다", null)).containsExactly(3L);
+        assertThat(subscriptionMatcher.findUserIds(99L, "카프카는 빠르다", null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목과 요약은 따로 검사하므로 둘을 이어야만 만들어지는 키워드는 매칭되지 않는다")
+    void findUserIds_TitleAndSummarySeparately() {
+        // given
+        givenSubscriptions();
+        subscriptionMatcher.refresh();
+
+        // when
+        List<Long> result = subscriptionMatcher.findUserIds(10L, "Hello Spring", "Boot camp");
+
+        // then
+        assertThat(result).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키워드 표현식의 포함/제외 단어 조건을 만족하는 유저만 반환한다")
+    void findUserIds_Expression() {
+        // given
+        when(userInternalApiClient.getNotificationEnabledKeywords()).thenReturn(List.of(
+                KeywordSubscriptionDto.builder().userId(1L).name("kafka -tutorial").build(),
+                KeywordSubscriptionDto.builder().userId(2L).name("\"spring boot\" AND 3.5").build()
+        ));
+        when(sourceSubscriberCache.get(10L)).thenReturn(new long[]{1L, 2L});
+        subscriptionMatcher.refresh();
+
+        // when & then
+        assertThat(subscriptionMatcher.findUserIds(10L, "Kafka tutorial", null)).isEmpty();
+        assertThat(subscriptionMatcher.findUserIds(10L, "Kafka 4.0 출시", "Spring Boot 3.5 지원")).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("유저 파티션 모드에서는 이 인스턴스가 가진 샤드의 유저 키워드만 담고, 샤드가 바뀌면 다시 만든다")
+    void refresh_OwnedUsersOnly() {
+        // given
+        givenSubscriptions();
+        when(shardOwnership.isEnabled()).thenReturn(true);
+        when(shardOwnership.owns(anyLong())).thenAnswer(invocation -> invocation.<Long>getArgument(0) == 2L);
+
+        // when
+        subscriptionMatcher.onShardOwnershipChanged(new ShardOwnershipChangedEvent(1, 2));
+
+        // then
+        assertThat(subscriptionMatcher.findUserIds(10L, "Spring Boot와 Kafka", null)).containsExactly(2L);
+        verify(userInternalApiClient).getNotificationEnabledKeywords();
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 기존 스냅샷을 유지한다")
+    void refresh_KeepSnapshotOnFailure() {
+        // given
+        givenSubscriptions();
+        subscriptionMatcher.refresh();
+        when(userInternalApiClient.getNotificationEnabledKeywords()).thenThrow(new RuntimeException("identity-service down"));
+
+        // when
+        subscriptionMatcher.refresh();
+
+        // then
+        assertThat(subscriptionMatcher.findUserIds(10L, "Kafka", null)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 구독 정보를 조회하지 않는다")
+    void refresh_Disabled() {
+        // given
+        ReflectionTestUtils.setField(subscriptionMatcher, "enabled", false);
+
+        // when
+        subscriptionMatcher.refresh();
+
+        // then
+        assertThat(subscriptionMatcher.isReady()).isFalse();
+        verify(userInternalApiClient, never()).getNotificationEnabledKeywords();
+    }
+
+    @Test
+    @DisplayName("소스 구독자가 없으면 키워드 매칭을 하지 않는다")
+    void findUserIds_NoSubscribers() {
+        // given
+        givenSubscriptions();
+        subscriptionMatcher.refresh();
+
+        // when
+        List<Long> result = subscriptionMatcher.findUserIds(99L, "Spring Boot와 Kafka", null);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(sourceSubscriberCache).get(99L);
+    }
+
+    @Test
+    @DisplayName("스냅샷 갱신 시 소스 구독 정보 전체를 조회하지 않고 키워드만 조회한다")
+    void refresh_KeywordsOnly() {
+        // given
+        givenSubscriptions();
+
+        // when
+        subscriptionMatcher.refresh();
+
+        // then
+        verify(userInternalApiClient).getNotificationEnabledKeywords();
+        verifyNoMoreInteractions(userInternalApiClient);
+        verifyNoInteractions(sourceSubscriberCache);
+    }
+
+    @Test
+    @DisplayName("키워드 변경 이벤트가 여러 번 와도 다음 변경 확인 때 한 번만 다시 만든다")
+    void refreshIfChanged_Coalesce() {
+        // given
+        givenSubscriptions();
+        subscriptionMatcher.requestRefresh(1L);
+        subscriptionMatcher.requestRefresh(2L);
+
+        // when
+        subscriptionMatcher.refreshIfChanged();
+        subscriptionMatcher.refreshIfChanged();
+
+        // then
+        assertThat(subscriptionMatcher.isReady()).isTrue();
+        verify(userInternalApiClient, times(1)).getNotificationEnabledKeywords();
+    }
+
+    @Test
+    @DisplayName("키워드 변경이 없으면 변경 확인 때 구독 정보를 조회하지 않는다")
+    void refreshIfChanged_NoChange() {
+        // when
+        subscriptionMatcher.refreshIfChanged();
+
+        // then
+        verifyNoInteractions(userInternalApiClient);
+    }
+
+    @Test
+    @DisplayName("유저 파티션 모드에서는 다른 샤드 유저의 키워드 변경으로 다시 만들지 않는다")
+    void requestRefresh_NotOwnedUser() {
+        // given
+        when(shardOwnership.isEnabled()).thenReturn(true);
+        when(shardOwnership.owns(5L)).thenReturn(false);
+
+        // when
+        subscriptionMatcher.requestRefresh(5L);
+        subscriptionMatcher.refreshIfChanged();
+
+        // then
+        verifyNoInteractions(userInternalApiClient);
+    }
+}
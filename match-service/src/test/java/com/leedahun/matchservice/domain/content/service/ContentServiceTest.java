@@ -1,20 +1,39 @@
 package com.leedahun.matchservice.domain.content.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.leedahun.matchservice.domain.content.document.ContentDocument;
-import com.leedahun.matchservice.domain.content.repository.ContentDocumentRepository;
+import com.leedahun.matchservice.domain.content.dto.BulkSaveResult;
 import com.leedahun.matchservice.domain.content.service.impl.ContentServiceImpl;
+import com.leedahun.matchservice.domain.content.similarity.NearDuplicateDetector;
+import com.leedahun.matchservice.domain.content.util.ContentIdGenerator;
+import com.leedahun.matchservice.infra.kafka.backpressure.BackpressureController;
+import com.leedahun.matchservice.infra.kafka.backpressure.Dependency;
 import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
 
 @ExtendWith(MockitoExtension.class)
 class ContentServiceTest {
@@ -23,11 +42,40 @@ class ContentServiceTest {
     private ContentServiceImpl contentService;
 
     @Mock
-    private ContentDocumentRepository contentDocumentRepository;
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private NearDuplicateDetector nearDuplicateDetector;
+
+    @Mock
+    private BackpressureController backpressureController;
+
+    @BeforeEach
+    void setUp() {
+        // 유사 글이 없으면 자기 자신이 대표
+        lenient().when(nearDuplicateDetector.resolve(anyString(), any(), any(), anyList()))
+                .thenAnswer(invocation -> new NearDuplicateDetector.Resolution(
+                        invocation.getArgument(0), invocation.getArgument(0), 1L));
+    }
+
+    private String idOf(CrawledContentDto dto) {
+        return ContentIdGenerator.generate(dto.getSourceId(), dto.getOriginalUrl());
+    }
+
+    private CrawledContentDto content(String title) {
+        return CrawledContentDto.builder()
+                .sourceId(1L)
+                .title(title)
+                .summary("Summary")
+                .originalUrl("https://blog.com/post/" + title)
+                .publishedAt(LocalDateTime.now())
+                .build();
+    }
 
     @Test
-    @DisplayName("중복되지 않은 새로운 콘텐츠는 DB에 저장되어야 한다")
-    void saveContent_Success_NewContent() {
+    @DisplayName("중복되지 않은 새로운 콘텐츠는 ES에 create 요청으로 저장되어야 한다")
+    @SuppressWarnings("unchecked")
+    void saveContents_Success_NewContent() {
         // given
         CrawledContentDto dto = CrawledContentDto.builder()
                 .sourceId(1L)
@@ -39,11 +87,238 @@ class ContentServiceTest {
                 .build();
 
         // when
-        contentService.saveContent(dto);
+        contentService.saveContents(List.of(dto));
+
+        // then
+        ArgumentCaptor<List<IndexQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, times(1)).bulkIndex(captor.capture(), eq(ContentDocument.class));
+        IndexQuery query = captor.getValue().get(0);
+        assertThat(query.getId()).isEqualTo(idOf(dto));
+        assertThat(query.getOpType()).isEqualTo(IndexQuery.OpType.CREATE);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 콘텐츠는 409 충돌을 실패가 아닌 중복으로 처리한다")
+    void saveContents_ConflictIsDuplicate() {
+        // given
+        CrawledContentDto dto1 = content("a");
+        CrawledContentDto dto2 = content("b");
+        when(elasticsearchOperations.bulkIndex(anyList(), eq(ContentDocument.class)))
+                .thenThrow(new BulkFailureException("bulk failed",
+                        Map.of(idOf(dto1), new BulkFailureException.FailureDetails(409, "version_conflict_engine_exception"))));
+
+        // when
+        BulkSaveResult result = contentService.saveContents(List.of(dto1, dto2));
+
+        // then
+        assertThat(result.isDuplicate(0)).isTrue();
+        assertThat(result.isFailed(0)).isFalse();
+        assertThat(result.isDuplicate(1)).isFalse();
+        assertThat(result.getFailures()).isEmpty();
+        verify(elasticsearchOperations, times(1)).bulkIndex(anyList(), eq(ContentDocument.class));
+    }
+
+    @Test
+    @DisplayName("같은 배치 안에 같은 글이 여러 번 있으면 한 번만 요청하고 나머지는 중복으로 처리한다")
+    @SuppressWarnings("unchecked")
+    void saveContents_DuplicateInBatch() {
+        // given
+        CrawledContentDto dto = content("a");
+        CrawledContentDto sameWithTracking = CrawledContentDto.builder()
+                .sourceId(1L)
+                .title("a")
+                .originalUrl("HTTPS://BLOG.com/post/a/?utm_source=rss#comments")
+                .build();
+
+        // when
+        BulkSaveResult result = contentService.saveContents(List.of(dto, sameWithTracking));
+
+        // then
+        ArgumentCaptor<List<IndexQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, times(1)).bulkIndex(captor.capture(), eq(ContentDocument.class));
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(result.isDuplicate(1)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 배치 안의 첫 번째 글이 저장에 실패하면 나머지도 중복이 아닌 실패로 처리한다")
+    void saveContents_DuplicateInBatch_FirstFailed() {
+        // given
+        CrawledContentDto dto = content("a");
+        CrawledContentDto same = content("a");
+        when(elasticsearchOperations.bulkIndex(anyList(), eq(ContentDocument.class)))
+                .thenThrow(new BulkFailureException("bulk failed",
+                        Map.of(idOf(dto), new BulkFailureException.FailureDetails(429, "es_rejected_execution_exception"))));
+
+        // when
+        BulkSaveResult result = contentService.saveContents(List.of(dto, same));
+
+        // then
+        assertThat(result.isFailed(0)).isTrue();
+        assertThat(result.isFailed(1)).isTrue();
+        assertThat(result.isDuplicate(1)).isFalse();
+        assertThat(result.getFailures().get(1)).isEqualTo("es_rejected_execution_exception");
+    }
+
+    @Test
+    @DisplayName("여러 콘텐츠를 (소스 ID, URL)로 정해지는 ID로 한 번의 bulk 요청에 저장한다")
+    @SuppressWarnings("unchecked")
+    void saveContents_Success() {
+        // given
+        CrawledContentDto dto1 = content("a");
+        CrawledContentDto dto2 = content("b");
+
+        // when
+        BulkSaveResult result = contentService.saveContents(List.of(dto1, dto2));
+
+        // then
+        ArgumentCaptor<List<IndexQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, times(1)).bulkIndex(captor.capture(), eq(ContentDocument.class));
+        assertThat(captor.getValue()).extracting(IndexQuery::getId).containsExactly(idOf(dto1), idOf(dto2));
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getDuplicates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시도할 수 없는 항목 실패는 요청 목록의 위치로 매핑해 반환한다")
+    void saveContents_NonRetryableItemFailure() {
+        // given
+        CrawledContentDto dto1 = content("a");
+        CrawledContentDto dto2 = content("b");
+        when(elasticsearchOperations.bulkIndex(anyList(), eq(ContentDocument.class)))
+                .thenThrow(new BulkFailureException("bulk failed",
+                        Map.of(idOf(dto2), new BulkFailureException.FailureDetails(400, "mapper_parsing_exception"))));
+
+        // when
+        BulkSaveResult result = contentService.saveContents(List.of(dto1, dto2));
+
+        // then
+        assertThat(result.isFailed(0)).isFalse();
+        assertThat(result.isFailed(1)).isTrue();
+        assertThat(result.getFailures().get(1)).isEqualTo("mapper_parsing_exception");
+        verify(elasticsearchOperations, times(1)).bulkIndex(anyList(), eq(ContentDocument.class));
+    }
+
+    @Test
+    @DisplayName("429/5xx 로 실패한 항목은 다시 요청하지 않고 실패로 반환한다 (재시도 간격은 에러 핸들러가 담당)")
+    void saveContents_RetryableItemFailureNotRetriedInPlace() {
+        // given
+        CrawledContentDto dto1 = content("a");
+        CrawledContentDto dto2 = content("b");
+        when(elasticsearchOperations.bulkIndex(anyList(), eq(ContentDocument.class)))
+                .thenThrow(new BulkFailureException("bulk failed",
+                        Map.of(idOf(dto1), new BulkFailureException.FailureDetails(503, "unavailable_shards_exception"))));
+
+        // when
+        BulkSaveResult result = contentService.saveContents(List.of(dto1, dto2));
+
+        // then
+        verify(elasticsearchOperations, times(1)).bulkIndex(anyList(), eq(ContentDocument.class));
+        assertThat(result.isFailed(0)).isTrue();
+        assertThat(result.isFailed(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("빈 목록이면 bulk 요청을 보내지 않는다")
+    void saveContents_Empty() {
+        // when
+        BulkSaveResult result = contentService.saveContents(List.of());
+
+        // then
+        assertThat(result.getFailures()).isEmpty();
+        verify(elasticsearchOperations, never()).bulkIndex(anyList(), any(Class.class));
+    }
+
+    @Test
+    @DisplayName("거의 같은 글이 먼저 저장되어 있으면 그 글의 ID를 canonical_id 로 함께 저장한다")
+    @SuppressWarnings("unchecked")
+    void saveContents_CanonicalId() {
+        // given
+        CrawledContentDto original = content("a");
+        CrawledContentDto copy = CrawledContentDto.builder()
+                .sourceId(2L)
+                .title("a")
+                .summary("Summary")
+                .originalUrl("https://news.com/a")
+                .build();
+        when(nearDuplicateDetector.resolve(eq(idOf(copy)), eq("a"), eq("Summary"), anyList()))
+                .thenReturn(new NearDuplicateDetector.Resolution(idOf(copy), idOf(original), 1L));
+
+        // when
+        contentService.saveContents(List.of(original, copy));
 
         // then
-        // save 메서드가 1번 호출되었는지 확인 (저장 성공)
-        verify(contentDocumentRepository, times(1)).save(any(ContentDocument.class));
+        ArgumentCaptor<List<IndexQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, times(1)).bulkIndex(captor.capture(), eq(ContentDocument.class));
+        assertThat(captor.getValue())
+                .extracting(query -> ((ContentDocument) query.getObject()).getCanonicalId())
+                .containsExactly(idOf(original), idOf(original));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("저장에 성공했거나 이미 있던 콘텐츠만 유사 글 탐지 색인에 등록한다")
+    void saveContents_RegisterOnlyIndexed() {
+        // given
+        CrawledContentDto created = content("a");
+        CrawledContentDto existing = content("b");
+        CrawledContentDto failed = content("c");
+        when(elasticsearchOperations.bulkIndex(anyList(), eq(ContentDocument.class)))
+                .thenThrow(new BulkFailureException("bulk failed", Map.of(
+                        idOf(existing), new BulkFailureException.FailureDetails(409, "version_conflict_engine_exception"),
+                        idOf(failed), new BulkFailureException.FailureDetails(503, "unavailable_shards_exception"))));
+
+        // when
+        contentService.saveContents(List.of(created, existing, failed));
+
+        // then
+        ArgumentCaptor<NearDuplicateDetector.Resolution> captor = ArgumentCaptor.forClass(NearDuplicateDetector.Resolution.class);
+        verify(nearDuplicateDetector, times(2)).register(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(NearDuplicateDetector.Resolution::contentId)
+                .containsExactly(idOf(created), idOf(existing));
+    }
+
+    @Test
+    @DisplayName("제목/요약에서 뽑은 정규화 단어를 keyword_terms 로 함께 저장한다")
+    @SuppressWarnings("unchecked")
+    void saveContents_KeywordTerms() {
+        // given
+        CrawledContentDto dto = CrawledContentDto.builder()
+                .sourceId(1L)
+                .title("Kafka 트랜잭션은")
+                .summary("Spring-Boot 가이드")
+                .originalUrl("https://blog.com/post/kafka")
+                .build();
+
+        // when
+        contentService.saveContents(List.of(dto));
+
+        // then
+        ArgumentCaptor<List<IndexQuery>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchOperations, times(1)).bulkIndex(captor.capture(), eq(ContentDocument.class));
+        ContentDocument document = (ContentDocument) captor.getValue().get(0).getObject();
+        assertThat(document.getKeywordTerms())
+                .containsExactlyInAnyOrder("kafka", "트랜잭션은", "트랜잭션", "springboot", "가이드");
+    }
+
+    @Test
+    @DisplayName("bulk 요청 결과를 백프레셔에 기록한다 - 429/5xx 항목이 있으면 실패, 409만 있으면 성공")
+    void saveContents_RecordBackpressure() {
+        // given
+        CrawledContentDto dto1 = content("a");
+        CrawledContentDto dto2 = content("b");
+        when(elasticsearchOperations.bulkIndex(anyList(), eq(ContentDocument.class)))
+                .thenThrow(new BulkFailureException("bulk failed",
+                        Map.of(idOf(dto1), new BulkFailureException.FailureDetails(409, "version_conflict_engine_exception"))))
+                .thenThrow(new BulkFailureException("bulk failed",
+                        Map.of(idOf(dto2), new BulkFailureException.FailureDetails(503, "unavailable_shards_exception"))));
+
+        // when
+        contentService.saveContents(List.of(dto1));
+        contentService.saveContents(List.of(dto2));
+
+        // then
+        verify(backpressureController, times(1)).record(eq(Dependency.ELASTICSEARCH), anyLong(), eq(false));
+        verify(backpressureController, times(1)).record(eq(Dependency.ELASTICSEARCH), anyLong(), eq(true));
+    }
+}
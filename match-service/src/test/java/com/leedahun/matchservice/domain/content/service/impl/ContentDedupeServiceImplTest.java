@@ -0,0 +1,143 @@
+package com.leedahun.matchservice.domain.content.service.impl;
+
+import com.leedahun.matchservice.domain.content.document.ContentDocument;
+import com.leedahun.matchservice.domain.content.dto.ContentDedupeResult;
+import com.leedahun.matchservice.domain.content.util.ContentIdGenerator;
+import com.leedahun.matchservice.infra.client.UserInternalApiClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContentDedupeServiceImplTest {
+
+    @InjectMocks
+    private ContentDedupeServiceImpl contentDedupeService;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private UserInternalApiClient userInternalApiClient;
+
+    @Mock
+    private SearchHitsIterator<ContentDocument> hits;
+
+    private static final String URL = "https://blog.com/post/1";
+    private static final String TARGET_ID = ContentIdGenerator.generate(1L, URL);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(contentDedupeService, "batchSize", 500);
+    }
+
+    private ContentDocument document(String id, String url) {
+        return ContentDocument.builder()
+                .id(id)
+                .sourceId(1L)
+                .title("Title")
+                .originalUrl(url)
+                .createdAt(LocalDateTime.now())
+                .keywordTerms(List.of("title"))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenDocuments(ContentDocument... documents) {
+        List<SearchHit<ContentDocument>> searchHits = new ArrayList<>();
+        for (ContentDocument document : documents) {
+            SearchHit<ContentDocument> searchHit = mock(SearchHit.class);
+            when(searchHit.getContent()).thenReturn(document);
+            searchHits.add(searchHit);
+        }
+        Iterator<SearchHit<ContentDocument>> iterator = searchHits.iterator();
+
+        when(elasticsearchOperations.searchForStream(any(Query.class), eq(ContentDocument.class))).thenReturn(hits);
+        when(hits.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+        when(hits.next()).thenAnswer(invocation -> iterator.next());
+    }
+
+    @Test
+    @DisplayName("같은 글의 중복 문서 중 가장 먼저 저장된 문서를 결정적 ID로 옮기고, 나머지는 삭제하며 북마크를 이전한다")
+    void dedupe_Success() {
+        // given
+        ContentDocument oldest = document("random-1", URL);
+        ContentDocument duplicate = document("random-2", URL + "/");
+        givenDocuments(oldest, duplicate);
+        when(elasticsearchOperations.exists(TARGET_ID, ContentDocument.class)).thenReturn(false, true);
+        when(userInternalApiClient.remapBookmarkContentIds(anyMap())).thenReturn(3);
+
+        // when
+        ContentDedupeResult result = contentDedupeService.dedupe();
+
+        // then
+        ArgumentCaptor<ContentDocument> saved = ArgumentCaptor.forClass(ContentDocument.class);
+        verify(elasticsearchOperations, times(1)).save(saved.capture());
+        assertThat(saved.getValue().getId()).isEqualTo(TARGET_ID);
+        assertThat(saved.getValue().getKeywordTerms()).containsExactly("title");
+
+        verify(userInternalApiClient).remapBookmarkContentIds(Map.of("random-1", TARGET_ID, "random-2", TARGET_ID));
+        verify(elasticsearchOperations).delete("random-1", ContentDocument.class);
+        verify(elasticsearchOperations).delete("random-2", ContentDocument.class);
+
+        assertThat(result.getScanned()).isEqualTo(2);
+        assertThat(result.getMigrated()).isEqualTo(1);
+        assertThat(result.getRemoved()).isEqualTo(1);
+        assertThat(result.getRemappedBookmarks()).isEqualTo(3);
+        verify(hits).close();
+    }
+
+    @Test
+    @DisplayName("이미 결정적 ID로 저장된 문서와 URL이 없는 문서는 건드리지 않는다")
+    void dedupe_SkipAlreadyMigrated() {
+        // given
+        givenDocuments(document(TARGET_ID, URL), document("random-1", null));
+
+        // when
+        ContentDedupeResult result = contentDedupeService.dedupe();
+
+        // then
+        assertThat(result.getScanned()).isEqualTo(2);
+        assertThat(result.getMigrated()).isZero();
+        verify(elasticsearchOperations, never()).save(any(ContentDocument.class));
+        verify(elasticsearchOperations, never()).delete(any(String.class), eq(ContentDocument.class));
+        verify(userInternalApiClient, never()).remapBookmarkContentIds(anyMap());
+    }
+
+    @Test
+    @DisplayName("북마크 이전에 실패하면 이전 문서를 삭제하지 않는다")
+    void dedupe_KeepOldDocumentsWhenRemapFails() {
+        // given
+        givenDocuments(document("random-1", URL));
+        when(elasticsearchOperations.exists(TARGET_ID, ContentDocument.class)).thenReturn(false);
+        when(userInternalApiClient.remapBookmarkContentIds(anyMap())).thenThrow(new RuntimeException("identity down"));
+
+        // when & then
+        assertThatThrownBy(() -> contentDedupeService.dedupe())
+                .isInstanceOf(RuntimeException.class);
+        verify(elasticsearchOperations, never()).delete(any(String.class), eq(ContentDocument.class));
+    }
+}
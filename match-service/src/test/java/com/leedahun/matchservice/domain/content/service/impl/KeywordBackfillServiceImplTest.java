@@ -0,0 +1,185 @@
+package com.leedahun.matchservice.domain.content.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.leedahun.matchservice.domain.content.document.ContentDocument;
+import com.leedahun.matchservice.domain.content.repository.ContentDocumentRepository;
+import com.leedahun.matchservice.domain.content.service.NotificationTriggerService;
+import com.leedahun.matchservice.infra.kafka.dto.KeywordAddedEventDto;
+import com.leedahun.matchservice.infra.kafka.dto.RelatedContentDto;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class KeywordBackfillServiceImplTest {
+
+    @InjectMocks
+    private KeywordBackfillServiceImpl keywordBackfillService;
+
+    @Mock
+    private ContentDocumentRepository contentDocumentRepository;
+
+    @Mock
+    private NotificationTriggerService notificationTriggerService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(keywordBackfillService, "enabled", true);
+        ReflectionTestUtils.setField(keywordBackfillService, "lookbackDays", 3L);
+        ReflectionTestUtils.setField(keywordBackfillService, "maxResults", 10);
+        ReflectionTestUtils.setField(keywordBackfillService, "clock",
+                Clock.fixed(Instant.parse("2026-01-10T00:00:00Z"), ZoneId.of("UTC")));
+    }
+
+    private KeywordAddedEventDto event(List<Long> sourceIds) {
+        return KeywordAddedEventDto.builder()
+                .userId(1L)
+                .keywordId(10L)
+                .keyword(" kafka ")
+                .sourceIds(sourceIds)
+                .build();
+    }
+
+    private ContentDocument document(String id, String canonicalId, String title) {
+        return ContentDocument.builder()
+                .id(id)
+                .canonicalId(canonicalId)
+                .title(title)
+                .originalUrl("http://example.com/" + id)
+                .build();
+    }
+
+    @Test
+    @DisplayName("구독 소스의 최근 콘텐츠를 한 번 검색해 알림 한 건으로 발행한다")
+    void backfill_Success() {
+        // given
+        when(contentDocumentRepository.searchRecentByKeyword(eq("kafka"), eq(List.of(3L, 4L)), eq("2026-01-07T00:00:00.000"), any()))
+                .thenReturn(List.of(document("c2", "c2", "Kafka 4.0 출시"), document("c1", null, "Kafka Streams 정리")));
+
+        // when
+        int count = keywordBackfillService.backfill(event(List.of(3L, 4L)));
+
+        // then
+        assertThat(count).isEqualTo(2);
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(contentDocumentRepository).searchRecentByKeyword(anyString(), anyList(), anyString(), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(10);
+        assertThat(pageableCaptor.getValue().getSort().getOrderFor("createdAt").getDirection()).isEqualTo(Sort.Direction.DESC);
+
+        ArgumentCaptor<List<RelatedContentDto>> relatedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(notificationTriggerService).sendBackfillNotification(eq(1L), eq("kafka"), relatedCaptor.capture());
+        assertThat(relatedCaptor.getValue()).extracting(RelatedContentDto::getContentId).containsExactly("c2", "c1");
+    }
+
+    @Test
+    @DisplayName("키워드 표현식은 가장 긴 포함 단어로 넉넉히 검색한 뒤 나머지 조건으로 걸러낸다")
+    void backfill_Expression() {
+        // given
+        KeywordAddedEventDto event = KeywordAddedEventDto.builder()
+                .userId(1L)
+                .keywordId(10L)
+                .keyword("\"spring boot\" 3.5 -tutorial")
+                .sourceIds(List.of(3L))
+                .build();
+        when(contentDocumentRepository.searchRecentByKeyword(eq("spring boot"), anyList(), anyString(), any()))
+                .thenReturn(List.of(
+                        document("c3", null, "Spring Boot 3.5 tutorial"),
+                        document("c2", null, "Spring Boot 3.5 출시"),
+                        document("c1", null, "Spring Boot 3.4 출시")));
+
+        // when
+        int count = keywordBackfillService.backfill(event);
+
+        // then
+        assertThat(count).isEqualTo(1);
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(contentDocumentRepository).searchRecentByKeyword(anyString(), anyList(), anyString(), pageableCaptor.capture());
+        assertThat(pageableCaptor.getValue().getPageSize()).isEqualTo(30);
+
+        ArgumentCaptor<List<RelatedContentDto>> relatedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(notificationTriggerService).sendBackfillNotification(eq(1L), anyString(), relatedCaptor.capture());
+        assertThat(relatedCaptor.getValue()).extracting(RelatedContentDto::getContentId).containsExactly("c2");
+    }
+
+    @Test
+    @DisplayName("해석할 수 없는 키워드 표현식이면 검색하지 않는다")
+    void backfill_InvalidExpression() {
+        // given
+        KeywordAddedEventDto event = KeywordAddedEventDto.builder()
+                .userId(1L)
+                .keywordId(10L)
+                .keyword("\"spring boot")
+                .sourceIds(List.of(3L))
+                .build();
+
+        // when
+        int count = keywordBackfillService.backfill(event);
+
+        // then
+        assertThat(count).isZero();
+        verify(contentDocumentRepository, never()).searchRecentByKeyword(anyString(), anyList(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("여러 소스로 들어온 같은 글은 하나만 담는다")
+    void backfill_CollapseNearDuplicates() {
+        // given
+        when(contentDocumentRepository.searchRecentByKeyword(anyString(), anyList(), anyString(), any()))
+                .thenReturn(List.of(document("c2", "c1", "Kafka 4.0 출시"), document("c1", "c1", "Kafka 4.0 출시")));
+
+        // when
+        int count = keywordBackfillService.backfill(event(List.of(3L)));
+
+        // then
+        assertThat(count).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색 결과가 없으면 알림을 발행하지 않는다")
+    void backfill_NoContent() {
+        // given
+        when(contentDocumentRepository.searchRecentByKeyword(anyString(), anyList(), anyString(), any()))
+                .thenReturn(List.of());
+
+        // when
+        int count = keywordBackfillService.backfill(event(List.of(3L)));
+
+        // then
+        assertThat(count).isZero();
+        verify(notificationTriggerService, never()).sendBackfillNotification(anyLong(), anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("구독 소스가 없으면 검색하지 않는다")
+    void backfill_NoSources() {
+        // when
+        int count = keywordBackfillService.backfill(event(List.of()));
+
+        // then
+        assertThat(count).isZero();
+        verify(contentDocumentRepository, never()).searchRecentByKeyword(anyString(), anyList(), anyString(), any());
+    }
+}
@@ -3,22 +3,49 @@ package com.leedahun.matchservice.domain.content.service.impl;
 import cn.hutool.core.lang.Snowflake;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.coalesce.CoalescedNotification;
+import com.leedahun.matchservice.domain.content.coalesce.NotificationCoalescer;
+import com.leedahun.matchservice.domain.content.keyword.SubscriptionMatcher;
+import com.leedahun.matchservice.domain.content.shadow.ShadowMatchComparator;
+import com.leedahun.matchservice.domain.content.similarity.NearDuplicateDetector;
+import com.leedahun.matchservice.domain.content.util.ContentIdGenerator;
+import com.leedahun.matchservice.domain.idgen.dto.WorkerIdLeaseDto;
+import com.leedahun.matchservice.domain.idgen.service.WorkerIdLeaseService;
+import com.leedahun.matchservice.domain.idgen.snowflake.LeasedSnowflake;
+import com.leedahun.matchservice.domain.idgen.snowflake.WorkerIdLeaseHeartbeat;
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnership;
+import com.leedahun.matchservice.domain.trending.service.TrendingKeywordService;
 import com.leedahun.matchservice.infra.client.UserInternalApiClient;
 import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import com.leedahun.matchservice.infra.kafka.dto.NotificationFanoutEventDto;
+import com.leedahun.matchservice.infra.kafka.dto.RelatedContentDto;
 import com.leedahun.matchservice.infra.kafka.exception.KafkaMessageProcessingException;
+import com.leedahun.kafka.freshness.FreshnessHeaders;
+import com.leedahun.kafka.freshness.FreshnessMetrics;
+import com.leedahun.matchservice.infra.kafka.freshness.FreshnessTrace;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -32,6 +59,15 @@ class NotificationTriggerServiceImplTest {
     @Mock
     private UserInternalApiClient userInternalApiClient;
 
+    @Mock
+    private SubscriptionMatcher subscriptionMatcher;
+
+    @Mock
+    private NearDuplicateDetector nearDuplicateDetector;
+
+    @Mock
+    private NotificationCoalescer notificationCoalescer;
+
     @Mock
     private ObjectMapper objectMapper;
 
@@ -41,11 +77,34 @@ class NotificationTriggerServiceImplTest {
     @Mock
     private Snowflake snowflake;
 
-    private static final String TOPIC_NAME = "test-notification-topic";
+    @Mock
+    private FreshnessMetrics freshnessMetrics;
+
+    @Mock
+    private TrendingKeywordService trendingKeywordService;
+
+    @Mock
+    private ShardOwnership shardOwnership;
+
+    @Mock
+    private ShadowMatchComparator shadowMatchComparator;
+
+    private static final String TOPIC_NAME = "test-notification-fanout-topic";
 
     @BeforeEach
     void setUp() {
-        ReflectionTestUtils.setField(notificationTriggerService, "notificationTopic", TOPIC_NAME);
+        ReflectionTestUtils.setField(notificationTriggerService, "notificationFanoutTopic", TOPIC_NAME);
+        ReflectionTestUtils.setField(notificationTriggerService, "fanoutChunkSize", 1000);
+        // 기본적으로 유사 콘텐츠로 제외되는 유저 없음
+        lenient().when(nearDuplicateDetector.claimRecipients(anyString(), anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(1));
+        // 기본적으로 묶음 구간에 걸리는 유저 없음
+        lenient().when(notificationCoalescer.admit(anyList(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private ArgumentMatcher<ProducerRecord<String, String>> fanoutRecord() {
+        return record -> TOPIC_NAME.equals(record.topic());
     }
 
     @Test
@@ -76,11 +135,71 @@ class NotificationTriggerServiceImplTest {
         verify(userInternalApiClient, times(1))
                 .findUserIdsByKeywordsAndSource(anySet(), eq(sourceId));
 
-        // 2. Kafka 전송 검증
-        verify(kafkaTemplate, times(2)).send(eq(TOPIC_NAME), anyString());
+        // 2. 유저 2명이지만 팬아웃 메시지 한 건만 전송
+        verify(kafkaTemplate, times(1)).send(argThat(fanoutRecord()));
 
-        // 3. Snowflake 호출 검증
+        // 3. 알림 ID는 유저별로 발급
         verify(snowflake, times(2)).nextId();
+
+        // 4. 트렌딩 키워드 집계
+        verify(trendingKeywordService).record(sourceId, "Spring Boot", "MSA Guide");
+
+        // 5. 섀도 비교에 매칭 결과 전달
+        verify(shadowMatchComparator).compare(eq(contentDto), eq(matchedUserIds), anyLong());
+    }
+
+    @Test
+    @DisplayName("유저 파티션 모드에서는 identity-service 조회 결과 중 이 인스턴스가 가진 샤드의 유저에게만 알림을 보냄")
+    void matchAndSendNotification_partitionedFallback() throws JsonProcessingException {
+        // given
+        Long sourceId = 5L;
+        CrawledContentDto contentDto = CrawledContentDto.builder()
+                .title("Spring Boot")
+                .summary("MSA Guide")
+                .originalUrl("http://example.com")
+                .sourceId(sourceId)
+                .build();
+
+        when(userInternalApiClient.findUserIdsByKeywordsAndSource(anySet(), eq(sourceId)))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(shardOwnership.isEnabled()).thenReturn(true);
+        when(shardOwnership.owns(anyLong())).thenAnswer(invocation -> invocation.<Long>getArgument(0) != 2L);
+        when(snowflake.nextId()).thenReturn(100L, 101L);
+        when(objectMapper.writeValueAsString(any())).thenReturn("json_string");
+
+        // when
+        notificationTriggerService.matchAndSendNotification(contentDto);
+
+        // then
+        verify(nearDuplicateDetector).claimRecipients(anyString(), eq(List.of(1L, 3L)));
+        verify(snowflake, times(2)).nextId();
+    }
+
+    @Test
+    @DisplayName("재매칭은 필터를 통과한 유저에게만 알림을 보내고 트렌딩 집계와 섀도 비교는 하지 않음")
+    void rematchAndSendNotification_filtered() throws JsonProcessingException {
+        // given
+        Long sourceId = 5L;
+        CrawledContentDto contentDto = CrawledContentDto.builder()
+                .title("Spring Boot")
+                .summary("MSA Guide")
+                .originalUrl("http://example.com")
+                .sourceId(sourceId)
+                .build();
+
+        when(userInternalApiClient.findUserIdsByKeywordsAndSource(anySet(), eq(sourceId)))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(snowflake.nextId()).thenReturn(100L);
+        when(objectMapper.writeValueAsString(any())).thenReturn("json_string");
+
+        // when
+        notificationTriggerService.rematchAndSendNotification(contentDto, FreshnessTrace.empty(), userId -> userId == 2L);
+
+        // then
+        verify(nearDuplicateDetector).claimRecipients(anyString(), eq(List.of(2L)));
+        verify(kafkaTemplate, times(1)).send(argThat(fanoutRecord()));
+        verify(trendingKeywordService, never()).record(any(), any(), any());
+        verify(shadowMatchComparator, never()).compare(any(), any(), anyLong());
     }
 
     @Test
@@ -109,7 +228,7 @@ class NotificationTriggerServiceImplTest {
         // then
         verify(userInternalApiClient, times(1))
                 .findUserIdsByKeywordsAndSource(anySet(), eq(sourceId));
-        verify(kafkaTemplate, times(1)).send(eq(TOPIC_NAME), anyString());
+        verify(kafkaTemplate, times(1)).send(argThat(fanoutRecord()));
     }
 
     @Test
@@ -138,7 +257,7 @@ class NotificationTriggerServiceImplTest {
         // then
         verify(userInternalApiClient, times(1))
                 .findUserIdsByKeywordsAndSource(anySet(), eq(sourceId));
-        verify(kafkaTemplate, times(1)).send(eq(TOPIC_NAME), anyString());
+        verify(kafkaTemplate, times(1)).send(argThat(fanoutRecord()));
     }
 
     @Test
@@ -157,7 +276,7 @@ class NotificationTriggerServiceImplTest {
         // then
         verify(userInternalApiClient, never()).findUserIdsByKeywordsAndSource(anySet(), anyLong());
 
-        verify(kafkaTemplate, never()).send(anyString(), anyString());
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
     }
 
     @Test
@@ -178,7 +297,55 @@ class NotificationTriggerServiceImplTest {
         verify(userInternalApiClient, never())
                 .findUserIdsByKeywordsAndSource(anySet(), anyLong());
 
-        verify(kafkaTemplate, never()).send(anyString(), anyString());
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("키워드 추출 - 조사를 뗀 한글 키워드와 소문자로 정규화된 영문 키워드로 유저를 조회함")
+    void matchAndSendNotification_normalized_keywords() {
+        // given
+        Long sourceId = 5L;
+        CrawledContentDto contentDto = CrawledContentDto.builder()
+                .title("카프카는 Kafka!")
+                .summary("쿠버네티스를 배포하자")
+                .sourceId(sourceId)
+                .build();
+
+        when(userInternalApiClient.findUserIdsByKeywordsAndSource(anySet(), eq(sourceId)))
+                .thenReturn(Collections.emptyList());
+
+        // when
+        notificationTriggerService.matchAndSendNotification(contentDto);
+
+        // then
+        verify(userInternalApiClient, times(1)).findUserIdsByKeywordsAndSource(
+                argThat(keywords -> keywords.containsAll(Set.of("카프카", "kafka", "쿠버네티스"))), eq(sourceId));
+    }
+
+    @Test
+    @DisplayName("알림 매칭 성공 - 인메모리 매처가 준비되어 있으면 identity-service를 호출하지 않고 로컬에서 매칭함")
+    void matchAndSendNotification_use_subscription_matcher() throws JsonProcessingException {
+        // given
+        Long sourceId = 5L;
+        CrawledContentDto contentDto = CrawledContentDto.builder()
+                .title("Spring Boot 3.2 출시")
+                .summary("Release Note")
+                .originalUrl("http://example.com")
+                .sourceId(sourceId)
+                .build();
+
+        when(subscriptionMatcher.isReady()).thenReturn(true);
+        when(subscriptionMatcher.findUserIds(sourceId, "Spring Boot 3.2 출시", "Release Note"))
+                .thenReturn(List.of(1L, 2L));
+        when(snowflake.nextId()).thenReturn(100L, 101L);
+        when(objectMapper.writeValueAsString(any())).thenReturn("json_string");
+
+        // when
+        notificationTriggerService.matchAndSendNotification(contentDto);
+
+        // then
+        verify(userInternalApiClient, never()).findUserIdsByKeywordsAndSource(anySet(), anyLong());
+        verify(kafkaTemplate, times(1)).send(argThat(fanoutRecord()));
     }
 
     @Test
@@ -203,7 +370,7 @@ class NotificationTriggerServiceImplTest {
         verify(userInternalApiClient, times(1))
                 .findUserIdsByKeywordsAndSource(anySet(), eq(sourceId));
 
-        verify(kafkaTemplate, never()).send(anyString(), anyString());
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
     }
 
     @Test
@@ -231,6 +398,335 @@ class NotificationTriggerServiceImplTest {
         });
 
         // Kafka 전송은 실패했으므로 호출되지 않아야 함 (예외 발생 전)
-        verify(kafkaTemplate, never()).send(anyString(), anyString());
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("팬아웃 - 청크 하나라도 JSON 변환에 실패하면 어떤 청크도 전송하지 않음")
+    void matchAndSendNotification_chunkSerializationFailure() throws JsonProcessingException {
+        // given
+        ReflectionTestUtils.setField(notificationTriggerService, "fanoutChunkSize", 1);
+        Long sourceId = 1L;
+        CrawledContentDto contentDto = CrawledContentDto.builder()
+                .title("Error Test")
+                .summary("Summary")
+                .sourceId(sourceId)
+                .build();
+
+        when(userInternalApiClient.findUserIdsByKeywordsAndSource(anySet(), eq(sourceId))).thenReturn(List.of(1L, 2L));
+        when(objectMapper.writeValueAsString(any()))
+                .thenReturn("chunk-0")
+                .thenThrow(new JsonProcessingException("Json Error") {});
+
+        // when & then
+        assertThrows(KafkaMessageProcessingException.class,
+                () -> notificationTriggerService.matchAndSendNotification(contentDto));
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("팬아웃 - 알림 대상 유저를 청크 크기로 나눠 콘텐츠 ID를 키로 전송하고, 콘텐츠 정보는 청크마다 한 번만 담음")
+    void matchAndSendNotification_fanout_chunks() throws JsonProcessingException {
+        // given
+        ReflectionTestUtils.setField(notificationTriggerService, "fanoutChunkSize", 2);
+        Long sourceId = 5L;
+        CrawledContentDto contentDto = CrawledContentDto.builder()
+                .title("Spring Boot")
+                .summary("MSA Guide")
+                .originalUrl("http://example.com/post")
+                .sourceId(sourceId)
+                .build();
+
+        when(subscriptionMatcher.isReady()).thenReturn(true);
+        when(subscriptionMatcher.findUserIds(sourceId, "Spring Boot", "MSA Guide"))
+                .thenReturn(List.of(1L, 2L, 3L, 4L, 5L));
+        when(snowflake.nextId()).thenReturn(100L, LongStream.rangeClosed(101L, 104L).boxed().toArray(Long[]::new));
+        when(objectMapper.writeValueAsString(any())).thenReturn("json_string");
+
+        // when
+        notificationTriggerService.matchAndSendNotification(contentDto);
+
+        // then
+        ArgumentCaptor<NotificationFanoutEventDto> eventCaptor = ArgumentCaptor.forClass(NotificationFanoutEventDto.class);
+        verify(objectMapper, times(3)).writeValueAsString(eventCaptor.capture());
+        List<NotificationFanoutEventDto> events = eventCaptor.getAllValues();
+
+        assertThat(events).extracting(NotificationFanoutEventDto::getUserIds)
+                .containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        assertThat(events).extracting(NotificationFanoutEventDto::getNotificationIds)
+                .containsExactly(List.of(100L, 101L), List.of(102L, 103L), List.of(104L));
+        assertThat(events).extracting(NotificationFanoutEventDto::getChunkIndex).containsExactly(0, 1, 2);
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getChunkCount()).isEqualTo(3);
+            assertThat(event.getTitle()).isEqualTo("Spring Boot");
+            assertThat(event.getOriginalUrl()).isEqualTo("http://example.com/post");
+        });
+
+        String contentId = ContentIdGenerator.generate(sourceId, "http://example.com/post");
+        verify(kafkaTemplate, times(3)).send(argThat((ProducerRecord<String, String> record) ->
+                TOPIC_NAME.equals(record.topic()) && contentId.equals(record.key()) && "json_string".equals(record.value())));
+    }
+
+    @Test
+    @DisplayName("유사 콘텐츠 - 같은 글의 다른 사본으로 이미 알림을 받은 유저는 제외하고, 모두 제외되면 전송하지 않음")
+    void matchAndSendNotification_near_duplicate_suppressed() {
+        // given
+        Long sourceId = 5L;
+        CrawledContentDto contentDto = CrawledContentDto.builder()
+                .title("Spring Boot")
+                .summary("MSA Guide")
+                .originalUrl("http://news.com/copy")
+                .sourceId(sourceId)
+                .build();
+        String contentId = ContentIdGenerator.generate(sourceId, "http://news.com/copy");
+
+        when(subscriptionMatcher.isReady()).thenReturn(true);
+        when(subscriptionMatcher.findUserIds(sourceId, "Spring Boot", "MSA Guide")).thenReturn(List.of(1L, 2L));
+        when(nearDuplicateDetector.claimRecipients(contentId, List.of(1L, 2L))).thenReturn(List.of());
+
+        // when
+        notificationTriggerService.matchAndSendNotification(contentDto);
+
+        // then
+        verify(snowflake, never()).nextId();
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @DisplayName("신선도 - 이전 단계 시각과 매칭 시각을 팬아웃 메시지 헤더로 전달하고 저장 -> 매칭 지연을 기록함")
+    @SuppressWarnings("unchecked")
+    void matchAndSendNotification_freshness_headers() throws JsonProcessingException {
+        // given
+        Long sourceId = 5L;
+        CrawledContentDto contentDto = CrawledContentDto.builder()
+                .title("Spring Boot")
+                .summary("MSA Guide")
+                .originalUrl("http://example.com")
+                .sourceId(sourceId)
+                .build();
+        RecordHeaders headers = new RecordHeaders();
+        FreshnessHeaders.put(headers, FreshnessHeaders.PUBLISHED_AT, 1_000L);
+        FreshnessHeaders.put(headers, FreshnessHeaders.FETCHED_AT, 2_000L);
+        FreshnessTrace trace = FreshnessTrace.from(headers).withIndexedAt(3_000L);
+
+        when(subscriptionMatcher.isReady()).thenReturn(true);
+        when(subscriptionMatcher.findUserIds(sourceId, "Spring Boot", "MSA Guide")).thenReturn(List.of(1L));
+        when(objectMapper.writeValueAsString(any())).thenReturn("json_string");
+
+        // when
+        long before = System.currentTimeMillis();
+        notificationTriggerService.matchAndSendNotification(contentDto, trace);
+
+        // then
+        ArgumentCaptor<ProducerRecord<String, String>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        ProducerRecord<String, String> record = captor.getValue();
+
+        assertThat(FreshnessHeaders.get(record.headers(), FreshnessHeaders.PUBLISHED_AT)).isEqualTo(1_000L);
+        assertThat(FreshnessHeaders.get(record.headers(), FreshnessHeaders.FETCHED_AT)).isEqualTo(2_000L);
+        assertThat(FreshnessHeaders.get(record.headers(), FreshnessHeaders.INDEXED_AT)).isEqualTo(3_000L);
+        Long matchedAt = FreshnessHeaders.get(record.headers(), FreshnessHeaders.MATCHED_AT);
+        assertThat(matchedAt).isBetween(before, System.currentTimeMillis());
+        verify(freshnessMetrics).record(FreshnessMetrics.INDEX_TO_MATCH, 3_000L, matchedAt);
+    }
+
+    @Test
+    @DisplayName("묶음 알림 - 최근에 알림을 받은 유저는 묶음 구간에 모아 두고 나머지 유저에게만 바로 전송함")
+    void matchAndSendNotification_coalesced_users_deferred() throws JsonProcessingException {
+        // given
+        Long sourceId = 5L;
+        CrawledContentDto contentDto = CrawledContentDto.builder()
+                .title("Spring Boot")
+                .summary("MSA Guide")
+                .originalUrl("http://example.com/post")
+                .sourceId(sourceId)
+                .build();
+        String contentId = ContentIdGenerator.generate(sourceId, "http://example.com/post");
+
+        when(subscriptionMatcher.isReady()).thenReturn(true);
+        when(subscriptionMatcher.findUserIds(sourceId, "Spring Boot", "MSA Guide")).thenReturn(List.of(1L, 2L));
+        when(notificationCoalescer.admit(eq(List.of(1L, 2L)), argThat((RelatedContentDto related) ->
+                contentId.equals(related.getContentId()) && "Spring Boot".equals(related.getTitle()))))
+                .thenReturn(List.of(2L));
+        when(snowflake.nextId()).thenReturn(100L);
+        when(objectMapper.writeValueAsString(any())).thenReturn("json_string");
+
+        // when
+        notificationTriggerService.matchAndSendNotification(contentDto);
+
+        // then
+        ArgumentCaptor<NotificationFanoutEventDto> eventCaptor = ArgumentCaptor.forClass(NotificationFanoutEventDto.class);
+        verify(objectMapper).writeValueAsString(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().getUserIds()).containsExactly(2L);
+        assertThat(eventCaptor.getValue().getRelatedContents()).isNull();
+        verify(kafkaTemplate, times(1)).send(argThat(fanoutRecord()));
+    }
+
+    @Test
+    @DisplayName("묶음 알림 - 매칭된 유저가 모두 묶음 구간에 있으면 바로 전송하지 않음")
+    void matchAndSendNotification_all_users_coalesced() {
+        // given
+        Long sourceId = 5L;
+        CrawledContentDto contentDto = CrawledContentDto.builder()
+                .title("Spring Boot")
+                .summary("MSA Guide")
+                .originalUrl("http://example.com/post")
+                .sourceId(sourceId)
+                .build();
+
+        when(subscriptionMatcher.isReady()).thenReturn(true);
+        when(subscriptionMatcher.findUserIds(sourceId, "Spring Boot", "MSA Guide")).thenReturn(List.of(1L));
+        when(notificationCoalescer.admit(eq(List.of(1L)), any())).thenReturn(List.of());
+
+        // when
+        notificationTriggerService.matchAndSendNotification(contentDto);
+
+        // then
+        verify(snowflake, never()).nextId();
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
+        verify(freshnessMetrics, never()).record(anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("묶음 알림 발행 - 구간이 끝난 유저에게 최근 콘텐츠 제목과 건수를 담은 알림 한 건을 유저 ID 키로 전송함")
+    void flushCoalescedNotifications_success() throws JsonProcessingException {
+        // given
+        RelatedContentDto latest = RelatedContentDto.builder()
+                .contentId("c3").title("Kafka 4.0 출시").originalUrl("http://example.com/3").build();
+        RelatedContentDto older = RelatedContentDto.builder()
+                .contentId("c2").title("Kafka Streams 정리").originalUrl("http://example.com/2").build();
+        when(notificationCoalescer.drainExpired())
+                .thenReturn(List.of(new CoalescedNotification(7L, 3, List.of(latest, older))));
+        when(snowflake.nextId()).thenReturn(200L);
+        when(objectMapper.writeValueAsString(any())).thenReturn("json_string");
+
+        // when
+        notificationTriggerService.flushCoalescedNotifications();
+
+        // then
+        ArgumentCaptor<NotificationFanoutEventDto> eventCaptor = ArgumentCaptor.forClass(NotificationFanoutEventDto.class);
+        verify(objectMapper).writeValueAsString(eventCaptor.capture());
+        NotificationFanoutEventDto event = eventCaptor.getValue();
+        assertThat(event.getTitle()).isEqualTo("Kafka 4.0 출시 외 2건");
+        assertThat(event.getMessage()).isEqualTo("등록한 키워드의 게시글 3건이 올라왔습니다.");
+        assertThat(event.getContentId()).isEqualTo("c3");
+        assertThat(event.getOriginalUrl()).isEqualTo("http://example.com/3");
+        assertThat(event.getUserIds()).containsExactly(7L);
+        assertThat(event.getNotificationIds()).containsExactly(200L);
+        assertThat(event.getRelatedContents()).containsExactly(latest, older);
+
+        verify(kafkaTemplate).send(argThat((ProducerRecord<String, String> record) ->
+                TOPIC_NAME.equals(record.topic()) && "7".equals(record.key())));
+    }
+
+    @Test
+    @DisplayName("종료 시 열려 있는 묶음 구간을 모두 발행하고 프로듀서 버퍼를 비움")
+    void flushAllCoalescedNotifications() throws JsonProcessingException {
+        // given
+        RelatedContentDto related = RelatedContentDto.builder()
+                .contentId("c1").title("Spring Boot").originalUrl("http://example.com/1").build();
+        when(notificationCoalescer.drainAll()).thenReturn(List.of(new CoalescedNotification(7L, 1, List.of(related))));
+        when(snowflake.nextId()).thenReturn(200L);
+        when(objectMapper.writeValueAsString(any())).thenReturn("json_string");
+
+        // when
+        notificationTriggerService.flushAllCoalescedNotifications();
+
+        // then
+        verify(kafkaTemplate).send(argThat((ProducerRecord<String, String> record) -> "7".equals(record.key())));
+        verify(kafkaTemplate).flush();
+    }
+
+    @Test
+    @DisplayName("종료 시 워커 ID 리스를 반납하기 전에 남은 묶음 알림을 발행함")
+    void flushAllCoalescedNotifications_before_lease_release() throws JsonProcessingException {
+        // given
+        long now = System.currentTimeMillis();
+        LeasedSnowflake leasedSnowflake = new LeasedSnowflake(WorkerIdLeaseDto.builder()
+                .nodeId(1).datacenterId(1L).workerId(1L).owner("owner")
+                .heartbeatAt(now).expiresAt(now + 60_000L)
+                .build(), Clock.systemUTC());
+        WorkerIdLeaseService workerIdLeaseService = mock(WorkerIdLeaseService.class);
+        NotificationTriggerServiceImpl service = new NotificationTriggerServiceImpl(userInternalApiClient, subscriptionMatcher,
+                nearDuplicateDetector, notificationCoalescer, objectMapper, kafkaTemplate, freshnessMetrics,
+                trendingKeywordService, shardOwnership, shadowMatchComparator, leasedSnowflake);
+
+        RelatedContentDto related = RelatedContentDto.builder()
+                .contentId("c1").title("Spring Boot").originalUrl("http://example.com/1").build();
+        when(notificationCoalescer.drainAll()).thenReturn(List.of(new CoalescedNotification(7L, 1, List.of(related))));
+        when(objectMapper.writeValueAsString(any())).thenReturn("json_string");
+
+        // 등록 순서대로라면 하트비트가 먼저 소멸하므로, 순서는 @DependsOn 으로만 보장됨
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean("notificationTriggerService", NotificationTriggerServiceImpl.class, () -> service);
+        context.registerBean("workerIdLeaseHeartbeat", WorkerIdLeaseHeartbeat.class,
+                () -> new WorkerIdLeaseHeartbeat(workerIdLeaseService, leasedSnowflake));
+        context.refresh();
+
+        // when
+        context.close();
+
+        // then
+        InOrder inOrder = inOrder(kafkaTemplate, workerIdLeaseService);
+        inOrder.verify(kafkaTemplate).send(argThat((ProducerRecord<String, String> record) -> "7".equals(record.key())));
+        inOrder.verify(workerIdLeaseService).release(1, "owner");
+    }
+
+    @Test
+    @DisplayName("묶음 알림 발행 - 한 유저의 발행이 실패해도 나머지 유저의 묶음 알림은 전송함")
+    void flushCoalescedNotifications_continue_on_failure() throws JsonProcessingException {
+        // given
+        RelatedContentDto related = RelatedContentDto.builder()
+                .contentId("c1").title("Spring Boot").originalUrl("http://example.com/1").build();
+        when(notificationCoalescer.drainExpired()).thenReturn(List.of(
+                new CoalescedNotification(1L, 1, List.of(related)),
+                new CoalescedNotification(2L, 1, List.of(related))));
+        when(snowflake.nextId()).thenReturn(200L, 201L);
+        when(objectMapper.writeValueAsString(any()))
+                .thenThrow(new JsonProcessingException("Json Error") {})
+                .thenReturn("json_string");
+
+        // when
+        notificationTriggerService.flushCoalescedNotifications();
+
+        // then
+        verify(kafkaTemplate, times(1)).send(argThat((ProducerRecord<String, String> record) -> "2".equals(record.key())));
+    }
+
+    @Test
+    @DisplayName("키워드 추가 알림 - 최근 콘텐츠를 유저 한 명 대상 알림 한 건으로 발행")
+    void sendBackfillNotification_success() throws JsonProcessingException {
+        // given
+        RelatedContentDto latest = RelatedContentDto.builder()
+                .contentId("c2").title("Kafka 4.0 출시").originalUrl("http://example.com/2").build();
+        RelatedContentDto older = RelatedContentDto.builder()
+                .contentId("c1").title("Kafka Streams 정리").originalUrl("http://example.com/1").build();
+        when(snowflake.nextId()).thenReturn(300L);
+        when(objectMapper.writeValueAsString(any())).thenReturn("json_string");
+
+        // when
+        notificationTriggerService.sendBackfillNotification(9L, "kafka", List.of(latest, older));
+
+        // then
+        ArgumentCaptor<NotificationFanoutEventDto> eventCaptor = ArgumentCaptor.forClass(NotificationFanoutEventDto.class);
+        verify(objectMapper).writeValueAsString(eventCaptor.capture());
+        NotificationFanoutEventDto event = eventCaptor.getValue();
+        assertThat(event.getTitle()).isEqualTo("Kafka 4.0 출시 외 1건");
+        assertThat(event.getMessage()).isEqualTo("새로 등록한 키워드 'kafka'의 최근 게시글 2건이 있습니다.");
+        assertThat(event.getUserIds()).containsExactly(9L);
+        assertThat(event.getNotificationIds()).containsExactly(300L);
+        assertThat(event.getRelatedContents()).containsExactly(latest, older);
+        verify(kafkaTemplate, times(1)).send(argThat((ProducerRecord<String, String> record) -> "9".equals(record.key())));
+    }
+
+    @Test
+    @DisplayName("키워드 추가 알림 - 콘텐츠가 없으면 발행하지 않음")
+    void sendBackfillNotification_empty() {
+        // when
+        notificationTriggerService.sendBackfillNotification(9L, "kafka", List.of());
+
+        // then
+        verify(snowflake, never()).nextId();
+        verify(kafkaTemplate, never()).send(any(ProducerRecord.class));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package com.leedahun.matchservice.domain.content.shadow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnership;
+import com.leedahun.matchservice.infra.client.UserInternalApiClient;
+import com.leedahun.matchservice.infra.client.dto.KeywordSubscriptionDto;
+import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class IdentityRecipientResolverTest {
+
+    @InjectMocks
+    private IdentityRecipientResolver identityRecipientResolver;
+
+    @Mock
+    private UserInternalApiClient userInternalApiClient;
+
+    @Mock
+    private ShardOwnership shardOwnership;
+
+    private static KeywordSubscriptionDto keyword(Long userId, String name) {
+        return KeywordSubscriptionDto.builder().userId(userId).name(name).build();
+    }
+
+    @Test
+    @DisplayName("identity-service의 알림 켜진 키워드 표현식과 소스 구독자로 인메모리 매처와 같은 방식으로 매칭한다")
+    void resolve() {
+        // given
+        CrawledContentDto content = CrawledContentDto.builder()
+                .sourceId(5L).title("Spring Boot 4.0 출시").summary("가상 스레드 지원").build();
+        when(userInternalApiClient.getSourceSubscriberIds(5L)).thenReturn(List.of(4L, 1L, 2L, 3L));
+        when(userInternalApiClient.getNotificationEnabledKeywords()).thenReturn(List.of(
+                keyword(1L, "Spring Boot"),         // 여러 단어 구문
+                keyword(2L, "spring -boot"),        // 제외 단어에 걸림
+                keyword(3L, "spring AND 가상"),      // AND
+                keyword(5L, "spring")));            // 소스 구독자가 아님
+
+        // when
+        List<Long> result = identityRecipientResolver.resolve(content);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("유저 파티션 모드에서는 이 인스턴스가 가진 샤드의 유저만 남긴다")
+    void resolve_Partitioned() {
+        // given
+        CrawledContentDto content = CrawledContentDto.builder().sourceId(5L).title("Spring Boot").build();
+        when(userInternalApiClient.getSourceSubscriberIds(5L)).thenReturn(List.of(1L, 2L));
+        when(userInternalApiClient.getNotificationEnabledKeywords()).thenReturn(List.of(
+                keyword(1L, "spring"), keyword(2L, "spring")));
+        when(shardOwnership.isEnabled()).thenReturn(true);
+        when(shardOwnership.owns(anyLong())).thenAnswer(invocation -> invocation.<Long>getArgument(0) == 2L);
+
+        // when
+        List<Long> result = identityRecipientResolver.resolve(content);
+
+        // then
+        assertThat(result).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("소스 구독자가 없으면 키워드를 조회하지 않는다")
+    void resolve_NoSubscribers() {
+        // given
+        CrawledContentDto content = CrawledContentDto.builder().sourceId(5L).title("Spring Boot").build();
+        when(userInternalApiClient.getSourceSubscriberIds(5L)).thenReturn(List.of());
+
+        // when
+        List<Long> result = identityRecipientResolver.resolve(content);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(userInternalApiClient, never()).getNotificationEnabledKeywords();
+    }
+}
@@ -0,0 +1,146 @@
+package com.leedahun.matchservice.domain.content.shadow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ShadowMatchComparatorTest {
+
+    @Mock
+    private RecipientResolver candidate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private final CrawledContentDto content = CrawledContentDto.builder()
+            .sourceId(1L)
+            .title("Spring Boot")
+            .summary("Kafka")
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(candidate.name()).thenReturn("test");
+    }
+
+    private ShadowMatchComparator comparator(double sampleRate) {
+        // 호출 스레드에서 바로 실행
+        return new ShadowMatchComparator(candidate, meterRegistry, sampleRate, 0L, Runnable::run);
+    }
+
+    private double compared(String result) {
+        return meterRegistry.get("keyfeed.match.shadow.compared").tag("result", result).counter().count();
+    }
+
+    private double diffTotal(String kind) {
+        return meterRegistry.get("keyfeed.match.shadow.diff").tag("kind", kind).summary().totalAmount();
+    }
+
+    @Test
+    @DisplayName("후보 결과가 같으면 일치로 기록한다")
+    void compare_Match() {
+        // given
+        when(candidate.resolve(any())).thenReturn(List.of(2L, 1L));
+
+        // when
+        comparator(1.0).compare(content, List.of(1L, 2L), 1_000L);
+
+        // then
+        assertThat(compared("match")).isEqualTo(1.0);
+        assertThat(compared("mismatch")).isZero();
+        assertThat(meterRegistry.get("keyfeed.match.shadow.latency").tag("path", "primary").timer().count())
+                .isEqualTo(1L);
+        assertThat(meterRegistry.get("keyfeed.match.shadow.latency").tag("path", "candidate").timer().count())
+                .isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("후보에서 빠진 유저와 후보에만 있는 유저 수를 기록한다")
+    void compare_Mismatch() {
+        // given
+        when(candidate.resolve(any())).thenReturn(List.of(2L, 3L, 4L));
+
+        // when
+        comparator(1.0).compare(content, List.of(1L, 2L), 1_000L);
+
+        // then
+        assertThat(compared("mismatch")).isEqualTo(1.0);
+        assertThat(diffTotal("missing")).isEqualTo(1.0);
+        assertThat(diffTotal("extra")).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("후보에는 원본이 아닌 사본을 넘긴다")
+    void compare_Copy() {
+        // given
+        when(candidate.resolve(any())).thenReturn(List.of());
+
+        // when
+        comparator(1.0).compare(content, List.of(), 1_000L);
+
+        // then
+        ArgumentCaptor<CrawledContentDto> captor = ArgumentCaptor.forClass(CrawledContentDto.class);
+        verify(candidate).resolve(captor.capture());
+        assertThat(captor.getValue()).isNotSameAs(content);
+        assertThat(captor.getValue().getTitle()).isEqualTo("Spring Boot");
+        assertThat(captor.getValue().getSourceId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("샘플링되지 않은 콘텐츠는 후보를 실행하지 않는다")
+    void compare_NotSampled() {
+        // when
+        comparator(0.0).compare(content, List.of(1L), 1_000L);
+
+        // then
+        verify(candidate, never()).resolve(any());
+        assertThat(compared("match") + compared("mismatch")).isZero();
+    }
+
+    @Test
+    @DisplayName("후보 오류나 대기열 초과는 건너뛴 것으로만 기록하고 예외를 던지지 않는다")
+    void compare_Skipped() {
+        // given
+        when(candidate.resolve(any())).thenThrow(new IllegalStateException("boom"));
+        ShadowMatchComparator full = new ShadowMatchComparator(candidate, meterRegistry, 1.0, 0L, runnable -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        // when
+        comparator(1.0).compare(content, List.of(1L), 1_000L);
+        full.compare(content, List.of(1L), 1_000L);
+
+        // then
+        assertThat(meterRegistry.get("keyfeed.match.shadow.skipped").tag("reason", "error").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("keyfeed.match.shadow.skipped").tag("reason", "dropped").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("후보가 없으면 비활성화 상태다")
+    void isEnabled_NoCandidate() {
+        // when
+        ShadowMatchComparator disabled = new ShadowMatchComparator(null, meterRegistry, 1.0, 0L, Runnable::run);
+        disabled.compare(content, List.of(1L), 1_000L);
+
+        // then
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(comparator(1.0).isEnabled()).isTrue();
+    }
+}
@@ -0,0 +1,237 @@
+package com.leedahun.matchservice.domain.content.similarity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearDuplicateDetectorTest {
+
+    private static final String TITLE = "Spring Boot 4.0 정식 출시";
+    private static final String SUMMARY = "스프링 부트 4.0 정식 버전이 출시되었습니다 가상 스레드 지원과 관측성 기능이 크게 개선되었고 "
+            + "새로운 설정 방식과 네이티브 이미지 빌드 속도 향상이 포함되었습니다";
+
+    private MutableClock clock;
+    private NearDuplicateDetector detector;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.parse("2026-01-01T00:00:00Z");
+        clock = new MutableClock(now);
+        detector = new NearDuplicateDetector(true, 60L, 3, 5, 10_000L, clock);
+    }
+
+    private void setClock(Instant instant) {
+        clock.instant = instant;
+    }
+
+    // 저장에 성공한 콘텐츠처럼 대표 ID를 결정하고 색인에 등록
+    private String index(String contentId, String title, String summary) {
+        NearDuplicateDetector.Resolution resolution = detector.resolve(contentId, title, summary, List.of());
+        detector.register(resolution);
+        return resolution.canonicalId();
+    }
+
+    @Test
+    @DisplayName("처음 들어온 글은 자기 자신이 대표 콘텐츠가 된다")
+    void resolve_First() {
+        // when & then
+        assertThat(index("a", TITLE, SUMMARY)).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("다른 소스로 들어온 같은 글은 먼저 들어온 글을 대표 콘텐츠로 묶는다")
+    void resolve_NearDuplicate() {
+        // given
+        index("a", TITLE, SUMMARY);
+
+        // when
+        String canonicalId = index("b", TITLE + "!", SUMMARY);
+
+        // then
+        assertThat(canonicalId).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("등록하지 않은(저장에 실패한) 글은 이후 사본의 대표가 되지 않는다")
+    void resolve_NotRegistered() {
+        // given
+        detector.resolve("a", TITLE, SUMMARY, List.of());
+
+        // when
+        String canonicalId = index("b", TITLE, SUMMARY);
+
+        // then
+        assertThat(canonicalId).isEqualTo("b");
+        assertThat(index("c", TITLE, SUMMARY)).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("같은 배치에서 먼저 결정한 글과도 묶는다")
+    void resolve_PendingInBatch() {
+        // given
+        NearDuplicateDetector.Resolution first = detector.resolve("a", TITLE, SUMMARY, List.of());
+
+        // when
+        NearDuplicateDetector.Resolution second = detector.resolve("b", TITLE + "!", SUMMARY, List.of(first));
+
+        // then
+        assertThat(second.canonicalId()).isEqualTo("a");
+    }
+
+    @Test
+    @DisplayName("전혀 다른 글은 묶지 않는다")
+    void resolve_Different() {
+        // given
+        index("a", TITLE, SUMMARY);
+
+        // when
+        String canonicalId = index("b", "쿠버네티스 1.31 릴리스 노트",
+                "사이드카 컨테이너가 정식 기능이 되었고 스케줄러 성능 개선과 보안 패치가 포함되었습니다");
+
+        // then
+        assertThat(canonicalId).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("토큰이 너무 적은 짧은 글은 비교하지 않는다")
+    void resolve_TooShort() {
+        // given
+        index("a", "Kafka 소개", null);
+
+        // when & then
+        assertThat(index("b", "Kafka 소개", null)).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("window가 지난 글과는 묶지 않는다")
+    void resolve_Expired() {
+        // given
+        index("a", TITLE, SUMMARY);
+        setClock(now.plus(Duration.ofMinutes(61)));
+
+        // when & then
+        assertThat(index("b", TITLE, SUMMARY)).isEqualTo("b");
+    }
+
+    @Test
+    @DisplayName("대표 콘텐츠로 이미 알림을 받은 유저는 사본의 알림 대상에서 제외한다")
+    void claimRecipients_SuppressAlreadyNotified() {
+        // given
+        index("a", TITLE, SUMMARY);
+        index("b", TITLE, SUMMARY);
+        assertThat(detector.claimRecipients("a", List.of(1L, 2L))).containsExactly(1L, 2L);
+
+        // when
+        List<Long> recipients = detector.claimRecipients("b", List.of(2L, 3L));
+
+        // then
+        assertThat(recipients).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("같은 콘텐츠로 다시 요청하면 그 콘텐츠로 기록된 유저를 다시 반환한다 (재시도)")
+    void claimRecipients_RetrySameContent() {
+        // given
+        index("a", TITLE, SUMMARY);
+        index("b", TITLE, SUMMARY);
+        detector.claimRecipients("a", List.of(1L, 2L));
+        detector.claimRecipients("b", List.of(3L));
+
+        // when
+        List<Long> recipients = detector.claimRecipients("a", List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(recipients).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("색인되지 않은 콘텐츠는 알림 대상을 그대로 반환한다")
+    void claimRecipients_Unknown() {
+        // when & then
+        assertThat(detector.claimRecipients("unknown", List.of(1L, 2L))).containsExactly(1L, 2L);
+        assertThat(detector.claimRecipients("unknown", List.of(1L, 2L))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 모든 글이 자기 자신을 대표로 하고 알림 대상도 그대로 반환한다")
+    void disabled() {
+        // given
+        detector = new NearDuplicateDetector(false, 60L, 3, 5, 10_000L, clock);
+        index("a", TITLE, SUMMARY);
+
+        // when & then
+        assertThat(index("b", TITLE, SUMMARY)).isEqualTo("b");
+        assertThat(detector.claimRecipients("b", List.of(1L))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("대표 콘텐츠가 만료된 뒤 사본으로 만든 알림 기록도 window 가 지나면 버린다")
+    void claimRecipients_ExpireAfterCanonical() {
+        // given
+        index("a", TITLE, SUMMARY);
+        detector.claimRecipients("a", List.of(1L));
+        setClock(now.plus(Duration.ofMinutes(50)));
+        index("b", TITLE, SUMMARY);
+        setClock(now.plus(Duration.ofMinutes(70)));
+        detector.claimRecipients("b", List.of(2L));
+
+        // when
+        setClock(now.plus(Duration.ofMinutes(131)));
+
+        // then
+        assertThat(detector.notifiedCanonicalCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("알림 기록은 최대 개수까지만 보관한다")
+    void claimRecipients_MaxCanonicals() {
+        // given
+        detector = new NearDuplicateDetector(true, 60L, 3, 5, 2L, clock);
+        index("a", TITLE, SUMMARY);
+        index("b", "쿠버네티스 1.31 릴리스 노트",
+                "사이드카 컨테이너가 정식 기능이 되었고 스케줄러 성능 개선과 보안 패치가 포함되었습니다");
+        index("c", "PostgreSQL 17 출시 소식",
+                "증분 백업과 논리 복제 개선 그리고 JSON 테이블 함수가 새롭게 추가되었습니다 성능 향상도 포함");
+
+        // when
+        detector.claimRecipients("a", List.of(1L));
+        detector.claimRecipients("b", List.of(1L));
+        detector.claimRecipients("c", List.of(1L));
+
+        // then
+        assertThat(detector.notifiedCanonicalCount()).isLessThanOrEqualTo(2L);
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
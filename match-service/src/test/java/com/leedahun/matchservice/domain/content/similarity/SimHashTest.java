@@ -0,0 +1,44 @@
+package com.leedahun.matchservice.domain.content.similarity;
+
+import com.leedahun.matchservice.domain.content.keyword.KeywordTokenizer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashTest {
+
+    @Test
+    @DisplayName("토큰 집합이 같으면 순서와 무관하게 같은 지문을 만든다")
+    void fingerprint_SameTokens() {
+        // given
+        Set<String> tokens = Set.of("spring", "boot", "kafka", "릴리스", "발표");
+
+        // when & then
+        assertThat(SimHash.fingerprint(tokens)).isEqualTo(SimHash.fingerprint(Set.copyOf(tokens)));
+    }
+
+    @Test
+    @DisplayName("거의 같은 글은 전혀 다른 글보다 해밍 거리가 가깝다")
+    void fingerprint_NearDuplicateIsCloser() {
+        // given
+        String summary = "스프링 부트 4.0 정식 버전이 출시되었습니다 가상 스레드 지원과 관측성 기능이 크게 개선되었고 "
+                + "새로운 설정 방식과 네이티브 이미지 빌드 속도 향상이 포함되었습니다";
+        long original = SimHash.fingerprint(KeywordTokenizer.extract("Spring Boot 4.0 정식 출시", summary));
+        long copy = SimHash.fingerprint(KeywordTokenizer.extract("[전재] Spring Boot 4.0 정식 출시", summary));
+        long other = SimHash.fingerprint(KeywordTokenizer.extract("쿠버네티스 1.31 릴리스 노트",
+                "사이드카 컨테이너가 정식 기능이 되었고 스케줄러 성능 개선과 보안 패치가 포함되었습니다"));
+
+        // when & then
+        assertThat(SimHash.distance(original, copy)).isLessThan(SimHash.distance(original, other));
+    }
+
+    @Test
+    @DisplayName("해밍 거리는 서로 다른 비트 수이다")
+    void distance() {
+        assertThat(SimHash.distance(0b1011L, 0b0001L)).isEqualTo(2);
+        assertThat(SimHash.distance(-1L, 0L)).isEqualTo(64);
+    }
+}
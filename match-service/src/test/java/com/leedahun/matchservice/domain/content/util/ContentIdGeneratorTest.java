@@ -0,0 +1,34 @@
+package com.leedahun.matchservice.domain.content.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentIdGeneratorTest {
+
+    @Test
+    @DisplayName("같은 소스와 URL이면 항상 같은 64자리 16진수 ID를 만든다")
+    void generate_Deterministic() {
+        // when
+        String first = ContentIdGenerator.generate(1L, "https://blog.com/post/1");
+        String second = ContentIdGenerator.generate(1L, "https://blog.com/post/1");
+
+        // then
+        assertThat(first).isEqualTo(second).hasSize(64).matches("[0-9a-f]+");
+    }
+
+    @Test
+    @DisplayName("소스가 다르면 같은 URL이어도 다른 ID를 만든다")
+    void generate_DifferentSource() {
+        assertThat(ContentIdGenerator.generate(1L, "https://blog.com/post/1"))
+                .isNotEqualTo(ContentIdGenerator.generate(2L, "https://blog.com/post/1"));
+    }
+
+    @Test
+    @DisplayName("정규화한 URL이 같으면 같은 ID를 만든다")
+    void generate_CanonicalUrl() {
+        assertThat(ContentIdGenerator.generate(1L, "HTTPS://Blog.COM:443/post/1/?utm_source=rss&id=3#top"))
+                .isEqualTo(ContentIdGenerator.generate(1L, "https://blog.com/post/1?id=3"));
+    }
+}
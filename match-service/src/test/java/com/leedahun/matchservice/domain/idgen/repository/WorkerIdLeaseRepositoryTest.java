@@ -0,0 +1,97 @@
+package com.leedahun.matchservice.domain.idgen.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.leedahun.matchservice.domain.idgen.entity.WorkerIdLease;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+class WorkerIdLeaseRepositoryTest {
+
+    @Autowired
+    private WorkerIdLeaseRepository workerIdLeaseRepository;
+
+    @BeforeEach
+    void setUp() {
+        workerIdLeaseRepository.saveAndFlush(lease("match-a"));
+    }
+
+    private WorkerIdLease lease(String owner) {
+        return WorkerIdLease.builder()
+                .nodeId(32)
+                .datacenterId(1)
+                .workerId(0)
+                .owner(owner)
+                .heartbeatAt(1_000L)
+                .expiresAt(2_000L)
+                .build();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("같은 슬롯을 다른 인스턴스가 먼저 만들었으면 덮어쓰지 않고 PK 충돌로 실패한다")
+    void saveAndFlush_LostInsertRace() {
+        // given: match-a 의 insert 는 setUp 에서 이미 커밋됨 (트랜잭션 없이 실행)
+        try {
+            // when & then: 슬롯이 비어 있던 시점의 조회 결과로 match-b 가 insert 시도
+            assertThatThrownBy(() -> workerIdLeaseRepository.saveAndFlush(lease("match-b")))
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            assertThat(workerIdLeaseRepository.findById(32).orElseThrow().getOwner()).isEqualTo("match-a");
+        } finally {
+            workerIdLeaseRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @DisplayName("만료된 리스는 다른 소유자가 가져갈 수 있다")
+    void claimExpired_Expired() {
+        // when
+        int updated = workerIdLeaseRepository.claimExpired(32, "match-b", 3_000L, 4_000L);
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        WorkerIdLease lease = workerIdLeaseRepository.findById(32).orElseThrow();
+        assertThat(lease.getOwner()).isEqualTo("match-b");
+        assertThat(lease.getExpiresAt()).isEqualTo(4_000L);
+    }
+
+    @Test
+    @DisplayName("만료되지 않은 리스는 가져갈 수 없다")
+    void claimExpired_NotExpired() {
+        // when
+        int updated = workerIdLeaseRepository.claimExpired(32, "match-b", 1_500L, 2_500L);
+
+        // then
+        assertThat(updated).isZero();
+        assertThat(workerIdLeaseRepository.findById(32).orElseThrow().getOwner()).isEqualTo("match-a");
+    }
+
+    @Test
+    @DisplayName("소유자만 리스를 갱신할 수 있다")
+    void renew_OwnerOnly() {
+        // when
+        int byOther = workerIdLeaseRepository.renew(32, "match-b", 1_500L, 5_000L);
+        int byOwner = workerIdLeaseRepository.renew(32, "match-a", 1_500L, 5_000L);
+
+        // then
+        assertThat(byOther).isZero();
+        assertThat(byOwner).isEqualTo(1);
+        assertThat(workerIdLeaseRepository.findById(32).orElseThrow().getExpiresAt()).isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("datacenter ID로 리스 목록을 조회한다")
+    void findAllByDatacenterId() {
+        // when & then
+        assertThat(workerIdLeaseRepository.findAllByDatacenterId(1)).hasSize(1);
+        assertThat(workerIdLeaseRepository.findAllByDatacenterId(2)).isEmpty();
+    }
+}
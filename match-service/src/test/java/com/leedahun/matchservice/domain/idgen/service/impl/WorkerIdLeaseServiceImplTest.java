@@ -0,0 +1,146 @@
+package com.leedahun.matchservice.domain.idgen.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.leedahun.matchservice.domain.idgen.dto.WorkerIdLeaseDto;
+import com.leedahun.matchservice.domain.idgen.entity.WorkerIdLease;
+import com.leedahun.matchservice.domain.idgen.repository.WorkerIdLeaseRepository;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class WorkerIdLeaseServiceImplTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long TTL = 60_000L;
+
+    @InjectMocks
+    private WorkerIdLeaseServiceImpl workerIdLeaseService;
+
+    @Mock
+    private WorkerIdLeaseRepository workerIdLeaseRepository;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(workerIdLeaseService, "ttlMs", TTL);
+        ReflectionTestUtils.setField(workerIdLeaseService, "clock", Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+    }
+
+    private WorkerIdLease lease(int workerId, String owner, long expiresAt) {
+        return WorkerIdLease.builder()
+                .nodeId(32 + workerId)
+                .datacenterId(1)
+                .workerId(workerId)
+                .owner(owner)
+                .heartbeatAt(expiresAt - TTL)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("리스가 없는 가장 작은 워커 ID를 새로 만들어 획득한다")
+    void acquire_NewSlot() {
+        // given
+        when(workerIdLeaseRepository.findAllByDatacenterId(1)).thenReturn(List.of(lease(0, "other", NOW + 10_000L)));
+
+        // when
+        WorkerIdLeaseDto result = workerIdLeaseService.acquire(1L, "me");
+
+        // then
+        assertThat(result.getWorkerId()).isEqualTo(1L);
+        assertThat(result.getDatacenterId()).isEqualTo(1L);
+        assertThat(result.getNodeId()).isEqualTo(33);
+        assertThat(result.getExpiresAt()).isEqualTo(NOW + TTL);
+        assertThat(result.getFenceMillis()).isZero();
+        verify(workerIdLeaseRepository).saveAndFlush(any(WorkerIdLease.class));
+    }
+
+    @Test
+    @DisplayName("만료된 리스를 가져오면 이전 소유자의 만료 시각을 fence 로 사용한다")
+    void acquire_ClaimExpired() {
+        // given
+        when(workerIdLeaseRepository.findAllByDatacenterId(1)).thenReturn(List.of(lease(0, "old", NOW - 5_000L)));
+        when(workerIdLeaseRepository.claimExpired(32, "me", NOW, NOW + TTL)).thenReturn(1);
+
+        // when
+        WorkerIdLeaseDto result = workerIdLeaseService.acquire(1L, "me");
+
+        // then
+        assertThat(result.getWorkerId()).isZero();
+        assertThat(result.getFenceMillis()).isEqualTo(NOW - 5_000L);
+        verify(workerIdLeaseRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스와 경합에서 지면 다음 워커 ID를 시도한다")
+    void acquire_LostRace() {
+        // given
+        when(workerIdLeaseRepository.findAllByDatacenterId(1)).thenReturn(List.of(lease(0, "old", NOW - 5_000L)));
+        when(workerIdLeaseRepository.claimExpired(32, "me", NOW, NOW + TTL)).thenReturn(0);
+        when(workerIdLeaseRepository.saveAndFlush(any(WorkerIdLease.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        WorkerIdLeaseDto result = workerIdLeaseService.acquire(1L, "me");
+
+        // then
+        assertThat(result.getWorkerId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("모든 워커 ID가 사용 중이면 예외가 발생한다")
+    void acquire_Exhausted() {
+        // given
+        List<WorkerIdLease> leases = IntStream.rangeClosed(0, 31)
+                .mapToObj(workerId -> lease(workerId, "other-" + workerId, NOW + 10_000L))
+                .toList();
+        when(workerIdLeaseRepository.findAllByDatacenterId(1)).thenReturn(leases);
+
+        // when & then
+        assertThatThrownBy(() -> workerIdLeaseService.acquire(1L, "me"))
+                .isInstanceOf(IllegalStateException.class);
+        verify(workerIdLeaseRepository, never()).claimExpired(anyInt(), anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("소유자가 바뀌어 갱신된 행이 없으면 false를 반환한다")
+    void renew_Lost() {
+        // given
+        when(workerIdLeaseRepository.renew(32, "me", NOW, NOW + TTL)).thenReturn(0);
+
+        // when & then
+        assertThat(workerIdLeaseService.renew(32, "me", NOW, NOW + TTL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("반납하면 현재 시각으로 만료 처리한다")
+    void release() {
+        // when
+        workerIdLeaseService.release(32, "me");
+
+        // then
+        verify(workerIdLeaseRepository).release(eq(32), eq("me"), eq(NOW));
+    }
+}
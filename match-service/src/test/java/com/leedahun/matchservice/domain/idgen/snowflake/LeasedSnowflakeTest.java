@@ -0,0 +1,118 @@
+package com.leedahun.matchservice.domain.idgen.snowflake;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.leedahun.matchservice.domain.idgen.dto.WorkerIdLeaseDto;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class LeasedSnowflakeTest {
+
+    private LeasedSnowflake snowflake(long now, long fenceMillis, long expiresAt) {
+        WorkerIdLeaseDto lease = WorkerIdLeaseDto.builder()
+                .nodeId(35)
+                .datacenterId(1L)
+                .workerId(3L)
+                .owner("me")
+                .fenceMillis(fenceMillis)
+                .heartbeatAt(now)
+                .expiresAt(expiresAt)
+                .build();
+        return new LeasedSnowflake(lease, Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("리스가 유효하면 획득한 워커 ID로 ID를 발급한다")
+    void nextId_Valid() {
+        // given
+        long now = System.currentTimeMillis();
+        LeasedSnowflake snowflake = snowflake(now, now - 1_000L, now + 60_000L);
+
+        // when
+        long id = snowflake.nextId();
+
+        // then
+        assertThat(snowflake.getWorkerId(id)).isEqualTo(3L);
+        assertThat(snowflake.getDataCenterId(id)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("리스가 만료되면 ID를 발급하지 않는다")
+    void nextId_Expired() {
+        // given
+        long now = System.currentTimeMillis();
+        LeasedSnowflake snowflake = snowflake(now, 0L, now);
+
+        // when & then
+        assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("현재 시각이 fence 이하이면 ID를 발급하지 않는다")
+    void nextId_ClockBehindFence() {
+        // given
+        long now = System.currentTimeMillis();
+        LeasedSnowflake snowflake = snowflake(now, now + 5_000L, now + 60_000L);
+
+        // when & then
+        assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("리스를 잃으면 ID를 발급하지 않는다")
+    void nextId_Revoked() {
+        // given
+        long now = System.currentTimeMillis();
+        LeasedSnowflake snowflake = snowflake(now, 0L, now + 60_000L);
+        snowflake.revoke();
+
+        // when & then
+        assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("fence 는 뒤로 되돌리지 않는다")
+    void fence_Monotonic() {
+        // given
+        long now = System.currentTimeMillis();
+        LeasedSnowflake snowflake = snowflake(now, now + 5_000L, now + 60_000L);
+
+        // when
+        snowflake.fence(now - 5_000L);
+
+        // then
+        assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("새 리스로 교체하면 새 워커 ID로 발급을 재개하고 fence 는 유지한다")
+    void replace() {
+        // given
+        long now = System.currentTimeMillis();
+        LeasedSnowflake snowflake = snowflake(now, now - 1_000L, now + 60_000L);
+        snowflake.revoke();
+
+        // when
+        snowflake.replace(WorkerIdLeaseDto.builder()
+                .nodeId(36)
+                .datacenterId(1L)
+                .workerId(4L)
+                .owner("me")
+                .fenceMillis(0L)
+                .heartbeatAt(now)
+                .expiresAt(now + 60_000L)
+                .build());
+        long id = snowflake.nextId();
+
+        // then
+        assertThat(snowflake.isRevoked()).isFalse();
+        assertThat(snowflake.getNodeId()).isEqualTo(36);
+        assertThat(snowflake.getWorkerId(id)).isEqualTo(4L);
+        assertThat(ReflectionTestUtils.getField(snowflake, "fenceMillis")).isEqualTo(now - 1_000L);
+    }
+}
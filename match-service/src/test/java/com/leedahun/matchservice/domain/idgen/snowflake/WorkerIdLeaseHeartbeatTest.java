@@ -0,0 +1,188 @@
+package com.leedahun.matchservice.domain.idgen.snowflake;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.leedahun.matchservice.domain.idgen.dto.WorkerIdLeaseDto;
+import com.leedahun.matchservice.domain.idgen.service.WorkerIdLeaseService;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class WorkerIdLeaseHeartbeatTest {
+
+    private static final long ACQUIRED_AT = 1_000_000L;
+    private static final long TTL = 60_000L;
+
+    @Mock
+    private WorkerIdLeaseService workerIdLeaseService;
+
+    private LeasedSnowflake snowflake;
+    private WorkerIdLeaseHeartbeat heartbeat;
+
+    @BeforeEach
+    void setUp() {
+        WorkerIdLeaseDto lease = WorkerIdLeaseDto.builder()
+                .nodeId(32)
+                .datacenterId(1L)
+                .workerId(0L)
+                .owner("me")
+                .heartbeatAt(ACQUIRED_AT)
+                .expiresAt(ACQUIRED_AT + TTL)
+                .build();
+        snowflake = new LeasedSnowflake(lease, Clock.systemUTC());
+        heartbeat = new WorkerIdLeaseHeartbeat(workerIdLeaseService, snowflake);
+        ReflectionTestUtils.setField(heartbeat, "ttlMs", TTL);
+    }
+
+    private void setNow(long now) {
+        ReflectionTestUtils.setField(heartbeat, "clock", Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("갱신에 성공하면 만료 시각을 연장한다")
+    void renew_Extend() {
+        // given
+        long now = ACQUIRED_AT + 10_000L;
+        setNow(now);
+        when(workerIdLeaseService.renew(32, "me", now, now + TTL)).thenReturn(true);
+
+        // when
+        heartbeat.renew();
+
+        // then
+        assertThat(snowflake.getExpiresAt()).isEqualTo(now + TTL);
+        assertThat(snowflake.getHeartbeatAt()).isEqualTo(now);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 리스를 가져갔으면 새 워커 ID 리스를 받아 발급을 재개한다")
+    void renew_Lost() {
+        // given
+        long now = ACQUIRED_AT + 10_000L;
+        setNow(now);
+        when(workerIdLeaseService.renew(32, "me", now, now + TTL)).thenReturn(false);
+        when(workerIdLeaseService.acquire(1L, "me")).thenReturn(WorkerIdLeaseDto.builder()
+                .nodeId(33)
+                .datacenterId(1L)
+                .workerId(1L)
+                .owner("me")
+                .heartbeatAt(System.currentTimeMillis())
+                .expiresAt(System.currentTimeMillis() + TTL)
+                .build());
+
+        // when
+        heartbeat.renew();
+
+        // then
+        assertThat(snowflake.isRevoked()).isFalse();
+        assertThat(snowflake.getNodeId()).isEqualTo(33);
+        assertThat(snowflake.getWorkerId(snowflake.nextId())).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("새 워커 ID 리스를 받지 못하면 발급을 멈춘 채 다음 하트비트에 다시 시도한다")
+    void renew_LostAndReacquireFailed() {
+        // given
+        long now = ACQUIRED_AT + 10_000L;
+        setNow(now);
+        when(workerIdLeaseService.renew(32, "me", now, now + TTL)).thenReturn(false);
+        when(workerIdLeaseService.acquire(1L, "me")).thenThrow(new IllegalStateException("no slot"));
+
+        // when
+        heartbeat.renew();
+        heartbeat.renew();
+
+        // then
+        assertThat(snowflake.isRevoked()).isTrue();
+        assertThatThrownBy(snowflake::nextId).isInstanceOf(IllegalStateException.class);
+        verify(workerIdLeaseService).renew(anyInt(), anyString(), anyLong(), anyLong());
+        verify(workerIdLeaseService, times(2)).acquire(1L, "me");
+    }
+
+    @Test
+    @DisplayName("DB 오류로 갱신하지 못하면 기존 만료 시각을 유지한다")
+    void renew_Error() {
+        // given
+        long now = ACQUIRED_AT + 10_000L;
+        setNow(now);
+        when(workerIdLeaseService.renew(32, "me", now, now + TTL)).thenThrow(new RuntimeException("db down"));
+
+        // when
+        heartbeat.renew();
+
+        // then
+        assertThat(snowflake.isRevoked()).isFalse();
+        assertThat(snowflake.getExpiresAt()).isEqualTo(ACQUIRED_AT + TTL);
+    }
+
+    @Test
+    @DisplayName("시계가 되돌아가면 만료 시각을 앞당기지 않고 마지막 하트비트 시각까지 발급을 멈춘다")
+    void renew_ClockRollback() {
+        // given
+        long now = ACQUIRED_AT - 30_000L;
+        setNow(now);
+        when(workerIdLeaseService.renew(32, "me", now, ACQUIRED_AT + TTL)).thenReturn(true);
+
+        // when
+        heartbeat.renew();
+
+        // then
+        assertThat(snowflake.getExpiresAt()).isEqualTo(ACQUIRED_AT + TTL);
+        assertThat(snowflake.getHeartbeatAt()).isEqualTo(ACQUIRED_AT);
+        assertThat(ReflectionTestUtils.getField(snowflake, "fenceMillis")).isEqualTo(ACQUIRED_AT);
+    }
+
+    @Test
+    @DisplayName("종료 시 발급을 멈추고 리스를 반납한다")
+    void release() {
+        // when
+        heartbeat.release();
+
+        // then
+        assertThat(snowflake.isRevoked()).isTrue();
+        verify(workerIdLeaseService).release(32, "me");
+    }
+
+    @Test
+    @DisplayName("종료 중에는 리스를 다시 받지 않는다")
+    void renew_AfterRelease() {
+        // given
+        heartbeat.release();
+
+        // when
+        heartbeat.renew();
+
+        // then
+        verify(workerIdLeaseService, never()).acquire(anyLong(), anyString());
+        verify(workerIdLeaseService, never()).renew(anyInt(), anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 리스를 잃었으면 반납하지 않는다")
+    void release_Revoked() {
+        // given
+        snowflake.revoke();
+
+        // when
+        heartbeat.release();
+
+        // then
+        verify(workerIdLeaseService, never()).release(anyInt(), anyString());
+    }
+}
@@ -0,0 +1,75 @@
+package com.leedahun.matchservice.domain.shard.ownership;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ShardAssignmentTest {
+
+    private static final int SHARD_COUNT = 64;
+
+    @Test
+    @DisplayName("모든 샤드는 멤버 중 정확히 한 명에게만 배정된다")
+    void assign_DisjointAndComplete() {
+        // given
+        List<String> members = List.of("a", "b", "c");
+
+        // when
+        BitSet a = ShardAssignment.assign("a", members, SHARD_COUNT);
+        BitSet b = ShardAssignment.assign("b", members, SHARD_COUNT);
+        BitSet c = ShardAssignment.assign("c", members, SHARD_COUNT);
+
+        // then
+        assertThat(a.intersects(b) || a.intersects(c) || b.intersects(c)).isFalse();
+        BitSet all = new BitSet();
+        all.or(a);
+        all.or(b);
+        all.or(c);
+        assertThat(all.cardinality()).isEqualTo(SHARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("멤버가 추가되면 새 멤버가 가져가는 샤드만 옮겨진다")
+    void assign_MinimalMovement() {
+        // given
+        BitSet before = ShardAssignment.assign("a", List.of("a", "b"), SHARD_COUNT);
+
+        // when
+        BitSet after = ShardAssignment.assign("a", List.of("a", "b", "c"), SHARD_COUNT);
+        BitSet joined = ShardAssignment.assign("c", List.of("a", "b", "c"), SHARD_COUNT);
+
+        // then
+        BitSet moved = (BitSet) before.clone();
+        moved.andNot(after);
+        BitSet gained = (BitSet) after.clone();
+        gained.andNot(before);
+        assertThat(gained.isEmpty()).isTrue();
+        BitSet notToJoined = (BitSet) moved.clone();
+        notToJoined.andNot(joined);
+        assertThat(notToJoined.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("멤버 목록에 없으면 샤드를 배정받지 않는다")
+    void assign_NotMember() {
+        // when
+        BitSet result = ShardAssignment.assign("x", List.of("a", "b"), SHARD_COUNT);
+
+        // then
+        assertThat(result.isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("유저 ID는 항상 같은 샤드 범위 안에 배정된다")
+    void shardOf_Range() {
+        // when & then
+        for (long userId : new long[]{0L, 1L, 42L, -1L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            int shard = ShardAssignment.shardOf(userId, SHARD_COUNT);
+            assertThat(shard).isBetween(0, SHARD_COUNT - 1);
+            assertThat(ShardAssignment.shardOf(userId, SHARD_COUNT)).isEqualTo(shard);
+        }
+    }
+}
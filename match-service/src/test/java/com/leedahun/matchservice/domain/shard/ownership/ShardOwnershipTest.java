@@ -0,0 +1,214 @@
+package com.leedahun.matchservice.domain.shard.ownership;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.leedahun.matchservice.domain.idgen.dto.WorkerIdLeaseDto;
+import com.leedahun.matchservice.domain.idgen.snowflake.LeasedSnowflake;
+import com.leedahun.matchservice.domain.shard.service.ShardMembershipService;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.BitSet;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class ShardOwnershipTest {
+
+    private static final int SHARD_COUNT = 16;
+    private static final long TTL = 15_000L;
+    private static final long HANDOFF = 10_000L;
+    private static final long NOW = 1_000_000L;
+    private static final String ME = "node-32";
+
+    @Mock
+    private ShardMembershipService shardMembershipService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ShardOwnership shardOwnership;
+
+    @BeforeEach
+    void setUp() {
+        WorkerIdLeaseDto lease = WorkerIdLeaseDto.builder()
+                .nodeId(32)
+                .datacenterId(1L)
+                .workerId(0L)
+                .owner("me")
+                .heartbeatAt(NOW)
+                .expiresAt(NOW + 60_000L)
+                .build();
+        shardOwnership = new ShardOwnership(shardMembershipService, new LeasedSnowflake(lease, Clock.systemUTC()),
+                eventPublisher);
+        ReflectionTestUtils.setField(shardOwnership, "enabled", true);
+        ReflectionTestUtils.setField(shardOwnership, "shardCount", SHARD_COUNT);
+        ReflectionTestUtils.setField(shardOwnership, "ttlMs", TTL);
+        ReflectionTestUtils.setField(shardOwnership, "handoffMs", HANDOFF);
+        setNow(NOW);
+    }
+
+    private void setNow(long now) {
+        ReflectionTestUtils.setField(shardOwnership, "clock", Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC));
+    }
+
+    // 주어진 멤버 목록에서 해당 멤버에게 배정되는 유저 ID 하나
+    private long userOwnedBy(String memberId, List<String> members) {
+        BitSet shards = ShardAssignment.assign(memberId, members, SHARD_COUNT);
+        for (long userId = 1; ; userId++) {
+            if (shards.get(ShardAssignment.shardOf(userId, SHARD_COUNT))) {
+                return userId;
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 모든 유저를 가진 것으로 보고 하트비트를 보내지 않는다")
+    void owns_Disabled() {
+        // given
+        ReflectionTestUtils.setField(shardOwnership, "enabled", false);
+
+        // when
+        shardOwnership.rebalance();
+
+        // then
+        assertThat(shardOwnership.owns(1L)).isTrue();
+        assertThat(shardOwnership.ownedShardCount()).isEqualTo(SHARD_COUNT);
+        verify(shardMembershipService, never()).heartbeat(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("혼자 남은 멤버는 모든 샤드를 가지고 변경 이벤트를 발행한다")
+    void rebalance_SingleMember() {
+        // given
+        when(shardMembershipService.heartbeat(ME, NOW, NOW + TTL)).thenReturn(List.of(ME));
+
+        // when
+        shardOwnership.rebalance();
+        shardOwnership.rebalance();
+
+        // then
+        assertThat(shardOwnership.ownedShardCount()).isEqualTo(SHARD_COUNT);
+        assertThat(shardOwnership.owns(12345L)).isTrue();
+        verify(eventPublisher, times(1)).publishEvent(any(ShardOwnershipChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("다른 멤버에게 넘어간 샤드는 handoff 동안 유지했다가 반납한다")
+    void rebalance_Handoff() {
+        // given
+        List<String> members = List.of(ME, "other");
+        long handedOff = userOwnedBy("other", members);
+        when(shardMembershipService.heartbeat(eq(ME), anyLong(), anyLong()))
+                .thenReturn(List.of(ME), members, members);
+        shardOwnership.rebalance();
+
+        // when
+        shardOwnership.rebalance();
+        boolean ownedDuringHandoff = shardOwnership.owns(handedOff);
+        setNow(NOW + HANDOFF);
+        shardOwnership.rebalance();
+
+        // then
+        assertThat(ownedDuringHandoff).isTrue();
+        assertThat(shardOwnership.owns(handedOff)).isFalse();
+        assertThat(shardOwnership.owns(userOwnedBy(ME, members))).isTrue();
+        assertThat(shardOwnership.ownedShardCount())
+                .isEqualTo(ShardAssignment.assign(ME, members, SHARD_COUNT).cardinality());
+        verify(eventPublisher, times(2)).publishEvent(any(ShardOwnershipChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("멤버 ID는 워커 ID 슬롯 번호로 정해진다")
+    void getMemberId() {
+        // when & then
+        assertThat(shardOwnership.getMemberId()).isEqualTo(ME);
+    }
+
+    @Test
+    @DisplayName("멤버가 사라지면 그 멤버에게서 넘겨받은 샤드로 인수 이벤트를 발행한다")
+    void rebalance_MemberDisappeared() {
+        // given
+        List<String> members = List.of(ME, "other");
+        when(shardMembershipService.heartbeat(eq(ME), anyLong(), anyLong()))
+                .thenReturn(members, List.of(ME));
+        shardOwnership.rebalance();
+
+        // when
+        shardOwnership.rebalance();
+
+        // then
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        List<ShardTakeoverEvent> takeovers = captor.getAllValues().stream()
+                .filter(ShardTakeoverEvent.class::isInstance)
+                .map(ShardTakeoverEvent.class::cast)
+                .toList();
+        assertThat(takeovers).hasSize(1);
+        ShardTakeoverEvent takeover = takeovers.get(0);
+        assertThat(takeover.getDepartedMemberId()).isEqualTo("other");
+        assertThat(takeover.getShards()).isEqualTo(ShardAssignment.assign("other", members, SHARD_COUNT));
+        assertThat(takeover.covers(userOwnedBy("other", members))).isTrue();
+        assertThat(takeover.covers(userOwnedBy(ME, members))).isFalse();
+        assertThat(shardOwnership.ownedShardCount()).isEqualTo(SHARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("멤버가 그대로면 인수 이벤트를 발행하지 않는다")
+    void rebalance_NoTakeover() {
+        // given
+        when(shardMembershipService.heartbeat(eq(ME), anyLong(), anyLong()))
+                .thenReturn(List.of(ME), List.of(ME, "other"));
+
+        // when
+        shardOwnership.rebalance();
+        shardOwnership.rebalance();
+
+        // then
+        verify(eventPublisher, never()).publishEvent(any(ShardTakeoverEvent.class));
+    }
+
+    @Test
+    @DisplayName("하트비트에 실패하면 기존 샤드를 유지한다")
+    void rebalance_HeartbeatFailure() {
+        // given
+        when(shardMembershipService.heartbeat(eq(ME), anyLong(), anyLong()))
+                .thenReturn(List.of(ME))
+                .thenThrow(new IllegalStateException("db down"));
+        shardOwnership.rebalance();
+
+        // when
+        shardOwnership.rebalance();
+
+        // then
+        assertThat(shardOwnership.ownedShardCount()).isEqualTo(SHARD_COUNT);
+        verify(eventPublisher, times(1)).publishEvent(any(ShardOwnershipChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("종료 시 멤버에서 탈퇴한다")
+    void leave() {
+        // when
+        shardOwnership.leave();
+
+        // then
+        verify(shardMembershipService).leave(ME);
+    }
+}
@@ -0,0 +1,66 @@
+package com.leedahun.matchservice.domain.shard.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.leedahun.matchservice.domain.shard.entity.ShardMember;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+@DataJpaTest
+class ShardMemberRepositoryTest {
+
+    @Autowired
+    private ShardMemberRepository shardMemberRepository;
+
+    @BeforeEach
+    void setUp() {
+        shardMemberRepository.saveAndFlush(member("match-b", 2_000L));
+        shardMemberRepository.saveAndFlush(member("match-a", 3_000L));
+        shardMemberRepository.saveAndFlush(member("match-c", 1_000L));
+    }
+
+    private ShardMember member(String memberId, long expiresAt) {
+        return ShardMember.builder()
+                .memberId(memberId)
+                .heartbeatAt(expiresAt - 1_000L)
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    @DisplayName("만료되지 않은 멤버만 ID 오름차순으로 조회한다")
+    void findAllByExpiresAtGreaterThan() {
+        // when & then
+        assertThat(shardMemberRepository.findAllByExpiresAtGreaterThanOrderByMemberIdAsc(1_500L))
+                .extracting(ShardMember::getMemberId)
+                .containsExactly("match-a", "match-b");
+    }
+
+    @Test
+    @DisplayName("등록된 멤버만 갱신된다")
+    void renew() {
+        // when
+        int renewed = shardMemberRepository.renew("match-c", 1_500L, 5_000L);
+        int unknown = shardMemberRepository.renew("match-x", 1_500L, 5_000L);
+
+        // then
+        assertThat(renewed).isEqualTo(1);
+        assertThat(unknown).isZero();
+        assertThat(shardMemberRepository.findById("match-c").orElseThrow().getExpiresAt()).isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("기준 시각 전에 만료된 멤버를 삭제한다")
+    void deleteExpired() {
+        // when
+        int deleted = shardMemberRepository.deleteExpired(2_000L);
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(shardMemberRepository.findById("match-c")).isEmpty();
+        assertThat(shardMemberRepository.count()).isEqualTo(2);
+    }
+}
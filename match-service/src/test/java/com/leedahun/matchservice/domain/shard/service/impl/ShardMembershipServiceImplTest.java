@@ -0,0 +1,85 @@
+package com.leedahun.matchservice.domain.shard.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.leedahun.matchservice.domain.shard.entity.ShardMember;
+import com.leedahun.matchservice.domain.shard.repository.ShardMemberRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ShardMembershipServiceImplTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long TTL = 15_000L;
+
+    @InjectMocks
+    private ShardMembershipServiceImpl shardMembershipService;
+
+    @Mock
+    private ShardMemberRepository shardMemberRepository;
+
+    private ShardMember member(String memberId) {
+        return ShardMember.builder()
+                .memberId(memberId)
+                .heartbeatAt(NOW)
+                .expiresAt(NOW + TTL)
+                .build();
+    }
+
+    @Test
+    @DisplayName("이미 등록된 멤버는 만료 시각만 연장하고 살아 있는 멤버 목록을 반환한다")
+    void heartbeat_Renew() {
+        // given
+        when(shardMemberRepository.renew("me", NOW, NOW + TTL)).thenReturn(1);
+        when(shardMemberRepository.findAllByExpiresAtGreaterThanOrderByMemberIdAsc(NOW))
+                .thenReturn(List.of(member("me"), member("other")));
+
+        // when
+        List<String> members = shardMembershipService.heartbeat("me", NOW, NOW + TTL);
+
+        // then
+        assertThat(members).containsExactly("me", "other");
+        verify(shardMemberRepository, never()).saveAndFlush(any());
+        verify(shardMemberRepository).deleteExpired(NOW - TTL);
+    }
+
+    @Test
+    @DisplayName("처음 하트비트를 보내면 멤버로 등록한다")
+    void heartbeat_Register() {
+        // given
+        when(shardMemberRepository.renew("me", NOW, NOW + TTL)).thenReturn(0);
+        when(shardMemberRepository.findAllByExpiresAtGreaterThanOrderByMemberIdAsc(NOW))
+                .thenReturn(List.of(member("me")));
+
+        // when
+        List<String> members = shardMembershipService.heartbeat("me", NOW, NOW + TTL);
+
+        // then
+        ArgumentCaptor<ShardMember> captor = ArgumentCaptor.forClass(ShardMember.class);
+        verify(shardMemberRepository).saveAndFlush(captor.capture());
+        assertThat(captor.getValue().getMemberId()).isEqualTo("me");
+        assertThat(captor.getValue().getExpiresAt()).isEqualTo(NOW + TTL);
+        assertThat(members).containsExactly("me");
+    }
+
+    @Test
+    @DisplayName("탈퇴하면 멤버를 삭제한다")
+    void leave() {
+        // when
+        shardMembershipService.leave("me");
+
+        // then
+        verify(shardMemberRepository).deleteById("me");
+    }
+}
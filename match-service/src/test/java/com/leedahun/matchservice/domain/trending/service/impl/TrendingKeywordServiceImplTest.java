@@ -0,0 +1,220 @@
+package com.leedahun.matchservice.domain.trending.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.leedahun.matchservice.domain.trending.dto.TrendingKeywordDto;
+import com.leedahun.matchservice.domain.trending.dto.TrendingKeywordResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class TrendingKeywordServiceImplTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private TrendingKeywordServiceImpl service;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        service = new TrendingKeywordServiceImpl(meterRegistry);
+        now = Instant.parse("2026-01-01T00:00:00Z");
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "windowMinutes", 60L);
+        ReflectionTestUtils.setField(service, "bucketCount", 12);
+        ReflectionTestUtils.setField(service, "decay", 0.5);
+        ReflectionTestUtils.setField(service, "depth", 4);
+        ReflectionTestUtils.setField(service, "width", 1024);
+        ReflectionTestUtils.setField(service, "topK", 20);
+        ReflectionTestUtils.setField(service, "candidates", 50);
+        ReflectionTestUtils.setField(service, "maxSources", 2);
+        setClock(now);
+        service.init();
+    }
+
+    private void setClock(Instant instant) {
+        ReflectionTestUtils.setField(service, "clock", Clock.fixed(instant, ZoneOffset.UTC));
+    }
+
+    private void advance(Duration duration) {
+        now = now.plus(duration);
+        setClock(now);
+    }
+
+    @Test
+    @DisplayName("여러 콘텐츠에 많이 등장한 키워드가 위에 온다")
+    void getTrending_Overall() {
+        // given
+        service.record(1L, "Kafka 운영기", "kafka consumer lag");
+        service.record(2L, "Kafka 튜닝", "spring kafka");
+        service.record(1L, "Spring 소개", null);
+
+        // when
+        TrendingKeywordResponseDto response = service.getTrending(2);
+
+        // then
+        assertThat(response.getSourceId()).isNull();
+        assertThat(response.getWindowSeconds()).isEqualTo(3600L);
+        assertThat(response.getKeywords()).extracting(TrendingKeywordDto::getKeyword).containsExactly("kafka", "spring");
+        assertThat(response.getKeywords().get(0).getCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("소스별로 따로 집계한다")
+    void getTrendingBySource() {
+        // given
+        service.record(1L, "Kafka", null);
+        service.record(1L, "Kafka", null);
+        service.record(2L, "Redis", null);
+
+        // when
+        TrendingKeywordResponseDto source1 = service.getTrendingBySource(1L, 10);
+        TrendingKeywordResponseDto source3 = service.getTrendingBySource(3L, 10);
+
+        // then
+        assertThat(source1.getSourceId()).isEqualTo(1L);
+        assertThat(source1.getKeywords()).extracting(TrendingKeywordDto::getKeyword).containsExactly("kafka");
+        assertThat(source1.getKeywords().get(0).getCount()).isEqualTo(2);
+        assertThat(source3.getKeywords()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("소스별 기록은 전체 집계와 다른 스케치에 넣어 전체 건수의 과대 추정을 키우지 않는다")
+    void record_SourceCountsDoNotInflateOverall() {
+        // given - 칸이 하나뿐이라 같은 스케치에 넣으면 모든 키가 충돌
+        ReflectionTestUtils.setField(service, "depth", 1);
+        ReflectionTestUtils.setField(service, "width", 1);
+        service.init();
+        service.record(1L, "Kafka", null);
+
+        // when
+        TrendingKeywordResponseDto overall = service.getTrending(10);
+        TrendingKeywordResponseDto source1 = service.getTrendingBySource(1L, 10);
+
+        // then
+        assertThat(overall.getKeywords().get(0).getCount()).isEqualTo(1);
+        assertThat(source1.getKeywords().get(0).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오래된 구간의 등장은 점수를 낮게 반영해 최근에 몰린 키워드가 위로 온다")
+    void getTrending_Decay() {
+        // given - 10분 전 kafka 3건, 지금 redis 2건
+        for (int i = 0; i < 3; i++) {
+            service.record(1L, "Kafka", null);
+        }
+        advance(Duration.ofMinutes(10));
+        service.record(1L, "Redis", null);
+        service.record(1L, "Redis", null);
+
+        // when
+        TrendingKeywordResponseDto response = service.getTrending(10);
+
+        // then - kafka 3 * 0.25 = 0.75, redis 2
+        assertThat(response.getKeywords()).extracting(TrendingKeywordDto::getKeyword).containsExactly("redis", "kafka");
+        assertThat(response.getKeywords().get(1).getScore()).isEqualTo(0.75);
+        assertThat(response.getKeywords().get(1).getCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("window 가 지나면 집계에서 빠진다")
+    void getTrending_Expired() {
+        // given
+        service.record(1L, "Kafka", null);
+
+        // when
+        advance(Duration.ofMinutes(61));
+        TrendingKeywordResponseDto overall = service.getTrending(10);
+        TrendingKeywordResponseDto bySource = service.getTrendingBySource(1L, 10);
+
+        // then
+        assertThat(overall.getKeywords()).isEmpty();
+        assertThat(bySource.getKeywords()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("숫자만 있는 토큰은 집계하지 않고, 한 콘텐츠에서 같은 키워드는 한 번만 센다")
+    void record_Filter() {
+        // given
+        service.record(1L, "2026 Kafka kafka KAFKA", "kafka 2026");
+
+        // when
+        TrendingKeywordResponseDto response = service.getTrending(10);
+
+        // then
+        assertThat(response.getKeywords()).extracting(TrendingKeywordDto::getKeyword).containsExactly("kafka");
+        assertThat(response.getKeywords().get(0).getCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("소스별 집계는 최근에 쓴 max-sources 개만 유지한다")
+    void record_MaxSources() {
+        // given
+        service.record(1L, "Kafka", null);
+        service.record(2L, "Kafka", null);
+
+        // when
+        service.record(3L, "Kafka", null);
+
+        // then
+        assertThat(service.getTrendingBySource(1L, 10).getKeywords()).isEmpty();
+        assertThat(service.getTrendingBySource(3L, 10).getKeywords()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("limit 은 top-k 를 넘을 수 없고, 스케치 메모리는 게이지로 노출한다")
+    void getTrending_LimitAndMetric() {
+        // given
+        ReflectionTestUtils.setField(service, "topK", 1);
+        service.record(1L, "Kafka Redis", null);
+
+        // when
+        TrendingKeywordResponseDto response = service.getTrending(10);
+
+        // then
+        assertThat(response.getKeywords()).hasSize(1);
+        assertThat(meterRegistry.get("keyfeed.trending.sketch.bytes").gauge().value())
+                .isEqualTo(2 * 12.0 * 4 * 1024 * Integer.BYTES);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 기록하지 않는다")
+    void record_Disabled() {
+        // given
+        ReflectionTestUtils.setField(service, "enabled", false);
+
+        // when
+        service.record(1L, "Kafka", null);
+
+        // then
+        assertThat(service.getTrending(10).getKeywords()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 건수를 잃지 않는다")
+    void record_Concurrent() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            long sourceId = i % 2 + 1;
+            executor.execute(() -> service.record(sourceId, "Kafka 운영", "consumer"));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(service.getTrending(1).getKeywords().get(0).getCount()).isEqualTo(1_000);
+        assertThat(service.getTrendingBySource(1L, 1).getKeywords().get(0).getCount()).isEqualTo(500);
+    }
+}
@@ -0,0 +1,94 @@
+package com.leedahun.matchservice.domain.trending.sketch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("기록한 횟수 이상을 추정하고, 충돌이 적으면 정확히 추정한다")
+    void estimate() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        long kafka = CountMinSketch.hash("kafka");
+        long spring = CountMinSketch.hash("spring");
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            sketch.add(kafka, 1);
+        }
+        sketch.add(spring, 2);
+
+        // then
+        assertThat(sketch.estimate(kafka)).isEqualTo(5);
+        assertThat(sketch.estimate(spring)).isEqualTo(2);
+        assertThat(sketch.estimate(CountMinSketch.hash("redis"))).isZero();
+    }
+
+    @Test
+    @DisplayName("어휘가 width 보다 많아도 과소 추정하지 않는다")
+    void estimate_NeverUnderestimate() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        for (int i = 0; i < 1_000; i++) {
+            sketch.add(CountMinSketch.hash("word" + i), 1);
+        }
+        long target = CountMinSketch.hash("target");
+        sketch.add(target, 30);
+
+        // when & then
+        assertThat(sketch.estimate(target)).isGreaterThanOrEqualTo(30);
+        assertThat(sketch.estimatedBytes()).isEqualTo(4L * 64 * Integer.BYTES);
+    }
+
+    @Test
+    @DisplayName("소스별 해시는 원래 해시와 다르고, 같은 입력이면 같은 값이다")
+    void combine() {
+        // given
+        long hash = CountMinSketch.hash("kafka");
+
+        // when & then
+        assertThat(CountMinSketch.combine(hash, 1L)).isNotEqualTo(hash);
+        assertThat(CountMinSketch.combine(hash, 1L)).isNotEqualTo(CountMinSketch.combine(hash, 2L));
+        assertThat(CountMinSketch.combine(hash, 1L)).isEqualTo(CountMinSketch.combine(hash, 1L));
+    }
+
+    @Test
+    @DisplayName("비우면 모든 추정치가 0이 된다")
+    void clear() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(2, 16);
+        long hash = CountMinSketch.hash("kafka");
+        sketch.add(hash, 3);
+
+        // when
+        sketch.clear();
+
+        // then
+        assertThat(sketch.estimate(hash)).isZero();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 락 없이 동시에 기록해도 건수를 잃지 않는다")
+    void add_Concurrent() throws InterruptedException {
+        // given
+        CountMinSketch sketch = new CountMinSketch(4, 1024);
+        long hash = CountMinSketch.hash("kafka");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            executor.execute(() -> sketch.add(hash, 1));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        assertThat(sketch.estimate(hash)).isEqualTo(10_000);
+    }
+}
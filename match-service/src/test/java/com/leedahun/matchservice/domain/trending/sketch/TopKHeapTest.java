@@ -0,0 +1,57 @@
+package com.leedahun.matchservice.domain.trending.sketch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TopKHeapTest {
+
+    @Test
+    @DisplayName("가득 차면 최솟값보다 점수가 높은 키워드만 들어온다")
+    void offer_Evict() {
+        // given
+        TopKHeap heap = new TopKHeap(2);
+        heap.offer("a", 1.0, 1);
+        heap.offer("b", 3.0, 3);
+
+        // when
+        heap.offer("c", 0.5, 1);
+        heap.offer("d", 2.0, 2);
+
+        // then
+        assertThat(heap.size()).isEqualTo(2);
+        assertThat(heap.top(10)).extracting(TopKHeap.Entry::getKeyword).containsExactly("b", "d");
+    }
+
+    @Test
+    @DisplayName("이미 있는 키워드는 점수를 갱신한다")
+    void offer_Update() {
+        // given
+        TopKHeap heap = new TopKHeap(2);
+        heap.offer("a", 1.0, 1);
+        heap.offer("b", 2.0, 2);
+
+        // when
+        heap.offer("a", 5.0, 5);
+
+        // then
+        assertThat(heap.top(1)).extracting(TopKHeap.Entry::getKeyword).containsExactly("a");
+    }
+
+    @Test
+    @DisplayName("다시 계산한 건수가 0인 키워드는 제거한다")
+    void rescore() {
+        // given
+        TopKHeap heap = new TopKHeap(3);
+        heap.offer("a", 1.0, 1);
+        heap.offer("b", 2.0, 2);
+
+        // when
+        heap.rescore(entry -> entry.update(entry.getScore() / 2, "a".equals(entry.getKeyword()) ? 0 : 2));
+
+        // then
+        assertThat(heap.top(10)).extracting(TopKHeap.Entry::getKeyword).containsExactly("b");
+        assertThat(heap.top(10).get(0).getScore()).isEqualTo(1.0);
+    }
+}
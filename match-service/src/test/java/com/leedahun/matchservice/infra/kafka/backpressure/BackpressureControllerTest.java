@@ -0,0 +1,248 @@
+package com.leedahun.matchservice.infra.kafka.backpressure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.leedahun.matchservice.infra.kafka.consumer.ContentEventConsumer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class BackpressureControllerTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    @Mock
+    private MessageListenerContainer container;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BackpressureController controller;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        controller = new BackpressureController(kafkaListenerEndpointRegistry, meterRegistry);
+        ReflectionTestUtils.setField(controller, "enabled", true);
+        ReflectionTestUtils.setField(controller, "windowSeconds", 10);
+        ReflectionTestUtils.setField(controller, "minSamples", 5);
+        ReflectionTestUtils.setField(controller, "pauseLatencyMs", 2000L);
+        ReflectionTestUtils.setField(controller, "resumeLatencyMs", 500L);
+        ReflectionTestUtils.setField(controller, "pauseErrorRate", 0.5);
+        ReflectionTestUtils.setField(controller, "resumeErrorRate", 0.1);
+        ReflectionTestUtils.setField(controller, "minPauseMs", 5000L);
+        ReflectionTestUtils.setField(controller, "maxPauseMs", 60000L);
+        now = 1_000_000L;
+        setClock();
+        controller.registerMetrics();
+
+        lenient().when(kafkaListenerEndpointRegistry.getListenerContainer(ContentEventConsumer.LISTENER_ID))
+                .thenReturn(container);
+    }
+
+    private void setClock() {
+        ReflectionTestUtils.setField(controller, "clock", Clock.fixed(Instant.ofEpochMilli(now), ZoneOffset.UTC));
+    }
+
+    private void advance(long millis) {
+        now += millis;
+        setClock();
+    }
+
+    private void recordCalls(Dependency dependency, int count, long elapsedMillis, boolean failed) {
+        for (int i = 0; i < count; i++) {
+            controller.record(dependency, elapsedMillis, failed);
+        }
+    }
+
+    private double pausedGauge() {
+        return meterRegistry.get("keyfeed.backpressure.paused").gauge().value();
+    }
+
+    @Test
+    @DisplayName("평균 지연이 pause 기준을 넘으면 리스너를 멈춘다")
+    void evaluate_PauseOnLatency() {
+        // given
+        recordCalls(Dependency.IDENTITY, 5, 3000L, false);
+
+        // when
+        controller.evaluate();
+
+        // then
+        verify(container).pause();
+        assertThat(controller.isPaused()).isTrue();
+        assertThat(pausedGauge()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("keyfeed.backpressure.latency").tag("dependency", "identity-service")
+                .gauge().value()).isEqualTo(3000.0);
+    }
+
+    @Test
+    @DisplayName("실패율이 pause 기준을 넘으면 리스너를 멈춘다")
+    void evaluate_PauseOnErrorRate() {
+        // given
+        recordCalls(Dependency.ELASTICSEARCH, 2, 10L, false);
+        recordCalls(Dependency.ELASTICSEARCH, 3, 10L, true);
+
+        // when
+        controller.evaluate();
+
+        // then
+        verify(container).pause();
+        assertThat(meterRegistry.get("keyfeed.backpressure.error_rate").tag("dependency", "elasticsearch")
+                .gauge().value()).isEqualTo(0.6);
+    }
+
+    @Test
+    @DisplayName("호출 수가 min-samples 미만이면 지연이 커도 멈추지 않는다")
+    void evaluate_IgnoreBelowMinSamples() {
+        // given
+        recordCalls(Dependency.IDENTITY, 4, 10_000L, true);
+
+        // when
+        controller.evaluate();
+
+        // then
+        verify(container, never()).pause();
+        assertThat(pausedGauge()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("window 가 지난 호출은 판단에 사용하지 않는다")
+    void evaluate_IgnoreExpiredCalls() {
+        // given
+        recordCalls(Dependency.IDENTITY, 5, 3000L, false);
+        advance(11_000L);
+
+        // when
+        controller.evaluate();
+
+        // then
+        verify(container, never()).pause();
+    }
+
+    @Test
+    @DisplayName("최소 정지 시간이 지나기 전에는 다시 시작하지 않는다")
+    void evaluate_NoResumeBeforeMinPause() {
+        // given
+        recordCalls(Dependency.IDENTITY, 5, 3000L, false);
+        controller.evaluate();
+
+        // when
+        advance(4_000L);
+        controller.evaluate();
+
+        // then
+        verify(container, never()).resume();
+        assertThat(controller.isPaused()).isTrue();
+    }
+
+    @Test
+    @DisplayName("지연이 pause 기준 아래여도 resume 기준 이상이면 다시 시작하지 않는다")
+    void evaluate_Hysteresis() {
+        // given
+        recordCalls(Dependency.IDENTITY, 5, 3000L, false);
+        controller.evaluate();
+        advance(11_000L);
+        recordCalls(Dependency.IDENTITY, 5, 1000L, false);
+
+        // when
+        controller.evaluate();
+
+        // then
+        verify(container, never()).resume();
+        assertThat(controller.isPaused()).isTrue();
+    }
+
+    @Test
+    @DisplayName("최소 정지 시간이 지나고 모든 의존성이 resume 기준 아래면 다시 시작한다")
+    void evaluate_Resume() {
+        // given
+        recordCalls(Dependency.IDENTITY, 5, 3000L, false);
+        controller.evaluate();
+        advance(11_000L);
+        recordCalls(Dependency.IDENTITY, 5, 100L, false);
+
+        // when
+        controller.evaluate();
+
+        // then
+        verify(container).resume();
+        assertThat(controller.isPaused()).isFalse();
+        assertThat(pausedGauge()).isEqualTo(0.0);
+        assertThat(meterRegistry.get("keyfeed.backpressure.transitions").tag("state", "resumed")
+                .counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("다시 시작한 뒤 window 안에 또 멈추면 정지 시간을 두 배로 늘린다")
+    void evaluate_RelapseDoublesPause() {
+        // given - 첫 정지 후 표본 부족으로 5초 뒤 재개
+        recordCalls(Dependency.IDENTITY, 5, 3000L, false);
+        controller.evaluate();
+        advance(11_000L);
+        controller.evaluate();
+        assertThat(controller.isPaused()).isFalse();
+
+        // when - 재개 직후 다시 느려짐
+        advance(1_000L);
+        recordCalls(Dependency.IDENTITY, 5, 3000L, false);
+        controller.evaluate();
+
+        // then
+        verify(container, times(2)).pause();
+        assertThat(ReflectionTestUtils.getField(controller, "currentPauseMs")).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("window 가 지난 뒤 다시 멈추면 정지 시간을 최소값으로 되돌린다")
+    void evaluate_PauseResetsAfterWindow() {
+        // given
+        recordCalls(Dependency.IDENTITY, 5, 3000L, false);
+        controller.evaluate();
+        advance(11_000L);
+        controller.evaluate();
+        advance(1_000L);
+        recordCalls(Dependency.IDENTITY, 5, 3000L, false);
+        controller.evaluate();
+        advance(11_000L);
+        controller.evaluate();
+
+        // when - 재개 후 window 이상 지나서 느려짐
+        advance(20_000L);
+        recordCalls(Dependency.IDENTITY, 5, 3000L, false);
+        controller.evaluate();
+
+        // then
+        verify(container, times(3)).pause();
+        assertThat(ReflectionTestUtils.getField(controller, "currentPauseMs")).isEqualTo(5_000L);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 상태를 판단하지 않는다")
+    void evaluate_Disabled() {
+        // given
+        ReflectionTestUtils.setField(controller, "enabled", false);
+        recordCalls(Dependency.IDENTITY, 5, 3000L, false);
+
+        // when
+        controller.evaluate();
+
+        // then
+        verify(container, never()).pause();
+    }
+}
@@ -2,25 +2,49 @@ package com.leedahun.matchservice.infra.kafka.consumer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.dto.BulkSaveResult;
 import com.leedahun.matchservice.domain.content.service.ContentService;
 import com.leedahun.matchservice.domain.content.service.NotificationTriggerService;
+import com.leedahun.matchservice.domain.shard.ownership.ShardOwnership;
 import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
 import com.leedahun.matchservice.infra.kafka.exception.KafkaMessageProcessingException;
+import com.leedahun.kafka.freshness.FreshnessHeaders;
+import com.leedahun.kafka.freshness.FreshnessMetrics;
+import com.leedahun.matchservice.infra.kafka.freshness.FreshnessTrace;
+import com.leedahun.matchservice.infra.kafka.transaction.KafkaBatchTransaction;
+import com.leedahun.matchservice.infra.kafka.producer.IndexedContentProducer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class ContentEventConsumerTest {
 
+    private static final String TOPIC = "content-topic";
+
     @InjectMocks
     private ContentEventConsumer contentEventConsumer;
 
@@ -33,64 +57,280 @@ class ContentEventConsumerTest {
     @Mock
     private ObjectMapper objectMapper;
 
+    @Mock
+    private DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+
+    @Mock
+    private FreshnessMetrics freshnessMetrics;
+
+    @Mock
+    private ShardOwnership shardOwnership;
+
+    @Mock
+    private IndexedContentProducer indexedContentProducer;
+
+    @Spy
+    private KeyOrderedParallelProcessor contentKeyOrderedProcessor = new KeyOrderedParallelProcessor(4);
+
+    @Spy
+    private KafkaBatchTransaction kafkaBatchTransaction = new KafkaBatchTransaction(null, false);
+
+    @Mock
+    private Consumer<String, String> consumer;
+
+    private ConsumerRecord<String, String> record(long offset, String value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, null, value);
+    }
+
     @Test
-    @DisplayName("Kafka 메시지(JSON)를 수신하여 DTO로 변환 후 저장 로직을 호출한다")
+    @DisplayName("배치로 수신한 메시지를 한 번의 bulk 요청으로 저장한 뒤 각각 알림 매칭을 수행한다")
     void consume_Success() throws JsonProcessingException {
         // given
-        String jsonMessage = "{\"title\":\"Test Title\"}";
-        CrawledContentDto dto = CrawledContentDto.builder().build();
+        CrawledContentDto dto1 = CrawledContentDto.builder().title("Title 1").build();
+        CrawledContentDto dto2 = CrawledContentDto.builder().title("Title 2").build();
+        when(objectMapper.readValue("json1", CrawledContentDto.class)).thenReturn(dto1);
+        when(objectMapper.readValue("json2", CrawledContentDto.class)).thenReturn(dto2);
+        when(contentService.saveContents(List.of(dto1, dto2))).thenReturn(BulkSaveResult.success());
+
+        // when
+        contentEventConsumer.consume(List.of(record(0, "json1"), record(1, "json2")), consumer);
 
-        // ObjectMapper가 정상적으로 변환한다고 가정
-        when(objectMapper.readValue(jsonMessage, CrawledContentDto.class)).thenReturn(dto);
+        // then
+        verify(contentService, times(1)).saveContents(List.of(dto1, dto2));
+        verify(notificationTriggerService, times(1)).matchAndSendNotification(eq(dto1), any());
+        verify(notificationTriggerService, times(1)).matchAndSendNotification(eq(dto2), any());
+        verify(deadLetterPublishingRecoverer, never()).accept(any(), any());
+    }
+
+    @Test
+    @DisplayName("역직렬화에 실패한 메시지만 DLT로 보내고 나머지는 저장한다")
+    void consume_JsonParsingError() throws JsonProcessingException {
+        // given
+        CrawledContentDto dto = CrawledContentDto.builder().title("Title").build();
+        ConsumerRecord<String, String> invalid = record(0, "{invalid-json}");
+        when(objectMapper.readValue("{invalid-json}", CrawledContentDto.class))
+                .thenThrow(new JsonProcessingException("Parsing Error") {});
+        when(objectMapper.readValue("json", CrawledContentDto.class)).thenReturn(dto);
+        when(contentService.saveContents(List.of(dto))).thenReturn(BulkSaveResult.success());
 
         // when
-        contentEventConsumer.consume(jsonMessage);
+        contentEventConsumer.consume(List.of(invalid, record(1, "json")), consumer);
 
         // then
-        // ObjectMapper가 호출되었는지 검증
-        verify(objectMapper, times(1)).readValue(jsonMessage, CrawledContentDto.class);
+        verify(contentService, times(1)).saveContents(List.of(dto));
+        verify(notificationTriggerService, times(1)).matchAndSendNotification(eq(dto), any());
+        verify(deadLetterPublishingRecoverer, times(1)).accept(eq(invalid), any(JsonProcessingException.class));
+    }
 
-        // 변환된 DTO로 저장 서비스가 호출되었는지 검증
-        verify(contentService, times(1)).saveContent(dto);
+    @Test
+    @DisplayName("bulk 저장에서 실패한 항목은 알림 매칭에서 제외하고, 그 레코드부터 재시도하도록 위치를 알린다")
+    void consume_BulkItemFailure() throws JsonProcessingException {
+        // given
+        CrawledContentDto dto1 = CrawledContentDto.builder().title("Title 1").build();
+        CrawledContentDto dto2 = CrawledContentDto.builder().title("Title 2").build();
+        ConsumerRecord<String, String> failedRecord = record(1, "json2");
+        when(objectMapper.readValue("json1", CrawledContentDto.class)).thenReturn(dto1);
+        when(objectMapper.readValue("json2", CrawledContentDto.class)).thenReturn(dto2);
+        when(contentService.saveContents(List.of(dto1, dto2)))
+                .thenReturn(new BulkSaveResult(Map.of(1, "mapper_parsing_exception"), Set.of()));
 
-        verify(notificationTriggerService, times(1)).matchAndSendNotification(dto);
+        // when & then
+        assertThatThrownBy(() -> contentEventConsumer.consume(List.of(record(0, "json1"), failedRecord), consumer))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> {
+                    assertThat(e.getIndex()).isEqualTo(1);
+                    assertThat(e.getCause()).isInstanceOf(KafkaMessageProcessingException.class);
+                });
+        verify(notificationTriggerService, times(1)).matchAndSendNotification(eq(dto1), any());
+        verify(notificationTriggerService, never()).matchAndSendNotification(eq(dto2), any());
+        verify(deadLetterPublishingRecoverer, never()).accept(any(), any());
     }
 
     @Test
-    @DisplayName("JSON 파싱 중 에러가 발생하면 저장 로직을 호출하지 않고 예외를 처리한다")
-    void consume_JsonParsingError() throws JsonProcessingException {
+    @DisplayName("이미 저장되어 있던 콘텐츠도 트렌딩 집계 없이 다시 매칭하고, 수집 지연은 새로 저장된 콘텐츠만 기록한다")
+    void consume_DuplicateContent() throws JsonProcessingException {
         // given
-        String invalidJson = "{invalid-json}";
+        CrawledContentDto dto1 = CrawledContentDto.builder().title("Title 1").build();
+        CrawledContentDto dto2 = CrawledContentDto.builder().title("Title 2").build();
+        when(objectMapper.readValue("json1", CrawledContentDto.class)).thenReturn(dto1);
+        when(objectMapper.readValue("json2", CrawledContentDto.class)).thenReturn(dto2);
+        when(contentService.saveContents(List.of(dto1, dto2)))
+                .thenReturn(new BulkSaveResult(Map.of(), Set.of(0)));
 
-        // ObjectMapper가 예외를 던지도록 설정
-        when(objectMapper.readValue(eq(invalidJson), eq(CrawledContentDto.class)))
-                .thenThrow(new JsonProcessingException("Parsing Error") {});
+        // when
+        contentEventConsumer.consume(List.of(record(0, "json1"), record(1, "json2")), consumer);
+
+        // then
+        ArgumentCaptor<LongPredicate> filterCaptor = ArgumentCaptor.forClass(LongPredicate.class);
+        verify(notificationTriggerService, times(1)).rematchAndSendNotification(eq(dto1), any(), filterCaptor.capture());
+        assertThat(filterCaptor.getValue().test(42L)).isTrue();
+        verify(notificationTriggerService, never()).matchAndSendNotification(eq(dto1), any());
+        verify(notificationTriggerService, times(1)).matchAndSendNotification(eq(dto2), any());
+        verify(freshnessMetrics, times(1)).record(eq(FreshnessMetrics.FETCH_TO_INDEX), any(), anyLong());
+        verify(deadLetterPublishingRecoverer, never()).accept(any(), any());
+    }
+
+    @Test
+    @DisplayName("bulk 요청 자체가 실패하면 예외를 던져 배치 전체를 재시도하게 한다")
+    void consume_BulkRequestError() throws JsonProcessingException {
+        // given
+        CrawledContentDto dto = CrawledContentDto.builder().build();
+        when(objectMapper.readValue("{}", CrawledContentDto.class)).thenReturn(dto);
+        when(contentService.saveContents(anyList())).thenThrow(new RuntimeException("ES Error"));
 
         // when & then
-        assertThatThrownBy(() -> contentEventConsumer.consume(invalidJson))
+        assertThatThrownBy(() -> contentEventConsumer.consume(List.of(record(0, "{}")), consumer))
                 .isInstanceOf(KafkaMessageProcessingException.class);
 
-        // 저장 로직은 절대 호출되지 않아야 함
-        verify(contentService, never()).saveContent(any());
+        verify(notificationTriggerService, never()).matchAndSendNotification(any(), any());
+        verify(deadLetterPublishingRecoverer, never()).accept(any(), any());
     }
 
     @Test
-    @DisplayName("저장 서비스 로직 수행 중 에러가 발생해도 컨슈머는 중단되지 않고 로그를 남긴다")
-    void consume_ServiceError() throws JsonProcessingException {
+    @DisplayName("알림 매칭 중 에러가 발생해도 나머지는 계속 처리하고, 실패한 레코드부터 재시도하도록 위치를 알린다")
+    void consume_MatchingError() throws JsonProcessingException {
         // given
-        String jsonMessage = "{}";
-        CrawledContentDto dto = CrawledContentDto.builder().build();
+        CrawledContentDto dto1 = CrawledContentDto.builder().title("Title 1").build();
+        CrawledContentDto dto2 = CrawledContentDto.builder().title("Title 2").build();
+        ConsumerRecord<String, String> failedRecord = record(0, "json1");
+        when(objectMapper.readValue("json1", CrawledContentDto.class)).thenReturn(dto1);
+        when(objectMapper.readValue("json2", CrawledContentDto.class)).thenReturn(dto2);
+        when(contentService.saveContents(List.of(dto1, dto2))).thenReturn(BulkSaveResult.success());
+        doThrow(new KafkaMessageProcessingException()).when(notificationTriggerService).matchAndSendNotification(eq(dto1), any());
 
-        when(objectMapper.readValue(jsonMessage, CrawledContentDto.class)).thenReturn(dto);
+        // when & then
+        assertThatThrownBy(() -> contentEventConsumer.consume(List.of(failedRecord, record(1, "json2")), consumer))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isZero());
+        verify(notificationTriggerService, times(1)).matchAndSendNotification(eq(dto2), any());
+        verify(deadLetterPublishingRecoverer, never()).accept(any(), any());
+    }
 
-        // 저장 서비스가 예외를 던지도록 설정
-        doThrow(new RuntimeException("DB Error")).when(contentService).saveContent(dto);
+    @Test
+    @DisplayName("여러 소스의 콘텐츠를 병렬로 매칭해도 레코드 순서상 첫 번째 실패 레코드부터 재시도하도록 위치를 알린다")
+    void consume_ParallelMatchingError() throws JsonProcessingException {
+        // given
+        CrawledContentDto dto1 = CrawledContentDto.builder().sourceId(1L).title("Title 1").build();
+        CrawledContentDto dto2 = CrawledContentDto.builder().sourceId(2L).title("Title 2").build();
+        CrawledContentDto dto3 = CrawledContentDto.builder().sourceId(3L).title("Title 3").build();
+        ConsumerRecord<String, String> failedRecord1 = record(0, "json1");
+        ConsumerRecord<String, String> failedRecord3 = record(2, "json3");
+        when(objectMapper.readValue("json1", CrawledContentDto.class)).thenReturn(dto1);
+        when(objectMapper.readValue("json2", CrawledContentDto.class)).thenReturn(dto2);
+        when(objectMapper.readValue("json3", CrawledContentDto.class)).thenReturn(dto3);
+        when(contentService.saveContents(List.of(dto1, dto2, dto3))).thenReturn(BulkSaveResult.success());
+        doThrow(new IllegalStateException("identity down")).when(notificationTriggerService).matchAndSendNotification(eq(dto1), any());
+        doThrow(new KafkaMessageProcessingException()).when(notificationTriggerService).matchAndSendNotification(eq(dto3), any());
 
         // when & then
-        assertThatThrownBy(() -> contentEventConsumer.consume(jsonMessage))
-                .isInstanceOf(KafkaMessageProcessingException.class);
+        assertThatThrownBy(() -> contentEventConsumer.consume(List.of(failedRecord1, record(1, "json2"), failedRecord3), consumer))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> {
+                    assertThat(e.getIndex()).isZero();
+                    assertThat(e.getCause()).isInstanceOf(IllegalStateException.class);
+                });
+        verify(notificationTriggerService, times(1)).matchAndSendNotification(eq(dto2), any());
+        verify(deadLetterPublishingRecoverer, never()).accept(any(), any());
+    }
 
-        // 저장 시도는 했으나 예외 발생
-        verify(contentService, times(1)).saveContent(dto);
+    @Test
+    @DisplayName("재시도할 레코드 앞의 역직렬화 실패만 DLT로 보내고, 뒤쪽은 다시 받을 때 보낸다")
+    void consume_DeadLetterBeforeRetry() throws JsonProcessingException {
+        // given
+        CrawledContentDto dto = CrawledContentDto.builder().title("Title").build();
+        ConsumerRecord<String, String> invalid1 = record(0, "{invalid-1}");
+        ConsumerRecord<String, String> failedRecord = record(1, "json");
+        ConsumerRecord<String, String> invalid2 = record(2, "{invalid-2}");
+        when(objectMapper.readValue("{invalid-1}", CrawledContentDto.class))
+                .thenThrow(new JsonProcessingException("Parsing Error") {});
+        when(objectMapper.readValue("{invalid-2}", CrawledContentDto.class))
+                .thenThrow(new JsonProcessingException("Parsing Error") {});
+        when(objectMapper.readValue("json", CrawledContentDto.class)).thenReturn(dto);
+        when(contentService.saveContents(List.of(dto))).thenReturn(BulkSaveResult.success());
+        doThrow(new IllegalStateException("identity down")).when(notificationTriggerService).matchAndSendNotification(eq(dto), any());
+
+        // when & then
+        assertThatThrownBy(() -> contentEventConsumer.consume(List.of(invalid1, failedRecord, invalid2), consumer))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(1));
+        verify(deadLetterPublishingRecoverer, times(1)).accept(eq(invalid1), any(JsonProcessingException.class));
+        verify(deadLetterPublishingRecoverer, never()).accept(eq(invalid2), any());
+    }
+
+    @Test
+    @DisplayName("크롤러가 헤더로 보낸 시각을 저장 시각과 함께 알림 매칭으로 넘기고 수집 -> 저장 지연을 기록한다")
+    void consume_FreshnessTrace() throws JsonProcessingException {
+        // given
+        CrawledContentDto dto = CrawledContentDto.builder().title("Title").build();
+        ConsumerRecord<String, String> record = record(0, "json");
+        FreshnessHeaders.put(record.headers(), FreshnessHeaders.PUBLISHED_AT, 1_000L);
+        FreshnessHeaders.put(record.headers(), FreshnessHeaders.FETCHED_AT, 2_000L);
+        when(objectMapper.readValue("json", CrawledContentDto.class)).thenReturn(dto);
+        when(contentService.saveContents(List.of(dto))).thenReturn(BulkSaveResult.success());
+
+        // when
+        long before = System.currentTimeMillis();
+        contentEventConsumer.consume(List.of(record), consumer);
+
+        // then
+        ArgumentCaptor<FreshnessTrace> captor = ArgumentCaptor.forClass(FreshnessTrace.class);
+        verify(notificationTriggerService).matchAndSendNotification(eq(dto), captor.capture());
+        FreshnessTrace trace = captor.getValue();
+        assertThat(trace.getPublishedAt()).isEqualTo(1_000L);
+        assertThat(trace.getFetchedAt()).isEqualTo(2_000L);
+        assertThat(trace.getIndexedAt()).isBetween(before, System.currentTimeMillis());
+        verify(freshnessMetrics).record(FreshnessMetrics.FETCH_TO_INDEX, 2_000L, trace.getIndexedAt());
+    }
+
+    @Test
+    @DisplayName("Kafka 트랜잭션이 중단되어 재수신한 레코드는 이미 저장된 콘텐츠여도 다시 매칭한다")
+    void consume_RematchAfterAbortedTransaction() throws JsonProcessingException {
+        // given
+        CrawledContentDto dto = CrawledContentDto.builder().title("Title").build();
+        ConsumerRecord<String, String> record = record(0, "json");
+        when(objectMapper.readValue("json", CrawledContentDto.class)).thenReturn(dto);
+        when(contentService.saveContents(List.of(dto)))
+                .thenReturn(BulkSaveResult.success())
+                .thenReturn(new BulkSaveResult(Map.of(), Set.of(0)));
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(2).run();
+            throw new IllegalStateException("commit failed");
+        }).doCallRealMethod().when(kafkaBatchTransaction).execute(anyList(), any(), any());
+
+        // when
+        assertThatThrownBy(() -> contentEventConsumer.consume(List.of(record), consumer))
+                .isInstanceOf(IllegalStateException.class);
+        contentEventConsumer.consume(List.of(record), consumer);
+
+        // then
+        verify(notificationTriggerService, times(1)).matchAndSendNotification(eq(dto), any());
+        verify(notificationTriggerService, times(1)).rematchAndSendNotification(eq(dto), any(), any());
+    }
+
+    @Test
+    @DisplayName("유저 파티션 모드에서는 직접 매칭하지 않고 저장된 콘텐츠를 샤드 소유자에게 전달하며, 이미 저장되어 있던 콘텐츠는 표시해 보내고 전달 실패한 레코드부터 재시도한다")
+    void consume_Partitioned() throws JsonProcessingException {
+        // given
+        CrawledContentDto dto1 = CrawledContentDto.builder().sourceId(1L).title("Title 1").build();
+        CrawledContentDto dto2 = CrawledContentDto.builder().sourceId(2L).title("Title 2").build();
+        CrawledContentDto dto3 = CrawledContentDto.builder().sourceId(3L).title("Title 3").build();
+        ConsumerRecord<String, String> failedRecord = record(1, "json2");
+        when(shardOwnership.isEnabled()).thenReturn(true);
+        when(objectMapper.readValue("json1", CrawledContentDto.class)).thenReturn(dto1);
+        when(objectMapper.readValue("json2", CrawledContentDto.class)).thenReturn(dto2);
+        when(objectMapper.readValue("json3", CrawledContentDto.class)).thenReturn(dto3);
+        when(contentService.saveContents(List.of(dto1, dto2, dto3)))
+                .thenReturn(new BulkSaveResult(Map.of(), Set.of(2)));
+        when(indexedContentProducer.publish(eq(1L), eq("json1"), any(), eq(false))).thenReturn(CompletableFuture.completedFuture(null));
+        when(indexedContentProducer.publish(eq(2L), eq("json2"), any(), eq(false)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+        when(indexedContentProducer.publish(eq(3L), eq("json3"), any(), eq(true))).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when & then
+        assertThatThrownBy(() -> contentEventConsumer.consume(List.of(record(0, "json1"), failedRecord, record(2, "json3")), consumer))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(1));
+        verify(notificationTriggerService, never()).matchAndSendNotification(any(), any());
+        verify(notificationTriggerService, never()).rematchAndSendNotification(any(), any(), any());
+        verify(indexedContentProducer).publish(eq(3L), eq("json3"), any(), eq(true));
+        ArgumentCaptor<FreshnessTrace> captor = ArgumentCaptor.forClass(FreshnessTrace.class);
+        verify(indexedContentProducer).publish(eq(1L), eq("json1"), captor.capture(), eq(false));
+        assertThat(captor.getValue().getIndexedAt()).isNotNull();
+        verify(deadLetterPublishingRecoverer, never()).accept(any(), any());
     }
-}
\ No newline at end of file
+}
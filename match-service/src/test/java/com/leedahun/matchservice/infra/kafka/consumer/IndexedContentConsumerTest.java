@@ -0,0 +1,120 @@
+package com.leedahun.matchservice.infra.kafka.consumer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.service.NotificationTriggerService;
+import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import com.leedahun.kafka.freshness.FreshnessHeaders;
+import com.leedahun.matchservice.infra.kafka.freshness.FreshnessTrace;
+import com.leedahun.matchservice.infra.kafka.producer.IndexedContentProducer;
+import com.leedahun.matchservice.infra.kafka.transaction.KafkaBatchTransaction;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IndexedContentConsumerTest {
+
+    private static final String TOPIC = "indexed-topic";
+
+    @InjectMocks
+    private IndexedContentConsumer indexedContentConsumer;
+
+    @Mock
+    private NotificationTriggerService notificationTriggerService;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    @Mock
+    private DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+
+    @Spy
+    private KeyOrderedParallelProcessor contentKeyOrderedProcessor = new KeyOrderedParallelProcessor(4);
+
+    @Spy
+    private KafkaBatchTransaction kafkaBatchTransaction = new KafkaBatchTransaction(null, false);
+
+    @Mock
+    private Consumer<String, String> consumer;
+
+    private ConsumerRecord<String, String> record(long offset, String value) {
+        return new ConsumerRecord<>(TOPIC, 0, offset, null, value);
+    }
+
+    @Test
+    @DisplayName("전달받은 콘텐츠를 헤더의 시각 정보와 함께 알림 매칭으로 넘긴다")
+    void consume_Success() throws JsonProcessingException {
+        // given
+        CrawledContentDto dto = CrawledContentDto.builder().title("Title").sourceId(1L).build();
+        ConsumerRecord<String, String> record = record(0, "json");
+        FreshnessHeaders.put(record.headers(), FreshnessHeaders.INDEXED_AT, 3_000L);
+        when(objectMapper.readValue("json", CrawledContentDto.class)).thenReturn(dto);
+
+        // when
+        indexedContentConsumer.consume(List.of(record), consumer);
+
+        // then
+        ArgumentCaptor<FreshnessTrace> captor = ArgumentCaptor.forClass(FreshnessTrace.class);
+        verify(notificationTriggerService).matchAndSendNotification(eq(dto), captor.capture());
+        assertThat(captor.getValue().getIndexedAt()).isEqualTo(3_000L);
+        verify(deadLetterPublishingRecoverer, never()).accept(any(), any());
+    }
+
+    @Test
+    @DisplayName("역직렬화나 매칭에 실패한 레코드만 DLT로 보낸다")
+    void consume_Failures() throws JsonProcessingException {
+        // given
+        CrawledContentDto ok = CrawledContentDto.builder().title("OK").sourceId(1L).build();
+        CrawledContentDto broken = CrawledContentDto.builder().title("Broken").sourceId(2L).build();
+        ConsumerRecord<String, String> invalid = record(0, "{invalid-json}");
+        ConsumerRecord<String, String> failing = record(2, "broken");
+        when(objectMapper.readValue("{invalid-json}", CrawledContentDto.class))
+                .thenThrow(new JsonProcessingException("Parsing Error") {});
+        when(objectMapper.readValue("ok", CrawledContentDto.class)).thenReturn(ok);
+        when(objectMapper.readValue("broken", CrawledContentDto.class)).thenReturn(broken);
+        doThrow(new RuntimeException("match error"))
+                .when(notificationTriggerService).matchAndSendNotification(eq(broken), any());
+
+        // when
+        indexedContentConsumer.consume(List.of(invalid, record(1, "ok"), failing), consumer);
+
+        // then
+        verify(notificationTriggerService).matchAndSendNotification(eq(ok), any());
+        verify(deadLetterPublishingRecoverer).accept(eq(invalid), any(JsonProcessingException.class));
+        verify(deadLetterPublishingRecoverer).accept(eq(failing), any(RuntimeException.class));
+    }
+
+    @Test
+    @DisplayName("이미 저장되어 있던 콘텐츠로 표시된 레코드는 트렌딩 집계 없이 다시 매칭한다")
+    void consume_Duplicate() throws JsonProcessingException {
+        // given
+        CrawledContentDto dto = CrawledContentDto.builder().title("Title").sourceId(1L).build();
+        ConsumerRecord<String, String> record = record(0, "json");
+        record.headers().add(IndexedContentProducer.DUPLICATE_HEADER, "true".getBytes(StandardCharsets.UTF_8));
+        when(objectMapper.readValue("json", CrawledContentDto.class)).thenReturn(dto);
+
+        // when
+        indexedContentConsumer.consume(List.of(record), consumer);
+
+        // then
+        verify(notificationTriggerService).rematchAndSendNotification(eq(dto), any(), any());
+        verify(notificationTriggerService, never()).matchAndSendNotification(any(), any());
+    }
+}
@@ -0,0 +1,113 @@
+package com.leedahun.matchservice.infra.kafka.consumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeyOrderedParallelProcessorTest {
+
+    private KeyOrderedParallelProcessor processor;
+
+    @AfterEach
+    void tearDown() {
+        if (processor != null) {
+            processor.close();
+        }
+    }
+
+    private record Item(String key, int seq) {
+    }
+
+    @Test
+    @DisplayName("같은 키의 항목은 입력 순서대로 처리한다")
+    void process_keepsOrderPerKey() {
+        // given
+        processor = new KeyOrderedParallelProcessor(4);
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            items.add(new Item("source-" + (i % 5), i));
+        }
+        Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+
+        // when
+        processor.process(items, Item::key,
+                item -> processed.computeIfAbsent(item.key(), k -> Collections.synchronizedList(new ArrayList<>())).add(item.seq()));
+
+        // then
+        assertThat(processed).hasSize(5);
+        processed.values().forEach(seqs -> assertThat(seqs).isSorted().hasSize(40));
+    }
+
+    @Test
+    @DisplayName("서로 다른 키의 항목은 동시에 처리한다")
+    void process_runsKeysConcurrently() {
+        // given
+        processor = new KeyOrderedParallelProcessor(2);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        AtomicInteger completed = new AtomicInteger();
+
+        // when
+        // 두 키가 동시에 실행되지 않으면 래치를 기다리다 시간 초과로 실패함
+        processor.process(List.of(new Item("a", 0), new Item("b", 1)), Item::key, item -> {
+            bothStarted.countDown();
+            try {
+                if (bothStarted.await(5, TimeUnit.SECONDS)) {
+                    completed.incrementAndGet();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // then
+        assertThat(completed.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("max-in-flight가 1이면 호출 스레드에서 순서대로 처리한다")
+    void process_sequentialWhenSingleInFlight() {
+        // given
+        processor = new KeyOrderedParallelProcessor(1);
+        Thread caller = Thread.currentThread();
+        List<Integer> processed = new ArrayList<>();
+
+        // when
+        processor.process(List.of(new Item("a", 0), new Item("b", 1), new Item("a", 2)), Item::key, item -> {
+            assertThat(Thread.currentThread()).isSameAs(caller);
+            processed.add(item.seq());
+        });
+
+        // then
+        assertThat(processed).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    @DisplayName("작업에서 예외가 새어 나오면 나머지 키를 모두 처리한 뒤 예외를 던진다")
+    void process_propagatesFailureAfterAllGroups() {
+        // given
+        processor = new KeyOrderedParallelProcessor(4);
+        AtomicInteger completed = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> processor.process(List.of(new Item("a", 0), new Item("b", 1), new Item("c", 2)), Item::key, item -> {
+            if (item.key().equals("a")) {
+                throw new IllegalStateException("boom");
+            }
+            completed.incrementAndGet();
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(completed.get()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,79 @@
+package com.leedahun.matchservice.infra.kafka.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.keyword.SubscriptionMatcher;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class KeywordChangedEventConsumerTest {
+
+    private static final String ADDED_TOPIC = "identity.keyword.added";
+    private static final String CHANGED_TOPIC = "identity.keyword.changed";
+
+    @InjectMocks
+    private KeywordChangedEventConsumer keywordChangedEventConsumer;
+
+    @Mock
+    private SubscriptionMatcher subscriptionMatcher;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(keywordChangedEventConsumer, "keywordAddedTopic", ADDED_TOPIC);
+    }
+
+    @Test
+    @DisplayName("키워드 추가 이벤트를 받으면 해당 유저의 구독 매칭 인덱스 갱신을 요청한다")
+    void consume_Added() {
+        // given
+        String message = """
+                {"userId":1,"keywordId":10,"keyword":"kafka","sourceIds":[3],"addedAt":"2025-01-01T10:00:00"}
+                """;
+
+        // when
+        keywordChangedEventConsumer.consume(new ConsumerRecord<>(ADDED_TOPIC, 0, 0L, "1", message));
+
+        // then
+        verify(subscriptionMatcher).requestRefresh(1L);
+    }
+
+    @Test
+    @DisplayName("키워드 삭제/알림 토글 이벤트를 받으면 해당 유저의 구독 매칭 인덱스 갱신을 요청한다")
+    void consume_Changed() {
+        // given
+        String message = """
+                {"userId":2,"keywordId":20,"type":"TOGGLED","changedAt":"2025-01-01T10:00:00"}
+                """;
+
+        // when
+        keywordChangedEventConsumer.consume(new ConsumerRecord<>(CHANGED_TOPIC, 0, 0L, "2", message));
+
+        // then
+        verify(subscriptionMatcher).requestRefresh(2L);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 메시지는 갱신을 요청하지 않고 넘어간다")
+    void consume_InvalidMessage() {
+        // when
+        keywordChangedEventConsumer.consume(new ConsumerRecord<>(CHANGED_TOPIC, 0, 0L, "1", "not-json"));
+
+        // then
+        verify(subscriptionMatcher, never()).requestRefresh(any());
+    }
+}
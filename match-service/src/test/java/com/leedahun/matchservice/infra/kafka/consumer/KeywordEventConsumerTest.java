@@ -0,0 +1,65 @@
+package com.leedahun.matchservice.infra.kafka.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.service.KeywordBackfillService;
+import com.leedahun.matchservice.infra.kafka.dto.KeywordAddedEventDto;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KeywordEventConsumerTest {
+
+    @InjectMocks
+    private KeywordEventConsumer keywordEventConsumer;
+
+    @Mock
+    private KeywordBackfillService keywordBackfillService;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    private ConsumerRecord<String, String> record(String value) {
+        return new ConsumerRecord<>("identity.keyword.added", 0, 0L, "1", value);
+    }
+
+    @Test
+    @DisplayName("키워드 추가 이벤트를 받으면 최근 콘텐츠 알림을 수행한다")
+    void consume_Success() throws JsonProcessingException {
+        // given
+        KeywordAddedEventDto event = KeywordAddedEventDto.builder()
+                .userId(1L).keywordId(10L).keyword("kafka").sourceIds(List.of(3L)).build();
+        when(objectMapper.readValue("json", KeywordAddedEventDto.class)).thenReturn(event);
+
+        // when
+        keywordEventConsumer.consume(record("json"));
+
+        // then
+        verify(keywordBackfillService).backfill(event);
+    }
+
+    @Test
+    @DisplayName("역직렬화에 실패하면 알림 없이 넘어간다")
+    void consume_InvalidMessage() throws JsonProcessingException {
+        // given
+        when(objectMapper.readValue("invalid", KeywordAddedEventDto.class))
+                .thenThrow(new JsonProcessingException("Json Error") {});
+
+        // when
+        keywordEventConsumer.consume(record("invalid"));
+
+        // then
+        verify(keywordBackfillService, never()).backfill(any());
+    }
+}
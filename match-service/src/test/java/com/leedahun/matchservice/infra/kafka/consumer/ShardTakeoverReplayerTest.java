@@ -0,0 +1,148 @@
+package com.leedahun.matchservice.infra.kafka.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.service.NotificationTriggerService;
+import com.leedahun.matchservice.domain.shard.ownership.ShardAssignment;
+import com.leedahun.matchservice.domain.shard.ownership.ShardTakeoverEvent;
+import com.leedahun.matchservice.infra.kafka.dto.CrawledContentDto;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ShardTakeoverReplayerTest {
+
+    private static final String TOPIC = "match.content.indexed";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+    private static final int SHARD_COUNT = 16;
+
+    @Mock
+    private ConsumerFactory<String, String> consumerFactory;
+
+    @Mock
+    private NotificationTriggerService notificationTriggerService;
+
+    @Mock
+    private Consumer<String, String> consumer;
+
+    @Mock
+    private ObjectMapper objectMapper;
+
+    private ShardTakeoverReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        // 재매칭을 호출 스레드에서 바로 실행해 결과를 결정적으로 확인
+        replayer = new ShardTakeoverReplayer(consumerFactory, notificationTriggerService, objectMapper, TOPIC, Runnable::run);
+    }
+
+    private ConsumerRecord<String, String> record(long offset, long sourceId) throws Exception {
+        String value = "json-" + offset;
+        lenient().when(objectMapper.readValue(value, CrawledContentDto.class))
+                .thenReturn(CrawledContentDto.builder().title("title-" + offset).sourceId(sourceId).build());
+        return new ConsumerRecord<>(TOPIC, 0, offset, null, value);
+    }
+
+    private ShardTakeoverEvent takeover(int... shards) {
+        BitSet bits = new BitSet(SHARD_COUNT);
+        for (int shard : shards) {
+            bits.set(shard);
+        }
+        return new ShardTakeoverEvent("node-33", bits, SHARD_COUNT);
+    }
+
+    private void givenDepartedGroup(OffsetAndMetadata committed, long endOffset) {
+        when(consumerFactory.createConsumer(eq("match.content.matcher.node-33"), isNull(), anyString(), any(Properties.class)))
+                .thenReturn(consumer);
+        when(consumer.partitionsFor(TOPIC)).thenReturn(List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        offsets.put(PARTITION, committed);
+        when(consumer.committed(Set.of(PARTITION))).thenReturn(offsets);
+        when(consumer.endOffsets(anyCollection())).thenReturn(Map.of(PARTITION, endOffset));
+    }
+
+    @Test
+    @DisplayName("떠난 멤버가 커밋한 오프셋부터 인수 시점의 끝 오프셋 전까지 넘겨받은 샤드의 유저만 다시 매칭한다")
+    void onShardTakeover_Replay() throws Exception {
+        // given
+        givenDepartedGroup(new OffsetAndMetadata(1L), 3L);
+        List<ConsumerRecord<String, String>> records = List.of(record(1, 10L), record(2, 20L), record(3, 30L));
+        when(consumer.poll(any(Duration.class))).thenReturn(new ConsumerRecords<>(Map.of(PARTITION, records)));
+        when(consumer.position(PARTITION)).thenReturn(4L);
+        ShardTakeoverEvent event = takeover(ShardAssignment.shardOf(7L, SHARD_COUNT));
+
+        // when
+        replayer.onShardTakeover(event);
+
+        // then
+        verify(consumer).assign(Set.of(PARTITION));
+        verify(consumer).seek(PARTITION, 1L);
+        ArgumentCaptor<CrawledContentDto> contentCaptor = ArgumentCaptor.forClass(CrawledContentDto.class);
+        ArgumentCaptor<LongPredicate> filterCaptor = ArgumentCaptor.forClass(LongPredicate.class);
+        verify(notificationTriggerService, times(2))
+                .rematchAndSendNotification(contentCaptor.capture(), any(), filterCaptor.capture());
+        assertThat(contentCaptor.getAllValues()).extracting(CrawledContentDto::getSourceId).containsExactly(10L, 20L);
+        assertThat(filterCaptor.getValue().test(7L)).isTrue();
+        verify(notificationTriggerService, never()).matchAndSendNotification(any(), any());
+        verify(consumer, never()).commitSync();
+        verify(consumer).close();
+    }
+
+    @Test
+    @DisplayName("떠난 멤버가 커밋한 오프셋이 없으면 아무것도 다시 매칭하지 않는다")
+    void onShardTakeover_NoCommittedOffset() {
+        // given
+        givenDepartedGroup(null, 3L);
+
+        // when
+        replayer.onShardTakeover(takeover(0));
+
+        // then
+        verify(consumer, never()).assign(anyCollection());
+        verify(consumer, never()).poll(any(Duration.class));
+        verifyNoInteractions(notificationTriggerService);
+        verify(consumer).close();
+    }
+
+    @Test
+    @DisplayName("한 건의 재매칭이 실패해도 나머지는 계속 매칭한다")
+    void onShardTakeover_ContinueOnFailure() throws Exception {
+        // given
+        givenDepartedGroup(new OffsetAndMetadata(0L), 2L);
+        List<ConsumerRecord<String, String>> records = List.of(record(0, 10L), record(1, 20L));
+        when(consumer.poll(any(Duration.class))).thenReturn(new ConsumerRecords<>(Map.of(PARTITION, records)));
+        when(consumer.position(PARTITION)).thenReturn(2L);
+        doThrow(new IllegalStateException("identity down")).doNothing()
+                .when(notificationTriggerService).rematchAndSendNotification(any(), any(), any());
+
+        // when
+        replayer.onShardTakeover(takeover(0));
+
+        // then
+        verify(notificationTriggerService, times(2)).rematchAndSendNotification(any(), any(), any());
+    }
+}
@@ -0,0 +1,71 @@
+package com.leedahun.matchservice.infra.kafka.consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.matchservice.domain.content.keyword.SourceSubscriberCache;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UserSourceEventConsumerTest {
+
+    private static final String TOPIC = "identity.user-source.changed";
+
+    @InjectMocks
+    private UserSourceEventConsumer userSourceEventConsumer;
+
+    @Mock
+    private SourceSubscriberCache sourceSubscriberCache;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    @DisplayName("구독 소스 변경 이벤트를 받으면 해당 소스의 구독자 캐시를 비운다")
+    void consume_Invalidate() {
+        // given
+        String message = """
+                {"userId":1,"userSourceId":10,"sourceId":100,"type":"REMOVED","changedAt":"2025-01-01T10:00:00"}
+                """;
+
+        // when
+        userSourceEventConsumer.consume(new ConsumerRecord<>(TOPIC, 0, 0L, "1", message));
+
+        // then
+        verify(sourceSubscriberCache).invalidate(100L);
+    }
+
+    @Test
+    @DisplayName("소스 ID가 없는 이벤트는 캐시를 건드리지 않는다")
+    void consume_NoSourceId() {
+        // given
+        String message = """
+                {"userId":1,"userSourceId":10,"type":"TOGGLED","changedAt":"2025-01-01T10:00:00"}
+                """;
+
+        // when
+        userSourceEventConsumer.consume(new ConsumerRecord<>(TOPIC, 0, 0L, "1", message));
+
+        // then
+        verify(sourceSubscriberCache, never()).invalidate(any());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 메시지는 캐시를 건드리지 않고 넘어간다")
+    void consume_InvalidMessage() {
+        // when
+        userSourceEventConsumer.consume(new ConsumerRecord<>(TOPIC, 0, 0L, "1", "not-json"));
+
+        // then
+        verify(sourceSubscriberCache, never()).invalidate(any());
+    }
+}
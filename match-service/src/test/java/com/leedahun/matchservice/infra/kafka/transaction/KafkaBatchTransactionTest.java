@@ -0,0 +1,169 @@
+package com.leedahun.matchservice.infra.kafka.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaBatchTransactionTest {
+
+    private static final ConsumerGroupMetadata GROUP = new ConsumerGroupMetadata("match.content.collector");
+
+    @Mock
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Mock
+    private ProducerFactory<String, String> producerFactory;
+
+    @Mock
+    private Producer<String, String> producer;
+
+    private final List<ConsumerRecord<String, String>> records = List.of(
+            new ConsumerRecord<>("content", 0, 10L, null, "a"),
+            new ConsumerRecord<>("content", 0, 11L, null, "b"),
+            new ConsumerRecord<>("content", 1, 5L, null, "c"));
+
+    private KafkaBatchTransaction enabled() {
+        when(kafkaTemplate.isTransactional()).thenReturn(true);
+        when(kafkaTemplate.getProducerFactory()).thenReturn(producerFactory);
+        when(producerFactory.transactionCapable()).thenReturn(true);
+        when(producerFactory.createProducer(any())).thenReturn(producer);
+        return new KafkaBatchTransaction(kafkaTemplate, true);
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 트랜잭션 없이 그대로 실행한다")
+    void execute_Disabled() {
+        // given
+        KafkaBatchTransaction transaction = new KafkaBatchTransaction(kafkaTemplate, false);
+        AtomicBoolean ran = new AtomicBoolean();
+        Consumer<Integer> task = i -> { };
+
+        // when
+        transaction.execute(records, GROUP, () -> ran.set(true));
+
+        // then
+        assertThat(ran).isTrue();
+        assertThat(transaction.isEnabled()).isFalse();
+        assertThat(transaction.propagate(task)).isSameAs(task);
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("배치 처리가 끝나면 파티션별 다음 오프셋을 트랜잭션에 담아 함께 커밋한다")
+    void execute_Commit() {
+        // given
+        KafkaBatchTransaction transaction = enabled();
+
+        // when
+        transaction.execute(records, GROUP, () -> { });
+
+        // then
+        verify(kafkaTemplate).setAllowNonTransactional(true);
+        verify(kafkaTemplate).sendOffsetsToTransaction(Map.of(
+                new TopicPartition("content", 0), new OffsetAndMetadata(12L),
+                new TopicPartition("content", 1), new OffsetAndMetadata(6L)), GROUP);
+        verify(producer).beginTransaction();
+        verify(producer).commitTransaction();
+    }
+
+    @Test
+    @DisplayName("배치 처리 중 예외가 나면 트랜잭션을 중단하고 예외를 그대로 던진다")
+    void execute_Abort() {
+        // given
+        KafkaBatchTransaction transaction = enabled();
+
+        // when & then
+        assertThatThrownBy(() -> transaction.execute(records, GROUP, () -> {
+            throw new IllegalStateException("bulk failed");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(kafkaTemplate, never()).sendOffsetsToTransaction(anyMap(), any(ConsumerGroupMetadata.class));
+        verify(producer).abortTransaction();
+        verify(producer, never()).commitTransaction();
+    }
+
+    @Test
+    @DisplayName("실패한 레코드를 알리면 그 앞 레코드의 오프셋만 커밋하고 예외를 그대로 던진다")
+    void execute_PartialCommit() {
+        // given
+        KafkaBatchTransaction transaction = enabled();
+        BatchListenerFailedException failure = new BatchListenerFailedException("match failed", new IllegalStateException(), 2);
+
+        // when & then
+        assertThatThrownBy(() -> transaction.execute(records, GROUP, () -> {
+            throw failure;
+        })).isSameAs(failure);
+        verify(kafkaTemplate).sendOffsetsToTransaction(Map.of(
+                new TopicPartition("content", 0), new OffsetAndMetadata(12L)), GROUP);
+        verify(producer).commitTransaction();
+        verify(producer, never()).abortTransaction();
+    }
+
+    @Test
+    @DisplayName("첫 레코드가 실패하면 오프셋 없이 보낸 메시지만 커밋한다")
+    void execute_PartialCommit_FirstRecord() {
+        // given
+        KafkaBatchTransaction transaction = enabled();
+        BatchListenerFailedException failure = new BatchListenerFailedException("match failed", new IllegalStateException(), 0);
+
+        // when & then
+        assertThatThrownBy(() -> transaction.execute(records, GROUP, () -> {
+            throw failure;
+        })).isSameAs(failure);
+        verify(kafkaTemplate, never()).sendOffsetsToTransaction(anyMap(), any(ConsumerGroupMetadata.class));
+        verify(producer).commitTransaction();
+    }
+
+    @Test
+    @DisplayName("다른 스레드에서 실행되는 작업도 리스너 스레드의 트랜잭션에 참여한다")
+    void propagate() throws InterruptedException {
+        // given
+        KafkaBatchTransaction transaction = enabled();
+        AtomicBoolean joined = new AtomicBoolean();
+        AtomicBoolean released = new AtomicBoolean();
+
+        // when
+        transaction.execute(records, GROUP, () -> {
+            Consumer<Integer> task = transaction.propagate(
+                    i -> joined.set(TransactionSynchronizationManager.hasResource(producerFactory)));
+            Thread worker = new Thread(() -> {
+                task.accept(1);
+                released.set(!TransactionSynchronizationManager.hasResource(producerFactory));
+            });
+            worker.start();
+            try {
+                worker.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        // then
+        assertThat(joined).isTrue();
+        assertThat(released).isTrue();
+    }
+}
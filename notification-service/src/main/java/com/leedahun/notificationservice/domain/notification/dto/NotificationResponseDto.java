@@ -1,6 +1,9 @@
 package com.leedahun.notificationservice.domain.notification.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.leedahun.notificationservice.domain.notification.entity.Notification;
+import com.leedahun.notificationservice.infra.kafka.dto.RelatedContentDto;
+import java.util.List;
 import lombok.*;
 
 @Getter
@@ -14,6 +17,10 @@ public class NotificationResponseDto {
     private String title;
     private String message;
 
+    // 묶음 알림에 포함된 콘텐츠 (실시간 전송에만 포함)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<RelatedContentDto> relatedContents;
+
     public static NotificationResponseDto from(Notification notification) {
         return NotificationResponseDto.builder()
                 .id(notification.getId())
@@ -27,6 +27,10 @@ public class Notification extends BaseTimeEntity {
 
     private Long contentId;
 
+    // 콘텐츠 ID:유저 ID (같은 콘텐츠 알림을 한 번만 저장, 묶음 알림은 null)
+    @Column(name = "dedupe_key", unique = true, length = 100)
+    private String dedupeKey;
+
     @Column(name = "original_url")
     private String url;
 
@@ -19,8 +19,9 @@ public class NotificationJdbcRepository {
 
     private final JdbcTemplate jdbcTemplate;
 
+    // 같은 중복 판별 키의 알림이 이미 있으면 건너뜀 (재처리로 같은 콘텐츠 알림이 다시 들어온 경우)
     private static final String INSERT_SQL = """
-                INSERT INTO notification (notification_id, user_id, title, message, original_url, created_at) VALUES (?, ?, ?, ?, ?, ?)
+                INSERT IGNORE INTO notification (notification_id, dedupe_key, user_id, title, message, original_url, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)
             """;
 
     public int[] batchInsert(List<NotificationEventDto> events) {
@@ -36,11 +37,12 @@ public class NotificationJdbcRepository {
                     public void setValues(PreparedStatement ps, int i) throws SQLException {
                         NotificationEventDto e = events.get(i);
                         ps.setLong(1, e.getNotificationId());
-                        ps.setLong(2, e.getUserId());
-                        ps.setString(3, e.getTitle());
-                        ps.setString(4, e.getMessage());
-                        ps.setString(5, e.getOriginalUrl());
-                        ps.setTimestamp(6, Timestamp.valueOf(now));
+                        ps.setString(2, e.getDedupeKey());
+                        ps.setLong(3, e.getUserId());
+                        ps.setString(4, e.getTitle());
+                        ps.setString(5, e.getMessage());
+                        ps.setString(6, e.getOriginalUrl());
+                        ps.setTimestamp(7, Timestamp.valueOf(now));
                     }
 
                     @Override
@@ -4,6 +4,7 @@ import com.leedahun.notificationservice.domain.notification.entity.Notification;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -21,4 +22,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n WHERE n.userId = :userId AND n.id < :lastId ORDER BY n.id DESC")
     List<Notification> findNextPage(@Param("userId") Long userId, @Param("lastId") Long lastId, Pageable pageable);
 
+    // 이미 저장된 중복 판별 키 조회
+    @Query("SELECT n.dedupeKey FROM Notification n WHERE n.dedupeKey IN :dedupeKeys")
+    List<String> findDedupeKeysIn(@Param("dedupeKeys") Collection<String> dedupeKeys);
+
 }
\ No newline at end of file
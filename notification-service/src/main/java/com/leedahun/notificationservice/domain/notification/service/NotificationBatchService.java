@@ -1,13 +1,17 @@
 package com.leedahun.notificationservice.domain.notification.service;
 
 import com.leedahun.notificationservice.domain.notification.repository.NotificationJdbcRepository;
+import com.leedahun.notificationservice.domain.notification.repository.NotificationRepository;
 import com.leedahun.notificationservice.infra.kafka.dto.NotificationEventDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -15,6 +19,32 @@ import java.util.List;
 public class NotificationBatchService {
 
     private final NotificationJdbcRepository notificationJdbcRepository;
+    private final NotificationRepository notificationRepository;
+
+    /**
+     * 같은 콘텐츠로 이미 저장된 알림이 있는 유저의 이벤트를 제외
+     * 매칭 단계가 재처리되어 같은 콘텐츠 알림이 다시 들어와도 SSE 를 다시 보내지 않기 위해 사용한다.
+     * 아직 버퍼에 있어 저장되지 않은 알림은 걸러지지 않지만, 저장은 중복 판별 키로 한 번만 된다.
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationEventDto> excludeAlreadySaved(List<NotificationEventDto> events) {
+        List<String> dedupeKeys = events.stream()
+                .map(NotificationEventDto::getDedupeKey)
+                .filter(Objects::nonNull)
+                .toList();
+        if (dedupeKeys.isEmpty()) {
+            return events;
+        }
+
+        Set<String> saved = new HashSet<>(notificationRepository.findDedupeKeysIn(dedupeKeys));
+        if (saved.isEmpty()) {
+            return events;
+        }
+        log.info("이미 저장된 알림 {}건 제외", saved.size());
+        return events.stream()
+                .filter(event -> event.getDedupeKey() == null || !saved.contains(event.getDedupeKey()))
+                .toList();
+    }
 
     /**
      * Kafka에서 모아온 이벤트들을 한 번에 JDBC 배치로 저장
@@ -7,6 +7,8 @@ import com.leedahun.notificationservice.domain.notification.repository.Notificat
 import com.leedahun.notificationservice.domain.notification.repository.SseEmitterRepository;
 import com.leedahun.notificationservice.domain.notification.service.NotificationService;
 import com.leedahun.notificationservice.infra.kafka.dto.NotificationEventDto;
+import com.leedahun.kafka.freshness.FreshnessMetrics;
+import com.leedahun.notificationservice.infra.kafka.freshness.FreshnessTrace;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
@@ -25,6 +27,7 @@ public class NotificationServiceImpl implements NotificationService {
 
     private final SseEmitterRepository sseEmitterRepository;
     private final NotificationRepository notificationRepository;
+    private final FreshnessMetrics freshnessMetrics;
 
     // 연결 지속 시간 (1시간)
     private static final Long DEFAULT_TIMEOUT = 60L * 1000 * 60;
@@ -88,12 +91,18 @@ public class NotificationServiceImpl implements NotificationService {
                 .id(notificationEvent.getNotificationId())
                 .title(notificationEvent.getTitle())
                 .message(notificationEvent.getMessage())
+                .relatedContents(notificationEvent.getRelatedContents())
                 .build();
 
         // 모든 Emitter에 알림 전송
         emitters.forEach((key, emitter) -> {
             sendToClient(emitter, key, notificationEvent.getNotificationId(), EVENT_NAME_NOTIFICATION, notificationResponse);
         });
+
+        // 접속 중인 유저에게 전송한 경우에만 신선도 기록 (미접속 유저는 재접속 시점에 받으므로 제외)
+        if (!emitters.isEmpty()) {
+            recordFreshness(notificationEvent.getTrace());
+        }
     }
 
     // 알림 목록 조회
@@ -135,6 +144,16 @@ public class NotificationServiceImpl implements NotificationService {
                 .build();
     }
 
+    private void recordFreshness(FreshnessTrace trace) {
+        if (trace == null) {
+            return;
+        }
+        long deliveredAt = System.currentTimeMillis();
+        freshnessMetrics.record(FreshnessMetrics.MATCH_TO_DELIVERY, trace.getMatchedAt(), deliveredAt);
+        freshnessMetrics.record(FreshnessMetrics.FETCH_TO_DELIVERY, trace.getFetchedAt(), deliveredAt);
+        freshnessMetrics.record(FreshnessMetrics.PUBLISH_TO_DELIVERY, trace.getPublishedAt(), deliveredAt);
+    }
+
     // 실제 클라이언트로 데이터 전송
     private void sendToClient(SseEmitter emitter, String emitterId, Long notificationId, String name, Object data) {
         try {
@@ -1,12 +1,17 @@
 package com.leedahun.notificationservice.infra.kafka.consumer;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.notificationservice.domain.notification.service.NotificationBatchService;
 import com.leedahun.notificationservice.domain.notification.service.NotificationEventBuffer;
 import com.leedahun.notificationservice.domain.notification.service.NotificationService;
 import com.leedahun.notificationservice.infra.kafka.dto.NotificationEventDto;
+import com.leedahun.notificationservice.infra.kafka.dto.NotificationFanoutEventDto;
 import com.leedahun.notificationservice.infra.kafka.exception.KafkaMessageProcessingException;
+import com.leedahun.notificationservice.infra.kafka.freshness.FreshnessTrace;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.annotation.RetryableTopic;
 import org.springframework.retry.annotation.Backoff;
@@ -20,7 +25,11 @@ public class NotificationEventConsumer {
     private final ObjectMapper objectMapper;
     private final NotificationService notificationService;
     private final NotificationEventBuffer notificationEventBuffer;
+    private final NotificationBatchService notificationBatchService;
 
+    /**
+     * 유저별 알림 이벤트 수신 (팬아웃 이벤트 도입 이전에 발행된 메시지 처리용)
+     */
     @KafkaListener(
             topics = "${app.kafka.topic.notification}",
             groupId = "${app.kafka.group-id.notification}"
@@ -44,4 +53,45 @@ public class NotificationEventConsumer {
         }
     }
 
-}
\ No newline at end of file
+    /**
+     * 콘텐츠 단위 팬아웃 이벤트 수신
+     * 유저별 알림으로 펼친 뒤 유저마다 SSE 전송과 저장 버퍼 적재를 한다.
+     * 같은 콘텐츠 알림이 이미 저장된 유저는 제외한다. (매칭 단계가 재처리되어 다시 발행된 팬아웃)
+     * SSE 전송은 유저별로 실패를 격리하고(접속이 끊긴 유저는 재접속 시 Last-Event-ID로 다시 받음),
+     * 저장 버퍼에는 모든 유저의 알림을 적재한다.
+     * 헤더로 전달된 이전 단계 시각은 SSE 전송 시 신선도 측정에 사용한다.
+     */
+    @KafkaListener(
+            topics = "${app.kafka.topic.notification-fanout}",
+            groupId = "${app.kafka.group-id.notification}"
+    )
+    @RetryableTopic(
+            attempts = "3",
+            backoff = @Backoff(delay = 1000, multiplier = 2),
+            dltTopicSuffix = ".dlt"
+    )
+    public void consumeFanout(ConsumerRecord<String, String> record) {
+
+        List<NotificationEventDto> notificationEvents;
+        try {
+            NotificationFanoutEventDto fanoutEvent = objectMapper.readValue(record.value(), NotificationFanoutEventDto.class);
+            notificationEvents = fanoutEvent.expand(FreshnessTrace.from(record.headers()));
+            log.info("Kafka 팬아웃 메시지 수신: contentId={}, chunk={}/{}, 유저 {}명",
+                    fanoutEvent.getContentId(), fanoutEvent.getChunkIndex() + 1, fanoutEvent.getChunkCount(), notificationEvents.size());
+        } catch (Exception e) {
+            log.error("팬아웃 메시지 처리 중 오류 발생: {}", e.getMessage(), e);
+            throw new KafkaMessageProcessingException();
+        }
+
+        notificationEvents = notificationBatchService.excludeAlreadySaved(notificationEvents);
+        for (NotificationEventDto notificationEvent : notificationEvents) {
+            try {
+                notificationService.send(notificationEvent);
+            } catch (Exception e) {
+                log.warn("알림 SSE 전송 실패 (userId: {}): {}", notificationEvent.getUserId(), e.getMessage());
+            }
+            notificationEventBuffer.add(notificationEvent);
+        }
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.leedahun.notificationservice.infra.kafka.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.leedahun.notificationservice.infra.kafka.freshness.FreshnessTrace;
+import java.util.List;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -18,4 +21,13 @@ public class NotificationEventDto {
     private String title;
     private String message;
     private String originalUrl;
+    private List<RelatedContentDto> relatedContents;
+
+    // 같은 콘텐츠로 같은 유저에게 보낸 알림을 가려내는 키 (콘텐츠 ID:유저 ID, 묶음 알림이면 null)
+    @JsonIgnore
+    private String dedupeKey;
+
+    // 신선도 측정용 단계별 시각 (Kafka 헤더에서 채우며 저장하지 않음)
+    @JsonIgnore
+    private FreshnessTrace trace;
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package com.leedahun.notificationservice.infra.kafka.dto;
+
+import com.leedahun.notificationservice.infra.kafka.freshness.FreshnessTrace;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 콘텐츠 한 건에 대한 알림 팬아웃 이벤트
+ * userIds와 notificationIds는 같은 위치끼리 한 유저의 알림을 이룬다.
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationFanoutEventDto {
+    private String contentId;
+    private String title;
+    private String message;
+    private String originalUrl;
+    private int chunkIndex;
+    private int chunkCount;
+    private List<Long> userIds;
+    private List<Long> notificationIds;
+    private List<RelatedContentDto> relatedContents;  // 묶음 알림에 포함된 콘텐츠 (단건 알림이면 null)
+
+    /**
+     * 유저별 알림 이벤트로 펼침
+     * 단건 알림은 콘텐츠 ID와 유저 ID로 중복 판별 키를 만든다. (매칭 단계가 재처리되어 알림 ID가 새로 발급되어도 같은 키)
+     */
+    public List<NotificationEventDto> expand(FreshnessTrace trace) {
+        if (userIds == null || notificationIds == null || userIds.size() != notificationIds.size()) {
+            throw new IllegalArgumentException("userIds와 notificationIds의 개수가 일치하지 않습니다.");
+        }
+
+        return IntStream.range(0, userIds.size())
+                .mapToObj(i -> NotificationEventDto.builder()
+                        .notificationId(notificationIds.get(i))
+                        .userId(userIds.get(i))
+                        .title(title)
+                        .message(message)
+                        .originalUrl(originalUrl)
+                        .relatedContents(relatedContents)
+                        .dedupeKey(dedupeKey(userIds.get(i)))
+                        .trace(trace)
+                        .build())
+                .toList();
+    }
+
+    private String dedupeKey(Long userId) {
+        if (contentId == null || relatedContents != null) {
+            return null;
+        }
+        return contentId + ":" + userId;
+    }
+}
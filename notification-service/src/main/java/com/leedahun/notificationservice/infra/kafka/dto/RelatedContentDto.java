@@ -0,0 +1,21 @@
+package com.leedahun.notificationservice.infra.kafka.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 묶음 알림에 포함되는 콘텐츠 참조
+ */
+@Getter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class RelatedContentDto {
+    private String contentId;
+    private String title;
+    private String originalUrl;
+}
@@ -0,0 +1,34 @@
+package com.leedahun.notificationservice.infra.kafka.freshness;
+
+import com.leedahun.kafka.freshness.FreshnessHeaders;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * 알림 한 건의 원본 콘텐츠가 이전 단계들을 지난 시각 (epoch millis, 모르는 값은 null)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FreshnessTrace {
+
+    private static final FreshnessTrace EMPTY = new FreshnessTrace(null, null, null, null);
+
+    private final Long publishedAt;
+    private final Long fetchedAt;
+    private final Long indexedAt;
+    private final Long matchedAt;
+
+    public static FreshnessTrace empty() {
+        return EMPTY;
+    }
+
+    public static FreshnessTrace from(Headers headers) {
+        return new FreshnessTrace(
+                FreshnessHeaders.get(headers, FreshnessHeaders.PUBLISHED_AT),
+                FreshnessHeaders.get(headers, FreshnessHeaders.FETCHED_AT),
+                FreshnessHeaders.get(headers, FreshnessHeaders.INDEXED_AT),
+                FreshnessHeaders.get(headers, FreshnessHeaders.MATCHED_AT));
+    }
+}
@@ -41,6 +41,7 @@ class NotificationJdbcRepositoryTest {
         // given
         NotificationEventDto event1 = NotificationEventDto.builder()
                 .notificationId(100L)
+                .dedupeKey("content-1:1")
                 .userId(1L)
                 .title("Title 1")
                 .message("Message 1")
@@ -70,7 +71,7 @@ class NotificationJdbcRepositoryTest {
 
         // 2. JdbcTemplate에 전달된 BatchPreparedStatementSetter를 캡처(Capture)
         ArgumentCaptor<BatchPreparedStatementSetter> pssCaptor = ArgumentCaptor.forClass(BatchPreparedStatementSetter.class);
-        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), pssCaptor.capture());
+        verify(jdbcTemplate, times(1)).batchUpdate(contains("INSERT IGNORE"), pssCaptor.capture());
 
         BatchPreparedStatementSetter capturedPss = pssCaptor.getValue();
 
@@ -81,11 +82,12 @@ class NotificationJdbcRepositoryTest {
         // 첫 번째 데이터(event1) 매핑 검증
         capturedPss.setValues(preparedStatement, 0);
         verify(preparedStatement).setLong(1, event1.getNotificationId());
-        verify(preparedStatement).setLong(2, event1.getUserId());
-        verify(preparedStatement).setString(3, event1.getTitle());
-        verify(preparedStatement).setString(4, event1.getMessage());
-        verify(preparedStatement).setString(5, event1.getOriginalUrl());
-        verify(preparedStatement).setTimestamp(eq(6), any(Timestamp.class)); // 날짜는 any로 검증
+        verify(preparedStatement).setString(2, "content-1:1");
+        verify(preparedStatement).setLong(3, event1.getUserId());
+        verify(preparedStatement).setString(4, event1.getTitle());
+        verify(preparedStatement).setString(5, event1.getMessage());
+        verify(preparedStatement).setString(6, event1.getOriginalUrl());
+        verify(preparedStatement).setTimestamp(eq(7), any(Timestamp.class)); // 날짜는 any로 검증
 
         // 두 번째 데이터(event2) 매핑 검증을 위해 Mock 초기화 혹은 verify 순서 확인 필요하지만
         // 여기서는 흐름상 첫 번째 데이터 매핑 확인으로 충분하거나, reset 후 진행
@@ -93,7 +95,8 @@ class NotificationJdbcRepositoryTest {
 
         capturedPss.setValues(preparedStatement, 1);
         verify(preparedStatement).setLong(1, event2.getNotificationId());
-        verify(preparedStatement).setString(3, event2.getTitle());
+        verify(preparedStatement).setString(2, null); // 중복 판별 키가 없는 알림
+        verify(preparedStatement).setString(4, event2.getTitle());
     }
 
     @Test
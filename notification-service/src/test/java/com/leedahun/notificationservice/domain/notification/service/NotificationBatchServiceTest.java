@@ -1,6 +1,7 @@
 package com.leedahun.notificationservice.domain.notification.service;
 
 import com.leedahun.notificationservice.domain.notification.repository.NotificationJdbcRepository;
+import com.leedahun.notificationservice.domain.notification.repository.NotificationRepository;
 import com.leedahun.notificationservice.infra.kafka.dto.NotificationEventDto;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.util.Collections;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
@@ -25,6 +27,9 @@ class NotificationBatchServiceTest {
     @Mock
     private NotificationJdbcRepository notificationJdbcRepository;
 
+    @Mock
+    private NotificationRepository notificationRepository;
+
     @Test
     @DisplayName("배치 저장 성공 - 데이터가 존재할 경우 JDBC 리포지토리가 호출됨")
     void saveBatch_success() {
@@ -88,4 +93,35 @@ class NotificationBatchServiceTest {
         // then
         verify(notificationJdbcRepository, never()).batchInsert(anyList());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("중복 제외 - 중복 판별 키가 이미 저장된 알림만 제외하고 키가 없는 알림은 유지")
+    void excludeAlreadySaved() {
+        // given
+        NotificationEventDto saved = NotificationEventDto.builder().notificationId(1L).dedupeKey("abc:1").build();
+        NotificationEventDto fresh = NotificationEventDto.builder().notificationId(2L).dedupeKey("abc:2").build();
+        NotificationEventDto digest = NotificationEventDto.builder().notificationId(3L).build();
+        when(notificationRepository.findDedupeKeysIn(List.of("abc:1", "abc:2")))
+                .thenReturn(List.of("abc:1"));
+
+        // when
+        List<NotificationEventDto> result = notificationBatchService.excludeAlreadySaved(List.of(saved, fresh, digest));
+
+        // then
+        assertThat(result).containsExactly(fresh, digest);
+    }
+
+    @Test
+    @DisplayName("중복 제외 - 중복 판별 키가 있는 알림이 없으면 조회하지 않음")
+    void excludeAlreadySaved_noKeys() {
+        // given
+        List<NotificationEventDto> events = List.of(NotificationEventDto.builder().notificationId(1L).build());
+
+        // when
+        List<NotificationEventDto> result = notificationBatchService.excludeAlreadySaved(events);
+
+        // then
+        assertThat(result).isSameAs(events);
+        verifyNoInteractions(notificationRepository);
+    }
+}
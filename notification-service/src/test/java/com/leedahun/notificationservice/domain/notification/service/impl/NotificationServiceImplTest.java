@@ -6,6 +6,10 @@ import com.leedahun.notificationservice.domain.notification.entity.Notification;
 import com.leedahun.notificationservice.domain.notification.repository.NotificationRepository;
 import com.leedahun.notificationservice.domain.notification.repository.SseEmitterRepository;
 import com.leedahun.notificationservice.infra.kafka.dto.NotificationEventDto;
+import com.leedahun.kafka.freshness.FreshnessHeaders;
+import com.leedahun.kafka.freshness.FreshnessMetrics;
+import com.leedahun.notificationservice.infra.kafka.freshness.FreshnessTrace;
+import org.apache.kafka.common.header.internals.RecordHeaders;
 import java.io.IOException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -37,6 +41,9 @@ class NotificationServiceImplTest {
     @Mock
     private NotificationRepository notificationRepository;
 
+    @Mock
+    private FreshnessMetrics freshnessMetrics;
+
     @Test
     @DisplayName("SSE 구독 성공 - 최초 연결 (LastEventId 없음)")
     void subscribe_success_initial_connection() {
@@ -184,6 +191,55 @@ class NotificationServiceImplTest {
         verify(sseEmitterRepository, times(1)).deleteById(emitterId);
     }
 
+    @Test
+    @DisplayName("알림 전송 - 접속 중인 유저에게 전송하면 매칭/수집/게시 시각부터의 지연을 기록")
+    void send_records_freshness() {
+        // given
+        Long userId = 1L;
+        RecordHeaders headers = new RecordHeaders();
+        FreshnessHeaders.put(headers, FreshnessHeaders.PUBLISHED_AT, 1_000L);
+        FreshnessHeaders.put(headers, FreshnessHeaders.FETCHED_AT, 2_000L);
+        FreshnessHeaders.put(headers, FreshnessHeaders.MATCHED_AT, 3_000L);
+        NotificationEventDto eventDto = NotificationEventDto.builder()
+                .notificationId(200L)
+                .userId(userId)
+                .title("새 알림")
+                .trace(FreshnessTrace.from(headers))
+                .build();
+
+        when(sseEmitterRepository.findAllEmitterStartWithByUserId(String.valueOf(userId)))
+                .thenReturn(Map.of(userId + "_12345", new SseEmitter()));
+
+        // when
+        notificationService.send(eventDto);
+
+        // then
+        verify(freshnessMetrics).record(eq(FreshnessMetrics.MATCH_TO_DELIVERY), eq(3_000L), anyLong());
+        verify(freshnessMetrics).record(eq(FreshnessMetrics.FETCH_TO_DELIVERY), eq(2_000L), anyLong());
+        verify(freshnessMetrics).record(eq(FreshnessMetrics.PUBLISH_TO_DELIVERY), eq(1_000L), anyLong());
+    }
+
+    @Test
+    @DisplayName("알림 전송 - 접속 중인 Emitter가 없으면 신선도를 기록하지 않음")
+    void send_no_emitter_skips_freshness() {
+        // given
+        Long userId = 1L;
+        NotificationEventDto eventDto = NotificationEventDto.builder()
+                .notificationId(200L)
+                .userId(userId)
+                .trace(FreshnessTrace.empty())
+                .build();
+
+        when(sseEmitterRepository.findAllEmitterStartWithByUserId(String.valueOf(userId)))
+                .thenReturn(Map.of());
+
+        // when
+        notificationService.send(eventDto);
+
+        // then
+        verifyNoInteractions(freshnessMetrics);
+    }
+
     @Test
     @DisplayName("알림 목록 조회 - 첫 페이지 조회 (LastId가 null일 때)")
     void getNotificationHistory_first_page() {
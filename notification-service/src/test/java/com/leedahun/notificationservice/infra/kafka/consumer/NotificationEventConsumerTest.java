@@ -2,21 +2,33 @@ package com.leedahun.notificationservice.infra.kafka.consumer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.notificationservice.domain.notification.service.NotificationBatchService;
 import com.leedahun.notificationservice.domain.notification.service.NotificationEventBuffer;
 import com.leedahun.notificationservice.domain.notification.service.NotificationService;
 import com.leedahun.notificationservice.infra.kafka.dto.NotificationEventDto;
+import com.leedahun.notificationservice.infra.kafka.dto.NotificationFanoutEventDto;
 import com.leedahun.notificationservice.infra.kafka.exception.KafkaMessageProcessingException;
+import com.leedahun.kafka.freshness.FreshnessHeaders;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -38,6 +50,20 @@ class NotificationEventConsumerTest {
     @Mock
     private NotificationEventBuffer notificationEventBuffer;
 
+    @Mock
+    private NotificationBatchService notificationBatchService;
+
+    @BeforeEach
+    void setUp() {
+        // 기본은 이미 저장된 알림이 없는 상태
+        lenient().when(notificationBatchService.excludeAlreadySaved(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private ConsumerRecord<String, String> record(String message) {
+        return new ConsumerRecord<>("match.notification.fanout", 0, 0L, "content-id", message);
+    }
+
     @Test
     @DisplayName("성공: 유효한 JSON 메시지를 수신하면 DTO로 변환 후 서비스와 버퍼에 전달한다")
     void consume_Success() throws JsonProcessingException {
@@ -94,4 +120,143 @@ class NotificationEventConsumerTest {
 
         verify(notificationEventBuffer, never()).add(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("성공: 팬아웃 메시지를 수신하면 유저별 알림으로 펼쳐 서비스와 버퍼에 전달한다")
+    void consumeFanout_Success() throws JsonProcessingException {
+        // given
+        String message = "{\"contentId\":\"abc\"}";
+        NotificationFanoutEventDto fanoutEvent = NotificationFanoutEventDto.builder()
+                .contentId("abc")
+                .title("Spring Boot")
+                .message("새 글 알림")
+                .originalUrl("http://example.com")
+                .chunkCount(1)
+                .userIds(List.of(1L, 2L))
+                .notificationIds(List.of(100L, 101L))
+                .build();
+
+        when(objectMapper.readValue(message, NotificationFanoutEventDto.class))
+                .thenReturn(fanoutEvent);
+
+        // when
+        consumer.consumeFanout(record(message));
+
+        // then
+        ArgumentCaptor<NotificationEventDto> captor = ArgumentCaptor.forClass(NotificationEventDto.class);
+        verify(notificationEventBuffer, times(2)).add(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(NotificationEventDto::getUserId, NotificationEventDto::getNotificationId)
+                .containsExactly(
+                        tuple(1L, 100L),
+                        tuple(2L, 101L));
+        assertThat(captor.getAllValues()).allSatisfy(event -> {
+            assertThat(event.getTitle()).isEqualTo("Spring Boot");
+            assertThat(event.getOriginalUrl()).isEqualTo("http://example.com");
+        });
+        assertThat(captor.getAllValues()).extracting(NotificationEventDto::getDedupeKey)
+                .containsExactly("abc:1", "abc:2");
+        verify(notificationService, times(2)).send(any(NotificationEventDto.class));
+    }
+
+    @Test
+    @DisplayName("성공: 같은 콘텐츠 알림이 이미 저장된 유저에게는 SSE 전송과 버퍼 적재를 하지 않는다")
+    void consumeFanout_AlreadySaved() throws JsonProcessingException {
+        // given
+        String message = "{\"contentId\":\"abc\"}";
+        NotificationFanoutEventDto fanoutEvent = NotificationFanoutEventDto.builder()
+                .contentId("abc")
+                .chunkCount(1)
+                .userIds(List.of(1L, 2L))
+                .notificationIds(List.of(200L, 201L))
+                .build();
+
+        when(objectMapper.readValue(message, NotificationFanoutEventDto.class))
+                .thenReturn(fanoutEvent);
+        when(notificationBatchService.excludeAlreadySaved(anyList()))
+                .thenAnswer(invocation -> invocation.<List<NotificationEventDto>>getArgument(0).stream()
+                        .filter(event -> event.getUserId() == 2L)
+                        .toList());
+
+        // when
+        consumer.consumeFanout(record(message));
+
+        // then
+        ArgumentCaptor<NotificationEventDto> captor = ArgumentCaptor.forClass(NotificationEventDto.class);
+        verify(notificationEventBuffer, times(1)).add(captor.capture());
+        assertThat(captor.getValue().getUserId()).isEqualTo(2L);
+        verify(notificationService, times(1)).send(any(NotificationEventDto.class));
+    }
+
+    @Test
+    @DisplayName("성공: 일부 유저의 SSE 전송이 실패해도 나머지 유저에게 전송하고 모든 알림을 버퍼에 적재한다")
+    void consumeFanout_SendFailureIsolated() throws JsonProcessingException {
+        // given
+        String message = "{}";
+        NotificationFanoutEventDto fanoutEvent = NotificationFanoutEventDto.builder()
+                .userIds(List.of(1L, 2L))
+                .notificationIds(List.of(100L, 101L))
+                .build();
+
+        when(objectMapper.readValue(message, NotificationFanoutEventDto.class))
+                .thenReturn(fanoutEvent);
+        doThrow(new RuntimeException("SSE Error"))
+                .doNothing()
+                .when(notificationService).send(any(NotificationEventDto.class));
+
+        // when
+        consumer.consumeFanout(record(message));
+
+        // then
+        verify(notificationService, times(2)).send(any(NotificationEventDto.class));
+        verify(notificationEventBuffer, times(2)).add(any(NotificationEventDto.class));
+    }
+
+    @Test
+    @DisplayName("실패: 유저 ID와 알림 ID의 개수가 다르면 KafkaMessageProcessingException을 던진다")
+    void consumeFanout_Fail_SizeMismatch() throws JsonProcessingException {
+        // given
+        String message = "{}";
+        NotificationFanoutEventDto fanoutEvent = NotificationFanoutEventDto.builder()
+                .userIds(List.of(1L, 2L))
+                .notificationIds(List.of(100L))
+                .build();
+
+        when(objectMapper.readValue(message, NotificationFanoutEventDto.class))
+                .thenReturn(fanoutEvent);
+
+        // when & then
+        assertThatThrownBy(() -> consumer.consumeFanout(record(message)))
+                .isInstanceOf(KafkaMessageProcessingException.class);
+
+        verify(notificationService, never()).send(any());
+        verify(notificationEventBuffer, never()).add(any());
+    }
+
+    @Test
+    @DisplayName("성공: 팬아웃 메시지 헤더의 단계별 시각을 유저별 알림에 함께 담는다")
+    void consumeFanout_FreshnessTrace() throws JsonProcessingException {
+        // given
+        String message = "{}";
+        ConsumerRecord<String, String> record = record(message);
+        FreshnessHeaders.put(record.headers(), FreshnessHeaders.FETCHED_AT, 1_000L);
+        FreshnessHeaders.put(record.headers(), FreshnessHeaders.MATCHED_AT, 2_000L);
+        NotificationFanoutEventDto fanoutEvent = NotificationFanoutEventDto.builder()
+                .userIds(List.of(1L))
+                .notificationIds(List.of(100L))
+                .build();
+
+        when(objectMapper.readValue(message, NotificationFanoutEventDto.class))
+                .thenReturn(fanoutEvent);
+
+        // when
+        consumer.consumeFanout(record);
+
+        // then
+        ArgumentCaptor<NotificationEventDto> captor = ArgumentCaptor.forClass(NotificationEventDto.class);
+        verify(notificationService).send(captor.capture());
+        assertThat(captor.getValue().getTrace().getFetchedAt()).isEqualTo(1_000L);
+        assertThat(captor.getValue().getTrace().getMatchedAt()).isEqualTo(2_000L);
+        assertThat(captor.getValue().getTrace().getPublishedAt()).isNull();
+    }
+}
@@ -0,0 +1,81 @@
+package com.leedahun.url;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * URL 정규화 (crawl-service 피드 URL 병합, match-service 콘텐츠 ID 생성이 함께 쓰는 규칙)
+ * - 스킴/호스트 소문자, 기본 포트(80, 443) 제거
+ * - 경로 끝의 '/' 제거, 프래그먼트(#) 제거
+ * - utm_* 등 추적용 쿼리 파라미터 제거 (나머지 파라미터 순서는 유지)
+ * URL 형식이 아니면 앞뒤 공백만 제거해서 반환한다.
+ */
+public final class UrlCanonicalizer {
+
+    // 같은 글을 가리키지만 유입 경로에 따라 달라지는 추적용 쿼리 파라미터
+    private static final String[] TRACKING_PARAM_PREFIXES = {"utm_"};
+    private static final String[] TRACKING_PARAMS = {"fbclid", "gclid"};
+
+    private UrlCanonicalizer() {
+    }
+
+    public static String canonicalize(String url) {
+        if (url == null) {
+            return "";
+        }
+        String trimmed = url.strip();
+        try {
+            URI uri = URI.create(trimmed);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return trimmed;
+            }
+
+            String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+            String host = uri.getHost().toLowerCase(Locale.ROOT);
+            int port = uri.getPort();
+            boolean defaultPort = port == -1
+                    || ("http".equals(scheme) && port == 80)
+                    || ("https".equals(scheme) && port == 443);
+
+            String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+
+            String query = canonicalizeQuery(uri.getRawQuery());
+            return scheme + "://" + host + (defaultPort ? "" : ":" + port) + path + (query.isEmpty() ? "" : "?" + query);
+        } catch (IllegalArgumentException e) {
+            return trimmed;
+        }
+    }
+
+    private static String canonicalizeQuery(String rawQuery) {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+        StringJoiner joiner = new StringJoiner("&");
+        for (String param : rawQuery.split("&")) {
+            if (!param.isEmpty() && !isTrackingParam(param)) {
+                joiner.add(param);
+            }
+        }
+        return joiner.toString();
+    }
+
+    private static boolean isTrackingParam(String param) {
+        int eq = param.indexOf('=');
+        String name = (eq < 0 ? param : param.substring(0, eq)).toLowerCase(Locale.ROOT);
+        for (String prefix : TRACKING_PARAM_PREFIXES) {
+            if (name.startsWith(prefix)) {
+                return true;
+            }
+        }
+        for (String tracking : TRACKING_PARAMS) {
+            if (name.equals(tracking)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package com.leedahun.url;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UrlCanonicalizerTest {
+
+    @Test
+    @DisplayName("스킴/호스트 대소문자, 기본 포트, 끝의 '/', 프래그먼트, 추적 파라미터 차이는 같은 URL로 취급한다")
+    void canonicalize_IgnoreCosmeticDifferences() {
+        // when
+        String canonical = UrlCanonicalizer.canonicalize(
+                "HTTPS://Blog.COM:443/post/1/?utm_source=rss&id=3&fbclid=abc#comments");
+
+        // then
+        assertThat(canonical).isEqualTo("https://blog.com/post/1?id=3");
+    }
+
+    @Test
+    @DisplayName("경로 대소문자와 기본이 아닌 포트는 유지한다")
+    void canonicalize_KeepMeaningfulParts() {
+        assertThat(UrlCanonicalizer.canonicalize("http://blog.com:8080/Post/A"))
+                .isEqualTo("http://blog.com:8080/Post/A");
+    }
+
+    @Test
+    @DisplayName("URL 형식이 아니면 앞뒤 공백만 제거한다")
+    void canonicalize_NotUrl() {
+        assertThat(UrlCanonicalizer.canonicalize("  not a url ")).isEqualTo("not a url");
+        assertThat(UrlCanonicalizer.canonicalize(null)).isEmpty();
+    }
+}